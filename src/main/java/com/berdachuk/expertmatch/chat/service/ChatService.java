@@ -78,4 +78,25 @@ public interface ChatService {
      * @return true if history was cleared, false if chat not found
      */
     boolean clearHistory(String chatId);
+
+    /**
+     * Appends a message to the conversation history in its own short transaction.
+     *
+     * @param chatId     The unique identifier of the chat
+     * @param role       Message role ("user" or "assistant")
+     * @param content    Message content
+     * @param tokensUsed Tokens consumed by the message, or null
+     * @return Sequence number assigned to the message
+     */
+    int appendMessage(String chatId, String role, String content, Integer tokensUsed);
+
+    /**
+     * Appends the assistant response and updates the chat's last activity in one short transaction.
+     *
+     * @param chatId     The unique identifier of the chat
+     * @param answer     Assistant answer text
+     * @param tokensUsed Tokens consumed by the answer, or null
+     * @return Sequence number assigned to the assistant message
+     */
+    int recordAssistantResponse(String chatId, String answer, Integer tokensUsed);
 }
@@ -84,4 +84,20 @@ public class ChatServiceImpl implements ChatService {
         }
         return historyRepository.deleteAllMessages(chatId);
     }
+
+    @Override
+    @Transactional
+    public int appendMessage(String chatId, String role, String content, Integer tokensUsed) {
+        int sequenceNumber = historyRepository.getNextSequenceNumber(chatId);
+        historyRepository.saveMessage(chatId, role, role, content, sequenceNumber, tokensUsed);
+        return sequenceNumber;
+    }
+
+    @Override
+    @Transactional
+    public int recordAssistantResponse(String chatId, String answer, Integer tokensUsed) {
+        int sequenceNumber = appendMessage(chatId, "assistant", answer, tokensUsed);
+        chatRepository.updateLastActivity(chatId);
+        return sequenceNumber;
+    }
 }
@@ -2,6 +2,7 @@ package com.berdachuk.expertmatch.core.api;
 
 import com.berdachuk.expertmatch.chat.repository.ConversationHistoryRepository;
 import com.berdachuk.expertmatch.core.domain.ExecutionTrace;
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
 import com.berdachuk.expertmatch.core.domain.QueryOptions;
 import com.berdachuk.expertmatch.core.domain.QueryRequest;
 import com.berdachuk.expertmatch.core.domain.QueryResponse;
@@ -41,6 +42,9 @@ public interface ApiMapper {
                 .useRoutingPattern(apiOptions.getUseRoutingPattern())
                 .useCyclePattern(apiOptions.getUseCyclePattern())
                 .includeExecutionTrace(apiOptions.getIncludeExecutionTrace())
+                .fusionMethod(apiOptions.getFusionMethod() != null
+                        ? FusionMethod.valueOf(apiOptions.getFusionMethod().getValue())
+                        : null)
                 .build();
     }
 
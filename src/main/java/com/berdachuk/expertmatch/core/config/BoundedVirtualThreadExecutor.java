@@ -0,0 +1,141 @@
+package com.berdachuk.expertmatch.core.config;
+
+import com.berdachuk.expertmatch.core.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks on virtual threads with bounded concurrency and a bounded admission queue.
+ * <p>
+ * Every admitted task gets its own virtual thread, which waits for one of {@code maxConcurrent} running
+ * slots; blocking on JDBC or LLM calls does not hold a platform thread. At most
+ * {@code maxConcurrent + queueCapacity} tasks are admitted at once; beyond that {@link #submit} throws
+ * {@link ServiceOverloadedException}, which the REST layer maps to 503 with Retry-After.
+ * <p>
+ * Intentionally not an {@link java.util.concurrent.Executor} so it does not replace the application
+ * task executor used by {@code @Async}.
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements AutoCloseable {
+
+    private final String name;
+    private final int retryAfterSeconds;
+    private final Semaphore admission;
+    private final Semaphore running;
+    private final ExecutorService executor;
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+
+    public BoundedVirtualThreadExecutor(String name, ExecutionProperties.PoolConfig pool, int retryAfterSeconds,
+                                        MeterRegistry meterRegistry) {
+        int maxConcurrent = Math.max(1, pool.getMaxConcurrent());
+        int queueCapacity = Math.max(0, pool.getQueueCapacity());
+        this.name = name;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.admission = new Semaphore(maxConcurrent + queueCapacity);
+        this.running = new Semaphore(maxConcurrent, true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.rejected = Counter.builder("expertmatch.execution.rejected")
+                .description("Tasks rejected because the executor was saturated")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("expertmatch.execution.active", active, AtomicInteger::get)
+                .description("Tasks running")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("expertmatch.execution.queued", this, BoundedVirtualThreadExecutor::queued)
+                .description("Admitted tasks waiting for a running slot")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        log.info("Configured {} executor - max concurrent: {}, queue capacity: {}", name, maxConcurrent, queueCapacity);
+    }
+
+    /**
+     * Submits a task.
+     *
+     * @param task Task to run
+     * @return Future completing when the task finishes
+     * @throws ServiceOverloadedException if the executor is saturated
+     */
+    public CompletableFuture<Void> submit(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Submits a task producing a result.
+     *
+     * @param task Task to run
+     * @return Future completing with the task result
+     * @throws ServiceOverloadedException if the executor is saturated
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            log.warn("{} executor saturated, rejecting task", name);
+            throw new ServiceOverloadedException(
+                    "Server is busy (" + name + " capacity reached), retry later", retryAfterSeconds);
+        }
+        admitted.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> runAdmitted(task), executor);
+        } catch (RuntimeException e) {
+            // Executor shut down
+            admitted.decrementAndGet();
+            admission.release();
+            throw e;
+        }
+    }
+
+    private <T> T runAdmitted(Supplier<T> task) {
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted.decrementAndGet();
+            admission.release();
+            throw new IllegalStateException(name + " executor interrupted while waiting for a running slot", e);
+        }
+        active.incrementAndGet();
+        try {
+            return task.get();
+        } finally {
+            active.decrementAndGet();
+            running.release();
+            admitted.decrementAndGet();
+            admission.release();
+        }
+    }
+
+    /**
+     * Number of admitted tasks waiting for a running slot.
+     */
+    public int queued() {
+        return Math.max(0, admitted.get() - active.get());
+    }
+
+    /**
+     * Number of tasks running.
+     */
+    public int active() {
+        return active.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -1,5 +1,6 @@
 package com.berdachuk.expertmatch.core.config;
 
+import com.pgvector.PGvector;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
@@ -9,18 +10,37 @@ import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
 
 /**
  * Configuration for the primary DataSource.
- * Ensures search_path is set correctly on all database connections.
+ * Ensures search_path is set correctly and Apache AGE is loaded on all database connections.
  */
 @Slf4j
 @Configuration
 @EnableConfigurationProperties(DataSourceProperties.class)
 public class DataSourceConfig {
 
+    /**
+     * Runs once per pooled connection: loads Apache AGE when it is installed (ignored otherwise, like the
+     * initial migration) and sets the search_path, so graph queries do not repeat LOAD and SET LOCAL on
+     * every execution.
+     */
+    static final String CONNECTION_INIT_SQL = """
+            DO $$
+            BEGIN
+                LOAD 'age';
+            EXCEPTION
+                WHEN OTHERS THEN
+                    NULL;
+            END $$;
+            SET search_path = public, expertmatch, ag_catalog;
+            """;
+
     @Value("${spring.datasource.hikari.maximum-pool-size:10}")
     private Integer maximumPoolSize;
 
@@ -30,9 +50,13 @@ public class DataSourceConfig {
     @Value("${spring.datasource.hikari.connection-timeout:30000}")
     private Long connectionTimeout;
 
+    @Value("${spring.jdbc.template.fetch-size:-1}")
+    private Integer fetchSize;
+
     /**
      * Creates the primary DataSource with search_path configured.
      * This ensures all database connections can access tables in the expertmatch schema.
+     * Connections have the pgvector type registered, so vector columns can be read as {@link PGvector}.
      */
     @Bean
     @Primary
@@ -49,14 +73,15 @@ public class DataSourceConfig {
         // Set search_path to include public and expertmatch schemas
         // This ensures vector type is accessible and tables in expertmatch schema can be found
         // CRITICAL: This must be set to allow queries to find tables in expertmatch schema
-        config.setConnectionInitSql("SET search_path = public, expertmatch;");
+        // ag_catalog comes last so AGE functions and types never shadow application objects
+        config.setConnectionInitSql(CONNECTION_INIT_SQL);
 
         // Apply HikariCP settings from application.yml
         config.setMaximumPoolSize(maximumPoolSize);
         config.setMinimumIdle(minimumIdle);
         config.setConnectionTimeout(connectionTimeout);
 
-        HikariDataSource dataSource = new HikariDataSource(config);
+        HikariDataSource dataSource = new PgVectorDataSource(config);
 
         // Verify search_path is set correctly
         try {
@@ -80,4 +105,41 @@ public class DataSourceConfig {
 
         return dataSource;
     }
+
+    /**
+     * Creates the JdbcTemplate used by all repositories (and wrapped by the auto-configured
+     * NamedParameterJdbcTemplate). Statements run within a {@link com.berdachuk.expertmatch.core.service.QueryDeadlineHolder}
+     * deadline get a query timeout, so retrieval channels that miss their deadline stop their SQL without
+     * losing the connection.
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new DeadlineAwareJdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        return jdbcTemplate;
+    }
+
+    /**
+     * Registers the pgvector {@code vector} type on every connection it hands out, so repositories read vector
+     * columns with {@code ResultSet.getObject(column, PGvector.class)} instead of parsing their text form.
+     * Registering only adds an entry to the driver connection's type map.
+     */
+    private static final class PgVectorDataSource extends HikariDataSource {
+
+        PgVectorDataSource(HikariConfig config) {
+            super(config);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            try {
+                PGvector.addVectorType(connection);
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+            return connection;
+        }
+    }
 }
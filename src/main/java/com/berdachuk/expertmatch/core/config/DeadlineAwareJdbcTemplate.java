@@ -0,0 +1,31 @@
+package com.berdachuk.expertmatch.core.config;
+
+import com.berdachuk.expertmatch.core.service.QueryDeadlineHolder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JdbcTemplate that caps the query timeout of each statement by the deadline in {@link QueryDeadlineHolder}.
+ * <p>
+ * The PostgreSQL driver enforces the query timeout with a cancel request on a separate connection,
+ * so a statement that runs past the deadline fails with a cancellation error while the pooled
+ * connection stays usable; interrupting the thread blocked on the socket would close it instead.
+ */
+class DeadlineAwareJdbcTemplate extends JdbcTemplate {
+
+    DeadlineAwareJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        int remainingSeconds = QueryDeadlineHolder.remainingSeconds();
+        if (remainingSeconds > 0 && (stmt.getQueryTimeout() == 0 || stmt.getQueryTimeout() > remainingSeconds)) {
+            stmt.setQueryTimeout(remainingSeconds);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.berdachuk.expertmatch.core.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Shared virtual-thread executors.
+ * <p>
+ * - {@code requestTaskExecutor}: request-bound work that outlives the servlet thread (SSE query streaming)
+ * - {@code jobTaskExecutor}: background jobs (database ingestion, test data generation)
+ * - {@code speculativeExecutor}: work started before it is needed; never rejects, runs deferred when saturated
+ * <p>
+ * Retrieval channels and the embedding backfill keep their own bounded virtual-thread executors because
+ * they run inside an admitted request or job and must not be rejected half-way.
+ */
+@Configuration
+public class ExecutionConfig {
+
+    @Bean
+    public BoundedVirtualThreadExecutor requestTaskExecutor(ExecutionProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedVirtualThreadExecutor("request", properties.getRequest(),
+                properties.getRetryAfterSeconds(), meterRegistry);
+    }
+
+    @Bean
+    public BoundedVirtualThreadExecutor jobTaskExecutor(ExecutionProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedVirtualThreadExecutor("job", properties.getJobs(),
+                properties.getRetryAfterSeconds(), meterRegistry);
+    }
+
+    @Bean
+    public SpeculativeExecutor speculativeExecutor(ExecutionProperties properties, MeterRegistry meterRegistry) {
+        return new SpeculativeExecutor(properties.getSpeculative(), properties.getRetryAfterSeconds(), meterRegistry);
+    }
+}
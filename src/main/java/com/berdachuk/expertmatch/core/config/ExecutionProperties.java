@@ -0,0 +1,71 @@
+package com.berdachuk.expertmatch.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the shared virtual-thread execution model.
+ */
+@Component
+@ConfigurationProperties(prefix = "expertmatch.execution")
+@Getter
+@Setter
+public class ExecutionProperties {
+
+    // Request-bound work such as streaming queries
+    private PoolConfig request = new PoolConfig(64, 256);
+    // Long-running background jobs such as ingestion and test data generation
+    private PoolConfig jobs = new PoolConfig(2, 8);
+    // Work started before it is needed, such as vector search and history loading during query parsing
+    private SpeculativeConfig speculative = new SpeculativeConfig();
+    // Seconds clients are asked to wait (Retry-After) when a pool rejects work
+    private int retryAfterSeconds = 5;
+    private PinningConfig pinning = new PinningConfig();
+
+    /**
+     * Bounded pool of virtual threads.
+     */
+    @Getter
+    @Setter
+    public static class PoolConfig {
+        // Tasks running at once
+        private int maxConcurrent;
+        // Admitted tasks waiting for a running slot; further tasks are rejected
+        private int queueCapacity;
+
+        public PoolConfig() {
+        }
+
+        public PoolConfig(int maxConcurrent, int queueCapacity) {
+            this.maxConcurrent = maxConcurrent;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    /**
+     * Pool for speculative work. Without a queue, tasks beyond max-concurrent are not started ahead of time
+     * and run on the requesting thread when their result is needed.
+     */
+    @Getter
+    @Setter
+    public static class SpeculativeConfig extends PoolConfig {
+        private boolean enabled = true;
+
+        public SpeculativeConfig() {
+            super(32, 0);
+        }
+    }
+
+    /**
+     * JFR-based detection of virtual threads pinned to their carrier thread.
+     */
+    @Getter
+    @Setter
+    public static class PinningConfig {
+        private boolean enabled = false;
+        // Pinned intervals shorter than this are not reported
+        private long thresholdMs = 20;
+    }
+}
@@ -64,6 +64,8 @@ public class PromptTemplateConfig {
     private Resource summarizeHistoryResource;
     @Value("classpath:/prompts/name-matching.st")
     private Resource nameMatchingResource;
+    @Value("classpath:/prompts/combined-extraction.st")
+    private Resource combinedExtractionResource;
 
     @Bean
     public StTemplateRenderer stTemplateRenderer() {
@@ -355,5 +357,16 @@ public class PromptTemplateConfig {
                 .resource(nameMatchingResource)
                 .build();
     }
-}
 
+    /**
+     * Creates a PromptTemplate for combined requirement and entity extraction.
+     */
+    @Bean
+    @org.springframework.beans.factory.annotation.Qualifier("combinedExtractionPromptTemplate")
+    public PromptTemplate combinedExtractionPromptTemplate(StTemplateRenderer renderer) {
+        return PromptTemplate.builder()
+                .renderer(renderer)
+                .resource(combinedExtractionResource)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.berdachuk.expertmatch.core.config;
+
+import com.berdachuk.expertmatch.core.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Starts work ahead of the point where its result is needed, for example the query embedding and vector
+ * search while the LLM is still parsing the query.
+ * <p>
+ * Speculative work only uses spare capacity: when the bounded pool is saturated, or speculation is disabled,
+ * the task is not started and runs on the caller's thread when its result is requested. Either way the
+ * caller gets the same result from {@link Speculation#get()}, so speculation never rejects a request.
+ */
+@Slf4j
+public class SpeculativeExecutor implements AutoCloseable {
+
+    private final boolean enabled;
+    private final BoundedVirtualThreadExecutor executor;
+
+    public SpeculativeExecutor(ExecutionProperties.SpeculativeConfig config, int retryAfterSeconds,
+                               MeterRegistry meterRegistry) {
+        this.enabled = config.isEnabled();
+        this.executor = new BoundedVirtualThreadExecutor("speculative", config, retryAfterSeconds, meterRegistry);
+    }
+
+    /**
+     * Starts a task if there is spare capacity.
+     *
+     * @param task Task whose result is needed later
+     * @return Handle producing the task result
+     */
+    public <T> Speculation<T> start(Supplier<T> task) {
+        Speculation<T> speculation = new Speculation<>(task);
+        if (enabled) {
+            try {
+                speculation.future = executor.submit(speculation::run);
+            } catch (ServiceOverloadedException e) {
+                log.debug("Speculative executor saturated, task will run when its result is needed");
+            }
+        }
+        return speculation;
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /**
+     * Result of a task started by {@link #start(Supplier)}. Meant for a single consumer.
+     */
+    public static final class Speculation<T> {
+
+        private final Supplier<T> task;
+        private volatile CompletableFuture<T> future;
+        private volatile long durationNanos;
+
+        private Speculation(Supplier<T> task) {
+            this.task = task;
+        }
+
+        private T run() {
+            long start = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                durationNanos = System.nanoTime() - start;
+            }
+        }
+
+        /**
+         * Waits for the speculative task, or runs it on the calling thread if it was not started.
+         *
+         * @return Task result
+         * @throws RuntimeException thrown by the task
+         */
+        public T get() {
+            if (future == null) {
+                return run();
+            }
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Whether the task was started ahead of time rather than deferred to {@link #get()}.
+         */
+        public boolean isStarted() {
+            return future != null;
+        }
+
+        /**
+         * Time the task itself took, 0 until it has finished.
+         */
+        public long durationMs() {
+            return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        }
+
+        /**
+         * Discards the result of a speculation that turned out not to be needed.
+         */
+        public void cancel() {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
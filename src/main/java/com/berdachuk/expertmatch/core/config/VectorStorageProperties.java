@@ -0,0 +1,42 @@
+package com.berdachuk.expertmatch.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for how work experience embeddings are stored and searched.
+ * Shared by the write path (work experience) and the read path (retrieval).
+ */
+@Component
+@ConfigurationProperties(prefix = "expertmatch.vector-storage")
+@Getter
+@Setter
+public class VectorStorageProperties {
+
+    private StorageMode mode = StorageMode.PADDED;
+    // Native dimension of the configured embedding model; selects the per-model HNSW index in NATIVE mode
+    private int dimension = 1536;
+    // NATIVE mode: generate candidates from the binary-quantized index, then rescore them at half precision
+    private boolean binaryQuantization = false;
+    // Candidates taken from the binary-quantized index per requested result
+    private int rescoreFactor = 4;
+
+    /**
+     * Whether embeddings are stored as halfvec at their native dimension.
+     */
+    public boolean isNative() {
+        return mode == StorageMode.NATIVE;
+    }
+
+    /**
+     * Storage format of work experience embeddings.
+     */
+    public enum StorageMode {
+        // vector(1536) column; 1024-dimension embeddings are zero-padded
+        PADDED,
+        // halfvec column at the model's native dimension with a partial HNSW index per dimension
+        NATIVE
+    }
+}
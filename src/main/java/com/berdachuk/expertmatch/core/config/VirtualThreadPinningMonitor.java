@@ -0,0 +1,111 @@
+package com.berdachuk.expertmatch.core.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier thread, using the JFR {@code jdk.VirtualThreadPinned} event.
+ * <p>
+ * Pinning (blocking inside {@code synchronized} or native frames) holds a carrier thread, so a few pinned
+ * JDBC or HTTP client calls can stall every virtual thread. Each pinned interval above the threshold is
+ * logged with its top frames and counted in {@code expertmatch.execution.pinned}, tagged with the client
+ * path it occurred in (jdbc, http or other).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "expertmatch.execution.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    private static final List<String> JDBC_PACKAGES = List.of("org.postgresql.", "com.zaxxer.hikari.", "java.sql.");
+    private static final List<String> HTTP_PACKAGES = List.of(
+            "java.net.http.", "jdk.internal.net.http.", "org.apache.hc.", "io.netty.", "reactor.netty.",
+            "org.springframework.web.client.", "org.springframework.http.client.", "sun.net.www.");
+
+    private final ExecutionProperties properties;
+    private final Counter jdbcPinned;
+    private final Counter httpPinned;
+    private final Counter otherPinned;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(ExecutionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcPinned = pinnedCounter(meterRegistry, "jdbc");
+        this.httpPinned = pinnedCounter(meterRegistry, "http");
+        this.otherPinned = pinnedCounter(meterRegistry, "other");
+    }
+
+    private static Counter pinnedCounter(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("expertmatch.execution.pinned")
+                .description("Virtual threads pinned to their carrier thread longer than the threshold")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long thresholdMs = properties.getPinning().getThresholdMs();
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started - threshold: {}ms", thresholdMs);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String path = classifyPath(frames);
+        switch (path) {
+            case "jdbc" -> jdbcPinned.increment();
+            case "http" -> httpPinned.increment();
+            default -> otherPinned.increment();
+        }
+        String topFrames = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n    at "));
+        log.warn("Virtual thread pinned for {}ms ({} path)\n    at {}",
+                event.getDuration().toMillis(), path, topFrames);
+    }
+
+    /**
+     * Classifies a pinned stack by the first JDBC or HTTP client frame it contains.
+     */
+    private static String classifyPath(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String className = frame.getMethod().getType().getName();
+            if (JDBC_PACKAGES.stream().anyMatch(className::startsWith)) {
+                return "jdbc";
+            }
+            if (HTTP_PACKAGES.stream().anyMatch(className::startsWith)) {
+                return "http";
+            }
+        }
+        return "other";
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
@@ -96,7 +96,7 @@ public class ExecutionTrace {
             @JsonProperty("durationMs")
             Long durationMs,
 
-            @Schema(description = "Step status", example = "SUCCESS", allowableValues = {"SUCCESS", "FAILED", "SKIPPED"})
+            @Schema(description = "Step status", example = "SUCCESS", allowableValues = {"SUCCESS", "FAILED", "SKIPPED", "TIMED_OUT"})
             @JsonProperty("status")
             String status,
 
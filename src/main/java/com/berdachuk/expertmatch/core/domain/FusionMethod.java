@@ -0,0 +1,11 @@
+package com.berdachuk.expertmatch.core.domain;
+
+/**
+ * How ranked results of the retrieval channels are combined into one candidate list.
+ */
+public enum FusionMethod {
+    // Weighted reciprocal rank fusion: sum of weight / (k + rank) over channels
+    WEIGHTED_RRF,
+    // CombSUM: sum of weighted channel scores after min-max normalization per channel
+    COMB_SUM
+}
@@ -1,16 +1,60 @@
 package com.berdachuk.expertmatch.core.domain;
 
+import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.ExtractedEntities;
+
 import java.util.List;
 
 /**
  * Parsed query result with extracted requirements.
+ * <p>
+ * {@code language} is the required proficiency level (e.g. "C1") and {@code languageName} the spoken language it
+ * applies to (e.g. "English"); either may be null.
+ * <p>
+ * {@code entities} carries the entities extracted for {@code originalQuery} through the request so that
+ * retrieval does not extract them again. It is null until extraction has run for this query.
  */
 public record ParsedQuery(
         String originalQuery,
         List<String> skills,
         List<String> seniorityLevels,
         String language,
+        String languageName,
         String intent,
-        List<String> technologies
+        List<String> technologies,
+        ExtractedEntities entities
 ) {
-}
\ No newline at end of file
+    /**
+     * Creates a parsed query whose entities have not been extracted yet.
+     */
+    public ParsedQuery(
+            String originalQuery,
+            List<String> skills,
+            List<String> seniorityLevels,
+            String language,
+            String intent,
+            List<String> technologies) {
+        this(originalQuery, skills, seniorityLevels, language, null, intent, technologies, null);
+    }
+
+    /**
+     * Returns a copy of this parsed query carrying the given extracted entities.
+     */
+    public ParsedQuery withEntities(ExtractedEntities extractedEntities) {
+        return new ParsedQuery(originalQuery, skills, seniorityLevels, language, languageName, intent, technologies,
+                extractedEntities);
+    }
+
+    /**
+     * Whether the language requirement is for English.
+     */
+    public boolean requiresEnglish() {
+        return languageName != null && languageName.trim().equalsIgnoreCase("English");
+    }
+
+    /**
+     * Whether entities have already been extracted for this query.
+     */
+    public boolean hasEntities() {
+        return entities != null;
+    }
+}
@@ -67,7 +67,10 @@ public record QueryOptions(
         Integer maxExpertsPerResult,
 
         @Schema(description = "Whether to include match summary", example = "true")
-        Boolean includeMatchSummary
+        Boolean includeMatchSummary,
+
+        @Schema(description = "How retrieval channel results are fused; null for the configured default", example = "WEIGHTED_RRF")
+        FusionMethod fusionMethod
 ) {
     /**
      * Default query options with sensible defaults.
@@ -92,7 +95,8 @@ public record QueryOptions(
             false,        // stream
             4096,         // contextWindow
             5,            // maxExpertsPerResult
-            true          // includeMatchSummary
+            true,         // includeMatchSummary
+            null          // fusionMethod (configured default)
     );
 
     /**
@@ -126,6 +130,7 @@ public record QueryOptions(
         private Integer contextWindow = 4096;
         private Integer maxExpertsPerResult = 5;
         private Boolean includeMatchSummary = true;
+        private FusionMethod fusionMethod;
 
         public Builder maxResults(Integer maxResults) {
             this.maxResults = maxResults;
@@ -227,6 +232,11 @@ public record QueryOptions(
             return this;
         }
 
+        public Builder fusionMethod(FusionMethod fusionMethod) {
+            this.fusionMethod = fusionMethod;
+            return this;
+        }
+
         public QueryOptions build() {
             return new QueryOptions(
                     maxResults,
@@ -248,7 +258,8 @@ public record QueryOptions(
                     stream,
                     contextWindow,
                     maxExpertsPerResult,
-                    includeMatchSummary
+                    includeMatchSummary,
+                    fusionMethod
             );
         }
     }
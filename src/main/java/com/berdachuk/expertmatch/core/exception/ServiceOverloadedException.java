@@ -0,0 +1,18 @@
+package com.berdachuk.expertmatch.core.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a bounded executor is saturated and cannot admit more work.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ */
+@Getter
+public class ServiceOverloadedException extends ExpertMatchException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, int retryAfterSeconds) {
+        super("SERVICE_OVERLOADED", message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -140,6 +140,58 @@ public class ExecutionTracer {
         steps.add(step);
     }
 
+    /**
+     * Records a completed step whose duration was measured elsewhere (e.g. on a worker thread).
+     *
+     * @param name          Step name
+     * @param service       Service name
+     * @param method        Method name
+     * @param durationMs    Measured duration in milliseconds
+     * @param inputSummary  Input summary
+     * @param outputSummary Output summary
+     */
+    public void recordStep(String name, String service, String method, long durationMs,
+                           String inputSummary, String outputSummary) {
+        ExecutionTrace.ExecutionStep step = new ExecutionTrace.ExecutionStep(
+                name,
+                service,
+                method,
+                durationMs,
+                "SUCCESS",
+                inputSummary,
+                outputSummary,
+                null,
+                null,
+                null // toolCall - null for regular steps
+        );
+        steps.add(step);
+    }
+
+    /**
+     * Records a step that exceeded its deadline and whose result was discarded.
+     *
+     * @param name       Step name
+     * @param service    Service name
+     * @param method     Method name
+     * @param durationMs Time waited before giving up, in milliseconds
+     * @param reason     Reason (e.g. deadline and what was dropped)
+     */
+    public void timeoutStep(String name, String service, String method, long durationMs, String reason) {
+        ExecutionTrace.ExecutionStep step = new ExecutionTrace.ExecutionStep(
+                name,
+                service,
+                method,
+                durationMs,
+                "TIMED_OUT",
+                reason,
+                null,
+                null,
+                null,
+                null // toolCall - null for timed out steps
+        );
+        steps.add(step);
+    }
+
     /**
      * Records a skipped step.
      *
@@ -6,9 +6,17 @@ import java.util.List;
 
 /**
  * ThreadLocal holder for expert contexts during query processing.
+ * <p>
+ * Tools executed on another thread (streaming answer generation) read the contexts from the
+ * Spring AI tool context under {@link #TOOL_CONTEXT_KEY} instead.
  */
 public class ExpertContextHolder {
 
+    /**
+     * Tool context key under which answer generation passes the expert contexts to tools.
+     */
+    public static final String TOOL_CONTEXT_KEY = "expertContexts";
+
     private static final ThreadLocal<List<AnswerGenerationService.ExpertContext>> CONTEXT = new ThreadLocal<>();
 
     /**
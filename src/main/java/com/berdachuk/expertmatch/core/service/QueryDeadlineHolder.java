@@ -0,0 +1,56 @@
+package com.berdachuk.expertmatch.core.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ThreadLocal holder for the deadline of the SQL statements run by the current thread.
+ * <p>
+ * The primary JdbcTemplate reads it when it prepares a statement and sets the statement's query
+ * timeout to the time left, so the driver cancels a statement that would outlive the deadline and
+ * the connection returns to the pool intact.
+ */
+public final class QueryDeadlineHolder {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private QueryDeadlineHolder() {
+    }
+
+    /**
+     * Runs a task with the deadline set for the current thread, restoring the previous deadline afterwards.
+     *
+     * @param deadlineNanos Deadline as a {@link System#nanoTime()} value
+     * @param task          Task whose SQL statements must finish by the deadline
+     * @return Task result
+     * @throws Exception if the task fails
+     */
+    public static <T> T callWithin(long deadlineNanos, Callable<T> task) throws Exception {
+        Long previous = DEADLINE.get();
+        DEADLINE.set(deadlineNanos);
+        try {
+            return task.call();
+        } finally {
+            if (previous != null) {
+                DEADLINE.set(previous);
+            } else {
+                DEADLINE.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the whole seconds left until the deadline of the current thread, rounded up.
+     * A deadline that has already passed still leaves one second, the smallest JDBC query timeout.
+     *
+     * @return Seconds left, or 0 if no deadline is set
+     */
+    public static int remainingSeconds() {
+        Long deadlineNanos = DEADLINE.get();
+        if (deadlineNanos == null) {
+            return 0;
+        }
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000));
+    }
+}
@@ -0,0 +1,168 @@
+package com.berdachuk.expertmatch.core.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Thread-safe in-memory cache evicting least-recently-used entries beyond {@code maxEntries} and entries
+ * older than {@code ttlSeconds} on access.
+ * <p>
+ * Metrics, registered under the given prefix:
+ * - {@code <prefix>.requests} with tag {@code result} = hit | miss
+ * - {@code <prefix>.evictions} with tag {@code cause} = size | expired
+ * - {@code <prefix>.size}
+ *
+ * @param <K> Key type; must implement equals and hashCode
+ * @param <V> Value type; stored and returned as is, so callers copy mutable values
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+
+    /**
+     * @param metricPrefix  Metric name prefix (e.g. {@code expertmatch.embedding.cache})
+     * @param description   Cache name used in metric descriptions (e.g. "Embedding cache")
+     * @param maxEntries    Entries kept before the least recently used one is evicted
+     * @param ttlSeconds    Age after which an entry is treated as missing
+     * @param meterRegistry Registry for the cache metrics
+     * @param nanoClock     Clock in nanoseconds; {@code System::nanoTime} outside tests
+     */
+    public BoundedTtlCache(String metricPrefix, String description, int maxEntries, long ttlSeconds,
+                           MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.nanoClock = nanoClock;
+        this.hits = Counter.builder(metricPrefix + ".requests")
+                .description(description + " lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(metricPrefix + ".requests")
+                .description(description + " lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.sizeEvictions = Counter.builder(metricPrefix + ".evictions")
+                .description(description + " evictions")
+                .tag("cause", "size")
+                .register(meterRegistry);
+        this.expiredEvictions = Counter.builder(metricPrefix + ".evictions")
+                .description(description + " evictions")
+                .tag("cause", "expired")
+                .register(meterRegistry);
+        // Access order makes the eldest entry the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxEntries) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        Gauge.builder(metricPrefix + ".size", this, BoundedTtlCache::size)
+                .description(description + " entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the value cached for the key, counting a hit, or null after counting a miss.
+     * An expired entry is evicted and counts as a miss.
+     */
+    public V getIfPresent(K key) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.createdAtNanos() < ttlNanos) {
+                    hits.increment();
+                    return entry.value();
+                }
+                entries.remove(key);
+                expiredEvictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches a value, evicting the least recently used entry if the cache is full.
+     */
+    public void put(K key, V value) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            entries.put(key, new CacheEntry<>(value, now));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of cached entries, including expired entries not yet evicted.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hex hash of the text after Unicode (NFC) and whitespace normalization, so that
+     * formatting-only differences produce the same key.
+     */
+    public static String textHash(String text) {
+        String normalized = WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC)).replaceAll(" ").trim();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CacheEntry<V>(V value, long createdAtNanos) {
+    }
+}
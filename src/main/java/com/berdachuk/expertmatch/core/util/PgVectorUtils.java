@@ -0,0 +1,76 @@
+package com.berdachuk.expertmatch.core.util;
+
+import com.pgvector.PGvector;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utility for binding embeddings as pgvector parameters.
+ * <p>
+ * Embeddings are bound as typed {@link PGvector} parameters instead of formatted strings, so no
+ * {@code String.format} per element or intermediate text vector is built on the application side.
+ * The driver encodes the parameter when it is bound to the statement, which allows a single padding
+ * buffer to be reused across the rows of a JDBC batch.
+ * <p>
+ * Database schema supports vector(1536) to accommodate both:
+ * - Ollama BAAI/bge-m3: 1024 dimensions (zero-padded to 1536)
+ * - OpenAI/DIAL text-embedding-3-large: 1536 dimensions (used as-is)
+ */
+public final class PgVectorUtils {
+
+    /**
+     * Dimension of the vector columns in the database schema.
+     */
+    public static final int DATABASE_EMBEDDING_DIMENSION = 1536;
+
+    private PgVectorUtils() {
+    }
+
+    /**
+     * Wraps an embedding as a database vector parameter.
+     * Embeddings that already have the database dimension are wrapped without copying;
+     * shorter embeddings are zero-padded and longer embeddings are truncated.
+     *
+     * @param embedding Embedding vector, not modified
+     * @return Vector parameter with the database dimension
+     */
+    public static PGvector toDatabaseVector(float[] embedding) {
+        if (embedding.length == DATABASE_EMBEDDING_DIMENSION) {
+            return new PGvector(embedding);
+        }
+        return new PGvector(Arrays.copyOf(embedding, DATABASE_EMBEDDING_DIMENSION));
+    }
+
+    /**
+     * Copies an embedding into a reusable buffer and zero-fills the remainder in place.
+     * Embeddings longer than the buffer are truncated.
+     *
+     * @param embedding Source embedding
+     * @param buffer    Target buffer, typically of the database dimension
+     * @return The buffer
+     */
+    public static float[] padInto(float[] embedding, float[] buffer) {
+        int copyLength = Math.min(embedding.length, buffer.length);
+        System.arraycopy(embedding, 0, buffer, 0, copyLength);
+        Arrays.fill(buffer, copyLength, buffer.length, 0.0f);
+        return buffer;
+    }
+
+    /**
+     * Copies a boxed embedding into a reusable buffer and zero-fills the remainder in place.
+     * Embeddings longer than the buffer are truncated.
+     *
+     * @param embedding Source embedding
+     * @param buffer    Target buffer, typically of the database dimension
+     * @return The buffer
+     */
+    public static float[] padInto(List<Double> embedding, float[] buffer) {
+        int copyLength = Math.min(embedding.size(), buffer.length);
+        for (int i = 0; i < copyLength; i++) {
+            buffer[i] = embedding.get(i).floatValue();
+        }
+        Arrays.fill(buffer, copyLength, buffer.length, 0.0f);
+        return buffer;
+    }
+}
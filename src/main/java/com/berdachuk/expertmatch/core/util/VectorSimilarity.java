@@ -0,0 +1,70 @@
+package com.berdachuk.expertmatch.core.util;
+
+/**
+ * Similarity of embedding vectors held as {@code float[]}.
+ * <p>
+ * Loops keep four independent accumulators so the JIT can overlap the multiply-adds instead of
+ * serializing on a single running sum. Vectors of different lengths are compared over their common
+ * prefix, which matches zero-padding the shorter one (1024-dimension embeddings stored as 1536).
+ */
+public final class VectorSimilarity {
+
+    private VectorSimilarity() {
+    }
+
+    /**
+     * Dot product over the common prefix of two vectors.
+     */
+    public static float dot(float[] a, float[] b) {
+        int length = Math.min(a.length, b.length);
+        int unrolledLength = length & ~3;
+        float sum0 = 0f;
+        float sum1 = 0f;
+        float sum2 = 0f;
+        float sum3 = 0f;
+        int i = 0;
+        for (; i < unrolledLength; i += 4) {
+            sum0 += a[i] * b[i];
+            sum1 += a[i + 1] * b[i + 1];
+            sum2 += a[i + 2] * b[i + 2];
+            sum3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += a[i] * b[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Euclidean norm of a vector.
+     */
+    public static float norm(float[] vector) {
+        return (float) Math.sqrt(dot(vector, vector));
+    }
+
+    /**
+     * Cosine similarity of two vectors, with the norm of the first one precomputed so that one query
+     * can be compared against many candidates.
+     *
+     * @param query     Query vector
+     * @param queryNorm Norm of the query vector
+     * @param candidate Candidate vector
+     * @return Similarity in [-1, 1], or 0 if either vector is zero
+     */
+    public static float cosine(float[] query, float queryNorm, float[] candidate) {
+        float candidateNorm = norm(candidate);
+        if (queryNorm == 0f || candidateNorm == 0f) {
+            return 0f;
+        }
+        return dot(query, candidate) / (queryNorm * candidateNorm);
+    }
+
+    /**
+     * Cosine similarity of two vectors.
+     *
+     * @return Similarity in [-1, 1], or 0 if either vector is zero
+     */
+    public static float cosine(float[] a, float[] b) {
+        return cosine(a, norm(a), b);
+    }
+}
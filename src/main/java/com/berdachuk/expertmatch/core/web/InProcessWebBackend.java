@@ -0,0 +1,149 @@
+package com.berdachuk.expertmatch.core.web;
+
+import com.berdachuk.expertmatch.api.model.Chat;
+import com.berdachuk.expertmatch.api.model.ConversationHistoryResponse;
+import com.berdachuk.expertmatch.api.model.PageInfo;
+import com.berdachuk.expertmatch.api.model.QueryRequest;
+import com.berdachuk.expertmatch.api.model.QueryResponse;
+import com.berdachuk.expertmatch.chat.repository.ConversationHistoryRepository;
+import com.berdachuk.expertmatch.chat.service.ChatService;
+import com.berdachuk.expertmatch.core.api.ApiMapper;
+import com.berdachuk.expertmatch.core.exception.ResourceNotFoundException;
+import com.berdachuk.expertmatch.core.exception.RetrievalException;
+import com.berdachuk.expertmatch.core.exception.ServiceOverloadedException;
+import com.berdachuk.expertmatch.core.exception.ValidationException;
+import com.berdachuk.expertmatch.core.util.ValidationUtils;
+import com.berdachuk.expertmatch.query.service.QueryService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Web UI backend that calls QueryService and ChatService in the same JVM.
+ * <p>
+ * Applies the same ownership checks and ApiMapper conversions as ChatController and QueryController,
+ * without serializing the request and response over an HTTP loopback. Exceptions are translated to the
+ * status codes GlobalExceptionHandler would return, so the web UI handles both backends alike.
+ */
+@Component
+@ConditionalOnProperty(name = "expertmatch.web.backend", havingValue = "in-process", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InProcessWebBackend implements WebBackend {
+
+    private final QueryService queryService;
+    private final ChatService chatService;
+    private final ConversationHistoryRepository historyRepository;
+    private final ApiMapper apiMapper;
+    private final Validator validator;
+
+    @Override
+    public List<Chat> listChats(String userId) {
+        return call(() -> apiMapper.toApiChatList(chatService.listChats(userId)));
+    }
+
+    @Override
+    public Chat getChat(String chatId, String userId) {
+        return call(() -> apiMapper.toApiChat(findOwnedChat(chatId, userId)));
+    }
+
+    @Override
+    public Chat createChat(String userId, String name) {
+        return call(() -> apiMapper.toApiChat(chatService.createChat(userId, name)));
+    }
+
+    @Override
+    public Chat renameChat(String chatId, String userId, String name) {
+        return call(() -> {
+            findOwnedChat(chatId, userId);
+            if (!chatService.updateChat(chatId, name)) {
+                throw new ResourceNotFoundException("Chat not found after update: " + chatId);
+            }
+            return apiMapper.toApiChat(findOwnedChat(chatId, userId));
+        });
+    }
+
+    @Override
+    public void deleteChat(String chatId, String userId) {
+        call(() -> {
+            if (findOwnedChat(chatId, userId).isDefault()) {
+                throw new ValidationException("Cannot delete default chat");
+            }
+            if (!chatService.deleteChat(chatId)) {
+                throw new RetrievalException("DELETE_CHAT_ERROR", "Failed to delete chat: " + chatId);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public ConversationHistoryResponse getHistory(String chatId, String userId, int page, int size, String sort) {
+        return call(() -> {
+            findOwnedChat(chatId, userId);
+            List<ConversationHistoryRepository.ConversationMessage> messages =
+                    historyRepository.getHistory(chatId, page, size, sort);
+            int totalElements = historyRepository.getTotalMessageCount(chatId);
+            PageInfo pageInfo = new PageInfo()
+                    .number(page)
+                    .size(size)
+                    .totalElements(totalElements)
+                    .totalPages((int) Math.ceil((double) totalElements / size));
+            return new ConversationHistoryResponse()
+                    .chatId(chatId)
+                    .messages(apiMapper.toApiConversationMessageList(messages))
+                    .page(pageInfo);
+        });
+    }
+
+    @Override
+    public QueryResponse processQuery(QueryRequest request, String userId) {
+        return call(() -> {
+            com.berdachuk.expertmatch.core.domain.QueryRequest domainRequest = apiMapper.toDomainQueryRequest(request);
+            Set<ConstraintViolation<com.berdachuk.expertmatch.core.domain.QueryRequest>> violations =
+                    validator.validate(domainRequest);
+            if (!violations.isEmpty()) {
+                throw new ValidationException(violations.iterator().next().getMessage());
+            }
+            String chatId = findOwnedChat(domainRequest.chatId(), userId).id();
+            return apiMapper.toApiQueryResponse(queryService.processQuery(domainRequest, chatId, userId));
+        });
+    }
+
+    /**
+     * Finds a chat and verifies it belongs to the user, as the REST controllers do.
+     */
+    private com.berdachuk.expertmatch.chat.domain.Chat findOwnedChat(String chatId, String userId) {
+        if (!ValidationUtils.isValidId(chatId)) {
+            throw new ValidationException("Invalid chat ID format: " + chatId);
+        }
+        com.berdachuk.expertmatch.chat.domain.Chat chat = chatService.findChat(chatId)
+                .orElseThrow(() -> new ResourceNotFoundException("Chat not found: " + chatId));
+        if (!chat.userId().equals(userId)) {
+            throw new ValidationException("Access denied to chat: " + chatId);
+        }
+        return chat;
+    }
+
+    /**
+     * Runs a service call and translates its failure to the status the REST API would respond with.
+     */
+    private static <T> T call(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (ResourceNotFoundException e) {
+            throw new WebBackendException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        } catch (ValidationException e) {
+            throw new WebBackendException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (ServiceOverloadedException e) {
+            throw new WebBackendException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        } catch (RuntimeException e) {
+            throw new WebBackendException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.berdachuk.expertmatch.core.web;
+
+import com.berdachuk.expertmatch.api.client.ApiClient;
+import com.berdachuk.expertmatch.api.client.ChatManagementApi;
+import com.berdachuk.expertmatch.api.client.QueryApi;
+import com.berdachuk.expertmatch.api.model.Chat;
+import com.berdachuk.expertmatch.api.model.ConversationHistoryResponse;
+import com.berdachuk.expertmatch.api.model.QueryRequest;
+import com.berdachuk.expertmatch.api.model.QueryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Web UI backend that calls the REST API of a remote ExpertMatch instance.
+ * <p>
+ * Used when the web UI is deployed separately from the query backend. Generated client models are
+ * converted to the API models through the configured ObjectMapper, i.e. the same JSON the endpoints produce.
+ * The base URL is read from {@code expertmatch.api.base-url} on every call to support dynamic ports in tests.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "expertmatch.web.backend", havingValue = "remote")
+public class RemoteWebBackend implements WebBackend {
+
+    private final QueryApi queryApi;
+    private final ChatManagementApi chatManagementApi;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+
+    public RemoteWebBackend(Environment environment, ObjectMapper objectMapper) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+
+        // Create RestTemplate with configured ObjectMapper that includes JsonNullableModule
+        // This is critical for deserializing JsonNullable fields in execution trace
+        // Use HttpComponentsClientHttpRequestFactory to support PATCH method
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+        // Replace ALL message converters with ones using our configured ObjectMapper
+        restTemplate.getMessageConverters().clear();
+        restTemplate.getMessageConverters().add(new MappingJackson2HttpMessageConverter(objectMapper));
+
+        ApiClient apiClient = new ApiClient(restTemplate);
+        apiClient.setBasePath(getApiBaseUrl() + "/api/v1");
+
+        // ApiClient.init() might modify the RestTemplate, so we re-apply our converter if needed
+        boolean hasConfiguredConverter = restTemplate.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(MappingJackson2HttpMessageConverter.class::cast)
+                .anyMatch(converter -> converter.getObjectMapper() == objectMapper);
+        if (!hasConfiguredConverter) {
+            log.warn("ApiClient modified RestTemplate converters, re-applying configured ObjectMapper");
+            restTemplate.getMessageConverters().removeIf(MappingJackson2HttpMessageConverter.class::isInstance);
+            restTemplate.getMessageConverters().add(0, new MappingJackson2HttpMessageConverter(objectMapper));
+        }
+
+        this.queryApi = new QueryApi(apiClient);
+        this.chatManagementApi = new ChatManagementApi(apiClient);
+        log.info("Web UI uses remote ExpertMatch API at {}", getApiBaseUrl());
+    }
+
+    @Override
+    public List<Chat> listChats(String userId) {
+        return call(() -> {
+            var response = chatManagementApi.listChats(userId, null, null);
+            return response.getChats() == null ? List.<Chat>of() : response.getChats().stream()
+                    .map(chat -> objectMapper.convertValue(chat, Chat.class))
+                    .toList();
+        });
+    }
+
+    @Override
+    public Chat getChat(String chatId, String userId) {
+        return call(() -> objectMapper.convertValue(
+                chatManagementApi.getChat(chatId, userId, null, null), Chat.class));
+    }
+
+    @Override
+    public Chat createChat(String userId, String name) {
+        var request = new com.berdachuk.expertmatch.api.client.model.CreateChatRequest();
+        request.setName(name);
+        return call(() -> objectMapper.convertValue(
+                chatManagementApi.createChat(userId, null, null, request), Chat.class));
+    }
+
+    @Override
+    public Chat renameChat(String chatId, String userId, String name) {
+        var request = new com.berdachuk.expertmatch.api.client.model.UpdateChatRequest();
+        request.setName(name);
+        return call(() -> objectMapper.convertValue(
+                chatManagementApi.updateChat(chatId, request, userId, null, null), Chat.class));
+    }
+
+    @Override
+    public void deleteChat(String chatId, String userId) {
+        call(() -> chatManagementApi.deleteChat(chatId, userId, null, null));
+    }
+
+    @Override
+    public ConversationHistoryResponse getHistory(String chatId, String userId, int page, int size, String sort) {
+        return call(() -> objectMapper.convertValue(
+                chatManagementApi.getHistory(chatId, userId, null, null, page, size, sort),
+                ConversationHistoryResponse.class));
+    }
+
+    @Override
+    public QueryResponse processQuery(QueryRequest request, String userId) {
+        var clientRequest = objectMapper.convertValue(
+                request, com.berdachuk.expertmatch.api.client.model.QueryRequest.class);
+        // userId is passed as parameter, which the generated client sets as X-User-Id header
+        return call(() -> objectMapper.convertValue(
+                queryApi.processQuery(clientRequest, userId, null, null), QueryResponse.class));
+    }
+
+    private String getApiBaseUrl() {
+        // Read from environment each time to support dynamic port resolution in tests
+        // Also check system property as fallback (for tests that set it dynamically)
+        String fromEnv = environment.getProperty("expertmatch.api.base-url");
+        if (fromEnv != null && !fromEnv.contains(":0") && !fromEnv.contains("localhost:0")) {
+            return fromEnv;
+        }
+        return System.getProperty("expertmatch.api.base-url", "http://localhost:8093");
+    }
+
+    /**
+     * Calls the remote API with the current base path and translates client errors to {@link WebBackendException}.
+     */
+    private <T> T call(Supplier<T> action) {
+        String basePath = getApiBaseUrl() + "/api/v1";
+        queryApi.getApiClient().setBasePath(basePath);
+        chatManagementApi.getApiClient().setBasePath(basePath);
+        try {
+            return action.get();
+        } catch (HttpStatusCodeException e) {
+            String body = e.getResponseBodyAsString();
+            throw new WebBackendException(e.getStatusCode(), body.isBlank() ? e.getMessage() : body, e);
+        } catch (ResourceAccessException e) {
+            throw new WebBackendException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        } catch (RestClientException | HttpMessageConversionException | IllegalArgumentException e) {
+            throw new WebBackendException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.berdachuk.expertmatch.core.web;
+
+import com.berdachuk.expertmatch.api.model.Chat;
+import com.berdachuk.expertmatch.api.model.ConversationHistoryResponse;
+import com.berdachuk.expertmatch.api.model.QueryRequest;
+import com.berdachuk.expertmatch.api.model.QueryResponse;
+
+import java.util.List;
+
+/**
+ * Backend used by the Thymeleaf web UI for queries and chat management.
+ * <p>
+ * Works with the same API models as the REST endpoints, so views render identically whichever
+ * implementation is active:
+ * - {@link InProcessWebBackend} (default): calls QueryService and ChatService directly
+ * - {@link RemoteWebBackend}: calls the REST API of a remote ExpertMatch instance over HTTP
+ * <p>
+ * Selected with {@code expertmatch.web.backend} ({@code in-process} or {@code remote}).
+ * Failures are reported as {@link WebBackendException} carrying the HTTP status the REST API would return.
+ */
+public interface WebBackend {
+
+    /**
+     * Lists chats of the user.
+     */
+    List<Chat> listChats(String userId);
+
+    /**
+     * Gets a chat owned by the user.
+     */
+    Chat getChat(String chatId, String userId);
+
+    /**
+     * Creates a chat for the user.
+     *
+     * @param name Chat name, or null for the default name
+     */
+    Chat createChat(String userId, String name);
+
+    /**
+     * Renames a chat owned by the user.
+     */
+    Chat renameChat(String chatId, String userId, String name);
+
+    /**
+     * Deletes a chat owned by the user. Default chats cannot be deleted.
+     */
+    void deleteChat(String chatId, String userId);
+
+    /**
+     * Gets one page of conversation history of a chat owned by the user.
+     */
+    ConversationHistoryResponse getHistory(String chatId, String userId, int page, int size, String sort);
+
+    /**
+     * Processes a query in the chat given by the request.
+     */
+    QueryResponse processQuery(QueryRequest request, String userId);
+}
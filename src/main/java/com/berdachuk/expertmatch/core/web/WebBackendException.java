@@ -0,0 +1,18 @@
+package com.berdachuk.expertmatch.core.web;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Failure of a {@link WebBackend} call, with the HTTP status the REST API returns for it.
+ */
+@Getter
+public class WebBackendException extends RuntimeException {
+
+    private final HttpStatusCode status;
+
+    public WebBackendException(HttpStatusCode status, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+}
@@ -1,25 +1,18 @@
 package com.berdachuk.expertmatch.core.web;
 
-import com.berdachuk.expertmatch.api.client.ApiClient;
-import com.berdachuk.expertmatch.api.client.ChatManagementApi;
-import com.berdachuk.expertmatch.api.client.QueryApi;
-import com.berdachuk.expertmatch.api.client.model.*;
+import com.berdachuk.expertmatch.api.model.Chat;
+import com.berdachuk.expertmatch.api.model.ConversationHistoryResponse;
+import com.berdachuk.expertmatch.api.model.QueryOptions;
+import com.berdachuk.expertmatch.api.model.QueryRequest;
+import com.berdachuk.expertmatch.api.model.QueryResponse;
 import com.berdachuk.expertmatch.chat.service.ChatService;
 import com.berdachuk.expertmatch.core.security.HeaderBasedUserContext;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.http.converter.HttpMessageConversionException;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
@@ -30,8 +23,7 @@ import java.util.List;
 @RequestMapping("/")
 public class WebController {
 
-    private final QueryApi queryApi;
-    private final ChatManagementApi chatManagementApi;
+    private final WebBackend webBackend;
     private final ChatService chatService;
     private final HeaderBasedUserContext userContext;
     private final Environment environment;
@@ -40,66 +32,11 @@ public class WebController {
             Environment environment,
             HeaderBasedUserContext userContext,
             ChatService chatService,
-            ObjectMapper objectMapper) {
+            WebBackend webBackend) {
         this.environment = environment;
         this.userContext = userContext;
         this.chatService = chatService;
-
-        // Initialize API client with base URL from environment
-        // This allows the URL to be resolved dynamically (e.g., in tests with random port)
-        String apiBaseUrl = environment.getProperty("expertmatch.api.base-url", "http://localhost:8093");
-
-        // Create RestTemplate with configured ObjectMapper that includes JsonNullableModule
-        // This is critical for deserializing JsonNullable fields in execution trace
-        // Use HttpComponentsClientHttpRequestFactory to support PATCH method
-        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory());
-        // Replace ALL message converters with ones using our configured ObjectMapper
-        restTemplate.getMessageConverters().clear(); // Clear all default converters
-        MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
-        restTemplate.getMessageConverters().add(jsonConverter); // Add our configured converter
-        // Verify JsonNullableModule is registered by checking module IDs
-        boolean hasJsonNullableModule = objectMapper.getRegisteredModuleIds().stream()
-                .map(Object::toString)
-                .anyMatch(id -> id.contains("JsonNullableModule") || id.contains("jackson.nullable"));
-        log.info("Configured RestTemplate with ObjectMapper that includes JsonNullableModule (module registered: {})", hasJsonNullableModule);
-
-        // Create ApiClient with the configured RestTemplate
-        ApiClient apiClient = new ApiClient(restTemplate);
-        apiClient.setBasePath(apiBaseUrl + "/api/v1");
-
-        // Verify the RestTemplate still has our configured ObjectMapper after ApiClient initialization
-        // ApiClient.init() might modify the RestTemplate, so we re-apply our converter if needed
-        boolean hasConfiguredConverter = restTemplate.getMessageConverters().stream()
-                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
-                .map(MappingJackson2HttpMessageConverter.class::cast)
-                .anyMatch(converter -> converter.getObjectMapper() == objectMapper);
-        if (!hasConfiguredConverter) {
-            log.warn("ApiClient modified RestTemplate converters, re-applying configured ObjectMapper");
-            restTemplate.getMessageConverters().removeIf(MappingJackson2HttpMessageConverter.class::isInstance);
-            restTemplate.getMessageConverters().add(0, new MappingJackson2HttpMessageConverter(objectMapper));
-        }
-
-        this.queryApi = new QueryApi(apiClient);
-        this.chatManagementApi = new ChatManagementApi(apiClient);
-    }
-
-    private String getApiBaseUrl() {
-        // Read from environment each time to support dynamic port resolution in tests
-        // Also check system property as fallback (for tests that set it dynamically)
-        String fromEnv = environment.getProperty("expertmatch.api.base-url");
-        if (fromEnv != null && !fromEnv.contains(":0") && !fromEnv.contains("localhost:0")) {
-            return fromEnv;
-        }
-        // Fallback to system property or default
-        return System.getProperty("expertmatch.api.base-url", "http://localhost:8093");
-    }
-
-    private void updateApiClientBasePath() {
-        // Update API client base path if it has changed (e.g., in tests with random port)
-        String apiBaseUrl = getApiBaseUrl();
-        log.debug("Updating API client base path to: {}", apiBaseUrl);
-        queryApi.getApiClient().setBasePath(apiBaseUrl + "/api/v1");
-        chatManagementApi.getApiClient().setBasePath(apiBaseUrl + "/api/v1");
+        this.webBackend = webBackend;
     }
 
     @ModelAttribute("userId")
@@ -139,19 +76,15 @@ public class WebController {
         // Load chat history if chat is selected
         if (currentChat != null) {
             try {
-                String userId = getUserId();
-                updateApiClientBasePath();
-                ConversationHistoryResponse history = chatManagementApi.getHistory(
+                ConversationHistoryResponse history = webBackend.getHistory(
                         currentChat.getId(),
-                        userId,
-                        null,
-                        null,
+                        getUserId(),
                         0,  // page
                         100, // size (load up to 100 messages)
                         "sequence_number,asc"  // sort
                 );
                 model.addAttribute("messages", history.getMessages() != null ? history.getMessages() : new ArrayList<>());
-            } catch (RestClientException e) {
+            } catch (WebBackendException e) {
                 log.error("Error loading chat history", e);
                 model.addAttribute("messages", new ArrayList<>());
             }
@@ -193,19 +126,15 @@ public class WebController {
         // Load chat history if chat is selected
         if (currentChat != null) {
             try {
-                String userId = getUserId();
-                updateApiClientBasePath();
-                ConversationHistoryResponse history = chatManagementApi.getHistory(
+                ConversationHistoryResponse history = webBackend.getHistory(
                         currentChat.getId(),
-                        userId,
-                        null,
-                        null,
+                        getUserId(),
                         0,  // page
                         100, // size (load up to 100 messages)
                         "sequence_number,asc"  // sort
                 );
                 model.addAttribute("messages", history.getMessages() != null ? history.getMessages() : new ArrayList<>());
-            } catch (RestClientException e) {
+            } catch (WebBackendException e) {
                 log.error("Error loading chat history", e);
                 model.addAttribute("messages", new ArrayList<>());
             }
@@ -249,12 +178,11 @@ public class WebController {
             boolean isFirstQuery = false;
             Chat chatBeforeQuery = null;
             try {
-                updateApiClientBasePath();
-                chatBeforeQuery = chatManagementApi.getChat(chatId, userId, null, null);
+                chatBeforeQuery = webBackend.getChat(chatId, userId);
                 if (chatBeforeQuery != null && chatBeforeQuery.getMessageCount() != null && chatBeforeQuery.getMessageCount() == 0) {
                     isFirstQuery = true;
                 }
-            } catch (RestClientException e) {
+            } catch (WebBackendException e) {
                 log.warn("Could not check chat message count before query, skipping auto-rename: {}", e.getMessage());
             }
 
@@ -282,29 +210,16 @@ public class WebController {
             options.setIncludeEntities(true);
             queryRequest.setOptions(options);
 
-            // Update API client base path in case it changed (e.g., in tests)
-            updateApiClientBasePath();
-
-            // Execute query - userId is passed as parameter, which the generated client sets as X-User-Id header
-            // Don't call setApiHeaders() here to avoid duplicate headers
-            QueryResponse response = queryApi.processQuery(
-                    queryRequest,
-                    userId, // X-User-Id parameter (generated client sets this as header)
-                    null, // X-User-Roles
-                    null  // X-User-Email
-            );
+            QueryResponse response = webBackend.processQuery(queryRequest, userId);
 
             // Update chat name if this was the first query (including default chats)
             if (isFirstQuery && chatBeforeQuery != null) {
                 try {
                     String generatedName = generateChatNameFromQuery(query);
-                    UpdateChatRequest updateRequest = new UpdateChatRequest();
-                    updateRequest.setName(generatedName);
-                    updateApiClientBasePath();
-                    chatManagementApi.updateChat(chatId, updateRequest, userId, null, null);
+                    webBackend.renameChat(chatId, userId, generatedName);
                     log.info("Auto-updated chat name to '{}' for chatId: {} (isDefault: {})",
                             generatedName, chatId, chatBeforeQuery.getIsDefault());
-                } catch (RestClientException e) {
+                } catch (WebBackendException e) {
                     log.warn("Failed to auto-update chat name for chatId: {}, error: {}", chatId, e.getMessage());
                     // Don't fail the query if name update fails
                 }
@@ -331,18 +246,15 @@ public class WebController {
             // Load chat history if chat is selected
             if (currentChat != null) {
                 try {
-                    updateApiClientBasePath();
-                    ConversationHistoryResponse history = chatManagementApi.getHistory(
+                    ConversationHistoryResponse history = webBackend.getHistory(
                             currentChat.getId(),
-                            userId,
-                            null,
-                            null,
+                            getUserId(),
                             0,  // page
                             100, // size (load up to 100 messages)
                             "sequence_number,asc"  // sort
                     );
                     model.addAttribute("messages", history.getMessages() != null ? history.getMessages() : new ArrayList<>());
-                } catch (RestClientException e) {
+                } catch (WebBackendException e) {
                     log.error("Error loading chat history", e);
                     model.addAttribute("messages", new ArrayList<>());
                 }
@@ -361,7 +273,7 @@ public class WebController {
             model.addAttribute("personProfileUrlTemplate", personProfileUrlTemplate);
 
             return "index";
-        } catch (RestClientException | HttpMessageConversionException e) {
+        } catch (WebBackendException e) {
             log.error("Error processing query", e);
             model.addAttribute("currentPage", "index");
 
@@ -384,19 +296,15 @@ public class WebController {
             // Load chat history if chat is selected
             if (currentChat != null) {
                 try {
-                    String userId = getUserId();
-                    updateApiClientBasePath();
-                    ConversationHistoryResponse history = chatManagementApi.getHistory(
+                    ConversationHistoryResponse history = webBackend.getHistory(
                             currentChat.getId(),
-                            userId,
-                            null,
-                            null,
+                            getUserId(),
                             0,  // page
                             100, // size (load up to 100 messages)
                             "sequence_number,asc"  // sort
                     );
                     model.addAttribute("messages", history.getMessages() != null ? history.getMessages() : new ArrayList<>());
-                } catch (RestClientException ex) {
+                } catch (WebBackendException ex) {
                     log.error("Error loading chat history", ex);
                     model.addAttribute("messages", new ArrayList<>());
                 }
@@ -440,21 +348,11 @@ public class WebController {
             options.setIncludeEntities(true);
             queryRequest.setOptions(options);
 
-            // Update API client base path in case it changed (e.g., in tests)
-            updateApiClientBasePath();
-
-            // Execute query - userId is passed as parameter, which the generated client sets as X-User-Id header
-            // Don't call setApiHeaders() here to avoid duplicate headers
-            QueryResponse response = queryApi.processQuery(
-                    queryRequest,
-                    userId, // X-User-Id parameter (generated client sets this as header)
-                    null, // X-User-Roles
-                    null  // X-User-Email
-            );
+            webBackend.processQuery(queryRequest, userId);
 
             // Success - redirect to chats page with chat selected
             return "redirect:/chats?chatId=" + chatId;
-        } catch (RestClientException e) {
+        } catch (WebBackendException e) {
             log.error("Error sending message", e);
             // On error, redirect to chats page (error will be logged)
             return "redirect:/chats?chatId=" + chatId;
@@ -468,18 +366,10 @@ public class WebController {
         try {
             String userId = getUserId();
 
-            CreateChatRequest request = new CreateChatRequest();
-            if (name != null && !name.isBlank()) {
-                request.setName(name);
-            }
-
-            updateApiClientBasePath();
-            // userId is passed as parameter, which the generated client sets as X-User-Id header
-            // Don't call setApiHeaders() here to avoid duplicate headers
-            Chat chat = chatManagementApi.createChat(userId, null, null, request);
+            Chat chat = webBackend.createChat(userId, name != null && !name.isBlank() ? name : null);
 
             return "redirect:/?chatId=" + chat.getId();
-        } catch (RestClientException e) {
+        } catch (WebBackendException e) {
             log.error("Error creating chat", e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to create chat", e);
         }
@@ -494,8 +384,7 @@ public class WebController {
             log.info("clearChatHistory: userId={}, chatId={}", userId, chatId);
 
             // Verify chat belongs to user
-            updateApiClientBasePath();
-            Chat chat = chatManagementApi.getChat(chatId, userId, null, null);
+            Chat chat = webBackend.getChat(chatId, userId);
             if (chat == null) {
                 model.addAttribute("currentPage", "index");
                 model.addAttribute("chats", getChats());
@@ -515,7 +404,7 @@ public class WebController {
 
             log.info("Successfully cleared history for chatId: {}", chatId);
             return "redirect:/?chatId=" + chatId + "&cleared=" + System.currentTimeMillis();
-        } catch (RestClientException e) {
+        } catch (WebBackendException e) {
             log.error("Error clearing chat history: chatId={}, userId={}", chatId, getUserId(), e);
             model.addAttribute("currentPage", "index");
             model.addAttribute("chats", getChats());
@@ -533,29 +422,32 @@ public class WebController {
             // Get user ID from request context (reads X-User-Id header)
             String userId = getUserId();
             log.info("deleteChat: userId={}, chatId={}, header read from context", userId, chatId);
-            updateApiClientBasePath();
-            // userId is passed as parameter, which the generated client sets as X-User-Id header
-            // Don't call setApiHeaders() here to avoid duplicate headers
-            chatManagementApi.deleteChat(chatId, userId, null, null);
+            webBackend.deleteChat(chatId, userId);
 
             // Always redirect to index page to refresh the chat list
             // Using redirect with cache-busting parameter to ensure fresh data
             return "redirect:/?deleted=" + System.currentTimeMillis();
-        } catch (HttpClientErrorException e) {
-            log.warn("Error deleting chat: chatId={}, userId={}, status={}", chatId, getUserId(), e.getStatusCode());
+        } catch (WebBackendException e) {
+            if (e.getStatus().is5xxServerError()) {
+                log.error("Server error deleting chat: chatId={}, userId={}, status={}", chatId, getUserId(), e.getStatus(), e);
+
+                model.addAttribute("currentPage", "index");
+                model.addAttribute("chats", getChats());
+                model.addAttribute("error", "Server error while deleting chat. Please try again.");
+                return "index";
+            }
+            log.warn("Error deleting chat: chatId={}, userId={}, status={}", chatId, getUserId(), e.getStatus());
 
             String errorMessage = "Failed to delete chat";
-            if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
-                // Try to extract error message from response body
-                String responseBody = e.getResponseBodyAsString();
-                if (responseBody != null && responseBody.contains("Cannot delete default chat")) {
+            if (e.getStatus() == HttpStatus.BAD_REQUEST) {
+                if (e.getMessage() != null && e.getMessage().contains("Cannot delete default chat")) {
                     errorMessage = "Cannot delete default chat";
                 } else {
                     errorMessage = "Cannot delete this chat (may be default chat or invalid ID)";
                 }
-            } else if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+            } else if (e.getStatus() == HttpStatus.NOT_FOUND) {
                 errorMessage = "Chat not found";
-            } else if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
+            } else if (e.getStatus() == HttpStatus.FORBIDDEN) {
                 errorMessage = "Access denied to this chat";
             }
 
@@ -563,32 +455,13 @@ public class WebController {
             model.addAttribute("chats", getChats());
             model.addAttribute("error", errorMessage);
             return "index";
-        } catch (HttpServerErrorException e) {
-            log.error("Server error deleting chat: chatId={}, userId={}, status={}", chatId, getUserId(), e.getStatusCode(), e);
-
-            model.addAttribute("currentPage", "index");
-            model.addAttribute("chats", getChats());
-            model.addAttribute("error", "Server error while deleting chat. Please try again.");
-            return "index";
-        } catch (RestClientException e) {
-            log.error("Error deleting chat: chatId={}, userId={}", chatId, getUserId(), e);
-
-            model.addAttribute("currentPage", "index");
-            model.addAttribute("chats", getChats());
-            model.addAttribute("error", "Error deleting chat: " + e.getMessage());
-            return "index";
         }
     }
 
     private List<Chat> getChats() {
         try {
-            String userId = getUserId();
-            updateApiClientBasePath();
-            // userId is passed as parameter, which the generated client sets as X-User-Id header
-            // Don't call setApiHeaders() here to avoid duplicate headers
-            ChatListResponse response = chatManagementApi.listChats(userId, null, null);
-            return response.getChats() != null ? response.getChats() : new ArrayList<>();
-        } catch (RestClientException e) {
+            return new ArrayList<>(webBackend.listChats(getUserId()));
+        } catch (WebBackendException e) {
             log.error("Error fetching chats", e);
             return new ArrayList<>();
         }
@@ -602,26 +475,14 @@ public class WebController {
             }
 
             // Create new chat
-            CreateChatRequest request = new CreateChatRequest();
-            updateApiClientBasePath();
-            // userId is passed as parameter, which the generated client sets as X-User-Id header
-            // Don't call setApiHeaders() here to avoid duplicate headers
-            Chat chat = chatManagementApi.createChat(userId, null, null, request);
+            Chat chat = webBackend.createChat(userId, null);
             return chat.getId();
-        } catch (RestClientException e) {
+        } catch (WebBackendException e) {
             log.error("Error getting or creating default chat", e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to get or create chat", e);
         }
     }
 
-    private void setApiHeaders(String userId) {
-        // Set default header for API client
-        // Note: The generated client also sets X-User-Id header from the method parameter
-        // This default header serves as a fallback if the parameter is null
-        queryApi.getApiClient().addDefaultHeader("X-User-Id", userId);
-        chatManagementApi.getApiClient().addDefaultHeader("X-User-Id", userId);
-    }
-
     /**
      * Generates a chat name from the query text.
      * Truncates to 50 characters and cleans up the text.
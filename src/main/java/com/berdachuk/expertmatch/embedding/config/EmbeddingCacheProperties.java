@@ -0,0 +1,22 @@
+package com.berdachuk.expertmatch.embedding.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the query embedding cache.
+ */
+@Component
+@ConfigurationProperties(prefix = "expertmatch.embedding.cache")
+@Getter
+@Setter
+public class EmbeddingCacheProperties {
+
+    private boolean enabled = true;
+    // Least recently used entries are evicted beyond this size
+    private int maxEntries = 10000;
+    // Entries older than this are treated as missing and evicted on access
+    private long ttlSeconds = 3600;
+}
@@ -31,4 +31,13 @@ public interface EmbeddingService {
      * @return Embedding vector as float array
      */
     float[] generateEmbeddingAsFloatArray(String text);
+
+    /**
+     * Generates embedding vectors for multiple text strings as float arrays in one model call.
+     * Avoids boxing each value, which matters for large backfills.
+     *
+     * @param texts List of texts to generate embeddings for
+     * @return List of embedding vectors in the same order as the texts
+     */
+    List<float[]> generateEmbeddingsAsFloatArrays(List<String> texts);
 }
@@ -0,0 +1,105 @@
+package com.berdachuk.expertmatch.embedding.service.impl;
+
+import com.berdachuk.expertmatch.core.util.BoundedTtlCache;
+import com.berdachuk.expertmatch.embedding.config.EmbeddingCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, content-addressed cache of embedding vectors.
+ * <p>
+ * Entries are keyed by embedding model id plus a SHA-256 hash of the normalized text, so identical texts
+ * (repeated user queries, refined deep research queries) reuse one embedding while a model change never
+ * returns a vector from another model. Vectors are stored as {@code float[]}; callers receive copies.
+ * Entries are held in a {@link BoundedTtlCache}: evicted least-recently-used beyond {@code maxEntries} and on
+ * access after {@code ttlSeconds}.
+ * <p>
+ * Metrics (exposed through the Actuator metrics endpoint):
+ * - {@code expertmatch.embedding.cache.requests} with tag {@code result} = hit | miss
+ * - {@code expertmatch.embedding.cache.evictions} with tag {@code cause} = size | expired
+ * - {@code expertmatch.embedding.cache.size}
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+
+    private final boolean enabled;
+    private final BoundedTtlCache<CacheKey, float[]> entries;
+
+    @Autowired
+    public EmbeddingCache(EmbeddingCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with an explicit clock, used to test TTL expiry.
+     */
+    public EmbeddingCache(EmbeddingCacheProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.enabled = properties.isEnabled() && properties.getMaxEntries() > 0;
+        this.entries = new BoundedTtlCache<>("expertmatch.embedding.cache", "Embedding cache",
+                properties.getMaxEntries(), properties.getTtlSeconds(), meterRegistry, nanoClock);
+
+        log.info("Configured embedding cache - enabled: {}, max entries: {}, TTL: {}s",
+                enabled, properties.getMaxEntries(), properties.getTtlSeconds());
+    }
+
+    /**
+     * Creates a disabled cache that always calls the loader.
+     */
+    public static EmbeddingCache disabled() {
+        EmbeddingCacheProperties properties = new EmbeddingCacheProperties();
+        properties.setEnabled(false);
+        return new EmbeddingCache(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Returns the cached embedding for the text, computing and caching it on a miss.
+     * Empty vectors are returned but not cached.
+     *
+     * @param modelId Embedding model identifier, part of the cache key
+     * @param text    Text to embed
+     * @param loader  Computes the embedding on a miss
+     * @return Copy of the embedding vector
+     */
+    public float[] get(String modelId, String text, Supplier<float[]> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CacheKey key = new CacheKey(modelId, BoundedTtlCache.textHash(text));
+        float[] cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached.clone();
+        }
+
+        // Compute outside the cache lock; concurrent misses for the same text may both call the model
+        float[] vector = loader.get();
+        if (vector.length > 0) {
+            entries.put(key, vector.clone());
+        }
+        return vector;
+    }
+
+    /**
+     * Number of cached entries, including expired entries not yet evicted.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private record CacheKey(String modelId, String textHash) {
+    }
+}
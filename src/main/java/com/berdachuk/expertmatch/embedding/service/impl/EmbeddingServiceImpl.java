@@ -4,6 +4,7 @@ import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -22,14 +23,26 @@ import java.util.stream.Collectors;
 public class EmbeddingServiceImpl implements EmbeddingService {
 
     private final EmbeddingModel embeddingModel;
+    private final EmbeddingCache embeddingCache;
+    private final String modelId;
 
     /**
      * Constructor that uses the primary EmbeddingModel bean.
      * The primary bean is selected by SpringAIConfig based on available models and profile.
+     * Single-text embeddings are served through the embedding cache, keyed by the configured model.
      */
     @Autowired
-    public EmbeddingServiceImpl(EmbeddingModel embeddingModel) {
+    public EmbeddingServiceImpl(EmbeddingModel embeddingModel, EmbeddingCache embeddingCache, Environment environment) {
         this.embeddingModel = embeddingModel;
+        this.embeddingCache = embeddingCache;
+        this.modelId = resolveModelId(embeddingModel, environment);
+    }
+
+    /**
+     * Constructor without caching.
+     */
+    public EmbeddingServiceImpl(EmbeddingModel embeddingModel) {
+        this(embeddingModel, EmbeddingCache.disabled(), null);
     }
 
     /**
@@ -40,17 +53,7 @@ public class EmbeddingServiceImpl implements EmbeddingService {
      */
     @Override
     public List<Double> generateEmbedding(String text) {
-        if (embeddingModel == null) {
-            throw new IllegalStateException("EmbeddingModel is not configured");
-        }
-
-        EmbeddingResponse response = embeddingModel.embedForResponse(List.of(text));
-
-        if (response.getResults().isEmpty()) {
-            return List.of();
-        }
-
-        float[] output = response.getResults().get(0).getOutput();
+        float[] output = generateEmbeddingAsFloatArray(text);
         List<Double> result = new ArrayList<>(output.length);
         for (float value : output) {
             result.add((double) value);
@@ -66,6 +69,26 @@ public class EmbeddingServiceImpl implements EmbeddingService {
      */
     @Override
     public List<List<Double>> generateEmbeddings(List<String> texts) {
+        return generateEmbeddingsAsFloatArrays(texts).stream()
+                .map(output -> {
+                    List<Double> embedding = new ArrayList<>(output.length);
+                    for (float value : output) {
+                        embedding.add((double) value);
+                    }
+                    return embedding;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Generates embeddings for multiple texts (batch) as float arrays.
+     * Batch calls bypass the embedding cache; they serve backfills of distinct texts.
+     *
+     * @param texts List of texts to embed
+     * @return List of embedding vectors
+     */
+    @Override
+    public List<float[]> generateEmbeddingsAsFloatArrays(List<String> texts) {
         if (embeddingModel == null) {
             throw new IllegalStateException("EmbeddingModel is not configured");
         }
@@ -77,28 +100,45 @@ public class EmbeddingServiceImpl implements EmbeddingService {
         EmbeddingResponse response = embeddingModel.embedForResponse(texts);
 
         return response.getResults().stream()
-                .map(result -> {
-                    float[] output = result.getOutput();
-                    List<Double> embedding = new ArrayList<>(output.length);
-                    for (float value : output) {
-                        embedding.add((double) value);
-                    }
-                    return embedding;
-                })
+                .map(result -> result.getOutput())
                 .collect(Collectors.toList());
     }
 
     /**
      * Generates embedding as float array (more efficient for vector operations).
+     * Repeated texts are served from the embedding cache.
      */
     @Override
     public float[] generateEmbeddingAsFloatArray(String text) {
-        List<Double> embedding = generateEmbedding(text);
-        float[] result = new float[embedding.size()];
-        for (int i = 0; i < embedding.size(); i++) {
-            result[i] = embedding.get(i).floatValue();
+        if (embeddingModel == null) {
+            throw new IllegalStateException("EmbeddingModel is not configured");
         }
-        return result;
+
+        return embeddingCache.get(modelId, text, () -> embed(text));
     }
-}
 
+    /**
+     * Calls the embedding model for a single text.
+     */
+    private float[] embed(String text) {
+        EmbeddingResponse response = embeddingModel.embedForResponse(List.of(text));
+
+        if (response.getResults().isEmpty()) {
+            return new float[0];
+        }
+        return response.getResults().get(0).getOutput();
+    }
+
+    /**
+     * Identifies the embedding model for cache keys: model class plus configured model name and dimensions.
+     */
+    private static String resolveModelId(EmbeddingModel embeddingModel, Environment environment) {
+        String modelType = embeddingModel != null ? embeddingModel.getClass().getSimpleName() : "none";
+        if (environment == null) {
+            return modelType;
+        }
+        String modelName = environment.getProperty("spring.ai.custom.embedding.model", "default");
+        String dimensions = environment.getProperty("spring.ai.custom.embedding.dimensions", "default");
+        return modelType + "/" + modelName + "/" + dimensions;
+    }
+}
@@ -5,8 +5,7 @@ import com.berdachuk.expertmatch.core.domain.QueryResponse;
 import com.berdachuk.expertmatch.employee.domain.Employee;
 import com.berdachuk.expertmatch.employee.repository.EmployeeRepository;
 import com.berdachuk.expertmatch.employee.service.ExpertEnrichmentService;
-import com.berdachuk.expertmatch.technology.domain.Technology;
-import com.berdachuk.expertmatch.technology.repository.TechnologyRepository;
+import com.berdachuk.expertmatch.technology.service.TechnologyAliasIndexService;
 import com.berdachuk.expertmatch.workexperience.domain.WorkExperience;
 import com.berdachuk.expertmatch.workexperience.repository.WorkExperienceRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +15,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for enriching expert recommendations with detailed data.
@@ -24,21 +24,20 @@ import java.util.stream.Collectors;
 @Service
 public class ExpertEnrichmentServiceImpl implements ExpertEnrichmentService {
 
+    // Candidate lists at least this large are enriched in parallel
+    private static final int PARALLEL_ENRICHMENT_THRESHOLD = 64;
+
     private final EmployeeRepository employeeRepository;
     private final WorkExperienceRepository workExperienceRepository;
-    private final TechnologyRepository technologyRepository;
-
-    // Cache for technology normalization (loaded once per service instance)
-    private volatile Map<String, Technology> technologyCache;
-    private volatile Map<String, Set<String>> synonymToTechnologyMap;
+    private final TechnologyAliasIndexService technologyAliasIndexService;
 
     public ExpertEnrichmentServiceImpl(
             EmployeeRepository employeeRepository,
             WorkExperienceRepository workExperienceRepository,
-            TechnologyRepository technologyRepository) {
+            TechnologyAliasIndexService technologyAliasIndexService) {
         this.employeeRepository = employeeRepository;
         this.workExperienceRepository = workExperienceRepository;
-        this.technologyRepository = technologyRepository;
+        this.technologyAliasIndexService = technologyAliasIndexService;
     }
 
     /**
@@ -61,85 +60,77 @@ public class ExpertEnrichmentServiceImpl implements ExpertEnrichmentService {
         Map<String, List<WorkExperience>> workExperienceMap =
                 workExperienceRepository.findByEmployeeIds(expertIds);
 
-        // Build expert matches
-        List<QueryResponse.ExpertMatch> expertMatches = new ArrayList<>();
-
-        for (String expertId : expertIds) {
-            com.berdachuk.expertmatch.employee.domain.Employee employee = employeeMap.get(expertId);
-            if (employee == null) {
-                continue; // Skip if employee not found
-            }
-
-            List<WorkExperience> workExperiences =
-                    workExperienceMap.getOrDefault(expertId, List.of());
-
-            // Calculate skill match
-            QueryResponse.SkillMatch skillMatch = calculateSkillMatch(
-                    parsedQuery, workExperiences);
-
-            // Build matched skills
-            QueryResponse.MatchedSkills matchedSkills = buildMatchedSkills(
-                    parsedQuery, workExperiences);
-
-            // Build relevant projects
-            List<QueryResponse.RelevantProject> relevantProjects = buildRelevantProjects(
-                    workExperiences, parsedQuery);
-
-            // Build experience indicators
-            QueryResponse.Experience experience = buildExperience(workExperiences);
-
-            // Build language proficiency
-            QueryResponse.LanguageProficiency language = new QueryResponse.LanguageProficiency(
-                    employee.languageEnglish()
-            );
-
-            Double relevanceScore = relevanceScores.getOrDefault(expertId, 0.0);
-
-            QueryResponse.ExpertMatch expertMatch = new QueryResponse.ExpertMatch(
-                    employee.id(),
-                    employee.name(),
-                    employee.email(),
-                    employee.seniority(),
-                    language,
-                    skillMatch,
-                    matchedSkills,
-                    relevantProjects,
-                    experience,
-                    relevanceScore,
-                    employee.availabilityStatus()
-            );
-
-            expertMatches.add(expertMatch);
-        }
-
-        return expertMatches;
+        // One index snapshot and one skill analyzer for the whole request
+        List<String> requiredSkills = new ArrayList<>(parsedQuery.skills());
+        requiredSkills.addAll(parsedQuery.technologies());
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(technologyAliasIndexService.getIndex(), requiredSkills);
+
+        // Build expert matches; per-expert work is CPU-only, so large candidate lists use the common pool
+        Stream<String> expertIdStream = expertIds.size() >= PARALLEL_ENRICHMENT_THRESHOLD
+                ? expertIds.parallelStream()
+                : expertIds.stream();
+        return expertIdStream
+                .map(expertId -> buildExpertMatch(
+                        employeeMap.get(expertId),
+                        workExperienceMap.getOrDefault(expertId, List.of()),
+                        analyzer,
+                        relevanceScores.getOrDefault(expertId, 0.0)))
+                .filter(Objects::nonNull) // Skip if employee not found
+                .toList();
     }
 
     /**
-     * Calculates skill match score using Technology normalization and synonyms.
+     * Builds one expert match from a single-pass skill analysis of the expert's work experience.
      */
-    private QueryResponse.SkillMatch calculateSkillMatch(
-            ParsedQuery parsedQuery,
-            List<WorkExperience> workExperiences) {
+    private QueryResponse.ExpertMatch buildExpertMatch(
+            Employee employee,
+            List<WorkExperience> workExperiences,
+            ExpertSkillAnalyzer analyzer,
+            Double relevanceScore) {
+        if (employee == null) {
+            return null;
+        }
 
-        List<String> requiredSkills = new ArrayList<>(parsedQuery.skills());
-        requiredSkills.addAll(parsedQuery.technologies());
+        ExpertSkillAnalyzer.ExpertAnalysis analysis = analyzer.analyze(workExperiences);
+
+        // Calculate skill match
+        QueryResponse.SkillMatch skillMatch = calculateSkillMatch(
+                analysis.matchedSkills().size(), analyzer.requiredSkills().size());
 
-        // Extract all technologies from work experience and normalize them
-        Set<String> expertTechnologies = workExperiences.stream()
-                .flatMap(workExperience -> workExperience.technologies().stream())
-                .map(this::normalizeTechnologyName)
-                .collect(Collectors.toSet());
+        // Build matched skills
+        QueryResponse.MatchedSkills matchedSkills = new QueryResponse.MatchedSkills(analysis.matchedSkills(), List.of());
 
-        // Normalize required skills and match against expert technologies
-        long mustHaveMatched = requiredSkills.stream()
-                .map(this::normalizeSkillName)
-                .filter(normalizedSkill -> expertTechnologies.stream()
-                        .anyMatch(expertTech -> matchesTechnology(normalizedSkill, expertTech)))
-                .count();
+        // Build relevant projects
+        List<QueryResponse.RelevantProject> relevantProjects = buildRelevantProjects(
+                analysis.relevantWorkExperiences());
 
-        int mustHaveTotal = requiredSkills.size();
+        // Build experience indicators
+        QueryResponse.Experience experience = buildExperience(workExperiences);
+
+        // Build language proficiency
+        QueryResponse.LanguageProficiency language = new QueryResponse.LanguageProficiency(
+                employee.languageEnglish()
+        );
+
+        return new QueryResponse.ExpertMatch(
+                employee.id(),
+                employee.name(),
+                employee.email(),
+                employee.seniority(),
+                language,
+                skillMatch,
+                matchedSkills,
+                relevantProjects,
+                experience,
+                relevanceScore,
+                employee.availabilityStatus()
+        );
+    }
 
+    /**
+     * Calculates skill match score from the number of matched required skills.
+     */
+    private QueryResponse.SkillMatch calculateSkillMatch(int mustHaveMatched, int mustHaveTotal) {
         // For MVP: nice-to-have skills are not parsed from query yet
         // In future, we can parse "nice to have", "preferred", "bonus" keywords
         // For now, nice-to-have is empty
@@ -152,7 +143,7 @@ public class ExpertEnrichmentServiceImpl implements ExpertEnrichmentService {
                 : 0.0;
 
         return new QueryResponse.SkillMatch(
-                (int) mustHaveMatched,
+                mustHaveMatched,
                 mustHaveTotal,
                 niceToHaveMatched,
                 niceToHaveTotal,
@@ -161,43 +152,13 @@ public class ExpertEnrichmentServiceImpl implements ExpertEnrichmentService {
     }
 
     /**
-     * Builds matched skills breakdown using Technology normalization and synonyms.
-     */
-    private QueryResponse.MatchedSkills buildMatchedSkills(
-            ParsedQuery parsedQuery,
-            List<WorkExperience> workExperiences) {
-
-        List<String> requiredSkills = new ArrayList<>(parsedQuery.skills());
-        requiredSkills.addAll(parsedQuery.technologies());
-
-        // Extract and normalize expert technologies
-        Set<String> expertTechnologies = workExperiences.stream()
-                .flatMap(workExperience -> workExperience.technologies().stream())
-                .map(this::normalizeTechnologyName)
-                .collect(Collectors.toSet());
-
-        // Match required skills against expert technologies using normalization
-        List<String> mustHave = requiredSkills.stream()
-                .filter(skill -> {
-                    String normalizedSkill = normalizeSkillName(skill);
-                    return expertTechnologies.stream()
-                            .anyMatch(expertTech -> matchesTechnology(normalizedSkill, expertTech));
-                })
-                .collect(Collectors.toList());
-
-        return new QueryResponse.MatchedSkills(mustHave, List.of());
-    }
-
-    /**
-     * Builds relevant projects list.
+     * Builds relevant projects list from the work experience that matched the query.
      */
     private List<QueryResponse.RelevantProject> buildRelevantProjects(
-            List<WorkExperience> workExperiences,
-            ParsedQuery parsedQuery) {
+            List<WorkExperience> relevantWorkExperiences) {
 
-        // Filter and sort by relevance
-        return workExperiences.stream()
-                .filter(workExperience -> isRelevant(workExperience, parsedQuery))
+        // Sort relevant work experience by recency
+        return relevantWorkExperiences.stream()
                 .sorted((a, b) -> {
                     // Sort by recency (most recent first)
                     Instant aEnd = a.endDate() != null ? a.endDate() : Instant.now();
@@ -217,34 +178,6 @@ public class ExpertEnrichmentServiceImpl implements ExpertEnrichmentService {
                 .toList();
     }
 
-    /**
-     * Checks if work experience is relevant to query using Technology normalization.
-     */
-    private boolean isRelevant(
-            WorkExperience workExperience,
-            ParsedQuery parsedQuery) {
-
-        List<String> queryTechnologies = new ArrayList<>(parsedQuery.technologies());
-        queryTechnologies.addAll(parsedQuery.skills());
-
-        if (queryTechnologies.isEmpty()) {
-            return true; // If no specific tech requirements, all are relevant
-        }
-
-        // Normalize work experience technologies
-        Set<String> normalizedWorkTechs = workExperience.technologies().stream()
-                .map(this::normalizeTechnologyName)
-                .collect(Collectors.toSet());
-
-        // Check if any query technology matches work experience technologies using normalization
-        return queryTechnologies.stream()
-                .anyMatch(queryTechnology -> {
-                    String normalizedQuery = normalizeSkillName(queryTechnology);
-                    return normalizedWorkTechs.stream()
-                            .anyMatch(workTech -> matchesTechnology(normalizedQuery, workTech));
-                });
-    }
-
     /**
      * Calculates project duration string.
      */
@@ -310,178 +243,4 @@ public class ExpertEnrichmentServiceImpl implements ExpertEnrichmentService {
                 onCall
         );
     }
-
-    /**
-     * Normalizes a skill name using Technology table normalization and synonyms.
-     * Returns the normalized name if found in Technology table, otherwise returns lowercase version.
-     */
-    private String normalizeSkillName(String skillName) {
-        if (skillName == null || skillName.isBlank()) {
-            return "";
-        }
-
-        // Load technology cache if not already loaded
-        ensureTechnologyCacheLoaded();
-
-        String lowerSkill = skillName.toLowerCase().trim();
-
-        // Try to find by exact name match
-        Technology technology = technologyCache.get(lowerSkill);
-        if (technology != null) {
-            return technology.normalizedName().toLowerCase();
-        }
-
-        // Try to find by normalized name match
-        for (Technology tech : technologyCache.values()) {
-            if (tech.normalizedName().toLowerCase().equals(lowerSkill)) {
-                return tech.normalizedName().toLowerCase();
-            }
-        }
-
-        // Try to find by synonym match
-        Set<String> matchingTechs = synonymToTechnologyMap.get(lowerSkill);
-        if (matchingTechs != null && !matchingTechs.isEmpty()) {
-            // Return the normalized name of the first matching technology
-            String firstMatch = matchingTechs.iterator().next();
-            Technology matchedTech = technologyCache.get(firstMatch);
-            if (matchedTech != null) {
-                return matchedTech.normalizedName().toLowerCase();
-            }
-        }
-
-        // Fallback: return lowercase version if no match found
-        return lowerSkill;
-    }
-
-    /**
-     * Normalizes a technology name using Technology table.
-     * Returns the normalized name if found, otherwise returns lowercase version.
-     */
-    private String normalizeTechnologyName(String technologyName) {
-        if (technologyName == null || technologyName.isBlank()) {
-            return "";
-        }
-
-        // Load technology cache if not already loaded
-        ensureTechnologyCacheLoaded();
-
-        String lowerTech = technologyName.toLowerCase().trim();
-
-        // Try to find by exact name match
-        Technology technology = technologyCache.get(lowerTech);
-        if (technology != null) {
-            return technology.normalizedName().toLowerCase();
-        }
-
-        // Try to find by normalized name match
-        for (Technology tech : technologyCache.values()) {
-            if (tech.normalizedName().toLowerCase().equals(lowerTech)) {
-                return tech.normalizedName().toLowerCase();
-            }
-        }
-
-        // Try to find by synonym match
-        Set<String> matchingTechs = synonymToTechnologyMap.get(lowerTech);
-        if (matchingTechs != null && !matchingTechs.isEmpty()) {
-            // Return the normalized name of the first matching technology
-            String firstMatch = matchingTechs.iterator().next();
-            Technology matchedTech = technologyCache.get(firstMatch);
-            if (matchedTech != null) {
-                return matchedTech.normalizedName().toLowerCase();
-            }
-        }
-
-        // Fallback: return lowercase version if no match found
-        return lowerTech;
-    }
-
-    /**
-     * Checks if a normalized skill name matches a normalized technology name.
-     * Uses exact match on normalized names, or checks if skill is a synonym of technology.
-     */
-    private boolean matchesTechnology(String normalizedSkill, String normalizedTechnology) {
-        if (normalizedSkill == null || normalizedTechnology == null) {
-            return false;
-        }
-
-        // Exact match on normalized names
-        if (normalizedSkill.equals(normalizedTechnology)) {
-            return true;
-        }
-
-        // Check if skill contains technology or vice versa (for partial matches)
-        if (normalizedSkill.contains(normalizedTechnology) || normalizedTechnology.contains(normalizedSkill)) {
-            return true;
-        }
-
-        // Check if skill matches any synonym of the technology
-        ensureTechnologyCacheLoaded();
-        for (Technology tech : technologyCache.values()) {
-            if (tech.normalizedName().toLowerCase().equals(normalizedTechnology)) {
-                // Check if normalized skill matches any synonym
-                if (tech.synonyms() != null) {
-                    for (String synonym : tech.synonyms()) {
-                        if (synonym.toLowerCase().equals(normalizedSkill)) {
-                            return true;
-                        }
-                    }
-                }
-                break;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Ensures technology cache is loaded (lazy initialization).
-     */
-    private void ensureTechnologyCacheLoaded() {
-        if (technologyCache == null) {
-            synchronized (this) {
-                if (technologyCache == null) {
-                    loadTechnologyCache();
-                }
-            }
-        }
-    }
-
-    /**
-     * Loads all technologies into cache for efficient lookup.
-     */
-    private void loadTechnologyCache() {
-        try {
-            List<Technology> technologies = technologyRepository.findAll();
-            Map<String, Technology> cache = new HashMap<>();
-            Map<String, Set<String>> synonymMap = new HashMap<>();
-
-            for (Technology tech : technologies) {
-                // Index by lowercase name
-                cache.put(tech.name().toLowerCase(), tech);
-
-                // Index by normalized name
-                cache.put(tech.normalizedName().toLowerCase(), tech);
-
-                // Index synonyms
-                if (tech.synonyms() != null) {
-                    for (String synonym : tech.synonyms()) {
-                        String lowerSynonym = synonym.toLowerCase();
-                        synonymMap.computeIfAbsent(lowerSynonym, k -> new HashSet<>()).add(tech.name().toLowerCase());
-                    }
-                }
-            }
-
-            this.technologyCache = cache;
-            this.synonymToTechnologyMap = synonymMap;
-
-            log.debug("Loaded {} technologies into cache with {} synonym mappings",
-                    technologies.size(), synonymMap.size());
-        } catch (Exception e) {
-            log.warn("Failed to load technology cache, falling back to simple matching: {}", e.getMessage());
-            // Initialize empty caches to prevent repeated failures
-            this.technologyCache = new HashMap<>();
-            this.synonymToTechnologyMap = new HashMap<>();
-        }
-    }
 }
-
@@ -0,0 +1,149 @@
+package com.berdachuk.expertmatch.employee.service.impl;
+
+import com.berdachuk.expertmatch.technology.service.TechnologyAliasIndex;
+import com.berdachuk.expertmatch.workexperience.domain.WorkExperience;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches required skills against experts' work experience using bitsets over canonical technology IDs.
+ * <p>
+ * Created once per request: for every required skill it precomputes the set of canonical technologies the
+ * skill matches (same ID, exact or partial name, synonym). Analyzing an expert is then a single pass over
+ * the work experience that resolves each technology once and sets its bit; matched skills and relevant
+ * projects are bitset intersections. Only technologies missing from the Technology table fall back to
+ * name comparison.
+ * <p>
+ * Immutable after construction, so one instance can analyze experts on several threads.
+ */
+public final class ExpertSkillAnalyzer {
+
+    private final TechnologyAliasIndex index;
+    private final List<String> requiredSkills;
+    private final String[] skillNames;
+    private final BitSet[] matchingIdsBySkill;
+    private final BitSet matchingIdsOfAnySkill;
+
+    public ExpertSkillAnalyzer(TechnologyAliasIndex index, List<String> requiredSkills) {
+        this.index = index;
+        this.requiredSkills = List.copyOf(requiredSkills);
+        this.skillNames = new String[requiredSkills.size()];
+        this.matchingIdsBySkill = new BitSet[requiredSkills.size()];
+        this.matchingIdsOfAnySkill = new BitSet(index.size());
+
+        for (int i = 0; i < requiredSkills.size(); i++) {
+            String skill = requiredSkills.get(i);
+            int skillId = skill == null || skill.isBlank() ? TechnologyAliasIndex.UNKNOWN : index.resolve(skill);
+            String skillName = skillId != TechnologyAliasIndex.UNKNOWN
+                    ? index.canonicalName(skillId)
+                    : TechnologyAliasIndex.normalize(skill);
+            BitSet matchingIds = new BitSet(index.size());
+            for (int technologyId = 0; technologyId < index.size(); technologyId++) {
+                if (technologyId == skillId
+                        || matchesName(skillName, index.canonicalName(technologyId))
+                        || index.isSynonym(technologyId, skillName)) {
+                    matchingIds.set(technologyId);
+                }
+            }
+            skillNames[i] = skillName;
+            matchingIdsBySkill[i] = matchingIds;
+            matchingIdsOfAnySkill.or(matchingIds);
+        }
+    }
+
+    /**
+     * Exact or partial match on lowercase names.
+     */
+    private static boolean matchesName(String skillName, String technologyName) {
+        return skillName.equals(technologyName)
+                || skillName.contains(technologyName)
+                || technologyName.contains(skillName);
+    }
+
+    /**
+     * Required skills (query skills followed by query technologies).
+     */
+    public List<String> requiredSkills() {
+        return requiredSkills;
+    }
+
+    /**
+     * Analyzes one expert in a single pass over their work experience.
+     *
+     * @param workExperiences Expert's work experience
+     * @return Matched required skills (in query order) and relevant work experience (in input order)
+     */
+    public ExpertAnalysis analyze(List<WorkExperience> workExperiences) {
+        BitSet expertIds = new BitSet(index.size());
+        Set<String> expertUnknownNames = new HashSet<>();
+        List<WorkExperience> relevantWorkExperiences = new ArrayList<>();
+
+        for (WorkExperience workExperience : workExperiences) {
+            BitSet workExperienceIds = new BitSet(index.size());
+            List<String> unknownNames = null;
+            for (String technology : workExperience.technologies()) {
+                int technologyId = technology == null || technology.isBlank()
+                        ? TechnologyAliasIndex.UNKNOWN
+                        : index.resolve(technology);
+                if (technologyId != TechnologyAliasIndex.UNKNOWN) {
+                    workExperienceIds.set(technologyId);
+                } else {
+                    if (unknownNames == null) {
+                        unknownNames = new ArrayList<>();
+                    }
+                    unknownNames.add(TechnologyAliasIndex.normalize(technology));
+                }
+            }
+            expertIds.or(workExperienceIds);
+            if (unknownNames != null) {
+                expertUnknownNames.addAll(unknownNames);
+            }
+
+            // If no specific tech requirements, all work experience is relevant
+            if (skillNames.length == 0
+                    || matchingIdsOfAnySkill.intersects(workExperienceIds)
+                    || (unknownNames != null && matchesAnySkill(unknownNames))) {
+                relevantWorkExperiences.add(workExperience);
+            }
+        }
+
+        List<String> matchedSkills = new ArrayList<>();
+        for (int i = 0; i < skillNames.length; i++) {
+            if (matchingIdsBySkill[i].intersects(expertIds) || matchesSkill(i, expertUnknownNames)) {
+                matchedSkills.add(requiredSkills.get(i));
+            }
+        }
+        return new ExpertAnalysis(matchedSkills, relevantWorkExperiences);
+    }
+
+    private boolean matchesAnySkill(List<String> unknownNames) {
+        for (int i = 0; i < skillNames.length; i++) {
+            if (matchesSkill(i, unknownNames)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesSkill(int skillIndex, Iterable<String> unknownNames) {
+        for (String unknownName : unknownNames) {
+            if (matchesName(skillNames[skillIndex], unknownName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Result of analyzing one expert.
+     *
+     * @param matchedSkills           Required skills the expert has worked with
+     * @param relevantWorkExperiences Work experience matching at least one required skill
+     */
+    public record ExpertAnalysis(List<String> matchedSkills, List<WorkExperience> relevantWorkExperiences) {
+    }
+}
@@ -10,6 +10,7 @@
  * - GraphService (service layer)
  * - GraphSearchService (service layer)
  * - GraphBuilderService (service layer)
+ * - GraphStateRegistry (cached graph existence, labels, indexes and version)
  * <p>
  * Internal packages:
  * - repository: Data access layer for graph building
@@ -1,5 +1,7 @@
 package com.berdachuk.expertmatch.graph.repository;
 
+import java.util.List;
+
 /**
  * Repository for Apache AGE graph administrative operations.
  * Handles graph creation, index management, and existence checks.
@@ -41,4 +43,21 @@ public interface GraphRepository {
      * @param indexName   The name of the index to create
      */
     void createPropertyIndex(String graphName, String vertexLabel, String indexName);
-}
\ No newline at end of file
+
+    /**
+     * Finds the vertex and edge labels defined in a graph.
+     *
+     * @param graphName The graph name
+     * @return Label names, empty if the graph does not exist or Apache AGE is not available
+     */
+    List<String> findLabels(String graphName);
+
+    /**
+     * Finds the indexes on the label tables of a graph.
+     * Apache AGE keeps label tables in a schema named after the graph.
+     *
+     * @param graphName The graph name
+     * @return Index names, empty if the graph does not exist or Apache AGE is not available
+     */
+    List<String> findIndexes(String graphName);
+}
@@ -8,6 +8,8 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository implementation for Apache AGE graph administrative operations.
  * Handles graph creation, index management, and existence checks.
@@ -30,6 +32,12 @@ public class GraphRepositoryImpl implements GraphRepository {
     @InjectSql("/sql/graph/createPropertyIndex.sql")
     private String createPropertyIndexSql;
 
+    @InjectSql("/sql/graph/findGraphLabels.sql")
+    private String findGraphLabelsSql;
+
+    @InjectSql("/sql/graph/findGraphIndexes.sql")
+    private String findGraphIndexesSql;
+
     public GraphRepositoryImpl(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
@@ -92,4 +100,24 @@ public class GraphRepositoryImpl implements GraphRepository {
             log.debug("Could not create index {}: {}", indexName, e.getMessage());
         }
     }
+
+    @Override
+    public List<String> findLabels(String graphName) {
+        try {
+            return jdbcTemplate.queryForList(findGraphLabelsSql, String.class, graphName);
+        } catch (Exception e) {
+            log.debug("Failed to find graph labels (AGE may not be available): {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public List<String> findIndexes(String graphName) {
+        try {
+            return jdbcTemplate.queryForList(findGraphIndexesSql, String.class, graphName);
+        } catch (Exception e) {
+            log.debug("Failed to find graph indexes: {}", e.getMessage());
+            return List.of();
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package com.berdachuk.expertmatch.graph.service;
+
+/**
+ * Published after the graph is built or cleared.
+ *
+ * @param operation Graph operation that changed the data (build, clear)
+ */
+public record GraphDataChangedEvent(String operation) {
+}
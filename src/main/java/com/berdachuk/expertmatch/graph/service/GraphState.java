@@ -0,0 +1,34 @@
+package com.berdachuk.expertmatch.graph.service;
+
+import java.util.Set;
+
+/**
+ * Snapshot of the Apache AGE graph structure held by {@link GraphStateRegistry}.
+ *
+ * @param version     Graph version; changes whenever the graph may have been rebuilt, cleared or invalidated
+ * @param graphExists Whether the graph exists (false when Apache AGE is not available)
+ * @param labels      Vertex and edge labels defined in the graph
+ * @param indexes     Index names on the graph label tables
+ */
+public record GraphState(long version, boolean graphExists, Set<String> labels, Set<String> indexes) {
+
+    public GraphState {
+        labels = Set.copyOf(labels);
+        indexes = Set.copyOf(indexes);
+    }
+
+    /**
+     * State of a graph that does not exist or could not be read.
+     */
+    public static GraphState absent(long version) {
+        return new GraphState(version, false, Set.of(), Set.of());
+    }
+
+    public boolean hasLabel(String label) {
+        return labels.contains(label);
+    }
+
+    public boolean hasIndex(String indexName) {
+        return indexes.contains(indexName);
+    }
+}
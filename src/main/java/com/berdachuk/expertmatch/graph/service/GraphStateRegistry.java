@@ -0,0 +1,44 @@
+package com.berdachuk.expertmatch.graph.service;
+
+/**
+ * In-memory view of the graph structure (existence, labels, indexes), so graph queries do not check the
+ * catalog on every call.
+ * <p>
+ * The state is reloaded after {@link GraphBuilderService#buildGraph()} or
+ * {@link GraphBuilderService#clearGraph()}, after {@link #invalidate()}, and once it is older than the
+ * configured maximum age. Downstream caches can key on {@link #version()} to drop entries computed from
+ * an older graph.
+ */
+public interface GraphStateRegistry {
+
+    /**
+     * Returns the current graph state, reloading it first if it was invalidated or has expired.
+     *
+     * @return Current graph state
+     */
+    GraphState current();
+
+    /**
+     * Whether the graph exists, from the current state.
+     *
+     * @return true if the graph exists, false otherwise
+     */
+    default boolean graphExists() {
+        return current().graphExists();
+    }
+
+    /**
+     * Current graph version.
+     *
+     * @return Version of the current graph state
+     */
+    default long version() {
+        return current().version();
+    }
+
+    /**
+     * Marks the state as stale, e.g. when another node rebuilt the graph.
+     * The next read reloads it under a new version.
+     */
+    void invalidate();
+}
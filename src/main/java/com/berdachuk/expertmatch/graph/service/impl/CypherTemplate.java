@@ -0,0 +1,101 @@
+package com.berdachuk.expertmatch.graph.service.impl;
+
+/**
+ * SQL for one Cypher query, compiled once and reused for every execution of that query text.
+ * <p>
+ * The Cypher text is embedded as a dollar-quoted constant and parameters are passed through the third
+ * {@code ag_catalog.cypher} argument as a single agtype map bound on the PreparedStatement, so the SQL
+ * text is the same for every parameter value and the driver can reuse a server-side prepared plan.
+ * Result columns follow the RETURN clause: a single expression maps to {@code result}, several
+ * expressions to {@code c0, c1, ...}.
+ *
+ * @param sql              Statement for executions without parameters
+ * @param parameterizedSql Statement whose only bind parameter is the agtype parameter map
+ * @param columns          Result column names in select order
+ */
+public record CypherTemplate(String sql, String parameterizedSql, String[] columns) {
+
+    private static final String DOLLAR_TAG = "$cypher_q$";
+
+    /**
+     * Compiles a Cypher query for a graph.
+     *
+     * @param graphName   Graph name
+     * @param cypherQuery Cypher query with $paramName placeholders
+     * @return Compiled template
+     */
+    public static CypherTemplate compile(String graphName, String cypherQuery) {
+        if (cypherQuery.contains(DOLLAR_TAG)) {
+            throw new IllegalArgumentException("Cypher query cannot contain " + DOLLAR_TAG);
+        }
+        String[] columns = returnColumns(cypherQuery);
+        StringBuilder columnDefs = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                columnDefs.append(", ");
+            }
+            columnDefs.append(columns[i]).append(" ag_catalog.agtype");
+        }
+        String prefix = "SELECT * FROM ag_catalog.cypher('" + graphName + "'::name, "
+                + DOLLAR_TAG + cypherQuery + DOLLAR_TAG + "::cstring";
+        String suffix = ") AS t(" + columnDefs + ")";
+        return new CypherTemplate(prefix + suffix, prefix + ", ?" + suffix, columns);
+    }
+
+    /**
+     * Result column names from the top-level expressions of the RETURN clause.
+     */
+    private static String[] returnColumns(String cypherQuery) {
+        int returnIndex = cypherQuery.trim().toUpperCase().indexOf("RETURN");
+        if (returnIndex < 0) {
+            return new String[]{"result"};
+        }
+        String afterReturn = cypherQuery.trim().substring(returnIndex + 6).trim();
+        int columnCount = countCommasInReturnClause(afterReturn) + 1;
+        if (columnCount == 1) {
+            return new String[]{"result"};
+        }
+        String[] columns = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = "c" + i;
+        }
+        return columns;
+    }
+
+    /**
+     * Counts top-level commas in RETURN clause to determine column count.
+     */
+    private static int countCommasInReturnClause(String returnClause) {
+        int commaCount = 0;
+        int parenDepth = 0;
+        int bracketDepth = 0;
+        boolean inString = false;
+        char stringDelimiter = '\0';
+        for (int i = 0; i < returnClause.length(); i++) {
+            char c = returnClause.charAt(i);
+            if (!inString && (c == '\'' || c == '"')) {
+                inString = true;
+                stringDelimiter = c;
+            } else if (inString && c == stringDelimiter) {
+                if (i == 0 || returnClause.charAt(i - 1) != '\\') {
+                    inString = false;
+                }
+            }
+            if (!inString && parenDepth == 0 && bracketDepth == 0 && c == ',') {
+                commaCount++;
+            }
+            if (!inString) {
+                if (c == '(') {
+                    parenDepth++;
+                } else if (c == ')') {
+                    parenDepth--;
+                } else if (c == '[') {
+                    bracketDepth++;
+                } else if (c == ']') {
+                    bracketDepth--;
+                }
+            }
+        }
+        return commaCount;
+    }
+}
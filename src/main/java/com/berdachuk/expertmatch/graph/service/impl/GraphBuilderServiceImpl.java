@@ -4,8 +4,10 @@ import com.berdachuk.expertmatch.core.util.IdGenerator;
 import com.berdachuk.expertmatch.graph.domain.*;
 import com.berdachuk.expertmatch.graph.repository.GraphBuilderRepository;
 import com.berdachuk.expertmatch.graph.service.GraphBuilderService;
+import com.berdachuk.expertmatch.graph.service.GraphDataChangedEvent;
 import com.berdachuk.expertmatch.graph.service.GraphService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,20 +25,24 @@ import java.util.Map;
 public class GraphBuilderServiceImpl implements GraphBuilderService {
     private final GraphService graphService;
     private final GraphBuilderRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
     // Map to maintain project name -> project ID mapping during graph build
     private final Map<String, String> projectIdMap = new HashMap<>();
 
     public GraphBuilderServiceImpl(
             GraphService graphService,
-            GraphBuilderRepository repository) {
+            GraphBuilderRepository repository,
+            ApplicationEventPublisher eventPublisher) {
         this.graphService = graphService;
         this.repository = repository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Clears all vertices and edges from the Apache AGE graph.
      * Uses REQUIRES_NEW so the clear commits in its own transaction even when called from clearTestData.
      * Deletes in a single Cypher call; if that fails (e.g. timeout), retries by deleting edges first then nodes.
+     * Publishes {@link GraphDataChangedEvent} once the graph is cleared.
      */
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -49,12 +55,14 @@ public class GraphBuilderServiceImpl implements GraphBuilderService {
         try {
             graphService.executeCypher("MATCH (n) DETACH DELETE n", new HashMap<>());
             log.info("Graph cleared successfully");
+            eventPublisher.publishEvent(new GraphDataChangedEvent("clear"));
         } catch (Exception e) {
             log.warn("Single-query clear failed ({}), trying edges then nodes: {}", e.getMessage(), e.getClass().getSimpleName());
             try {
                 graphService.executeCypher("MATCH ()-[r]->() DELETE r", new HashMap<>());
                 graphService.executeCypher("MATCH (n) DELETE n", new HashMap<>());
                 log.info("Graph cleared successfully (edges then nodes)");
+                eventPublisher.publishEvent(new GraphDataChangedEvent("clear"));
             } catch (Exception e2) {
                 log.error("Could not clear graph", e2);
                 throw new RuntimeException("Failed to clear graph", e2);
@@ -65,9 +73,19 @@ public class GraphBuilderServiceImpl implements GraphBuilderService {
     /**
      * Builds graph from existing database data.
      * Creates vertices and edges for experts, projects, technologies, etc.
+     * Publishes {@link GraphDataChangedEvent} when done, also after a failed build, which may have left
+     * the graph partially built.
      */
     @Override
     public void buildGraph() {
+        try {
+            buildGraphData();
+        } finally {
+            eventPublisher.publishEvent(new GraphDataChangedEvent("build"));
+        }
+    }
+
+    private void buildGraphData() {
         long startTime = System.currentTimeMillis();
         log.info("Starting graph build process...");
 
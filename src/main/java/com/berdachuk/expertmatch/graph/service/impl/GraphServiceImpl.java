@@ -3,20 +3,21 @@ package com.berdachuk.expertmatch.graph.service.impl;
 import com.berdachuk.expertmatch.core.exception.RetrievalException;
 import com.berdachuk.expertmatch.graph.repository.GraphRepository;
 import com.berdachuk.expertmatch.graph.service.GraphService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.Statement;
-import java.util.ArrayList;
+import java.sql.Types;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for Apache AGE graph operations.
@@ -26,43 +27,27 @@ import java.util.Map;
 @Service
 public class GraphServiceImpl implements GraphService {
     private static final String GRAPH_NAME = "expertmatch_graph";
+    // Upper bound on cached query templates; graph queries with inline data are not cached beyond it
+    private static final int MAX_CACHED_TEMPLATES = 256;
+    private static final ObjectMapper AGTYPE_MAPPER = new ObjectMapper();
     private final JdbcTemplate jdbcTemplate;
     private final GraphRepository graphRepository;
+    private final Map<String, CypherTemplate> templates = new ConcurrentHashMap<>();
 
     public GraphServiceImpl(JdbcTemplate jdbcTemplate, GraphRepository graphRepository) {
         this.jdbcTemplate = jdbcTemplate;
         this.graphRepository = graphRepository;
     }
 
-    /**
-     * Loads AGE extension for the current session/connection.
-     * Optimized to check if AGE is already loaded before attempting to load it.
-     * If AGE is loaded via shared_preload_libraries, this is a no-op.
-     */
-    private void loadAgeExtension(Connection connection) {
-        try {
-            // Try to load AGE extension
-            // LOAD 'age' must be executed outside of a transaction
-            // Execute it directly on the provided connection
-            // Note: If AGE is already loaded via shared_preload_libraries, this will fail
-            // but that's okay - we'll catch the exception and continue
-            try (Statement stmt = connection.createStatement()) {
-                stmt.execute("LOAD 'age';");
-                log.trace("AGE extension loaded successfully");
-            }
-        } catch (Exception e) {
-            // If LOAD fails, AGE might already be loaded via shared_preload_libraries
-            // This is expected in production environments where AGE is preloaded
-            // Log at debug level and continue - the cypher call will fail if AGE is truly not available
-            log.debug("Could not LOAD 'age' (might already be loaded): {}", e.getMessage());
-        }
-    }
-
     /**
      * Executes a Cypher query on the graph.
+     * <p>
+     * The query text is compiled to SQL once (see {@link CypherTemplate}) and parameters are bound as one
+     * agtype map on a PreparedStatement instead of being embedded in the text. AGE is loaded and
+     * ag_catalog put on the search_path once per pooled connection by the DataSource init SQL.
      *
      * @param cypherQuery Cypher query string with $paramName placeholders
-     * @param parameters  Query parameters to embed in the query
+     * @param parameters  Query parameters passed to AGE as an agtype map
      * @return List of result maps
      */
     @Transactional
@@ -75,61 +60,23 @@ public class GraphServiceImpl implements GraphService {
             throw new IllegalArgumentException("Parameters cannot be null (use empty map if no parameters)");
         }
 
-        // Apache AGE uses ag_catalog.cypher() as a set-returning function
-        // Function signature: ag_catalog.cypher(name, cstring, agtype)
-        // - name: graph name (PostgreSQL name type)
-        // - cstring: Cypher query string (PostgreSQL cstring type)
-        // - agtype: parameters as agtype (optional, defaults to NULL)
-        //
-        // Based on Apache AGE examples, parameters are embedded directly in the Cypher query string
-        // using $paramName syntax, rather than using the third parameter.
-        String dollarTag = "cypher_q";
-
-        // Embed parameters directly in the Cypher query string
-        String finalQuery = embedParameters(cypherQuery, parameters);
-
-        // Validate final query is not empty after parameter embedding
-        if (finalQuery == null || finalQuery.trim().isEmpty()) {
-            throw new IllegalArgumentException("Final Cypher query is empty after parameter embedding");
-        }
-
         try {
-            // Build SQL with correct column count from RETURN clause (single "result" or c0, c1, c2, ...)
-            String sql = buildCypherSql(finalQuery, dollarTag);
-
-            // Execute LOAD 'age' and Cypher query on the same connection
-            // This ensures AGE is loaded for the session that executes the query
-            @SuppressWarnings("null")
-            List<Map<String, Object>> results = jdbcTemplate.execute((ConnectionCallback<List<Map<String, Object>>>) connection -> {
-                // Load AGE extension on this connection before executing Cypher query
-                // Based on AGE driver examples, LOAD can be executed in a transaction
-                loadAgeExtension(connection);
-
-                // Set search_path to include ag_catalog for AGE functions
-                // This ensures AGE operators and functions are found
-                try (Statement stmt = connection.createStatement()) {
-                    stmt.execute("SET LOCAL search_path = ag_catalog, \"$user\", public, expertmatch;");
+            CypherTemplate template = template(cypherQuery);
+            RowMapper<Map<String, Object>> rowMapper = (rs, rowNum) -> {
+                Map<String, Object> result = new HashMap<>();
+                for (int i = 0; i < template.columns().length; i++) {
+                    result.put(template.columns()[i], rs.getObject(i + 1));
                 }
+                return result;
+            };
 
-                // Now execute the Cypher query on the same connection
-                try (Statement stmt = connection.createStatement();
-                     ResultSet rs = stmt.executeQuery(sql)) {
-                    List<Map<String, Object>> resultList = new ArrayList<>();
-                    while (rs.next()) {
-                        Map<String, Object> result = new HashMap<>();
-                        // Parse AGE result format
-                        for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
-                            String columnName = rs.getMetaData().getColumnName(i);
-                            Object value = rs.getObject(i);
-                            result.put(columnName, value);
-                        }
-                        resultList.add(result);
-                    }
-                    return resultList;
-                }
-            });
-
-            return results;
+            if (parameters.isEmpty()) {
+                return jdbcTemplate.query(template.sql(), rowMapper);
+            }
+            // Unspecified type, so the server types the parameter as the agtype cypher() argument
+            String agtypeParameters = AGTYPE_MAPPER.writeValueAsString(parameters);
+            return jdbcTemplate.query(template.parameterizedSql(),
+                    ps -> ps.setObject(1, agtypeParameters, Types.OTHER), rowMapper);
         } catch (org.springframework.jdbc.UncategorizedSQLException e) {
             // Handle transaction aborted errors (25P02) gracefully
             java.sql.SQLException sqlException = e.getSQLException();
@@ -192,140 +139,19 @@ public class GraphServiceImpl implements GraphService {
     }
 
     /**
-     * Embeds parameters directly into the Cypher query string.
-     * Replaces $paramName placeholders with properly escaped values.
-     *
-     * @param cypherQuery Original Cypher query with $paramName placeholders
-     * @param parameters  Map of parameter names to values
-     * @return Cypher query with parameters embedded
-     */
-    private String embedParameters(String cypherQuery, Map<String, Object> parameters) {
-        if (parameters == null || parameters.isEmpty()) {
-            return cypherQuery;
-        }
-
-        String result = cypherQuery;
-        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            String paramName = entry.getKey();
-            Object value = entry.getValue();
-
-            // Replace $paramName with the actual value
-            String placeholder = "$" + paramName;
-            String replacement = formatCypherValue(value);
-
-            result = result.replace(placeholder, replacement);
-        }
-
-        return result;
-    }
-
-    /**
-     * Builds SQL for Cypher execution with correct column count from RETURN clause.
-     * Single-expression RETURN uses "result"; multi-column uses c0, c1, c2, ...
-     */
-    private String buildCypherSql(String finalQuery, String dollarTag) {
-        String upperQuery = finalQuery.trim().toUpperCase();
-        int returnIndex = upperQuery.indexOf("RETURN");
-        if (returnIndex < 0) {
-            return String.format(
-                    "SELECT * FROM ag_catalog.cypher('%s'::name, $%s$%s$%s$::cstring) AS t(result ag_catalog.agtype)",
-                    GRAPH_NAME, dollarTag, finalQuery, dollarTag
-            );
-        }
-        String afterReturn = finalQuery.substring(returnIndex + 6).trim();
-        int commaCount = countCommasInReturnClause(afterReturn);
-        if (commaCount == 0) {
-            return String.format(
-                    "SELECT * FROM ag_catalog.cypher('%s'::name, $%s$%s$%s$::cstring) AS t(result ag_catalog.agtype)",
-                    GRAPH_NAME, dollarTag, finalQuery, dollarTag
-            );
-        }
-        int columnCount = commaCount + 1;
-        StringBuilder columnDefs = new StringBuilder();
-        for (int i = 0; i < columnCount; i++) {
-            if (i > 0) {
-                columnDefs.append(", ");
-            }
-            columnDefs.append("c").append(i).append(" ag_catalog.agtype");
-        }
-        return String.format(
-                "SELECT * FROM ag_catalog.cypher('%s'::name, $%s$%s$%s$::cstring) AS t(%s)",
-                GRAPH_NAME, dollarTag, finalQuery, dollarTag, columnDefs
-        );
-    }
-
-    /**
-     * Counts top-level commas in RETURN clause to determine column count.
+     * Returns the compiled template for a query text. Queries built with inline data (batched UNWIND
+     * lists, labels) are still compiled but not cached once the cache is full.
      */
-    private int countCommasInReturnClause(String returnClause) {
-        int commaCount = 0;
-        int parenDepth = 0;
-        int bracketDepth = 0;
-        boolean inString = false;
-        char stringDelimiter = '\0';
-        for (int i = 0; i < returnClause.length(); i++) {
-            char c = returnClause.charAt(i);
-            if (!inString && (c == '\'' || c == '"')) {
-                inString = true;
-                stringDelimiter = c;
-            } else if (inString && c == stringDelimiter) {
-                if (i == 0 || returnClause.charAt(i - 1) != '\\') {
-                    inString = false;
-                }
-            }
-            if (!inString && parenDepth == 0 && bracketDepth == 0 && c == ',') {
-                commaCount++;
-            }
-            if (!inString) {
-                if (c == '(') {
-                    parenDepth++;
-                } else if (c == ')') {
-                    parenDepth--;
-                } else if (c == '[') {
-                    bracketDepth++;
-                } else if (c == ']') {
-                    bracketDepth--;
-                }
-            }
+    private CypherTemplate template(String cypherQuery) {
+        CypherTemplate template = templates.get(cypherQuery);
+        if (template != null) {
+            return template;
         }
-        return commaCount;
-    }
-
-    /**
-     * Formats a value for embedding in a Cypher query string.
-     * Properly escapes and formats based on the value type.
-     *
-     * @param value The value to format
-     * @return Formatted string representation for Cypher
-     */
-    private String formatCypherValue(Object value) {
-        if (value == null) {
-            return "null";
-        }
-
-        if (value instanceof String) {
-            // Escape single quotes and wrap in quotes
-            String escaped = value.toString()
-                    .replace("\\", "\\\\")
-                    .replace("'", "\\'")
-                    .replace("\n", "\\n")
-                    .replace("\r", "\\r")
-                    .replace("\t", "\\t");
-            return "'" + escaped + "'";
-        } else if (value instanceof Number) {
-            return value.toString();
-        } else if (value instanceof Boolean) {
-            return value.toString();
-        } else {
-            // For other types, convert to string and escape
-            String escaped = value.toString()
-                    .replace("\\", "\\\\")
-                    .replace("'", "\\'")
-                    .replace("\n", "\\n")
-                    .replace("\r", "\\r")
-                    .replace("\t", "\\t");
-            return "'" + escaped + "'";
+        template = CypherTemplate.compile(GRAPH_NAME, cypherQuery);
+        if (templates.size() < MAX_CACHED_TEMPLATES) {
+            templates.putIfAbsent(cypherQuery, template);
         }
+        return template;
     }
 
     /**
@@ -342,14 +168,29 @@ public class GraphServiceImpl implements GraphService {
 
         return results.stream()
                 .map(result -> {
-                    Object value = result.get(resultField);
-                    return value != null ? value.toString() : null;
+                    // A single RETURN expression comes back in the "result" column, whatever its alias
+                    Object value = result.containsKey(resultField) ? result.get(resultField) : result.get("result");
+                    return value != null ? agtypeText(value.toString()) : null;
                 })
-                .filter(value -> value != null)
+                .filter(Objects::nonNull)
                 .distinct()
                 .toList();
     }
 
+    /**
+     * Converts an agtype scalar to text; agtype strings are JSON-quoted.
+     */
+    private static String agtypeText(String agtype) {
+        if (agtype.length() < 2 || agtype.charAt(0) != '"' || agtype.charAt(agtype.length() - 1) != '"') {
+            return agtype;
+        }
+        try {
+            return AGTYPE_MAPPER.readValue(agtype, String.class);
+        } catch (JsonProcessingException e) {
+            return agtype.substring(1, agtype.length() - 1);
+        }
+    }
+
 
     /**
      * Checks if graph exists.
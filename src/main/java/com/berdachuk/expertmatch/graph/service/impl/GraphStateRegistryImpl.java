@@ -0,0 +1,130 @@
+package com.berdachuk.expertmatch.graph.service.impl;
+
+import com.berdachuk.expertmatch.graph.repository.GraphRepository;
+import com.berdachuk.expertmatch.graph.service.GraphDataChangedEvent;
+import com.berdachuk.expertmatch.graph.service.GraphState;
+import com.berdachuk.expertmatch.graph.service.GraphStateRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the graph state and reloads it when the graph changes.
+ * <p>
+ * Change events and {@link #invalidate()} only bump the version; the next reader reloads the state once
+ * and swaps the reference, so readers never see a partially loaded state. A state older than the maximum
+ * age is treated like an invalidation, which bounds how long a rebuild on another node goes unnoticed.
+ * A failed load is kept as an absent graph only for the short failure retry interval, so graph retrieval
+ * resumes soon after the database recovers.
+ */
+@Slf4j
+@Service
+public class GraphStateRegistryImpl implements GraphStateRegistry {
+
+    private static final String GRAPH_NAME = "expertmatch_graph";
+
+    private final GraphRepository graphRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxAgeNanos;
+    private final long failureRetryNanos;
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile LoadedState current;
+
+    public GraphStateRegistryImpl(
+            GraphRepository graphRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${expertmatch.graph.state.max-age-seconds:300}") long maxAgeSeconds,
+            @Value("${expertmatch.graph.state.failure-retry-seconds:5}") long failureRetrySeconds) {
+        this.graphRepository = graphRepository;
+        // Catalog reads run in their own transaction, like GraphService.graphExists(), so a missing
+        // Apache AGE never aborts the caller's transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxAgeNanos = maxAgeSeconds > 0 ? TimeUnit.SECONDS.toNanos(maxAgeSeconds) : Long.MAX_VALUE;
+        this.failureRetryNanos = TimeUnit.SECONDS.toNanos(Math.max(0, failureRetrySeconds));
+    }
+
+    @Override
+    public GraphState current() {
+        LoadedState snapshot = current;
+        if (isCurrent(snapshot)) {
+            return snapshot.state();
+        }
+        reloadLock.lock();
+        try {
+            snapshot = current;
+            if (!isCurrent(snapshot)) {
+                if (snapshot != null && snapshot.state().version() == version.get()) {
+                    // Expired without an invalidation: the graph may have changed elsewhere
+                    version.incrementAndGet();
+                }
+                // Read the version before loading, so a change during the load triggers another reload
+                snapshot = load(version.get());
+                current = snapshot;
+            }
+            return snapshot.state();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the state when the graph is built or cleared.
+     * Runs after commit, so a reload never caches the state of an uncommitted or rolled back change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGraphDataChanged(GraphDataChangedEvent event) {
+        log.debug("Graph data changed ({}), invalidating graph state", event.operation());
+        invalidate();
+    }
+
+    private boolean isCurrent(LoadedState snapshot) {
+        return snapshot != null
+                && snapshot.state().version() == version.get()
+                && System.nanoTime() - snapshot.loadedAt() < snapshot.maxAgeNanos();
+    }
+
+    /**
+     * Reads graph existence, labels and indexes from the catalog.
+     */
+    private LoadedState load(long stateVersion) {
+        try {
+            GraphState state = transactionTemplate.execute(status -> {
+                if (!graphRepository.graphExists(GRAPH_NAME)) {
+                    return GraphState.absent(stateVersion);
+                }
+                return new GraphState(stateVersion, true,
+                        new HashSet<>(graphRepository.findLabels(GRAPH_NAME)),
+                        new HashSet<>(graphRepository.findIndexes(GRAPH_NAME)));
+            });
+            log.debug("Loaded graph state version {}: exists={}, {} labels, {} indexes", stateVersion,
+                    state.graphExists(), state.labels().size(), state.indexes().size());
+            return new LoadedState(state, System.nanoTime(), maxAgeNanos);
+        } catch (Exception e) {
+            // Absent only for the failure retry interval, to prevent a failing load on every graph query
+            log.warn("Failed to load graph state, treating graph as absent for {} s: {}",
+                    TimeUnit.NANOSECONDS.toSeconds(failureRetryNanos), e.getMessage());
+            return new LoadedState(GraphState.absent(stateVersion), System.nanoTime(), failureRetryNanos);
+        }
+    }
+
+    private record LoadedState(GraphState state, long loadedAt, long maxAgeNanos) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.berdachuk.expertmatch.graph.service.impl;
 
 import com.berdachuk.expertmatch.graph.service.GraphService;
+import com.berdachuk.expertmatch.graph.service.GraphStateRegistry;
 import com.berdachuk.expertmatch.graph.service.GraphVisualizationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,9 +24,11 @@ public class GraphVisualizationServiceImpl implements GraphVisualizationService
     private static final List<String> EDGE_TYPES = List.of("PARTICIPATED_IN", "WORKED_FOR", "USES", "IN_DOMAIN", "FOR_CUSTOMER");
 
     private final GraphService graphService;
+    private final GraphStateRegistry graphStateRegistry;
 
-    public GraphVisualizationServiceImpl(GraphService graphService) {
+    public GraphVisualizationServiceImpl(GraphService graphService, GraphStateRegistry graphStateRegistry) {
         this.graphService = graphService;
+        this.graphStateRegistry = graphStateRegistry;
     }
 
     private static long parseCount(Object val) {
@@ -47,7 +50,7 @@ public class GraphVisualizationServiceImpl implements GraphVisualizationService
     public Map<String, Object> getGraphStatistics() {
         Map<String, Object> stats = new HashMap<>();
 
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             stats.put("exists", false);
             stats.put("totalVertices", 0);
             stats.put("totalEdges", 0);
@@ -148,7 +151,7 @@ public class GraphVisualizationServiceImpl implements GraphVisualizationService
         List<Map<String, Object>> nodes = new ArrayList<>();
         List<Map<String, Object>> edges = new ArrayList<>();
 
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             result.put("nodes", nodes);
             result.put("edges", edges);
             result.put("total", 0);
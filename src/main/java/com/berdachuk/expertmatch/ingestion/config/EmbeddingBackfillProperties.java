@@ -0,0 +1,23 @@
+package com.berdachuk.expertmatch.ingestion.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the work experience embedding backfill.
+ */
+@Component
+@ConfigurationProperties(prefix = "expertmatch.ingestion.embedding-backfill")
+@Getter
+@Setter
+public class EmbeddingBackfillProperties {
+
+    // Rows read from the database per page (keyset pagination by ID)
+    private int pageSize = 1000;
+    // Texts sent to the embedding model per request
+    private int batchSize = 64;
+    // Embedding requests in flight at once
+    private int maxInFlight = 4;
+}
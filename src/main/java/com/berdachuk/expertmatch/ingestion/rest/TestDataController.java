@@ -2,12 +2,15 @@ package com.berdachuk.expertmatch.ingestion.rest;
 
 import com.berdachuk.expertmatch.api.TestDataApi;
 import com.berdachuk.expertmatch.api.model.*;
+import com.berdachuk.expertmatch.core.config.BoundedVirtualThreadExecutor;
+import com.berdachuk.expertmatch.core.exception.ServiceOverloadedException;
 import com.berdachuk.expertmatch.graph.service.GraphBuilderService;
 import com.berdachuk.expertmatch.ingestion.service.DataGenerationProgress;
 import com.berdachuk.expertmatch.ingestion.service.DataGenerationProgressService;
 import com.berdachuk.expertmatch.ingestion.service.TestDataGenerator;
 import com.berdachuk.expertmatch.ingestion.service.TestDataStatisticsService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,7 +21,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for test data generation operations.
@@ -37,16 +39,19 @@ public class TestDataController implements TestDataApi {
     private final GraphBuilderService graphBuilderService;
     private final DataGenerationProgressService progressService;
     private final TestDataStatisticsService testDataStatisticsService;
+    private final BoundedVirtualThreadExecutor jobTaskExecutor;
 
     public TestDataController(
             TestDataGenerator testDataGenerator,
             GraphBuilderService graphBuilderService,
             DataGenerationProgressService progressService,
-            TestDataStatisticsService testDataStatisticsService) {
+            TestDataStatisticsService testDataStatisticsService,
+            @Qualifier("jobTaskExecutor") BoundedVirtualThreadExecutor jobTaskExecutor) {
         this.testDataGenerator = testDataGenerator;
         this.graphBuilderService = graphBuilderService;
         this.progressService = progressService;
         this.testDataStatisticsService = testDataStatisticsService;
+        this.jobTaskExecutor = jobTaskExecutor;
     }
 
     private static boolean isValidSize(String size) {
@@ -205,29 +210,35 @@ public class TestDataController implements TestDataApi {
         DataGenerationProgress progress = progressService.createProgress(jobId);
         progress.addTraceEntry("INFO", "Start", "Test data generation started (size: " + sizeParam + ", clear: " + clearExisting + ")", 0);
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                if (progress.isCancelled()) return;
-                progress.updateProgress(5, "Clear", clearExisting ? "Clearing existing test data..." : "Skipping clear (append mode)");
-                if (clearExisting) {
-                    testDataGenerator.clearTestData();
+        // Runs on the shared job executor; a saturated executor fails the job and answers 503 + Retry-After
+        try {
+            jobTaskExecutor.submit(() -> {
+                try {
+                    if (progress.isCancelled()) return;
+                    progress.updateProgress(5, "Clear", clearExisting ? "Clearing existing test data..." : "Skipping clear (append mode)");
+                    if (clearExisting) {
+                        testDataGenerator.clearTestData();
+                    }
+                    if (progress.isCancelled()) return;
+                    progress.updateProgress(20, "Data", "Generating test data (employees, projects, work experiences)...");
+                    testDataGenerator.generateTestData(sizeParam, false);
+                    if (progress.isCancelled()) return;
+                    progress.updateProgress(60, "Embeddings", "Generating vector embeddings for work experiences...");
+                    testDataGenerator.generateEmbeddings(progress, 60, 85);
+                    if (progress.isCancelled()) return;
+                    progress.updateProgress(85, "Graph", "Building graph relationships in Apache AGE...");
+                    graphBuilderService.buildGraph();
+                    if (progress.isCancelled()) return;
+                    progress.complete();
+                } catch (Exception e) {
+                    log.error("Test data generation failed", e);
+                    progress.error(e.getMessage());
                 }
-                if (progress.isCancelled()) return;
-                progress.updateProgress(20, "Data", "Generating test data (employees, projects, work experiences)...");
-                testDataGenerator.generateTestData(sizeParam, false);
-                if (progress.isCancelled()) return;
-                progress.updateProgress(60, "Embeddings", "Generating vector embeddings for work experiences...");
-                testDataGenerator.generateEmbeddings();
-                if (progress.isCancelled()) return;
-                progress.updateProgress(85, "Graph", "Building graph relationships in Apache AGE...");
-                graphBuilderService.buildGraph();
-                if (progress.isCancelled()) return;
-                progress.complete();
-            } catch (Exception e) {
-                log.error("Test data generation failed", e);
-                progress.error(e.getMessage());
-            }
-        });
+            });
+        } catch (ServiceOverloadedException e) {
+            progress.error(e.getMessage());
+            throw e;
+        }
 
         AsyncJobResponse response = new AsyncJobResponse()
                 .status("started")
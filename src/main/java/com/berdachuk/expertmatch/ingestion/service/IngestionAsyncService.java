@@ -1,11 +1,13 @@
 package com.berdachuk.expertmatch.ingestion.service;
 
+import com.berdachuk.expertmatch.core.config.BoundedVirtualThreadExecutor;
+import com.berdachuk.expertmatch.core.exception.ServiceOverloadedException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 /**
- * Runs async ingestion (external DB + embeddings + graph) in a Spring-managed thread.
+ * Runs async ingestion (external DB + embeddings + graph) on the shared job executor.
  * Delegates to IngestionTransactionalRunner so the full workflow runs in one transaction
  * and commits when the method completes (fixes data/embeddings/graph not persisting).
  */
@@ -15,19 +17,23 @@ public class IngestionAsyncService {
 
     private final IngestionTransactionalRunner ingestionTransactionalRunner;
     private final DataGenerationProgressService progressService;
+    private final BoundedVirtualThreadExecutor jobTaskExecutor;
 
     public IngestionAsyncService(
             IngestionTransactionalRunner ingestionTransactionalRunner,
-            DataGenerationProgressService progressService) {
+            DataGenerationProgressService progressService,
+            @Qualifier("jobTaskExecutor") BoundedVirtualThreadExecutor jobTaskExecutor) {
         this.ingestionTransactionalRunner = ingestionTransactionalRunner;
         this.progressService = progressService;
+        this.jobTaskExecutor = jobTaskExecutor;
     }
 
     /**
-     * Schedules ingestion in async thread; the runner executes in a single transaction
+     * Schedules ingestion on the job executor; the runner executes in a single transaction
      * so ingest, embeddings, and graph all commit together.
+     *
+     * @throws ServiceOverloadedException if too many jobs are already running or queued
      */
-    @Async
     public void runIngestionAsync(String jobId, int batch, boolean clearExisting) {
         DataGenerationProgress progress = progressService.getProgress(jobId);
         if (progress == null) {
@@ -35,10 +41,17 @@ public class IngestionAsyncService {
             return;
         }
         try {
-            ingestionTransactionalRunner.runInTransaction(jobId, batch, clearExisting);
-        } catch (Exception e) {
-            log.error("Ingestion from external database failed", e);
+            jobTaskExecutor.submit(() -> {
+                try {
+                    ingestionTransactionalRunner.runInTransaction(jobId, batch, clearExisting);
+                } catch (Exception e) {
+                    log.error("Ingestion from external database failed", e);
+                    progress.error(e.getMessage());
+                }
+            });
+        } catch (ServiceOverloadedException e) {
             progress.error(e.getMessage());
+            throw e;
         }
     }
 }
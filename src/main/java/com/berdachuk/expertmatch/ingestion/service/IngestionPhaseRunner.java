@@ -10,7 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Runs each ingestion phase in its own transaction (REQUIRES_NEW) so a failure
  * in one phase does not leave the connection aborted (25P02) for the next phase.
- * Ingest phase commits after every batch.
+ * Ingest phase commits after every batch; the embedding phase commits every embedding batch.
  */
 @Slf4j
 @Service
@@ -86,13 +86,16 @@ public class IngestionPhaseRunner {
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Not transactional: the embedding backfill commits every batch on its own connection,
+     * so a failed or cancelled run keeps the embeddings already written.
+     */
     public void runPhase2Embeddings(String jobId) {
         DataGenerationProgress progress = progressService.getProgress(jobId);
         if (progress == null || progress.isCancelled()) return;
 
         progress.updateProgress(60, "Embeddings", "Generating vector embeddings for work experiences...");
-        testDataGenerator.generateEmbeddings();
+        testDataGenerator.generateEmbeddings(progress, 60, 85);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
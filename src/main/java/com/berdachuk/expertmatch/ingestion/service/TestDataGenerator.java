@@ -4,6 +4,7 @@ import com.berdachuk.expertmatch.core.util.IdGenerator;
 import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
 import com.berdachuk.expertmatch.employee.domain.Employee;
 import com.berdachuk.expertmatch.employee.repository.EmployeeRepository;
+import com.berdachuk.expertmatch.ingestion.config.EmbeddingBackfillProperties;
 import com.berdachuk.expertmatch.ingestion.model.EmployeeProfile;
 import com.berdachuk.expertmatch.ingestion.model.ProjectData;
 import com.berdachuk.expertmatch.project.domain.Project;
@@ -26,6 +27,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for generating synthetic test data for MVP development.
@@ -129,6 +134,7 @@ public class TestDataGenerator {
     private final ProjectRepository projectRepository;
     private final TechnologyRepository technologyRepository;
     private final WorkExperienceRepository workExperienceRepository;
+    private final EmbeddingBackfillProperties backfillProperties;
     private final Random random = new Random();
     /**
      * Datafaker instance for generating realistic synthetic test data.
@@ -163,12 +169,14 @@ public class TestDataGenerator {
             ProjectRepository projectRepository,
             TechnologyRepository technologyRepository,
             WorkExperienceRepository workExperienceRepository,
+            EmbeddingBackfillProperties backfillProperties,
             ObjectMapper objectMapper) {
         this.embeddingService = embeddingService;
         this.employeeRepository = employeeRepository;
         this.projectRepository = projectRepository;
         this.technologyRepository = technologyRepository;
         this.workExperienceRepository = workExperienceRepository;
+        this.backfillProperties = backfillProperties;
         this.objectMapper = objectMapper;
     }
 
@@ -569,64 +577,136 @@ public class TestDataGenerator {
     }
 
     /**
-     * Generates embeddings for all work experience records.
+     * Generates embeddings for all work experience records that don't have one yet.
      */
     public void generateEmbeddings() {
-        List<WorkExperience> records = workExperienceRepository.findWithoutEmbeddings();
-
-        int totalRecords = records.size();
-        long startTime = System.currentTimeMillis();
-        int processedCount = 0;
-        int successCount = 0;
-        int failedCount = 0;
+        generateEmbeddings(null, 0, 0);
+    }
 
-        log.info("Starting embedding generation for {} work experience records", totalRecords);
+    /**
+     * Generates embeddings for all work experience records that don't have one yet, reporting progress.
+     * <p>
+     * Streams rows with keyset pagination, sends them to the embedding model in batches with a bounded number
+     * of requests in flight, and writes each batch back with one JDBC batch update. Every batch commits on its
+     * own, so an interrupted or cancelled run resumes where it stopped: the next run only sees rows that still
+     * have no embedding. Rows of a failed batch are skipped for the rest of the run and picked up by the next one.
+     *
+     * @param progress     Optional job progress to report to; cancellation stops reading further pages
+     * @param startPercent Job progress when the backfill starts
+     * @param endPercent   Job progress when the backfill finishes
+     */
+    public void generateEmbeddings(DataGenerationProgress progress, int startPercent, int endPercent) {
+        int pageSize = Math.max(1, backfillProperties.getPageSize());
+        int batchSize = Math.max(1, backfillProperties.getBatchSize());
+        int maxInFlight = Math.max(1, backfillProperties.getMaxInFlight());
 
-        // Generate embeddings in batches
-        for (WorkExperience workExperience : records) {
-            processedCount++;
-            try {
-                String text = buildEmbeddingText(workExperience);
-                long embeddingStartTime = System.currentTimeMillis();
-                List<Double> embedding = embeddingService.generateEmbedding(text);
-                long embeddingEndTime = System.currentTimeMillis();
-
-                if (!embedding.isEmpty()) {
-                    int originalDimension = embedding.size();
-                    workExperienceRepository.updateEmbedding(workExperience.id(), embedding, originalDimension);
-                    successCount++;
+        long totalRecords = workExperienceRepository.countWithoutEmbeddings();
+        long startTime = System.currentTimeMillis();
+        AtomicLong processedCount = new AtomicLong();
+        AtomicLong successCount = new AtomicLong();
+        AtomicLong failedCount = new AtomicLong();
+
+        log.info("Starting embedding generation for {} work experience records (page size: {}, batch size: {}, in flight: {})",
+                totalRecords, pageSize, batchSize, maxInFlight);
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        String afterId = "";
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("embedding-backfill-", 0).factory())) {
+            while (progress == null || !progress.isCancelled()) {
+                List<WorkExperience> page = workExperienceRepository.findWithoutEmbeddings(afterId, pageSize);
+                if (page.isEmpty()) {
+                    break;
                 }
-
-                // Log progress every 100 items
-                if (processedCount % 100 == 0) {
-                    long currentTime = System.currentTimeMillis();
-                    long elapsedTime = currentTime - startTime;
-                    double itemsPerSecond = (processedCount * 1000.0) / elapsedTime;
-                    double avgEmbeddingTime = (embeddingEndTime - embeddingStartTime) / 1000.0;
-
-                    log.info(String.format("Progress: %d/%d records processed (%d%% complete), Success: %d, Failed: %d, " +
-                                    "Items/sec: %.2f, Avg embedding time: %.3fs",
-                            processedCount, totalRecords,
-                            (processedCount * 100 / totalRecords),
-                            successCount, failedCount,
-                            itemsPerSecond, avgEmbeddingTime));
+                afterId = page.getLast().id();
+
+                for (int from = 0; from < page.size(); from += batchSize) {
+                    List<WorkExperience> batch = page.subList(from, Math.min(from + batchSize, page.size()));
+                    inFlight.acquire();
+                    executor.submit(() -> {
+                        try {
+                            embedBatch(batch, successCount, failedCount);
+                        } finally {
+                            processedCount.addAndGet(batch.size());
+                            inFlight.release();
+                        }
+                    });
                 }
-            } catch (Exception e) {
-                failedCount++;
-                log.warn("Failed to generate embedding for work experience record: {}",
-                        workExperience.id(), e);
+
+                reportEmbeddingProgress(progress, startPercent, endPercent, processedCount.get(), totalRecords,
+                        successCount.get(), failedCount.get(), startTime);
             }
+            // Closing the executor waits for the batches still in flight
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Embedding generation interrupted", e);
         }
 
         // Final summary
-        long endTime = System.currentTimeMillis();
-        long totalElapsedTime = endTime - startTime;
-        double totalItemsPerSecond = (processedCount * 1000.0) / totalElapsedTime;
-
-        log.info(String.format("Embedding generation completed. Total: %d, Success: %d, Failed: %d, " +
+        long totalElapsedTime = Math.max(1, System.currentTimeMillis() - startTime);
+        double totalItemsPerSecond = (processedCount.get() * 1000.0) / totalElapsedTime;
+        String summary = String.format("Embedding generation %s. Total: %d, Success: %d, Failed: %d, " +
                         "Total time: %.3fs, Overall rate: %.2f items/sec",
-                processedCount, successCount, failedCount,
-                totalElapsedTime / 1000.0, totalItemsPerSecond));
+                progress != null && progress.isCancelled() ? "cancelled" : "completed",
+                processedCount.get(), successCount.get(), failedCount.get(),
+                totalElapsedTime / 1000.0, totalItemsPerSecond);
+        log.info(summary);
+        if (progress != null) {
+            progress.addTraceEntry(failedCount.get() > 0 ? "WARN" : "INFO", "Embeddings", summary, endPercent);
+        }
+    }
+
+    /**
+     * Embeds one batch with a single model call and writes the vectors with one JDBC batch update.
+     * Failures are logged and counted; the rows stay without embeddings for the next run.
+     */
+    private void embedBatch(List<WorkExperience> batch, AtomicLong successCount, AtomicLong failedCount) {
+        try {
+            List<String> texts = new ArrayList<>(batch.size());
+            for (WorkExperience workExperience : batch) {
+                texts.add(buildEmbeddingText(workExperience));
+            }
+
+            List<float[]> embeddings = embeddingService.generateEmbeddingsAsFloatArrays(texts);
+            if (embeddings.size() != batch.size()) {
+                throw new IllegalStateException("Embedding model returned " + embeddings.size()
+                        + " vectors for " + batch.size() + " texts");
+            }
+
+            Map<String, float[]> embeddingsByWorkExpId = new LinkedHashMap<>();
+            int dimension = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                float[] embedding = embeddings.get(i);
+                if (embedding.length > 0) {
+                    embeddingsByWorkExpId.put(batch.get(i).id(), embedding);
+                    dimension = embedding.length;
+                }
+            }
+
+            workExperienceRepository.updateEmbeddings(embeddingsByWorkExpId, dimension);
+            successCount.addAndGet(embeddingsByWorkExpId.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            log.warn("Failed to generate embeddings for batch of {} work experience records starting at {}",
+                    batch.size(), batch.getFirst().id(), e);
+        }
+    }
+
+    /**
+     * Logs backfill throughput and maps processed records onto the job progress range.
+     */
+    private void reportEmbeddingProgress(DataGenerationProgress progress, int startPercent, int endPercent,
+                                         long processed, long total, long success, long failed, long startTime) {
+        long elapsedTime = Math.max(1, System.currentTimeMillis() - startTime);
+        double itemsPerSecond = (processed * 1000.0) / elapsedTime;
+        String message = String.format("Embeddings: %d/%d records processed, Success: %d, Failed: %d, Items/sec: %.2f",
+                processed, total, success, failed, itemsPerSecond);
+        log.info(message);
+
+        if (progress != null && total > 0) {
+            int percent = startPercent + (int) ((endPercent - startPercent) * Math.min(processed, total) / total);
+            progress.updateProgress(percent, "Embeddings", message);
+        }
     }
 
     /**
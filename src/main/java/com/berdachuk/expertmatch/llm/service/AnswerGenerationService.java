@@ -4,6 +4,7 @@ import com.berdachuk.expertmatch.core.service.ExecutionTracer;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Service interface for answer generation operations.
@@ -74,6 +75,28 @@ public interface AnswerGenerationService {
                           boolean useCyclePattern,
                           ExecutionTracer tracer);
 
+    /**
+     * Generates an answer like {@link #generateAnswer(String, List, String, List, boolean, boolean, ExecutionTracer)}
+     * and streams the answer text to the token consumer as the LLM produces it.
+     *
+     * @param query               The user's query
+     * @param expertContexts      List of expert contexts with their details
+     * @param intent              The query intent (e.g., "expert_search", "team_formation", "rfp_response")
+     * @param conversationHistory Recent conversation history for context
+     * @param useCascadePattern   If true, uses Cascade pattern for answer generation
+     * @param useCyclePattern     If true, uses Cycle pattern for answer generation
+     * @param tracer              Optional execution tracer for tracking answer generation steps
+     * @param tokenConsumer       Optional consumer of answer text chunks; SGR pattern answers are delivered as one chunk.
+     *                            If null, the answer is generated without streaming
+     * @return Generated answer text
+     */
+    String generateAnswer(String query, List<ExpertContext> expertContexts, String intent,
+                          List<com.berdachuk.expertmatch.chat.repository.ConversationHistoryRepository.ConversationMessage> conversationHistory,
+                          boolean useCascadePattern,
+                          boolean useCyclePattern,
+                          ExecutionTracer tracer,
+                          Consumer<String> tokenConsumer);
+
     /**
      * Expert context for answer generation.
      */
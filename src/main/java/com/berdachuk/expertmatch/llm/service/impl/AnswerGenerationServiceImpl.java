@@ -22,6 +22,7 @@ import org.springframework.stereotype.Service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Service for generating expert recommendations using LLM orchestration.
@@ -130,6 +131,28 @@ public class AnswerGenerationServiceImpl implements AnswerGenerationService {
                                  boolean useCascadePattern,
                                  boolean useCyclePattern,
                                  ExecutionTracer tracer) {
+        return generateAnswer(query, expertContexts, intent, conversationHistory, useCascadePattern, useCyclePattern, tracer, null);
+    }
+
+    /**
+     * Generates answer text with expert recommendations, streaming the RAG answer to the token consumer.
+     *
+     * @param query               User query
+     * @param expertContexts      Expert contexts
+     * @param intent              Query intent (expert_search, team_formation, rfp_response)
+     * @param conversationHistory Recent conversation history for context
+     * @param useCascadePattern   If true, use Cascade pattern for structured evaluation
+     * @param useCyclePattern     If true, use Cycle pattern for multiple expert evaluations
+     * @param tracer              Optional execution tracer for tracking
+     * @param tokenConsumer       Optional consumer of answer text chunks, null to generate without streaming
+     */
+    @Override
+    public String generateAnswer(String query, List<ExpertContext> expertContexts, String intent,
+                                 List<com.berdachuk.expertmatch.chat.repository.ConversationHistoryRepository.ConversationMessage> conversationHistory,
+                                 boolean useCascadePattern,
+                                 boolean useCyclePattern,
+                                 ExecutionTracer tracer,
+                                 Consumer<String> tokenConsumer) {
 
         // If expertContexts is null, try to get from ThreadLocal (for backward compatibility)
         // But for tool calling pattern, we intentionally pass null to force LLM to use tools
@@ -153,6 +176,7 @@ public class AnswerGenerationServiceImpl implements AnswerGenerationService {
                     tracer.endStep("Query: " + query + ", Experts: " + expertContexts.size(),
                             "Evaluations: " + evaluations.size());
                 }
+                emitWhole(answer, tokenConsumer);
                 return answer;
             } catch (Exception e) {
                 log.warn("Cycle pattern failed, falling back to RAG pattern", e);
@@ -177,6 +201,7 @@ public class AnswerGenerationServiceImpl implements AnswerGenerationService {
                     tracer.endStep("Query: " + query + ", Expert: " + expertContexts.get(0).name(),
                             "Evaluation completed");
                 }
+                emitWhole(answer, tokenConsumer);
                 return answer;
             } catch (Exception e) {
                 log.warn("Cascade pattern failed, falling back to RAG pattern", e);
@@ -197,24 +222,48 @@ public class AnswerGenerationServiceImpl implements AnswerGenerationService {
         // This ensures tool calls appear in Execution Trace
         String prompt = buildRAGPrompt(query, null, intent, conversationHistory);
 
+        // Tools may run on the LLM client's threads when streaming, so expert contexts also travel in the tool context
+        Map<String, Object> toolContext = Map.of(
+                ExpertContextHolder.TOOL_CONTEXT_KEY, expertContexts != null ? expertContexts : List.of());
+
         ChatResponse response;
+        String answer;
         try {
             if (tracer != null) {
                 ExecutionTracer.setCurrent(tracer);
             }
-            response = chatClient.prompt()
-                    .user(prompt)
-                    .call()
-                    .chatResponse();
+            if (tokenConsumer == null) {
+                response = chatClient.prompt()
+                        .user(prompt)
+                        .toolContext(toolContext)
+                        .call()
+                        .chatResponse();
+                answer = responseText(response);
+            } else {
+                StringBuilder streamedAnswer = new StringBuilder();
+                // The last chunk carries the usage metadata
+                response = chatClient.prompt()
+                        .user(prompt)
+                        .toolContext(toolContext)
+                        .stream()
+                        .chatResponse()
+                        .doOnNext(chunk -> {
+                            String token = responseText(chunk);
+                            if (token != null && !token.isEmpty()) {
+                                streamedAnswer.append(token);
+                                tokenConsumer.accept(token);
+                            }
+                        })
+                        .blockLast();
+                answer = streamedAnswer.isEmpty() ? null : streamedAnswer.toString();
+            }
         } finally {
             if (tracer != null) {
                 ExecutionTracer.clear();
             }
         }
 
-        if (response == null || response.getResult() == null ||
-                response.getResult().getOutput() == null ||
-                response.getResult().getOutput().getText() == null) {
+        if (answer == null) {
             log.warn("Empty response from LLM, returning empty answer");
             if (tracer != null) {
                 tracer.failStep("Generate Answer (RAG)", "AnswerGenerationService", "generateAnswer", "Empty response from LLM");
@@ -222,8 +271,7 @@ public class AnswerGenerationServiceImpl implements AnswerGenerationService {
             return "";
         }
 
-        String answer = response.getResult().getOutput().getText();
-        if (answer == null || answer.isBlank()) {
+        if (answer.isBlank()) {
             log.warn("Blank answer text from LLM, returning empty answer");
             return "";
         }
@@ -248,6 +296,25 @@ public class AnswerGenerationServiceImpl implements AnswerGenerationService {
         return answer;
     }
 
+    /**
+     * Extracts the text of a (possibly partial) chat response.
+     */
+    private static String responseText(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+
+    /**
+     * Delivers an answer that was not generated token by token as a single chunk.
+     */
+    private static void emitWhole(String answer, Consumer<String> tokenConsumer) {
+        if (tokenConsumer != null && answer != null && !answer.isEmpty()) {
+            tokenConsumer.accept(answer);
+        }
+    }
+
     /**
      * Formats answer from Cascade pattern evaluation.
      */
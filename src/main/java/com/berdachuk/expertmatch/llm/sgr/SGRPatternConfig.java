@@ -19,6 +19,7 @@ public class SGRPatternConfig {
     private CascadeConfig cascade = new CascadeConfig();
     private RoutingConfig routing = new RoutingConfig();
     private CycleConfig cycle = new CycleConfig();
+    private CombinedExtractionConfig combinedExtraction = new CombinedExtractionConfig();
 
     @Getter
     @Setter
@@ -40,5 +41,15 @@ public class SGRPatternConfig {
         private boolean enabled = true;
         private String model;
     }
-}
 
+    /**
+     * Single structured-output call for query requirements and entities.
+     * Per-field extraction is used when disabled or when the combined response fails validation.
+     * Uses the chat model; the Routing pattern is applied to its result when the request asks for it.
+     */
+    @Getter
+    @Setter
+    public static class CombinedExtractionConfig {
+        private boolean enabled = false;
+    }
+}
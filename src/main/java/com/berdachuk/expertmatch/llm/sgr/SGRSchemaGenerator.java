@@ -1,9 +1,17 @@
 package com.berdachuk.expertmatch.llm.sgr;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -35,9 +43,14 @@ public class SGRSchemaGenerator {
 
     /**
      * Generates JSON Schema description for the given class.
+     * Records are described property by property from their components; other classes get a generic object schema.
      */
     private String generateSchemaDescriptionInternal(Class<?> clazz) {
         try {
+            if (clazz.isRecord()) {
+                return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(describeRecord(clazz));
+            }
+
             // Generate a simple JSON Schema description based on class structure
             // This is a simplified version that describes the expected JSON structure
 
@@ -61,6 +74,72 @@ public class SGRSchemaGenerator {
         }
     }
 
+    /**
+     * Describes a record as an object schema, using {@link JsonProperty} names when present.
+     */
+    private Map<String, Object> describeRecord(Class<?> recordClass) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (RecordComponent component : recordClass.getRecordComponents()) {
+            JsonProperty jsonProperty = component.getAnnotation(JsonProperty.class);
+            String propertyName = jsonProperty != null && !jsonProperty.value().isEmpty()
+                    ? jsonProperty.value()
+                    : component.getName();
+            properties.put(propertyName, describeType(component.getGenericType()));
+        }
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+        schema.put("properties", properties);
+        return schema;
+    }
+
+    /**
+     * Describes a Java type as a JSON Schema fragment.
+     */
+    private Map<String, Object> describeType(Type type) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        if (type instanceof ParameterizedType parameterizedType) {
+            Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+            if (Collection.class.isAssignableFrom(rawType)) {
+                schema.put("type", "array");
+                schema.put("items", describeType(parameterizedType.getActualTypeArguments()[0]));
+                return schema;
+            }
+            if (Map.class.isAssignableFrom(rawType)) {
+                schema.put("type", "object");
+                return schema;
+            }
+            return describeType(rawType);
+        }
+        if (!(type instanceof Class<?> typeClass)) {
+            schema.put("type", "object");
+            return schema;
+        }
+        if (typeClass.isRecord()) {
+            return describeRecord(typeClass);
+        }
+        if (typeClass.isEnum()) {
+            List<String> values = new ArrayList<>();
+            for (Object constant : typeClass.getEnumConstants()) {
+                values.add(((Enum<?>) constant).name());
+            }
+            schema.put("type", "string");
+            schema.put("enum", values);
+        } else if (CharSequence.class.isAssignableFrom(typeClass)) {
+            schema.put("type", "string");
+        } else if (typeClass == int.class || typeClass == long.class || typeClass == Integer.class || typeClass == Long.class) {
+            schema.put("type", "integer");
+        } else if (typeClass == boolean.class || typeClass == Boolean.class) {
+            schema.put("type", "boolean");
+        } else if (typeClass.isPrimitive() || Number.class.isAssignableFrom(typeClass)) {
+            schema.put("type", "number");
+        } else if (typeClass.isArray() || Collection.class.isAssignableFrom(typeClass)) {
+            schema.put("type", "array");
+        } else {
+            schema.put("type", "object");
+        }
+        return schema;
+    }
+
     /**
      * Clears the schema cache.
      */
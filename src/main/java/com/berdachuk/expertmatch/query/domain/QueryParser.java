@@ -95,39 +95,65 @@ public class QueryParser {
     public ParsedQuery parse(String query, boolean useRoutingPattern, ExecutionTracer tracer) {
         List<String> skills = extractSkills(query, tracer);
         List<String> seniorityLevels = extractSeniority(query, tracer);
-        String language = extractLanguage(query, tracer);
+        LanguageRequirement language = extractLanguage(query, tracer);
         String intent = classifyIntent(query, useRoutingPattern);
         List<String> technologies = extractTechnologies(query, tracer);
 
-        // If routing pattern is used, extract additional requirements from classification
-        if (useRoutingPattern && queryClassificationService != null && sgrConfig != null
-                && sgrConfig.isEnabled() && sgrConfig.getRouting().isEnabled()) {
-            try {
-                QueryClassification classification = queryClassificationService.classifyWithRouting(query);
-                // Use LLM-classified intent
-                intent = mapQueryIntentToString(classification.intent());
-                // Merge extracted requirements from classification
-                if (classification.extractedRequirements() != null) {
-                    @SuppressWarnings("unchecked")
-                    List<String> classifiedSkills = (List<String>) classification.extractedRequirements().get("skills");
-                    if (classifiedSkills != null && !classifiedSkills.isEmpty()) {
-                        skills = new ArrayList<>(skills);
-                        skills.addAll(classifiedSkills);
-                    }
+        return applyRoutingPattern(new ParsedQuery(
+                query,
+                skills,
+                seniorityLevels,
+                language.proficiency(),
+                language.language(),
+                intent,
+                technologies,
+                null
+        ), useRoutingPattern);
+    }
+
+    /**
+     * Applies LLM-based Routing pattern classification to an already parsed query: the classified intent
+     * replaces the parsed one and classified skills are added. Returns the query unchanged when routing is
+     * not requested, disabled, or the classification fails. Extracted entities are kept.
+     *
+     * @param parsedQuery       Parsed query (from per-field or combined extraction)
+     * @param useRoutingPattern If true, uses LLM-based Routing pattern for classification
+     * @return Parsed query with routing classification applied
+     */
+    public ParsedQuery applyRoutingPattern(ParsedQuery parsedQuery, boolean useRoutingPattern) {
+        if (!useRoutingPattern || queryClassificationService == null || sgrConfig == null
+                || !sgrConfig.isEnabled() || !sgrConfig.getRouting().isEnabled()) {
+            return parsedQuery;
+        }
+        String intent = parsedQuery.intent();
+        List<String> skills = parsedQuery.skills();
+        try {
+            QueryClassification classification = queryClassificationService.classifyWithRouting(parsedQuery.originalQuery());
+            // Use LLM-classified intent
+            intent = mapQueryIntentToString(classification.intent());
+            // Merge extracted requirements from classification
+            if (classification.extractedRequirements() != null) {
+                @SuppressWarnings("unchecked")
+                List<String> classifiedSkills = (List<String>) classification.extractedRequirements().get("skills");
+                if (classifiedSkills != null && !classifiedSkills.isEmpty()) {
+                    skills = new ArrayList<>(skills);
+                    skills.addAll(classifiedSkills);
                 }
-            } catch (Exception e) {
-                log.warn("Query classification with routing pattern failed, using rule-based classification", e);
-                // Intent already set by rule-based classification
             }
+        } catch (Exception e) {
+            log.warn("Query classification with routing pattern failed, keeping extracted intent", e);
+            // Intent already set by rule-based classification or combined extraction
         }
 
         return new ParsedQuery(
-                query,
+                parsedQuery.originalQuery(),
                 skills,
-                seniorityLevels,
-                language,
+                parsedQuery.seniorityLevels(),
+                parsedQuery.language(),
+                parsedQuery.languageName(),
                 intent,
-                technologies
+                parsedQuery.technologies(),
+                parsedQuery.entities()
         );
     }
 
@@ -340,14 +366,14 @@ public class QueryParser {
     /**
      * Extracts language requirements using LLM.
      */
-    private String extractLanguage(String query) {
+    private LanguageRequirement extractLanguage(String query) {
         return extractLanguage(query, null);
     }
 
     /**
      * Extracts language requirements using LLM with optional execution tracing.
      */
-    private String extractLanguage(String query, ExecutionTracer tracer) {
+    private LanguageRequirement extractLanguage(String query, ExecutionTracer tracer) {
         try {
             if (tracer != null) {
                 tracer.startStep("Extract Language", "QueryParser", "extractLanguage");
@@ -373,14 +399,15 @@ public class QueryParser {
             String responseText = response.getResult().getOutput().getText();
             if (responseText.isBlank()) {
                 log.warn("Blank response text from LLM during language extraction, returning default");
-                return "en"; // Default to English
+                return new LanguageRequirement("English", "en"); // Default to English
             }
-            String language = parseLanguageResponse(responseText);
+            LanguageRequirement language = parseLanguageResponse(responseText);
 
             if (tracer != null) {
                 String modelInfo = ModelInfoExtractor.extractModelInfo(chatModel, environment);
                 ExecutionTrace.TokenUsage tokenUsage = TokenUsageExtractor.extractTokenUsage(response);
-                tracer.endStepWithLLM("Query: " + query, "Language: " + (language != null ? language : "none"), modelInfo, tokenUsage);
+                tracer.endStepWithLLM("Query: " + query, "Language: " + (language.language() != null ? language.language() : "none")
+                        + ", Proficiency: " + (language.proficiency() != null ? language.proficiency() : "none"), modelInfo, tokenUsage);
             }
 
             return language;
@@ -411,15 +438,15 @@ public class QueryParser {
 
     /**
      * Parses language from LLM response.
-     * Returns proficiency level string (e.g., "C1") or null if no language requirements.
+     * Returns the language name and proficiency level (e.g., "C1"), both null if no language requirements.
      */
-    private String parseLanguageResponse(String responseText) {
+    private LanguageRequirement parseLanguageResponse(String responseText) {
         try {
             String jsonText = extractJsonFromResponse(responseText);
 
             // Handle null response
             if (jsonText.trim().equalsIgnoreCase("null")) {
-                return null;
+                return LanguageRequirement.NONE;
             }
 
             // Try to parse as array first (in case mock returns array by mistake)
@@ -427,8 +454,8 @@ public class QueryParser {
                 List<?> arrayData = objectMapper.readValue(jsonText, new TypeReference<List<?>>() {
                 });
                 if (arrayData != null) {
-                    // If it's an array, return null (no language requirements)
-                    return null;
+                    // If it's an array, there are no language requirements
+                    return LanguageRequirement.NONE;
                 }
             } catch (Exception e) {
                 // Not an array, continue to parse as object
@@ -437,17 +464,26 @@ public class QueryParser {
             Map<String, Object> languageData = objectMapper.readValue(jsonText, new TypeReference<Map<String, Object>>() {
             });
             if (languageData == null) {
-                return null;
+                return LanguageRequirement.NONE;
             }
 
+            Object language = languageData.get("language");
             Object proficiency = languageData.get("proficiency");
-            return proficiency != null ? proficiency.toString() : null;
+            return new LanguageRequirement(language != null ? language.toString() : null,
+                    proficiency != null ? proficiency.toString() : null);
         } catch (Exception e) {
             log.error("Failed to parse language JSON", e);
             throw new RuntimeException("Failed to parse language response: " + responseText, e);
         }
     }
 
+    /**
+     * Spoken language requirement; the proficiency only applies to the named language.
+     */
+    private record LanguageRequirement(String language, String proficiency) {
+        static final LanguageRequirement NONE = new LanguageRequirement(null, null);
+    }
+
     /**
      * Classifies query intent using rule-based approach.
      * Routing pattern classification is handled in parse() method.
@@ -2,15 +2,18 @@ package com.berdachuk.expertmatch.query.rest;
 
 import com.berdachuk.expertmatch.chat.service.ChatService;
 import com.berdachuk.expertmatch.core.api.ApiMapper;
+import com.berdachuk.expertmatch.core.config.BoundedVirtualThreadExecutor;
 import com.berdachuk.expertmatch.core.domain.QueryRequest;
 import com.berdachuk.expertmatch.core.domain.QueryResponse;
 import com.berdachuk.expertmatch.core.security.HeaderBasedUserContext;
 import com.berdachuk.expertmatch.core.util.ValidationUtils;
+import com.berdachuk.expertmatch.query.service.QueryProgressListener;
 import com.berdachuk.expertmatch.query.service.QueryService;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
 import jakarta.validation.Validator;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.MediaType;
@@ -21,9 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
 
 /**
  * REST controller for streaming query endpoints using Server-Sent Events (SSE).
@@ -31,12 +32,12 @@ import java.util.concurrent.Executors;
  * The generated QueryStreamApi interface returns ResponseEntity<Resource>, so we don't implement it.
  * Instead, we use the same path and annotations to ensure proper OpenAPI documentation.
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/v1")
 @ConditionalOnProperty(name = "expertmatch.query.enabled", havingValue = "true", matchIfMissing = true)
 @ConditionalOnBean(QueryService.class)
 @org.springframework.core.annotation.Order(org.springframework.core.Ordered.HIGHEST_PRECEDENCE)
-@RequiredArgsConstructor
 public class QueryStreamController {
 
     private final QueryService queryService;
@@ -44,7 +45,22 @@ public class QueryStreamController {
     private final ApiMapper apiMapper;
     private final HeaderBasedUserContext userContext;
     private final Validator validator;
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final BoundedVirtualThreadExecutor requestTaskExecutor;
+
+    public QueryStreamController(
+            QueryService queryService,
+            ChatService chatService,
+            ApiMapper apiMapper,
+            HeaderBasedUserContext userContext,
+            Validator validator,
+            @Qualifier("requestTaskExecutor") BoundedVirtualThreadExecutor requestTaskExecutor) {
+        this.queryService = queryService;
+        this.chatService = chatService;
+        this.apiMapper = apiMapper;
+        this.userContext = userContext;
+        this.validator = validator;
+        this.requestTaskExecutor = requestTaskExecutor;
+    }
 
     /**
      * Process natural language query with streaming response using Server-Sent Events.
@@ -54,7 +70,7 @@ public class QueryStreamController {
     @io.swagger.v3.oas.annotations.Operation(
             operationId = "processQueryStream",
             summary = "Process query with streaming response",
-            description = "Processes a natural language query and streams the response using Server-Sent Events (SSE).\nEmits events at each processing stage: parsing, retrieving, reranking, generating, and complete.\nIf chatId is not provided, uses or creates the user's default chat for conversation context.\nIf X-User-Id is not provided, an anonymous user will be used.",
+            description = "Processes a natural language query and streams the response using Server-Sent Events (SSE).\nEmits events as processing happens: parsing, retrieving, experts (candidate experts after enrichment), generating, token (answer text chunks), and complete.\nIf chatId is not provided, uses or creates the user's default chat for conversation context.\nIf X-User-Id is not provided, an anonymous user will be used.",
             tags = {"Query Streaming"}
     )
     @org.springframework.web.bind.annotation.PostMapping(
@@ -69,7 +85,8 @@ public class QueryStreamController {
             @RequestHeader(value = "X-User-Email", required = false) String xUserEmail) {
         SseEmitter emitter = new SseEmitter(300_000L); // 5 minute timeout
 
-        CompletableFuture.runAsync(() -> {
+        // Runs on a virtual thread; throws ServiceOverloadedException (503 + Retry-After) when saturated
+        requestTaskExecutor.submit(() -> {
             try {
                 // Get user ID from HTTP headers populated by Spring Gateway
                 // Use xUserId from parameter or fallback to userContext for anonymous users
@@ -106,18 +123,9 @@ public class QueryStreamController {
                     }
                 }
 
-                // Stream processing stages
-                sendEvent(emitter, "parsing", "Query parsing started", null);
-
-                // Process query (this will internally handle all stages)
-                // For now, we'll process synchronously and emit events
-                // In a more advanced implementation, we could make QueryService support callbacks
+                // Process query; stages, candidate experts and answer tokens are emitted as they happen
                 QueryResponse domainResponse =
-                        queryService.processQuery(domainRequest, chatId, userId);
-
-                sendEvent(emitter, "retrieving", "Retrieval in progress", null);
-                sendEvent(emitter, "reranking", "Reranking in progress", null);
-                sendEvent(emitter, "generating", "LLM generation in progress", null);
+                        queryService.processQuery(domainRequest, chatId, userId, new SseProgressListener(emitter));
 
                 // Convert domain response to API response for the complete event
                 com.berdachuk.expertmatch.api.model.QueryResponse apiResponse =
@@ -130,7 +138,7 @@ public class QueryStreamController {
                 sendError(emitter, "Error processing query: " + e.getMessage());
                 emitter.completeWithError(e);
             }
-        }, executorService);
+        });
 
         return emitter;
     }
@@ -145,15 +153,43 @@ public class QueryStreamController {
                     .data(data != null ? data : "");
 
             if (payload != null) {
-                // For complete event, include the full response
-                if (payload instanceof com.berdachuk.expertmatch.api.model.QueryResponse) {
-                    eventBuilder.data(payload);
-                }
+                // Full response for the complete event, expert list for the experts event
+                eventBuilder.data(payload);
             }
 
             emitter.send(eventBuilder);
         } catch (IOException e) {
             emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            // Client disconnected or emitter timed out; processing continues so the answer is still saved
+            log.debug("Dropping SSE event '{}': {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * Forwards query progress to the SSE emitter.
+     */
+    private class SseProgressListener implements QueryProgressListener {
+
+        private final SseEmitter emitter;
+
+        SseProgressListener(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onStage(Stage stage) {
+            sendEvent(emitter, stage.eventName(), stage.description(), null);
+        }
+
+        @Override
+        public void onExperts(List<QueryResponse.ExpertMatch> experts) {
+            sendEvent(emitter, "experts", "Candidate experts", apiMapper.mapExpertMatches(experts));
+        }
+
+        @Override
+        public void onAnswerToken(String token) {
+            sendEvent(emitter, "token", token, null);
         }
     }
 
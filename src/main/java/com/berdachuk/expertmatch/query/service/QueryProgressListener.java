@@ -0,0 +1,69 @@
+package com.berdachuk.expertmatch.query.service;
+
+import com.berdachuk.expertmatch.core.domain.QueryResponse;
+
+import java.util.List;
+
+/**
+ * Receives query processing progress as it happens.
+ * <p>
+ * Callbacks are invoked synchronously from the processing pipeline; answer tokens may arrive on the
+ * LLM client's thread. Implementations should be fast and must not throw.
+ */
+public interface QueryProgressListener {
+
+    /**
+     * Listener that ignores all progress. Queries processed with it generate the answer without streaming.
+     */
+    QueryProgressListener NONE = new QueryProgressListener() {
+    };
+
+    /**
+     * Called when a processing stage starts.
+     *
+     * @param stage The stage that started
+     */
+    default void onStage(Stage stage) {
+    }
+
+    /**
+     * Called once enrichment finishes, before the answer is generated.
+     *
+     * @param experts Enriched candidate experts
+     */
+    default void onExperts(List<QueryResponse.ExpertMatch> experts) {
+    }
+
+    /**
+     * Called for each chunk of answer text as the LLM produces it.
+     *
+     * @param token Answer text chunk
+     */
+    default void onAnswerToken(String token) {
+    }
+
+    /**
+     * Processing stages reported to listeners. Reranking runs inside retrieval and is reported with it.
+     */
+    enum Stage {
+        PARSING("parsing", "Query parsing started"),
+        RETRIEVING("retrieving", "Retrieval in progress"),
+        GENERATING("generating", "LLM generation in progress");
+
+        private final String eventName;
+        private final String description;
+
+        Stage(String eventName, String description) {
+            this.eventName = eventName;
+            this.description = description;
+        }
+
+        public String eventName() {
+            return eventName;
+        }
+
+        public String description() {
+            return description;
+        }
+    }
+}
@@ -19,4 +19,17 @@ public interface QueryService {
      * @return Query response containing answer, expert recommendations, sources, and metadata
      */
     QueryResponse processQuery(QueryRequest request, String chatId, String userId);
+
+    /**
+     * Processes an expert discovery query and reports progress while processing.
+     * Stage events are emitted when each stage starts, candidate experts as soon as enrichment
+     * finishes, and answer tokens as the LLM streams them.
+     *
+     * @param request  The query request containing the user's query and options
+     * @param chatId   The unique identifier of the chat session
+     * @param userId   The unique identifier of the user
+     * @param listener Progress listener; {@link QueryProgressListener#NONE} disables answer streaming
+     * @return Query response containing answer, expert recommendations, sources, and metadata
+     */
+    QueryResponse processQuery(QueryRequest request, String chatId, String userId, QueryProgressListener listener);
 }
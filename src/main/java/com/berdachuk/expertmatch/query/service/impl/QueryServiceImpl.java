@@ -1,8 +1,9 @@
 package com.berdachuk.expertmatch.query.service.impl;
 
-import com.berdachuk.expertmatch.chat.repository.ChatRepository;
 import com.berdachuk.expertmatch.chat.repository.ConversationHistoryRepository;
+import com.berdachuk.expertmatch.chat.service.ChatService;
 import com.berdachuk.expertmatch.chat.service.ConversationHistoryManager;
+import com.berdachuk.expertmatch.core.config.SpeculativeExecutor;
 import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.ExtractedEntities;
 import com.berdachuk.expertmatch.core.domain.ExecutionTrace;
 import com.berdachuk.expertmatch.core.domain.ParsedQuery;
@@ -13,8 +14,11 @@ import com.berdachuk.expertmatch.core.service.ExpertContextHolder;
 import com.berdachuk.expertmatch.core.util.IdGenerator;
 import com.berdachuk.expertmatch.employee.service.ExpertEnrichmentService;
 import com.berdachuk.expertmatch.llm.service.AnswerGenerationService;
+import com.berdachuk.expertmatch.llm.sgr.StructuredOutputHelper;
 import com.berdachuk.expertmatch.query.domain.QueryParser;
+import com.berdachuk.expertmatch.query.service.QueryProgressListener;
 import com.berdachuk.expertmatch.query.service.QueryService;
+import com.berdachuk.expertmatch.query.sgr.CombinedExtractionService;
 import com.berdachuk.expertmatch.retrieval.service.DeepResearchService;
 import com.berdachuk.expertmatch.retrieval.service.HybridRetrievalService;
 import lombok.RequiredArgsConstructor;
@@ -22,12 +26,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Service for processing expert discovery queries.
@@ -41,20 +45,32 @@ public class QueryServiceImpl implements QueryService {
     @Lazy
     private final QueryParser queryParser;
     private final EntityExtractor entityExtractor;
+    private final CombinedExtractionService combinedExtractionService;
     private final HybridRetrievalService retrievalService;
     private final DeepResearchService deepResearchService;
     private final AnswerGenerationService answerGenerationService;
     private final ExpertEnrichmentService enrichmentService;
-    private final ConversationHistoryRepository historyRepository;
     private final ConversationHistoryManager historyManager;
-    private final ChatRepository chatRepository;
+    private final ChatService chatService;
+    private final SpeculativeExecutor speculativeExecutor;
 
     /**
      * Processes a query and returns expert recommendations.
+     * <p>
+     * Not transactional: LLM and retrieval calls take seconds, and an open transaction would hold a pooled
+     * connection for all of that time. Conversation writes run in short ChatService transactions instead.
      */
-    @Transactional
     @Override
     public QueryResponse processQuery(com.berdachuk.expertmatch.core.domain.QueryRequest request, String chatId, String userId) {
+        return processQuery(request, chatId, userId, QueryProgressListener.NONE);
+    }
+
+    /**
+     * Processes a query and reports each stage, the enriched experts and the answer tokens to the listener.
+     */
+    @Override
+    public QueryResponse processQuery(com.berdachuk.expertmatch.core.domain.QueryRequest request, String chatId, String userId,
+                                      QueryProgressListener listener) {
         long startTime = System.currentTimeMillis();
         String queryId = IdGenerator.generateId();
         log.info("Processing query [{}]: '{}' (chatId: {}, userId: {})", queryId, request.query(), chatId, userId);
@@ -69,73 +85,93 @@ public class QueryServiceImpl implements QueryService {
             ExecutionTracer.setCurrent(tracer);
         }
 
+        // Vector search only needs the raw query text, so start it now and let it overlap with query parsing.
+        // Deep research drives its own retrieval rounds and does not use the prefetch.
+        boolean deepResearch = request.options().deepResearch() != null && request.options().deepResearch();
+        HybridRetrievalService.VectorSearchPrefetch vectorSearchPrefetch = deepResearch
+                ? null
+                : retrievalService.prefetchVectorSearch(request);
+        SpeculativeExecutor.Speculation<List<ConversationHistoryRepository.ConversationMessage>> historyLoad = null;
+
         try {
 
-            // 1. Save user message to conversation history
+            // 1. Save user message to conversation history (own short transaction)
             if (tracer != null) {
-                tracer.startStep("Save User Message", "ConversationHistoryRepository", "saveMessage");
+                tracer.startStep("Save User Message", "ChatService", "appendMessage");
             }
-            int userSequenceNumber = historyRepository.getNextSequenceNumber(chatId);
-            historyRepository.saveMessage(
+            int userSequenceNumber = chatService.appendMessage(
                     chatId,
                     "user",
-                    "user",
                     request.query(),
-                    userSequenceNumber,
                     null // User messages don't consume tokens
             );
             if (tracer != null) {
                 tracer.endStep("ChatId: " + chatId + ", Role: user", "Sequence: " + userSequenceNumber);
             }
 
-            // 2. Retrieve conversation history for context (with token counting and summarization)
+            // 2. Start loading conversation history for context (with token counting and summarization)
+            // It is only needed for answer generation, so it loads while the query is parsed and retrieved.
+            // Runs outside a transaction: summarization may call the LLM
             log.info("[QUERY] Query [{}] - Loading conversation history for chatId: {}", queryId, chatId);
-            List<ConversationHistoryRepository.ConversationMessage> conversationHistory =
-                    historyManager.getOptimizedHistory(chatId, true, tracer);
-
-            if (!conversationHistory.isEmpty()) {
-                log.info("[QUERY] Query [{}] - Conversation history loaded: {} messages - will be included in prompt",
-                        queryId, conversationHistory.size());
-            } else {
-                log.info("[QUERY] Query [{}] - No conversation history found - query will be processed without context",
-                        queryId);
-            }
+            historyLoad = speculativeExecutor.start(() -> historyManager.getOptimizedHistory(chatId, true, null));
 
             // 3. Parse query and extract requirements (with routing pattern if enabled)
-            log.info("Parsing query and extracting requirements...");
+            listener.onStage(QueryProgressListener.Stage.PARSING);
             boolean useRoutingPattern = request.options().useRoutingPattern() != null && request.options().useRoutingPattern();
-            if (tracer != null) {
-                tracer.startStep("Parse Query", "QueryParser", "parse");
-            }
-            ParsedQuery parsedQuery = queryParser.parse(request.query(), useRoutingPattern, tracer);
-            log.info("Query parsed - Intent: {}, Skills: {}, Technologies: {}",
-                    parsedQuery.intent(), parsedQuery.skills().size(), parsedQuery.technologies().size());
-            if (tracer != null) {
-                // QueryParser tracks its own steps, so we just need to track the overall parse step
-                tracer.endStep("Query: " + request.query(),
-                        "Intent: " + parsedQuery.intent() + ", Skills: " + parsedQuery.skills().size() +
-                                ", Technologies: " + parsedQuery.technologies().size());
+            ParsedQuery parsedQuery = null;
+            if (combinedExtractionService.isEnabled()) {
+                // Requirements, intent and entities from one structured-output call
+                log.info("Extracting requirements and entities with combined extraction...");
+                try {
+                    parsedQuery = combinedExtractionService.extract(request.query(), tracer);
+                    // Combined extraction classifies intent itself; routing, when requested, still overrides it
+                    parsedQuery = queryParser.applyRoutingPattern(parsedQuery, useRoutingPattern);
+                    log.info("Combined extraction completed - Intent: {}, Skills: {}, Technologies: {}",
+                            parsedQuery.intent(), parsedQuery.skills().size(), parsedQuery.technologies().size());
+                } catch (StructuredOutputHelper.StructuredOutputException e) {
+                    log.warn("Combined extraction failed, falling back to per-field extraction: {}", e.getMessage());
+                }
             }
 
-            // 4. Extract entities
-            log.info("Extracting entities from query...");
-            if (tracer != null) {
-                tracer.startStep("Extract Entities", "EntityExtractor", "extract");
-            }
-            ExtractedEntities entities = entityExtractor.extract(request.query(), tracer);
-            log.info("Entities extracted - Persons: {}, Organizations: {}, Technologies: {}, Projects: {}, Domains: {}",
-                    entities.persons().size(), entities.organizations().size(), entities.technologies().size(),
-                    entities.projects().size(), entities.domains().size());
-            if (tracer != null) {
-                // EntityExtractor tracks its own steps, so we just need to track the overall extract step
-                int totalEntities = entities.persons().size() + entities.organizations().size() +
-                        entities.technologies().size() + entities.projects().size() + entities.domains().size();
-                tracer.endStep("Query: " + request.query(), "Total entities: " + totalEntities);
+            if (parsedQuery == null) {
+                log.info("Parsing query and extracting requirements...");
+                if (tracer != null) {
+                    tracer.startStep("Parse Query", "QueryParser", "parse");
+                }
+                parsedQuery = queryParser.parse(request.query(), useRoutingPattern, tracer);
+                log.info("Query parsed - Intent: {}, Skills: {}, Technologies: {}",
+                        parsedQuery.intent(), parsedQuery.skills().size(), parsedQuery.technologies().size());
+                if (tracer != null) {
+                    // QueryParser tracks its own steps, so we just need to track the overall parse step
+                    tracer.endStep("Query: " + request.query(),
+                            "Intent: " + parsedQuery.intent() + ", Skills: " + parsedQuery.skills().size() +
+                                    ", Technologies: " + parsedQuery.technologies().size());
+                }
+
+                // 4. Extract entities
+                log.info("Extracting entities from query...");
+                if (tracer != null) {
+                    tracer.startStep("Extract Entities", "EntityExtractor", "extract");
+                }
+                ExtractedEntities extractedEntities = entityExtractor.extract(request.query(), tracer);
+                log.info("Entities extracted - Persons: {}, Organizations: {}, Technologies: {}, Projects: {}, Domains: {}",
+                        extractedEntities.persons().size(), extractedEntities.organizations().size(), extractedEntities.technologies().size(),
+                        extractedEntities.projects().size(), extractedEntities.domains().size());
+                if (tracer != null) {
+                    // EntityExtractor tracks its own steps, so we just need to track the overall extract step
+                    int totalEntities = extractedEntities.persons().size() + extractedEntities.organizations().size() +
+                            extractedEntities.technologies().size() + extractedEntities.projects().size() + extractedEntities.domains().size();
+                    tracer.endStep("Query: " + request.query(), "Total entities: " + totalEntities);
+                }
+                // Carry entities with the parsed query so retrieval and deep research do not extract them again
+                parsedQuery = parsedQuery.withEntities(extractedEntities);
             }
+            ExtractedEntities entities = parsedQuery.entities();
 
             // 5. Perform hybrid GraphRAG retrieval (with deep research if enabled)
+            listener.onStage(QueryProgressListener.Stage.RETRIEVING);
             com.berdachuk.expertmatch.retrieval.service.HybridRetrievalService.RetrievalResult retrievalResult;
-            if (request.options().deepResearch() != null && request.options().deepResearch()) {
+            if (deepResearch) {
                 log.info("Starting deep research retrieval...");
                 if (tracer != null) {
                     tracer.startStep("Deep Research", "DeepResearchService", "performDeepResearch");
@@ -150,7 +186,7 @@ public class QueryServiceImpl implements QueryService {
                 if (tracer != null) {
                     tracer.startStep("Hybrid Retrieval", "HybridRetrievalService", "retrieve");
                 }
-                retrievalResult = retrievalService.retrieve(request, parsedQuery, tracer);
+                retrievalResult = retrievalService.retrieve(request, parsedQuery, tracer, vectorSearchPrefetch);
                 log.info("Hybrid retrieval completed: {} experts found", retrievalResult.expertIds().size());
                 if (tracer != null) {
                     tracer.endStep("Query: " + request.query(), "Experts found: " + retrievalResult.expertIds().size());
@@ -174,6 +210,8 @@ public class QueryServiceImpl implements QueryService {
                 tracer.endStep("Expert IDs: " + retrievalResult.expertIds().size(),
                         "Enriched: " + experts.size() + " experts with full details");
             }
+            // Candidates are final at this point; send them before the answer is generated
+            listener.onExperts(experts);
 
             // 7. Build expert contexts for LLM
             log.info("Building expert contexts for LLM...");
@@ -186,6 +224,22 @@ public class QueryServiceImpl implements QueryService {
                 tracer.endStep("Experts: " + experts.size(), "Contexts: " + expertContexts.size());
             }
 
+            // Join the conversation history loaded since step 2; ExecutionTracer is not thread-safe,
+            // so the step is recorded here on the request thread
+            List<ConversationHistoryRepository.ConversationMessage> conversationHistory = historyLoad.get();
+            if (tracer != null) {
+                tracer.recordStep("Load Conversation History", "ConversationHistoryManager", "getOptimizedHistory",
+                        historyLoad.durationMs(), "ChatId: " + chatId,
+                        "Messages: " + conversationHistory.size() + (historyLoad.isStarted() ? " (loaded during parsing)" : ""));
+            }
+            if (!conversationHistory.isEmpty()) {
+                log.info("[QUERY] Query [{}] - Conversation history loaded: {} messages - will be included in prompt",
+                        queryId, conversationHistory.size());
+            } else {
+                log.info("[QUERY] Query [{}] - No conversation history found - query will be processed without context",
+                        queryId);
+            }
+
             // Store expert contexts in ThreadLocal for tool access
             log.info("🔧 Storing {} expert contexts in ExpertContextHolder for tool access", expertContexts.size());
             ExpertContextHolder.set(expertContexts);
@@ -204,6 +258,7 @@ public class QueryServiceImpl implements QueryService {
                 if (tracer != null) {
                     tracer.startStep("Generate Answer", "AnswerGenerationService", "generateAnswer");
                 }
+                listener.onStage(QueryProgressListener.Stage.GENERATING);
                 answer = generateAnswer(
                         request.query(),
                         null, // Don't pass expertContexts - LLM will use getRetrievedExperts() tool
@@ -211,7 +266,9 @@ public class QueryServiceImpl implements QueryService {
                         conversationHistory,
                         request.options().useCascadePattern() != null && request.options().useCascadePattern(),
                         request.options().useCyclePattern() != null && request.options().useCyclePattern(),
-                        tracer
+                        tracer,
+                        // Stream the answer only when someone listens for tokens
+                        listener == QueryProgressListener.NONE ? null : listener::onAnswerToken
                 );
                 log.info("Answer generation completed. Answer length: {}", answer != null ? answer.length() : 0);
                 if (tracer != null) {
@@ -225,34 +282,17 @@ public class QueryServiceImpl implements QueryService {
                 ExpertContextHolder.clear();
             }
 
-            // 9. Save assistant response to conversation history
+            // 9-10. Save assistant response and update chat metadata (one short transaction)
             if (tracer != null) {
-                tracer.startStep("Save Assistant Response", "ConversationHistoryRepository", "saveMessage");
+                tracer.startStep("Save Assistant Response", "ChatService", "recordAssistantResponse");
             }
             String assistantMessageId = IdGenerator.generateId();
-            int assistantSequenceNumber = historyRepository.getNextSequenceNumber(chatId);
             // Estimate tokens used (rough approximation: ~4 characters per token)
             Integer tokensUsed = answer != null ? (int) Math.ceil(answer.length() / 4.0) : null;
-            historyRepository.saveMessage(
-                    chatId,
-                    "assistant",
-                    "assistant",
-                    answer,
-                    assistantSequenceNumber,
-                    tokensUsed
-            );
+            int assistantSequenceNumber = chatService.recordAssistantResponse(chatId, answer, tokensUsed);
             if (tracer != null) {
                 tracer.endStep("ChatId: " + chatId + ", Answer: " + (answer != null ? answer.length() : 0) + " chars",
-                        "Sequence: " + assistantSequenceNumber);
-            }
-
-            // 10. Update chat metadata (message count and last activity)
-            if (tracer != null) {
-                tracer.startStep("Update Chat Metadata", "ChatRepository", "updateLastActivity");
-            }
-            chatRepository.updateLastActivity(chatId);
-            if (tracer != null) {
-                tracer.endStep("ChatId: " + chatId, "Last activity updated");
+                        "Sequence: " + assistantSequenceNumber + ", last activity updated");
             }
 
             // 11. Build sources and entities
@@ -298,6 +338,13 @@ public class QueryServiceImpl implements QueryService {
                     executionTrace
             );
         } finally {
+            // Discard speculative work a failed request did not consume
+            if (vectorSearchPrefetch != null) {
+                vectorSearchPrefetch.cancel();
+            }
+            if (historyLoad != null) {
+                historyLoad.cancel();
+            }
             // Clear ThreadLocal after request processing
             if (tracer != null) {
                 ExecutionTracer.clear();
@@ -364,6 +411,7 @@ public class QueryServiceImpl implements QueryService {
     /**
      * Generates answer text using LLM with conversation context.
      * Supports SGR patterns (Cascade or Cycle) if enabled.
+     * Answer text is streamed to the token consumer when one is given.
      */
     private String generateAnswer(
             String query,
@@ -372,7 +420,8 @@ public class QueryServiceImpl implements QueryService {
             List<ConversationHistoryRepository.ConversationMessage> conversationHistory,
             boolean useCascadePattern,
             boolean useCyclePattern,
-            ExecutionTracer tracer) {
+            ExecutionTracer tracer,
+            Consumer<String> tokenConsumer) {
         return answerGenerationService.generateAnswer(
                 query,
                 expertContexts,
@@ -380,7 +429,8 @@ public class QueryServiceImpl implements QueryService {
                 conversationHistory,
                 useCascadePattern,
                 useCyclePattern,
-                tracer
+                tracer,
+                tokenConsumer
         );
     }
 
@@ -0,0 +1,139 @@
+package com.berdachuk.expertmatch.query.sgr;
+
+import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.Entity;
+import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.ExtractedEntities;
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.core.util.IdGenerator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Requirements and entities extracted from a query in a single structured-output call.
+ * Replaces the per-field QueryParser and EntityExtractor calls when combined extraction is enabled.
+ * <p>
+ * Required fields are not defaulted so that an incomplete LLM response fails schema validation
+ * and the caller can fall back to per-field extraction.
+ */
+public record CombinedExtraction(
+        @JsonProperty("skills")
+        @NotNull
+        List<@NotBlank String> skills,
+
+        @JsonProperty("seniorityLevels")
+        @NotNull
+        List<@Pattern(regexp = "A[1-5]|B[1-3]|C[1-2]") String> seniorityLevels,
+
+        @JsonProperty("language")
+        String language,
+
+        @JsonProperty("languageProficiency")
+        @Pattern(regexp = "A1|A2|B1|B2|C1|C2")
+        String languageProficiency,
+
+        @JsonProperty("intent")
+        @NotNull
+        QueryIntent intent,
+
+        @JsonProperty("technologies")
+        @NotNull
+        List<@NotBlank String> technologies,
+
+        @JsonProperty("entities")
+        @NotNull
+        @Valid
+        EntityGroups entities
+) {
+
+    /**
+     * Entities grouped by type, mirroring ExtractedEntities.
+     */
+    public record EntityGroups(
+            @JsonProperty("persons")
+            @NotNull
+            List<@Valid NamedEntity> persons,
+
+            @JsonProperty("organizations")
+            @NotNull
+            List<@Valid NamedEntity> organizations,
+
+            @JsonProperty("technologies")
+            @NotNull
+            List<@Valid NamedEntity> technologies,
+
+            @JsonProperty("projects")
+            @NotNull
+            List<@Valid NamedEntity> projects,
+
+            @JsonProperty("domains")
+            @NotNull
+            List<@Valid NamedEntity> domains
+    ) {
+    }
+
+    /**
+     * Single extracted entity; the type is implied by the group it belongs to.
+     */
+    public record NamedEntity(
+            @JsonProperty("name")
+            @NotBlank
+            String name,
+
+            @JsonProperty("id")
+            String id
+    ) {
+    }
+
+    /**
+     * Converts this extraction into a parsed query carrying its extracted entities.
+     *
+     * @param originalQuery The query the extraction was produced for
+     * @return Parsed query with entities attached
+     */
+    public ParsedQuery toParsedQuery(String originalQuery) {
+        return new ParsedQuery(
+                originalQuery,
+                skills,
+                seniorityLevels,
+                languageProficiency,
+                language,
+                intent.name().toLowerCase(Locale.ROOT),
+                technologies,
+                toExtractedEntities()
+        );
+    }
+
+    /**
+     * Converts the grouped entities into the EntityExtractor result type.
+     */
+    public ExtractedEntities toExtractedEntities() {
+        return new ExtractedEntities(
+                toEntities("person", entities.persons()),
+                toEntities("organization", entities.organizations()),
+                toEntities("technology", entities.technologies()),
+                toEntities("project", entities.projects()),
+                toEntities("domain", entities.domains())
+        );
+    }
+
+    private static List<Entity> toEntities(String type, List<NamedEntity> namedEntities) {
+        if (namedEntities == null) {
+            return List.of();
+        }
+        List<Entity> result = new ArrayList<>(namedEntities.size());
+        for (NamedEntity namedEntity : namedEntities) {
+            // Generate ID if not provided, as EntityExtractor does
+            String id = namedEntity.id() == null || namedEntity.id().isEmpty()
+                    ? IdGenerator.generateId()
+                    : namedEntity.id();
+            result.add(new Entity(type, namedEntity.name(), id));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.berdachuk.expertmatch.query.sgr;
+
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.core.service.ExecutionTracer;
+import com.berdachuk.expertmatch.llm.sgr.StructuredOutputHelper;
+
+/**
+ * Service interface for combined requirement and entity extraction.
+ */
+public interface CombinedExtractionService {
+    /**
+     * Whether combined extraction is enabled in configuration.
+     *
+     * @return true if queries should be parsed with a single structured-output call
+     */
+    boolean isEnabled();
+
+    /**
+     * Extracts requirements, intent and entities from a query with a single structured-output call.
+     *
+     * @param query  The user's query
+     * @param tracer Optional execution tracer for tracking
+     * @return Parsed query with entities attached
+     * @throws StructuredOutputHelper.StructuredOutputException if the response cannot be parsed or fails schema validation
+     */
+    ParsedQuery extract(String query, ExecutionTracer tracer);
+}
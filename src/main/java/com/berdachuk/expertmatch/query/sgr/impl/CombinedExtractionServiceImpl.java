@@ -0,0 +1,156 @@
+package com.berdachuk.expertmatch.query.sgr.impl;
+
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.core.service.ExecutionTracer;
+import com.berdachuk.expertmatch.llm.sgr.SGRPatternConfig;
+import com.berdachuk.expertmatch.llm.sgr.SGRSchemaGenerator;
+import com.berdachuk.expertmatch.llm.sgr.StructuredOutputHelper;
+import com.berdachuk.expertmatch.query.service.ModelInfoExtractor;
+import com.berdachuk.expertmatch.query.sgr.CombinedExtraction;
+import com.berdachuk.expertmatch.query.sgr.CombinedExtractionService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for extracting query requirements and entities with one structured-output call.
+ * Replaces the skill, seniority, language, technology, intent and five entity extraction calls.
+ */
+@Slf4j
+@Service
+public class CombinedExtractionServiceImpl implements CombinedExtractionService {
+    private final StructuredOutputHelper structuredOutputHelper;
+    private final SGRSchemaGenerator schemaGenerator;
+    private final SGRPatternConfig config;
+    private final Validator validator;
+    private final ChatModel chatModel;
+    private final Environment environment;
+    private final PromptTemplate combinedExtractionPromptTemplate;
+
+    public CombinedExtractionServiceImpl(
+            StructuredOutputHelper structuredOutputHelper,
+            SGRSchemaGenerator schemaGenerator,
+            SGRPatternConfig config,
+            Validator validator,
+            ChatModel chatModel,
+            Environment environment,
+            @Qualifier("combinedExtractionPromptTemplate") PromptTemplate combinedExtractionPromptTemplate) {
+        this.structuredOutputHelper = structuredOutputHelper;
+        this.schemaGenerator = schemaGenerator;
+        this.config = config;
+        this.validator = validator;
+        this.chatModel = chatModel;
+        this.environment = environment;
+        this.combinedExtractionPromptTemplate = combinedExtractionPromptTemplate;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return config.isEnabled() && config.getCombinedExtraction().isEnabled();
+    }
+
+    /**
+     * Extracts requirements and entities from a query with a single structured-output call.
+     * LLM API and connection errors are rethrown unwrapped so they can be handled by GlobalExceptionHandler;
+     * parse and schema validation failures are thrown as StructuredOutputException.
+     *
+     * @param query  The user's query
+     * @param tracer Optional execution tracer for tracking
+     * @return Parsed query with entities attached
+     */
+    @Override
+    public ParsedQuery extract(String query, ExecutionTracer tracer) {
+        if (tracer != null) {
+            tracer.startStep("Combined Extraction", "CombinedExtractionService", "extract");
+        }
+        try {
+            String prompt = buildCombinedExtractionPrompt(query);
+            CombinedExtraction extraction = structuredOutputHelper.callWithStructuredOutput(prompt, CombinedExtraction.class);
+            validate(extraction);
+            ParsedQuery parsedQuery = extraction.toParsedQuery(query);
+
+            if (tracer != null) {
+                String modelInfo = ModelInfoExtractor.extractModelInfo(chatModel, environment);
+                tracer.endStepWithLLM("Query: " + query,
+                        "Intent: " + parsedQuery.intent() + ", Skills: " + parsedQuery.skills().size() +
+                                ", Technologies: " + parsedQuery.technologies().size() +
+                                ", Entities: " + countEntities(parsedQuery),
+                        modelInfo, null);
+            }
+            return parsedQuery;
+        } catch (StructuredOutputHelper.StructuredOutputException e) {
+            // Transport and API errors are not schema failures, surface them instead of triggering a fallback
+            Throwable cause = e.getCause();
+            while (cause != null) {
+                if (cause instanceof NonTransientAiException || cause instanceof ResourceAccessException) {
+                    log.error("LLM API error during combined extraction: {}", cause.getMessage(), cause);
+                    if (tracer != null) {
+                        tracer.failStep("Combined Extraction", "CombinedExtractionService", "extract",
+                                "LLM API error: " + cause.getMessage());
+                    }
+                    throw (RuntimeException) cause;
+                }
+                cause = cause.getCause();
+            }
+            if (tracer != null) {
+                tracer.failStep("Combined Extraction", "CombinedExtractionService", "extract", "Error: " + e.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Validates the structured response against the constraints declared on CombinedExtraction.
+     */
+    private void validate(CombinedExtraction extraction) {
+        if (extraction == null) {
+            throw new StructuredOutputHelper.StructuredOutputException("Combined extraction response is empty");
+        }
+        if (!config.isSchemaValidation()) {
+            // Structural minimum needed to build ParsedQuery and ExtractedEntities
+            if (extraction.skills() == null || extraction.seniorityLevels() == null || extraction.intent() == null
+                    || extraction.technologies() == null || extraction.entities() == null) {
+                throw new StructuredOutputHelper.StructuredOutputException("Combined extraction response is incomplete");
+            }
+            return;
+        }
+        Set<ConstraintViolation<CombinedExtraction>> violations = validator.validate(extraction);
+        if (!violations.isEmpty()) {
+            String details = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            log.warn("Combined extraction response failed schema validation: {}", details);
+            throw new StructuredOutputHelper.StructuredOutputException(
+                    "Combined extraction response failed schema validation: " + details);
+        }
+    }
+
+    /**
+     * Builds prompt for combined extraction using PromptTemplate.
+     */
+    private String buildCombinedExtractionPrompt(String query) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("query", query);
+        variables.put("schema", schemaGenerator.generateSchemaDescription(CombinedExtraction.class));
+        return combinedExtractionPromptTemplate.render(variables);
+    }
+
+    private int countEntities(ParsedQuery parsedQuery) {
+        return parsedQuery.entities().persons().size() + parsedQuery.entities().organizations().size() +
+                parsedQuery.entities().technologies().size() + parsedQuery.entities().projects().size() +
+                parsedQuery.entities().domains().size();
+    }
+}
@@ -13,6 +13,7 @@ import com.berdachuk.expertmatch.query.service.QueryService;
 import com.berdachuk.expertmatch.retrieval.service.HybridRetrievalService;
 import com.berdachuk.expertmatch.workexperience.repository.WorkExperienceRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ToolContext;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.context.annotation.Lazy;
@@ -60,6 +61,23 @@ public class ExpertMatchTools {
     }
 
     @Tool(description = "Get the experts that were already retrieved for the current query. Use this to access expert information that was found by the retrieval system. Call this FIRST before generating your answer.")
+    public List<QueryResponse.ExpertMatch> getRetrievedExperts(ToolContext toolContext) {
+        // Streaming answer generation executes tools off the request thread, where the ThreadLocal is empty
+        if (toolContext != null
+                && toolContext.getContext().get(ExpertContextHolder.TOOL_CONTEXT_KEY) instanceof List<?> contexts
+                && !contexts.isEmpty()) {
+            @SuppressWarnings("unchecked")
+            List<AnswerGenerationService.ExpertContext> expertContexts =
+                    (List<AnswerGenerationService.ExpertContext>) contexts;
+            log.info("✅ getRetrievedExperts() called - converting {} expert contexts from tool context", expertContexts.size());
+            return convertContextsToExpertMatches(expertContexts);
+        }
+        return getRetrievedExperts();
+    }
+
+    /**
+     * Returns the experts retrieved for the current query from {@link ExpertContextHolder}.
+     */
     public List<QueryResponse.ExpertMatch> getRetrievedExperts() {
         List<AnswerGenerationService.ExpertContext> contexts = ExpertContextHolder.get();
         if (contexts == null || contexts.isEmpty()) {
@@ -0,0 +1,70 @@
+package com.berdachuk.expertmatch.retrieval.config;
+
+import com.berdachuk.expertmatch.core.service.QueryDeadlineHolder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded executor for parallel retrieval channel tasks.
+ * <p>
+ * Channel work is blocking JDBC, so tasks run on virtual threads while the pool size caps how many
+ * run at once. When the queue is full the channel task is rejected, so the caller drops that channel
+ * instead of running it on the request thread outside its deadline.
+ * <p>
+ * Each task runs with its channel deadline in {@link QueryDeadlineHolder}, so its SQL statements get a
+ * query timeout and the driver cancels them once the deadline has passed. Callers cancel a timed-out
+ * future without interrupting it: interrupting a thread blocked on the database socket would close the
+ * pooled connection.
+ * <p>
+ * Intentionally not exposed as an {@link java.util.concurrent.Executor} bean so it does not replace
+ * the application task executor used by {@code @Async}.
+ */
+@Slf4j
+@Component
+public class RetrievalChannelExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+
+    public RetrievalChannelExecutor(RetrievalProperties properties) {
+        int maxConcurrency = Math.max(1, properties.getParallel().getMaxConcurrency());
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                maxConcurrency,
+                maxConcurrency,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(maxConcurrency * 4),
+                Thread.ofVirtual().name("retrieval-channel-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = threadPoolExecutor;
+        log.info("Configured retrieval channel executor - max concurrency: {}, parallel enabled: {}",
+                maxConcurrency, properties.getParallel().isEnabled());
+    }
+
+    /**
+     * Submits a channel task whose SQL statements must finish by the deadline.
+     *
+     * @param task          Channel task
+     * @param deadlineNanos Channel deadline as a {@link System#nanoTime()} value
+     * @return Future completing with the task result
+     * @throws RejectedExecutionException if the pool and its queue are full
+     */
+    public <T> Future<T> submit(Callable<T> task, long deadlineNanos) {
+        return executor.submit(() -> QueryDeadlineHolder.callWithin(deadlineNanos, task));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,159 @@
+package com.berdachuk.expertmatch.retrieval.config;
+
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for hybrid retrieval.
+ */
+@Component
+@ConfigurationProperties(prefix = "expertmatch.retrieval")
+@Getter
+@Setter
+public class RetrievalProperties {
+
+    private VectorConfig vector = new VectorConfig();
+    private ParallelConfig parallel = new ParallelConfig();
+    private FusionConfig fusion = new FusionConfig();
+    private RerankingConfig reranking = new RerankingConfig();
+    private FilterConfig filter = new FilterConfig();
+
+    /**
+     * Where vector, keyword and technology results are fused.
+     */
+    public enum FusionStrategy {
+        // Separate queries per channel, fused in ResultFusionService
+        APPLICATION,
+        // One CTE statement runs the channels and reciprocal rank fusion in PostgreSQL
+        DATABASE
+    }
+
+    /**
+     * What the vector channel ranks.
+     */
+    public enum VectorSearchMode {
+        // Work experience rows; several rows of one expert can take several of the k slots
+        WORK_EXPERIENCE,
+        // Employee profile embeddings; every row is a distinct expert
+        EMPLOYEE_PROFILE,
+        // Work experience rows over-fetched and grouped by employee in SQL; best row per expert
+        EMPLOYEE_BEST_MATCH
+    }
+
+    /**
+     * Vector similarity search channel.
+     */
+    @Getter
+    @Setter
+    public static class VectorConfig {
+        private VectorSearchMode mode = VectorSearchMode.WORK_EXPERIENCE;
+        // EMPLOYEE_BEST_MATCH: work experience rows fetched per requested expert before grouping
+        private int overFetchFactor = 5;
+        // EMPLOYEE_BEST_MATCH: use pgvector iterative index scans so the threshold filter cannot starve the result
+        private boolean iterativeScan = true;
+        // Upper bound on rows visited by an iterative scan (hnsw.max_scan_tuples)
+        private int maxScanTuples = 20000;
+    }
+
+    /**
+     * Employee constraints pushed down into the vector, keyword and technology queries.
+     */
+    @Getter
+    @Setter
+    public static class FilterConfig {
+        // Apply seniority and English level requirements from the parsed query inside the retrieval SQL
+        private boolean enabled = true;
+        // Only retrieve employees with this availability status (e.g. available); empty for any status
+        private String availabilityStatus = "";
+
+        /**
+         * Returns the candidate filter for a parsed query, {@link CandidateFilter#NONE} when disabled.
+         */
+        public CandidateFilter candidateFilter(ParsedQuery parsedQuery) {
+            return enabled ? CandidateFilter.from(parsedQuery, availabilityStatus) : CandidateFilter.NONE;
+        }
+    }
+
+    /**
+     * Parallel fan-out of retrieval channels (vector, graph, keyword, person).
+     */
+    @Getter
+    @Setter
+    public static class ParallelConfig {
+        private boolean enabled = false;
+        // Upper bound on channel tasks running at once across all requests
+        private int maxConcurrency = 16;
+        // Default deadline for a channel, measured from the moment channels are fanned out
+        private long channelTimeoutMs = 5000;
+        // Optional per-channel deadline overrides keyed by channel name (vector, graph, keyword, person, database)
+        private Map<String, Long> channelTimeoutsMs = new HashMap<>();
+
+        /**
+         * Returns the deadline for a channel, falling back to the default channel timeout.
+         */
+        public long getTimeoutMs(String channel) {
+            return channelTimeoutsMs.getOrDefault(channel, channelTimeoutMs);
+        }
+    }
+
+    /**
+     * Result fusion strategy for hybrid retrieval.
+     */
+    @Getter
+    @Setter
+    public static class FusionConfig {
+        private FusionStrategy strategy = FusionStrategy.APPLICATION;
+        // Top-k taken from each in-database channel before fusion
+        private int candidatesPerChannel = 100;
+        // RRF rank constant
+        private int rrfK = 60;
+        // Application-side fusion method when the query does not set one
+        private FusionMethod method = FusionMethod.WEIGHTED_RRF;
+        // Fused candidates kept for reranking (at least maxResults)
+        private int topK = 100;
+    }
+
+    /**
+     * LLM-based semantic reranking.
+     */
+    @Getter
+    @Setter
+    public static class RerankingConfig {
+        // Whether fused candidates are reranked by the LLM; disable with the pre-reranker for low-latency mode
+        private boolean llmEnabled = true;
+        private PreRerankConfig preRerank = new PreRerankConfig();
+        private RerankCacheConfig cache = new RerankCacheConfig();
+    }
+
+    /**
+     * Embedding-similarity stage that runs before the LLM reranker.
+     */
+    @Getter
+    @Setter
+    public static class PreRerankConfig {
+        private boolean enabled = false;
+        // Candidates passed on to the LLM reranker (at least maxResults), so its prompt size stays constant
+        private int topN = 20;
+    }
+
+    /**
+     * Cache of reranking scores keyed by query text and candidate set.
+     */
+    @Getter
+    @Setter
+    public static class RerankCacheConfig {
+        private boolean enabled = true;
+        // Least recently used entries are evicted beyond this size
+        private int maxEntries = 1000;
+        // Entries older than this are treated as missing, so scores follow profile updates
+        private long ttlSeconds = 900;
+    }
+}
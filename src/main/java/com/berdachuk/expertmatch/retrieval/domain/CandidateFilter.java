@@ -0,0 +1,73 @@
+package com.berdachuk.expertmatch.retrieval.domain;
+
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Employee constraints pushed down into the retrieval SQL, so candidates that cannot match are not
+ * ranked, fused, reranked or enriched.
+ * <p>
+ * Seniority levels (A1-A5, B1-B3, C1-C2) and CEFR English levels (A1-C2) both sort in hierarchy order
+ * as strings, so each requirement is a minimum level compared with {@code >=}.
+ *
+ * @param minSeniority       Lowest acceptable seniority level, or null
+ * @param minEnglishLevel    Lowest acceptable English level, or null
+ * @param availabilityStatus Required availability status, or null
+ */
+public record CandidateFilter(
+        String minSeniority,
+        String minEnglishLevel,
+        String availabilityStatus
+) {
+    /**
+     * Filter that accepts every employee.
+     */
+    public static final CandidateFilter NONE = new CandidateFilter(null, null, null);
+
+    private static final Pattern SENIORITY_LEVEL = Pattern.compile("A[1-5]|B[1-3]|C[1-2]");
+    private static final Pattern ENGLISH_LEVEL = Pattern.compile("[ABC][12]");
+
+    /**
+     * Builds the filter for a parsed query. Seniority requires at least the lowest level mentioned in the
+     * query, English at least the required level when the requirement is for English; values that are not
+     * valid levels are ignored.
+     *
+     * @param parsedQuery        Parsed query with seniority levels and language proficiency
+     * @param availabilityStatus Required availability status, blank for none
+     * @return Filter for the query, {@link #NONE} if it has no constraints
+     */
+    public static CandidateFilter from(ParsedQuery parsedQuery, String availabilityStatus) {
+        String minSeniority = lowestLevel(parsedQuery.seniorityLevels());
+        // The proficiency is only an English level when the requirement is for English
+        String language = parsedQuery.requiresEnglish() && parsedQuery.language() != null
+                ? parsedQuery.language().trim().toUpperCase()
+                : null;
+        String minEnglishLevel = language != null && ENGLISH_LEVEL.matcher(language).matches() ? language : null;
+        String status = availabilityStatus != null && !availabilityStatus.isBlank() ? availabilityStatus.trim() : null;
+        CandidateFilter filter = new CandidateFilter(minSeniority, minEnglishLevel, status);
+        return filter.isEmpty() ? NONE : filter;
+    }
+
+    private static String lowestLevel(List<String> levels) {
+        if (levels == null) {
+            return null;
+        }
+        String lowest = null;
+        for (String level : levels) {
+            String normalized = level != null ? level.trim().toUpperCase() : "";
+            if (SENIORITY_LEVEL.matcher(normalized).matches() && (lowest == null || normalized.compareTo(lowest) < 0)) {
+                lowest = normalized;
+            }
+        }
+        return lowest;
+    }
+
+    /**
+     * Whether the filter accepts every employee.
+     */
+    public boolean isEmpty() {
+        return minSeniority == null && minEnglishLevel == null && availabilityStatus == null;
+    }
+}
@@ -0,0 +1,217 @@
+package com.berdachuk.expertmatch.retrieval.domain;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ranked candidates returned by one retrieval channel: expert IDs and their channel scores in parallel
+ * arrays, best first, plus the channel name and what the scores mean.
+ * <p>
+ * Channels build it straight from result rows, so no per-candidate documents or content strings are
+ * created on the retrieval path, and fusion can use real channel scores instead of ranks alone.
+ * Instances are immutable.
+ */
+public final class ScoredCandidates {
+
+    public static final String CHANNEL_VECTOR = "vector";
+    public static final String CHANNEL_GRAPH = "graph";
+    public static final String CHANNEL_KEYWORD = "keyword";
+    public static final String CHANNEL_PERSON = "person";
+    public static final String CHANNEL_DATABASE = "database";
+
+    private final String channel;
+    private final ScoreType scoreType;
+    private final String[] expertIds;
+    private final double[] scores;
+    private final int size;
+
+    private ScoredCandidates(String channel, ScoreType scoreType, String[] expertIds, double[] scores, int size) {
+        this.channel = channel;
+        this.scoreType = scoreType;
+        this.expertIds = expertIds;
+        this.scores = scores;
+        this.size = size;
+    }
+
+    /**
+     * Channel that returned no candidates.
+     */
+    public static ScoredCandidates empty(String channel) {
+        return new ScoredCandidates(channel, ScoreType.NONE, new String[0], new double[0], 0);
+    }
+
+    /**
+     * Candidates of a channel that only ranks; every candidate scores 1.0 and duplicates are dropped.
+     *
+     * @param channel   Channel name
+     * @param expertIds Expert IDs, best first
+     * @return Candidates without channel scores
+     */
+    public static ScoredCandidates ranked(String channel, List<String> expertIds) {
+        Builder builder = builder(channel, ScoreType.NONE, expertIds.size());
+        for (String expertId : expertIds) {
+            builder.add(expertId, 1.0);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Starts candidates for a channel.
+     *
+     * @param channel      Channel name
+     * @param scoreType    What the channel scores mean
+     * @param expectedSize Expected number of candidates
+     * @return Builder adding candidates best first
+     */
+    public static Builder builder(String channel, ScoreType scoreType, int expectedSize) {
+        return new Builder(channel, scoreType, expectedSize);
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public ScoreType scoreType() {
+        return scoreType;
+    }
+
+    /**
+     * Whether the scores come from the channel rather than its ranking alone.
+     */
+    public boolean isScored() {
+        return scoreType != ScoreType.NONE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Expert ID at a rank (0-based).
+     */
+    public String expertId(int rank) {
+        return expertIds[rank];
+    }
+
+    /**
+     * Channel score at a rank (0-based).
+     */
+    public double score(int rank) {
+        return scores[rank];
+    }
+
+    /**
+     * Expert IDs, best first.
+     */
+    public List<String> expertIds() {
+        return List.of(Arrays.copyOf(expertIds, size));
+    }
+
+    /**
+     * The first candidates of this channel.
+     *
+     * @param maxResults Maximum number of candidates
+     * @return This instance if it is small enough, otherwise the first maxResults candidates
+     */
+    public ScoredCandidates limit(int maxResults) {
+        if (size <= maxResults) {
+            return this;
+        }
+        return new ScoredCandidates(channel, scoreType, expertIds, scores, Math.max(0, maxResults));
+    }
+
+    /**
+     * The candidates whose expert IDs are in the given set, keeping their order and scores.
+     *
+     * @param expertIds Expert IDs to keep
+     * @return This instance if every candidate is kept, otherwise the kept candidates
+     */
+    public ScoredCandidates retain(Set<String> expertIds) {
+        Builder builder = builder(channel, scoreType, size);
+        for (int rank = 0; rank < size; rank++) {
+            if (expertIds.contains(this.expertIds[rank])) {
+                builder.add(this.expertIds[rank], scores[rank]);
+            }
+        }
+        return builder.size() == size ? this : builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "ScoredCandidates[channel=" + channel + ", scoreType=" + scoreType + ", size=" + size + "]";
+    }
+
+    /**
+     * Meaning of channel scores; higher is better for all of them.
+     */
+    public enum ScoreType {
+        // Cosine similarity of embeddings (0.0 to 1.0)
+        SIMILARITY,
+        // Full-text rank (ts_rank_cd)
+        TEXT_RANK,
+        // Number of graph patterns the expert matched
+        MATCH_COUNT,
+        // Score already fused from several channels
+        FUSED,
+        // Channel ranks only; every candidate scores 1.0
+        NONE
+    }
+
+    /**
+     * Collects candidates best first; an expert ID added again is ignored, keeping its best entry.
+     */
+    public static final class Builder {
+        private final String channel;
+        private final ScoreType scoreType;
+        private String[] expertIds;
+        private double[] scores;
+        private final Set<String> seen;
+        private int size;
+
+        private Builder(String channel, ScoreType scoreType, int expectedSize) {
+            int capacity = Math.max(expectedSize, 4);
+            this.channel = channel;
+            this.scoreType = scoreType;
+            this.expertIds = new String[capacity];
+            this.scores = new double[capacity];
+            this.seen = new HashSet<>(capacity * 2);
+        }
+
+        /**
+         * Adds the next candidate.
+         *
+         * @return false if the expert was already added
+         */
+        public boolean add(String expertId, double score) {
+            if (!seen.add(expertId)) {
+                return false;
+            }
+            if (size == expertIds.length) {
+                expertIds = Arrays.copyOf(expertIds, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            expertIds[size] = expertId;
+            scores[size] = score;
+            size++;
+            return true;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the candidates added so far, trimmed to size; the builder can keep adding without
+         * affecting the returned instance.
+         */
+        public ScoredCandidates build() {
+            return new ScoredCandidates(channel, scoreType, Arrays.copyOf(expertIds, size), Arrays.copyOf(scores, size), size);
+        }
+    }
+}
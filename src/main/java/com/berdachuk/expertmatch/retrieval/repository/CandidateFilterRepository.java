@@ -0,0 +1,22 @@
+package com.berdachuk.expertmatch.retrieval.repository;
+
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository applying candidate filters to employee IDs found by channels whose queries do not take
+ * the filter themselves (graph traversal and person name search).
+ */
+public interface CandidateFilterRepository {
+
+    /**
+     * Returns the given employees that match the filter.
+     *
+     * @param employeeIds Employee IDs to check
+     * @param filter      Employee constraints
+     * @return IDs of the employees matching the filter
+     */
+    Set<String> findMatchingEmployeeIds(List<String> employeeIds, CandidateFilter filter);
+}
@@ -0,0 +1,51 @@
+package com.berdachuk.expertmatch.retrieval.repository;
+
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.pgvector.PGvector;
+
+import java.util.List;
+
+/**
+ * Repository for hybrid search that runs vector, keyword and technology channels
+ * and their reciprocal rank fusion in a single SQL statement.
+ */
+public interface HybridSearchRepository {
+
+    /**
+     * Runs HNSW top-k, full-text top-k and technology-overlap top-k and fuses them with RRF grouped by employee.
+     *
+     * @param query Search parameters
+     * @return Employees ordered by fused score, with per-channel scores and ranks
+     */
+    List<HybridSearchResult> search(HybridSearchQuery query);
+
+    /**
+     * Parameters for hybrid search.
+     *
+     * @param queryVector          Query vector with the database dimension, or the native dimension with native storage
+     * @param similarityThreshold  Minimum vector similarity (0.0-1.0)
+     * @param searchTerms          Terms for plainto_tsquery, may be empty
+     * @param technologies         Technologies for overlap matching, may be empty
+     * @param candidatesPerChannel Top-k taken from each channel before fusion
+     * @param vectorWeight         RRF weight of the vector channel
+     * @param keywordWeight        RRF weight of the keyword channel
+     * @param technologyWeight     RRF weight of the technology channel
+     * @param rrfK                 RRF rank constant
+     * @param maxResults           Maximum number of fused results
+     * @param filter               Employee constraints applied inside every channel
+     */
+    record HybridSearchQuery(
+            PGvector queryVector,
+            double similarityThreshold,
+            String searchTerms,
+            String[] technologies,
+            int candidatesPerChannel,
+            double vectorWeight,
+            double keywordWeight,
+            double technologyWeight,
+            int rrfK,
+            int maxResults,
+            CandidateFilter filter
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.berdachuk.expertmatch.retrieval.repository;
+
+/**
+ * Result from single-statement hybrid search with in-database reciprocal rank fusion.
+ * Per-channel score and rank are null when the employee was not returned by that channel.
+ */
+public record HybridSearchResult(
+        String employeeId,
+        double fusedScore,
+        Double vectorScore,
+        Integer vectorRank,
+        Double keywordScore,
+        Integer keywordRank,
+        Double technologyScore,
+        Integer technologyRank
+) {
+}
@@ -1,5 +1,8 @@
 package com.berdachuk.expertmatch.retrieval.repository;
 
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+
 import java.util.List;
 
 /**
@@ -9,19 +12,22 @@ public interface KeywordSearchRepository {
 
     /**
      * Searches work experience by keywords using PostgreSQL full-text search.
+     * Uses the precomputed search_vector column (GIN index); employees are ordered by their best ts_rank_cd score.
      *
      * @param searchTerms Combined search terms for plainto_tsquery
      * @param maxResults  Maximum number of results to return
-     * @return List of employee IDs matching the search
+     * @param filter      Employee constraints applied inside the search
+     * @return Keyword channel candidates scored by their best rank, most relevant first
      */
-    List<String> searchByKeywords(String searchTerms, int maxResults);
+    ScoredCandidates searchByKeywords(String searchTerms, int maxResults, CandidateFilter filter);
 
     /**
      * Searches by exact technology match.
      *
      * @param technologies Array of technology names
      * @param maxResults   Maximum number of results to return
+     * @param filter       Employee constraints applied inside the search
      * @return List of employee IDs matching the technologies
      */
-    List<String> searchByTechnologies(String[] technologies, int maxResults);
+    List<String> searchByTechnologies(String[] technologies, int maxResults, CandidateFilter filter);
 }
@@ -1,6 +1,10 @@
 package com.berdachuk.expertmatch.retrieval.repository;
 
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.pgvector.PGvector;
+
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository for PgVector similarity search operations.
@@ -10,10 +14,54 @@ public interface PgVectorSearchRepository {
     /**
      * Performs vector similarity search using cosine distance.
      *
-     * @param queryVector         PostgreSQL vector string format
+     * @param queryVector         Query vector with the database dimension, or the native dimension with native storage
      * @param similarityThreshold Minimum similarity score (0.0-1.0)
      * @param maxResults          Maximum number of results
+     * @param filter              Employee constraints applied inside the search
      * @return List of search results with metadata
      */
-    List<PgVectorSearchResult> search(String queryVector, double similarityThreshold, int maxResults);
+    List<PgVectorSearchResult> search(PGvector queryVector, double similarityThreshold, int maxResults,
+                                      CandidateFilter filter);
+
+    /**
+     * Performs expert-level vector similarity search over employee profile embeddings.
+     * Each result is a distinct employee.
+     *
+     * @param queryVector         Query vector with the database dimension
+     * @param similarityThreshold Minimum similarity score (0.0-1.0)
+     * @param maxResults          Maximum number of experts
+     * @param filter              Employee constraints applied inside the search
+     * @return List of search results, one per employee
+     */
+    List<PgVectorSearchResult> searchProfiles(PGvector queryVector, double similarityThreshold, int maxResults,
+                                              CandidateFilter filter);
+
+    /**
+     * Performs vector similarity search diversified by employee in one round trip: over-fetches work
+     * experience rows from the HNSW index and keeps the best-scoring row of each employee.
+     * With iterative scans enabled, the index scan continues past the threshold filter until enough
+     * rows are found or {@code maxScanTuples} rows were visited.
+     *
+     * @param queryVector         Query vector with the database dimension, or the native dimension with native storage
+     * @param similarityThreshold Minimum similarity score (0.0-1.0)
+     * @param maxResults          Maximum number of experts
+     * @param candidateLimit      Work experience rows fetched before grouping by employee
+     * @param iterativeScan       Whether to enable pgvector iterative index scans
+     * @param maxScanTuples       Upper bound on rows visited by an iterative scan
+     * @param filter              Employee constraints applied inside the search
+     * @return One result per employee with their best similarity and the matching work experience
+     * ({@code workExperienceId} in metadata)
+     */
+    List<PgVectorSearchResult> searchBestMatchPerEmployee(PGvector queryVector, double similarityThreshold, int maxResults,
+                                                          int candidateLimit, boolean iterativeScan, int maxScanTuples,
+                                                          CandidateFilter filter);
+
+    /**
+     * Finds profile embeddings of employees: the mean of their work experience embeddings.
+     * Employees without embedded work experience are absent from the result.
+     *
+     * @param employeeIds Employee IDs
+     * @return Profile embedding by employee ID, with the database dimension
+     */
+    Map<String, float[]> findProfileEmbeddings(List<String> employeeIds);
 }
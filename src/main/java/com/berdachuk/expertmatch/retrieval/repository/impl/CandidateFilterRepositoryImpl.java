@@ -0,0 +1,41 @@
+package com.berdachuk.expertmatch.retrieval.repository.impl;
+
+import com.berdachuk.expertmatch.core.repository.sql.InjectSql;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.repository.CandidateFilterRepository;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Repository implementation applying candidate filters to employee IDs.
+ */
+@Repository
+public class CandidateFilterRepositoryImpl implements CandidateFilterRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    @InjectSql("/sql/retrieval/filterEmployeeIds.sql")
+    private String filterEmployeeIdsSql;
+
+    public CandidateFilterRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public Set<String> findMatchingEmployeeIds(List<String> employeeIds, CandidateFilter filter) {
+        if (employeeIds.isEmpty() || filter.isEmpty()) {
+            return new HashSet<>(employeeIds);
+        }
+        Map<String, Object> params = Map.of("employeeIds", employeeIds.toArray(new String[0]));
+        Set<String> matching = new HashSet<>();
+        namedJdbcTemplate.query(CandidateFilterSql.apply(filterEmployeeIdsSql, filter),
+                CandidateFilterSql.withParameters(params, filter),
+                (RowCallbackHandler) rs -> matching.add(rs.getString("employee_id")));
+        return matching;
+    }
+}
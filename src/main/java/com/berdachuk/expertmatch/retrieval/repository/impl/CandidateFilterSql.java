@@ -0,0 +1,77 @@
+package com.berdachuk.expertmatch.retrieval.repository.impl;
+
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders a {@link CandidateFilter} into retrieval statements.
+ * <p>
+ * Statements mark where the filter goes with a {@code {candidateFilter}} placeholder in a WHERE clause
+ * whose rows have an {@code employee_id} column. Only the constraints that are set are rendered, so an
+ * unfiltered search runs the same statement as before and filtered searches get a plan for the
+ * predicates they actually use (backed by the employee filter indexes).
+ */
+final class CandidateFilterSql {
+
+    static final String PLACEHOLDER = "{candidateFilter}";
+
+    private CandidateFilterSql() {
+    }
+
+    /**
+     * Replaces the placeholder with the filter predicate, or removes it when the filter is empty.
+     *
+     * @param sql    Statement containing the placeholder
+     * @param filter Candidate filter
+     * @return Executable statement
+     */
+    static String apply(String sql, CandidateFilter filter) {
+        return sql.replace(PLACEHOLDER, predicate(filter));
+    }
+
+    /**
+     * Adds the filter parameters to the statement parameters.
+     *
+     * @param params Statement parameters
+     * @param filter Candidate filter
+     * @return New parameter map including the filter parameters
+     */
+    static Map<String, Object> withParameters(Map<String, Object> params, CandidateFilter filter) {
+        if (filter.isEmpty()) {
+            return params;
+        }
+        Map<String, Object> result = new HashMap<>(params);
+        if (filter.minSeniority() != null) {
+            result.put("minSeniority", filter.minSeniority());
+        }
+        if (filter.minEnglishLevel() != null) {
+            result.put("minEnglishLevel", filter.minEnglishLevel());
+        }
+        if (filter.availabilityStatus() != null) {
+            result.put("availabilityStatus", filter.availabilityStatus());
+        }
+        return result;
+    }
+
+    private static String predicate(CandidateFilter filter) {
+        if (filter.isEmpty()) {
+            return "";
+        }
+        List<String> conditions = new ArrayList<>(3);
+        if (filter.availabilityStatus() != null) {
+            conditions.add("e.availability_status = :availabilityStatus");
+        }
+        if (filter.minSeniority() != null) {
+            conditions.add("e.seniority >= :minSeniority");
+        }
+        if (filter.minEnglishLevel() != null) {
+            conditions.add("e.language_english >= :minEnglishLevel");
+        }
+        return "AND employee_id IN (SELECT e.id FROM expertmatch.employee e WHERE "
+                + String.join(" AND ", conditions) + ")";
+    }
+}
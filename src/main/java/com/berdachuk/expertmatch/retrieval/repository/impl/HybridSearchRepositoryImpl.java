@@ -0,0 +1,80 @@
+package com.berdachuk.expertmatch.retrieval.repository.impl;
+
+import com.berdachuk.expertmatch.core.config.VectorStorageProperties;
+import com.berdachuk.expertmatch.core.repository.sql.InjectSql;
+import com.berdachuk.expertmatch.retrieval.repository.HybridSearchRepository;
+import com.berdachuk.expertmatch.retrieval.repository.HybridSearchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository implementation for single-statement hybrid search with in-database fusion.
+ */
+@Slf4j
+@Repository
+public class HybridSearchRepositoryImpl implements HybridSearchRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final VectorStorageProperties vectorStorageProperties;
+    private final RowMapper<HybridSearchResult> resultMapper = (rs, rowNum) -> new HybridSearchResult(
+            rs.getString("employee_id"),
+            rs.getDouble("fused_score"),
+            getNullableDouble(rs, "vector_score"),
+            getNullableInteger(rs, "vector_rank"),
+            getNullableDouble(rs, "keyword_score"),
+            getNullableInteger(rs, "keyword_rank"),
+            getNullableDouble(rs, "technology_score"),
+            getNullableInteger(rs, "technology_rank")
+    );
+    @InjectSql("/sql/retrieval/hybridFusionSearch.sql")
+    private String hybridFusionSearchSql;
+    @InjectSql("/sql/retrieval/hybridFusionSearchNative.sql")
+    private String hybridFusionSearchNativeSql;
+
+    public HybridSearchRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                      VectorStorageProperties vectorStorageProperties) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.vectorStorageProperties = vectorStorageProperties;
+    }
+
+    private static Double getNullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Integer getNullableInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * With native storage, the vector channel searches the halfvec HNSW index of the configured dimension.
+     */
+    @Override
+    public List<HybridSearchResult> search(HybridSearchQuery query) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("queryVector", query.queryVector());
+        params.put("threshold", query.similarityThreshold());
+        params.put("searchTerms", query.searchTerms());
+        params.put("technologies", query.technologies());
+        params.put("candidatesPerChannel", query.candidatesPerChannel());
+        params.put("vectorWeight", query.vectorWeight());
+        params.put("keywordWeight", query.keywordWeight());
+        params.put("technologyWeight", query.technologyWeight());
+        params.put("rrfK", query.rrfK());
+        params.put("maxResults", query.maxResults());
+        String sql = vectorStorageProperties.isNative()
+                ? hybridFusionSearchNativeSql.replace("{dimension}", Integer.toString(vectorStorageProperties.getDimension()))
+                : hybridFusionSearchSql;
+        return namedJdbcTemplate.query(CandidateFilterSql.apply(sql, query.filter()),
+                CandidateFilterSql.withParameters(params, query.filter()), resultMapper);
+    }
+}
@@ -1,8 +1,11 @@
 package com.berdachuk.expertmatch.retrieval.repository.impl;
 
 import com.berdachuk.expertmatch.core.repository.sql.InjectSql;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 import com.berdachuk.expertmatch.retrieval.repository.KeywordSearchRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -29,20 +32,26 @@ public class KeywordSearchRepositoryImpl implements KeywordSearchRepository {
     }
 
     @Override
-    public List<String> searchByKeywords(String searchTerms, int maxResults) {
+    public ScoredCandidates searchByKeywords(String searchTerms, int maxResults, CandidateFilter filter) {
         Map<String, Object> params = Map.of(
                 "searchTerms", searchTerms,
                 "maxResults", maxResults
         );
-        return namedJdbcTemplate.query(keywordSearchSql, params, employeeIdMapper);
+        ScoredCandidates.Builder candidates = ScoredCandidates.builder(ScoredCandidates.CHANNEL_KEYWORD,
+                ScoredCandidates.ScoreType.TEXT_RANK, maxResults);
+        namedJdbcTemplate.query(CandidateFilterSql.apply(keywordSearchSql, filter),
+                CandidateFilterSql.withParameters(params, filter),
+                (RowCallbackHandler) rs -> candidates.add(rs.getString("employee_id"), rs.getDouble("rank")));
+        return candidates.build();
     }
 
     @Override
-    public List<String> searchByTechnologies(String[] technologies, int maxResults) {
+    public List<String> searchByTechnologies(String[] technologies, int maxResults, CandidateFilter filter) {
         Map<String, Object> params = Map.of(
                 "technologies", technologies,
                 "maxResults", maxResults
         );
-        return namedJdbcTemplate.query(searchByTechnologiesSql, params, employeeIdMapper);
+        return namedJdbcTemplate.query(CandidateFilterSql.apply(searchByTechnologiesSql, filter),
+                CandidateFilterSql.withParameters(params, filter), employeeIdMapper);
     }
 }
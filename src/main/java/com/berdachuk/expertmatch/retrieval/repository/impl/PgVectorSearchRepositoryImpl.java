@@ -1,12 +1,16 @@
 package com.berdachuk.expertmatch.retrieval.repository.impl;
 
+import com.berdachuk.expertmatch.core.config.VectorStorageProperties;
 import com.berdachuk.expertmatch.core.repository.sql.InjectSql;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
 import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchRepository;
 import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchResult;
+import com.pgvector.PGvector;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Array;
 import java.util.HashMap;
@@ -21,6 +25,7 @@ import java.util.Map;
 public class PgVectorSearchRepositoryImpl implements PgVectorSearchRepository {
 
     private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final VectorStorageProperties vectorStorageProperties;
     private final RowMapper<PgVectorSearchResult> resultMapper = (rs, rowNum) -> {
         String employeeId = rs.getString("employee_id");
         double similarity = rs.getDouble("similarity");
@@ -51,18 +56,119 @@ public class PgVectorSearchRepositoryImpl implements PgVectorSearchRepository {
     };
     @InjectSql("/sql/retrieval/vectorSearch.sql")
     private String vectorSearchSql;
+    @InjectSql("/sql/retrieval/vectorSearchNative.sql")
+    private String vectorSearchNativeSql;
+    @InjectSql("/sql/retrieval/vectorSearchNativeBinary.sql")
+    private String vectorSearchNativeBinarySql;
+    @InjectSql("/sql/retrieval/vectorSearchByEmployee.sql")
+    private String vectorSearchByEmployeeSql;
+    @InjectSql("/sql/retrieval/vectorSearchByEmployeeNative.sql")
+    private String vectorSearchByEmployeeNativeSql;
+    @InjectSql("/sql/retrieval/enableIterativeScan.sql")
+    private String enableIterativeScanSql;
+    @InjectSql("/sql/retrieval/profileVectorSearch.sql")
+    private String profileVectorSearchSql;
+    @InjectSql("/sql/retrieval/findProfileEmbeddings.sql")
+    private String findProfileEmbeddingsSql;
 
-    public PgVectorSearchRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate) {
+    public PgVectorSearchRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                        VectorStorageProperties vectorStorageProperties) {
         this.namedJdbcTemplate = namedJdbcTemplate;
+        this.vectorStorageProperties = vectorStorageProperties;
     }
 
+    /**
+     * With native storage, searches the halfvec HNSW index of the configured dimension, or generates
+     * candidates from the binary-quantized index and rescores them when binary quantization is enabled.
+     */
     @Override
-    public List<PgVectorSearchResult> search(String queryVector, double similarityThreshold, int maxResults) {
+    public List<PgVectorSearchResult> search(PGvector queryVector, double similarityThreshold, int maxResults,
+                                             CandidateFilter filter) {
+        Map<String, Object> params = Map.of(
+                "queryVector", queryVector,
+                "threshold", similarityThreshold,
+                "maxResults", maxResults,
+                "candidateLimit", maxResults * Math.max(1, vectorStorageProperties.getRescoreFactor())
+        );
+        String sql = vectorStorageProperties.isNative() && vectorStorageProperties.isBinaryQuantization()
+                ? nativeSql(vectorSearchNativeBinarySql)
+                : forStorage(vectorSearchSql, vectorSearchNativeSql);
+        return namedJdbcTemplate.query(CandidateFilterSql.apply(sql, filter),
+                CandidateFilterSql.withParameters(params, filter), resultMapper);
+    }
+
+    /**
+     * Runs in a read-only transaction so that the iterative scan settings are transaction-local and do not
+     * leak to other users of the pooled connection.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PgVectorSearchResult> searchBestMatchPerEmployee(PGvector queryVector, double similarityThreshold,
+                                                                 int maxResults, int candidateLimit,
+                                                                 boolean iterativeScan, int maxScanTuples,
+                                                                 CandidateFilter filter) {
+        if (iterativeScan) {
+            namedJdbcTemplate.queryForList(enableIterativeScanSql,
+                    Map.of("maxScanTuples", String.valueOf(maxScanTuples)));
+        }
+
+        Map<String, Object> params = Map.of(
+                "queryVector", queryVector,
+                "threshold", similarityThreshold,
+                "maxResults", maxResults,
+                "candidateLimit", Math.max(candidateLimit, maxResults)
+        );
+        String sql = forStorage(vectorSearchByEmployeeSql, vectorSearchByEmployeeNativeSql);
+        return namedJdbcTemplate.query(CandidateFilterSql.apply(sql, filter),
+                CandidateFilterSql.withParameters(params, filter), (rs, rowNum) -> {
+                    PgVectorSearchResult result = resultMapper.mapRow(rs, rowNum);
+                    result.metadata().put("workExperienceId", rs.getString("work_experience_id"));
+                    return result;
+                });
+    }
+
+    @Override
+    public List<PgVectorSearchResult> searchProfiles(PGvector queryVector, double similarityThreshold, int maxResults,
+                                                     CandidateFilter filter) {
         Map<String, Object> params = Map.of(
                 "queryVector", queryVector,
                 "threshold", similarityThreshold,
                 "maxResults", maxResults
         );
-        return namedJdbcTemplate.query(vectorSearchSql, params, resultMapper);
+        return namedJdbcTemplate.query(CandidateFilterSql.apply(profileVectorSearchSql, filter),
+                CandidateFilterSql.withParameters(params, filter), (rs, rowNum) -> new PgVectorSearchResult(
+                rs.getString("employee_id"),
+                rs.getDouble("similarity"),
+                Map.of("workExperienceCount", rs.getInt("work_experience_count"))
+        ));
+    }
+
+    @Override
+    public Map<String, float[]> findProfileEmbeddings(List<String> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Object> params = Map.of("ids", employeeIds.toArray(new String[0]));
+        Map<String, float[]> embeddings = new HashMap<>();
+        namedJdbcTemplate.query(findProfileEmbeddingsSql, params, rs -> {
+            embeddings.put(rs.getString("employee_id"), rs.getObject("embedding", PGvector.class).toArray());
+        });
+        return embeddings;
+    }
+
+    /**
+     * Picks the statement for the configured embedding storage.
+     */
+    private String forStorage(String paddedSql, String nativeSql) {
+        return vectorStorageProperties.isNative() ? nativeSql(nativeSql) : paddedSql;
+    }
+
+    /**
+     * Fills in the configured dimension: halfvec casts need a literal type modifier to match the
+     * per-dimension partial HNSW indexes.
+     */
+    private String nativeSql(String sql) {
+        return sql.replace("{dimension}", Integer.toString(vectorStorageProperties.getDimension()));
     }
 }
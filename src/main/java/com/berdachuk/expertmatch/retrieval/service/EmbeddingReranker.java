@@ -0,0 +1,23 @@
+package com.berdachuk.expertmatch.retrieval.service;
+
+import java.util.Map;
+
+/**
+ * Local reranking stage that orders candidates by embedding similarity, without an LLM call.
+ * Runs before {@link SemanticReranker} to cut the candidates sent to the LLM, or on its own in
+ * low-latency mode.
+ */
+public interface EmbeddingReranker {
+
+    /**
+     * Reranks experts by cosine similarity between the query embedding and their profile embeddings.
+     *
+     * If the embeddings cannot be loaded, the candidates are returned in fused order with their fused scores.
+     *
+     * @param queryText   Original query text
+     * @param fusedScores Fused scores of the experts to rerank, in fused order (best first)
+     * @param maxResults  Maximum number of results after reranking
+     * @return Reranked expert IDs and their similarity scores
+     */
+    SemanticReranker.RerankResult rerank(String queryText, Map<String, Double> fusedScores, int maxResults);
+}
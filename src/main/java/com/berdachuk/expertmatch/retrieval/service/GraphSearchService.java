@@ -1,6 +1,7 @@
 package com.berdachuk.expertmatch.retrieval.service;
 
 import com.berdachuk.expertmatch.core.exception.RetrievalException;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 
 import java.util.List;
 
@@ -72,4 +73,17 @@ public interface GraphSearchService {
      * @throws RetrievalException if the graph query fails
      */
     List<String> findExpertsByCustomerAndTechnology(String customerName, String technology);
+
+    /**
+     * Finds experts for the retrieval graph channel: experts with all technologies, experts with each
+     * skill and experts in each domain. Each expert is scored by the number of these patterns they match.
+     *
+     * @param technologies Technology names (all required)
+     * @param skills       Skill names (matched as technologies, each on its own)
+     * @param domains      Domain names (each on its own)
+     * @param maxResults   Maximum number of results to return
+     * @return Graph channel candidates, most matched patterns first, empty if none found
+     */
+    ScoredCandidates findCandidates(List<String> technologies, List<String> skills, List<String> domains,
+                                    int maxResults);
 }
@@ -1,8 +1,10 @@
 package com.berdachuk.expertmatch.retrieval.service;
 
+import com.berdachuk.expertmatch.core.config.SpeculativeExecutor;
 import com.berdachuk.expertmatch.core.domain.ParsedQuery;
 import com.berdachuk.expertmatch.core.domain.QueryRequest;
 import com.berdachuk.expertmatch.core.service.ExecutionTracer;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,30 @@ public interface HybridRetrievalService {
      */
     RetrievalResult retrieve(QueryRequest request, ParsedQuery parsedQuery, ExecutionTracer tracer);
 
+    /**
+     * Starts the vector part of retrieval for the raw query text before the query is parsed.
+     * Vector search only needs the original query, so its embedding round trip and HNSW search can overlap
+     * with LLM query parsing. With in-database fusion only the query embedding is prefetched, because the
+     * fused SQL statement also needs the parsed skills and technologies.
+     *
+     * @param request The query request containing the user's query
+     * @return Prefetch to pass to {@link #retrieve(QueryRequest, ParsedQuery, ExecutionTracer, VectorSearchPrefetch)}
+     */
+    VectorSearchPrefetch prefetchVectorSearch(QueryRequest request);
+
+    /**
+     * Retrieves expert recommendations, using vector results or the query embedding prefetched with
+     * {@link #prefetchVectorSearch(QueryRequest)} when they match the parsed query.
+     *
+     * @param request     The query request containing the user's query
+     * @param parsedQuery The parsed query containing intent, skills, and technologies
+     * @param tracer      Optional execution tracer for tracking retrieval steps
+     * @param prefetch    Optional prefetched vector search, ignored if it was made for another query
+     * @return Retrieval result containing expert IDs and relevance scores
+     */
+    RetrievalResult retrieve(QueryRequest request, ParsedQuery parsedQuery, ExecutionTracer tracer,
+                             VectorSearchPrefetch prefetch);
+
     /**
      * Retrieval result containing expert recommendations and relevance scores.
      *
@@ -41,4 +67,31 @@ public interface HybridRetrievalService {
             Map<String, Double> relevanceScores
     ) {
     }
+
+    /**
+     * Vector search started before query parsing.
+     *
+     * @param queryText  Query text the search was started for
+     * @param maxResults Maximum number of results requested
+     * @param embedding  Query embedding (in-database fusion), null otherwise
+     * @param candidates Vector search candidates (application-side fusion), null otherwise
+     */
+    record VectorSearchPrefetch(
+            String queryText,
+            int maxResults,
+            SpeculativeExecutor.Speculation<float[]> embedding,
+            SpeculativeExecutor.Speculation<ScoredCandidates> candidates
+    ) {
+        /**
+         * Discards prefetched work that retrieval did not use.
+         */
+        public void cancel() {
+            if (embedding != null) {
+                embedding.cancel();
+            }
+            if (candidates != null) {
+                candidates.cancel();
+            }
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package com.berdachuk.expertmatch.retrieval.service;
+
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.retrieval.repository.HybridSearchResult;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Service interface for hybrid search fused inside the database.
+ */
+public interface InDatabaseFusionService {
+    /**
+     * Runs vector, keyword and technology-overlap search and their reciprocal rank fusion in one SQL round trip.
+     *
+     * @param parsedQuery Parsed query providing the query text, skills, technologies and employee constraints
+     * @param weights     Map of channel name (vector, keyword, technology) to RRF weight
+     * @param maxResults  Maximum number of fused results to return
+     * @return Employees ordered by fused score with per-channel scores, empty list if none found
+     */
+    List<HybridSearchResult> search(ParsedQuery parsedQuery, Map<String, Double> weights, int maxResults);
+
+    /**
+     * Runs the fused search with a query embedding computed in advance, e.g. while the query was parsed.
+     *
+     * @param parsedQuery    Parsed query providing the query text, skills, technologies and employee constraints
+     * @param queryEmbedding Embedding of the original query text
+     * @param weights        Map of channel name (vector, keyword, technology) to RRF weight
+     * @param maxResults     Maximum number of fused results to return
+     * @return Employees ordered by fused score with per-channel scores, empty list if none found
+     */
+    List<HybridSearchResult> search(ParsedQuery parsedQuery, float[] queryEmbedding, Map<String, Double> weights,
+                                    int maxResults);
+}
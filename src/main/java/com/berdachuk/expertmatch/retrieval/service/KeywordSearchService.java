@@ -1,5 +1,8 @@
 package com.berdachuk.expertmatch.retrieval.service;
 
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+
 import java.util.List;
 
 
@@ -16,6 +19,27 @@ public interface KeywordSearchService {
      */
     List<String> searchByKeywords(List<String> keywords, int maxResults);
 
+    /**
+     * Searches for expert identifiers using keyword matching restricted to employees matching a filter.
+     *
+     * @param keywords   List of keywords to search for
+     * @param maxResults Maximum number of results to return
+     * @param filter     Employee constraints applied inside the search
+     * @return List of expert identifiers matching the keywords, empty list if none found
+     */
+    List<String> searchByKeywords(List<String> keywords, int maxResults, CandidateFilter filter);
+
+    /**
+     * Searches for experts using keyword matching restricted to employees matching a filter, with the
+     * full-text rank of each expert's best matching work experience.
+     *
+     * @param keywords   List of keywords to search for
+     * @param maxResults Maximum number of results to return
+     * @param filter     Employee constraints applied inside the search
+     * @return Keyword channel candidates, most relevant first, empty if none found
+     */
+    ScoredCandidates searchCandidates(List<String> keywords, int maxResults, CandidateFilter filter);
+
     /**
      * Searches for expert identifiers by technology names using keyword matching.
      *
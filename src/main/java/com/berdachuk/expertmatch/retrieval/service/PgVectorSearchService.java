@@ -1,5 +1,7 @@
 package com.berdachuk.expertmatch.retrieval.service;
 
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +19,18 @@ public interface PgVectorSearchService {
      */
     List<VectorSearchResult> search(float[] queryEmbedding, int maxResults, double similarityThreshold);
 
+    /**
+     * Searches for experts using vector similarity search restricted to employees matching a filter.
+     *
+     * @param queryEmbedding      The query embedding vector
+     * @param maxResults          Maximum number of results to return
+     * @param similarityThreshold Minimum similarity threshold (0.0 to 1.0)
+     * @param filter              Employee constraints applied inside the search
+     * @return List of vector search results ordered by similarity, empty list if none found
+     */
+    List<VectorSearchResult> search(float[] queryEmbedding, int maxResults, double similarityThreshold,
+                                    CandidateFilter filter);
+
     /**
      * Searches for experts using vector similarity search with query text.
      *
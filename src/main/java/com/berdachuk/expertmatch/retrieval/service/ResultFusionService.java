@@ -1,5 +1,8 @@
 package com.berdachuk.expertmatch.retrieval.service;
 
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+
 import java.util.List;
 import java.util.Map;
 
@@ -24,4 +27,53 @@ public interface ResultFusionService {
      * @return Fused list of expert IDs ordered by combined score
      */
     List<String> fuseResults(Map<String, List<String>> results);
+
+    /**
+     * Fuses multiple ranked result lists and keeps the top k candidates with their scores.
+     *
+     * @param results Map of source name to list of expert IDs, best first
+     * @param weights Map of source name to weight, 1.0 for sources without a weight
+     * @param method  Fusion method
+     * @param topK    Maximum number of fused candidates to return
+     * @return Fused candidates ordered by fused score, with their rank in each source
+     */
+    FusionResult fuse(Map<String, List<String>> results, Map<String, Double> weights, FusionMethod method, int topK);
+
+    /**
+     * Fuses scored channel candidates and keeps the top k. CombSUM normalizes the channel scores instead
+     * of ranks for channels that score their candidates.
+     *
+     * @param results Candidates per channel, best first
+     * @param weights Map of channel name to weight, 1.0 for channels without a weight
+     * @param method  Fusion method
+     * @param topK    Maximum number of fused candidates to return
+     * @return Fused candidates ordered by fused score, with their rank in each channel
+     */
+    FusionResult fuse(List<ScoredCandidates> results, Map<String, Double> weights, FusionMethod method, int topK);
+
+    /**
+     * Result of fusing ranked result lists.
+     *
+     * @param channels   Source names; {@link FusedCandidate#channelRanks()} is indexed in this order
+     * @param candidates Fused candidates, best first
+     */
+    record FusionResult(List<String> channels, List<FusedCandidate> candidates) {
+
+        /**
+         * Expert IDs of the fused candidates, best first.
+         */
+        public List<String> expertIds() {
+            return candidates.stream().map(FusedCandidate::expertId).toList();
+        }
+    }
+
+    /**
+     * Fused candidate.
+     *
+     * @param expertId     Expert ID
+     * @param fusedScore   Combined score of all sources
+     * @param channelRanks 1-based rank in each source (in {@link FusionResult#channels()} order), 0 where absent
+     */
+    record FusedCandidate(String expertId, double fusedScore, int[] channelRanks) {
+    }
 }
@@ -26,4 +26,37 @@ public interface SemanticReranker {
      * @return Map of expert IDs to relevance scores
      */
     Map<String, Double> calculateRelevanceScores(String queryText, List<String> expertIds);
+
+    /**
+     * Reranks experts and returns their relevance scores from a single LLM call.
+     * Use this instead of {@link #rerank} followed by {@link #calculateRelevanceScores}, which
+     * would score the same candidates twice.
+     *
+     * @param queryText  Original query text
+     * @param expertIds  List of expert IDs to rerank
+     * @param maxResults Maximum number of results after reranking
+     * @return Reranked expert IDs and relevance scores for the returned experts
+     */
+    RerankResult rerankWithScores(String queryText, List<String> expertIds, int maxResults);
+
+    /**
+     * Reranks experts and drops those the model scored below a minimum before the result is cut to
+     * maxResults, so the freed slots go to the next candidates. Experts the model did not score are kept.
+     *
+     * @param queryText  Original query text
+     * @param expertIds  List of expert IDs to rerank
+     * @param maxResults Maximum number of results after reranking
+     * @param minScore   Minimum relevance score (0.0-1.0) of a scored expert
+     * @return Reranked expert IDs and relevance scores for the returned experts
+     */
+    RerankResult rerankWithScores(String queryText, List<String> expertIds, int maxResults, double minScore);
+
+    /**
+     * Result of reranking with scores.
+     *
+     * @param expertIds       Reranked expert IDs, at most maxResults
+     * @param relevanceScores Relevance scores by expert ID for the returned experts
+     */
+    record RerankResult(List<String> expertIds, Map<String, Double> relevanceScores) {
+    }
 }
@@ -1,12 +1,15 @@
 package com.berdachuk.expertmatch.retrieval.service;
 
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 import org.springframework.ai.document.Document;
 
 import java.util.List;
 
 /**
  * Service for vector similarity search using PgVector.
- * Wraps PgVectorSearchService and provides Document-based interface.
+ * Wraps PgVectorSearchService; retrieval uses the scored candidates, the Document-based methods are for
+ * callers that need the matched work experience as text.
  */
 public interface VectorSearchService {
 
@@ -29,4 +32,28 @@ public interface VectorSearchService {
      * @return List of similar documents
      */
     List<Document> searchByText(String queryText, int maxResults, double similarityThreshold);
+
+    /**
+     * Searches by query text restricted to employees matching a filter.
+     *
+     * @param queryText           Query text
+     * @param maxResults          Maximum number of results
+     * @param similarityThreshold Minimum similarity score
+     * @param filter              Employee constraints applied inside the search
+     * @return List of similar documents
+     */
+    List<Document> searchByText(String queryText, int maxResults, double similarityThreshold, CandidateFilter filter);
+
+    /**
+     * Searches by query text restricted to employees matching a filter and returns each expert once with
+     * the similarity of their best matching work experience.
+     *
+     * @param queryText           Query text
+     * @param maxResults          Maximum number of work experience matches to search
+     * @param similarityThreshold Minimum similarity score
+     * @param filter              Employee constraints applied inside the search
+     * @return Vector channel candidates, most similar first
+     */
+    ScoredCandidates searchCandidates(String queryText, int maxResults, double similarityThreshold,
+                                      CandidateFilter filter);
 }
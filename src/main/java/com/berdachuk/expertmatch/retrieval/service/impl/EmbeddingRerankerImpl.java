@@ -0,0 +1,106 @@
+package com.berdachuk.expertmatch.retrieval.service.impl;
+
+import com.berdachuk.expertmatch.core.util.VectorSimilarity;
+import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
+import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchRepository;
+import com.berdachuk.expertmatch.retrieval.service.EmbeddingReranker;
+import com.berdachuk.expertmatch.retrieval.service.SemanticReranker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reranks candidates by cosine similarity between the query embedding and expert profile embeddings.
+ * <p>
+ * The query embedding comes from {@link EmbeddingService}, which serves it from the embedding cache after
+ * vector search; profile embeddings for all candidates are read from {@code employee_profile_embedding} in one
+ * query. Candidates without a profile embedding keep their fused order after the scored ones, with a score of 0.
+ * When the query embedding or all profile embeddings cannot be loaded, the fused order and fused scores are
+ * returned unchanged.
+ */
+@Slf4j
+@Service
+public class EmbeddingRerankerImpl implements EmbeddingReranker {
+
+    private final EmbeddingService embeddingService;
+    private final PgVectorSearchRepository vectorSearchRepository;
+
+    public EmbeddingRerankerImpl(EmbeddingService embeddingService, PgVectorSearchRepository vectorSearchRepository) {
+        this.embeddingService = embeddingService;
+        this.vectorSearchRepository = vectorSearchRepository;
+    }
+
+    @Override
+    public SemanticReranker.RerankResult rerank(String queryText, Map<String, Double> fusedScores, int maxResults) {
+        // Validate input parameters
+        if (queryText == null || queryText.isBlank()) {
+            throw new IllegalArgumentException("Query text cannot be null or blank");
+        }
+        if (fusedScores == null || fusedScores.isEmpty()) {
+            return new SemanticReranker.RerankResult(List.of(), Map.of());
+        }
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("Max results must be at least 1, got: " + maxResults);
+        }
+
+        List<String> expertIds = List.copyOf(fusedScores.keySet());
+        float[] queryEmbedding;
+        Map<String, float[]> profileEmbeddings;
+        try {
+            queryEmbedding = embeddingService.generateEmbeddingAsFloatArray(queryText);
+            profileEmbeddings = vectorSearchRepository.findProfileEmbeddings(expertIds);
+        } catch (Exception e) {
+            log.warn("Embedding pre-reranking degraded, keeping fused order and scores for {} candidates: {}",
+                    expertIds.size(), e.getMessage(), e);
+            return fusedOrder(expertIds, fusedScores, maxResults);
+        }
+        if (profileEmbeddings.isEmpty()) {
+            log.warn("Embedding pre-reranking degraded, no profile embeddings for {} candidates, keeping fused order and scores",
+                    expertIds.size());
+            return fusedOrder(expertIds, fusedScores, maxResults);
+        }
+
+        // Score into a primitive array; a stable sort keeps the fused order for equal scores
+        float queryNorm = VectorSimilarity.norm(queryEmbedding);
+        float[] similarities = new float[expertIds.size()];
+        Integer[] order = new Integer[expertIds.size()];
+        for (int i = 0; i < expertIds.size(); i++) {
+            float[] profileEmbedding = profileEmbeddings.get(expertIds.get(i));
+            similarities[i] = profileEmbedding != null
+                    ? Math.max(0f, VectorSimilarity.cosine(queryEmbedding, queryNorm, profileEmbedding))
+                    : 0f;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Float.compare(similarities[b], similarities[a]));
+
+        int resultSize = Math.min(maxResults, expertIds.size());
+        List<String> rerankedIds = new ArrayList<>(resultSize);
+        Map<String, Double> scores = new HashMap<>();
+        for (int i = 0; i < resultSize; i++) {
+            String expertId = expertIds.get(order[i]);
+            rerankedIds.add(expertId);
+            scores.put(expertId, (double) similarities[order[i]]);
+        }
+        log.debug("Pre-reranked {} candidates by profile similarity ({} with embeddings), kept {}",
+                expertIds.size(), profileEmbeddings.size(), rerankedIds.size());
+        return new SemanticReranker.RerankResult(rerankedIds, scores);
+    }
+
+    /**
+     * Passes the fused ranking through unchanged when there is no similarity to rank by.
+     */
+    private static SemanticReranker.RerankResult fusedOrder(List<String> expertIds, Map<String, Double> fusedScores,
+                                                            int maxResults) {
+        List<String> fusedOrder = expertIds.stream().limit(maxResults).toList();
+        Map<String, Double> scores = new HashMap<>();
+        for (String expertId : fusedOrder) {
+            scores.put(expertId, fusedScores.get(expertId));
+        }
+        return new SemanticReranker.RerankResult(fusedOrder, scores);
+    }
+}
@@ -2,23 +2,31 @@ package com.berdachuk.expertmatch.retrieval.service;
 
 import com.berdachuk.expertmatch.core.exception.RetrievalException;
 import com.berdachuk.expertmatch.graph.service.GraphService;
+import com.berdachuk.expertmatch.graph.service.GraphStateRegistry;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Service for graph traversal using Apache AGE.
+ * Graph existence comes from {@link GraphStateRegistry}, so the per-skill and per-domain lookups of one
+ * query do not each run a catalog check.
  */
 @Slf4j
 @Service
 public class GraphSearchServiceImpl implements GraphSearchService {
     private final GraphService graphService;
+    private final GraphStateRegistry graphStateRegistry;
 
-    public GraphSearchServiceImpl(GraphService graphService) {
+    public GraphSearchServiceImpl(GraphService graphService, GraphStateRegistry graphStateRegistry) {
         this.graphService = graphService;
+        this.graphStateRegistry = graphStateRegistry;
     }
 
     /**
@@ -28,7 +36,7 @@ public class GraphSearchServiceImpl implements GraphSearchService {
      */
     @Override
     public List<String> findExpertsByTechnology(String technology) {
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             return List.of();
         }
 
@@ -61,7 +69,7 @@ public class GraphSearchServiceImpl implements GraphSearchService {
      */
     @Override
     public List<String> findCollaboratingExperts(String expertId) {
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             return List.of();
         }
 
@@ -92,7 +100,7 @@ public class GraphSearchServiceImpl implements GraphSearchService {
      */
     @Override
     public List<String> findExpertsByDomain(String domain) {
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             return List.of();
         }
 
@@ -124,7 +132,7 @@ public class GraphSearchServiceImpl implements GraphSearchService {
      */
     @Override
     public List<String> findExpertsByTechnologies(List<String> technologies) {
-        if (!graphService.graphExists() || technologies.isEmpty()) {
+        if (!graphStateRegistry.graphExists() || technologies.isEmpty()) {
             return List.of();
         }
 
@@ -160,7 +168,7 @@ public class GraphSearchServiceImpl implements GraphSearchService {
      */
     @Override
     public List<String> findExpertsByProjectType(String projectType) {
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             return List.of();
         }
 
@@ -192,7 +200,7 @@ public class GraphSearchServiceImpl implements GraphSearchService {
      */
     @Override
     public List<String> findExpertsByCustomer(String customerName) {
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             return List.of();
         }
 
@@ -224,7 +232,7 @@ public class GraphSearchServiceImpl implements GraphSearchService {
      */
     @Override
     public List<String> findExpertsByCustomerAndTechnology(String customerName, String technology) {
-        if (!graphService.graphExists()) {
+        if (!graphStateRegistry.graphExists()) {
             return List.of();
         }
 
@@ -252,5 +260,48 @@ public class GraphSearchServiceImpl implements GraphSearchService {
             return List.of();
         }
     }
-}
 
+    /**
+     * Runs the graph channel patterns and scores experts by how many of them they match.
+     * Experts with equal counts keep the order in which they were first found.
+     */
+    @Override
+    public ScoredCandidates findCandidates(List<String> technologies, List<String> skills, List<String> domains,
+                                           int maxResults) {
+        Map<String, Integer> matchCounts = new LinkedHashMap<>();
+
+        // Search by technologies (if multiple, use AND search)
+        if (technologies.size() == 1) {
+            countMatches(matchCounts, findExpertsByTechnology(technologies.get(0)));
+        } else if (!technologies.isEmpty()) {
+            countMatches(matchCounts, findExpertsByTechnologies(technologies));
+        }
+
+        // Search by skills (treat as technologies)
+        for (String skill : skills) {
+            countMatches(matchCounts, findExpertsByTechnology(skill));
+        }
+
+        // Search by domain
+        for (String domain : domains) {
+            countMatches(matchCounts, findExpertsByDomain(domain));
+        }
+
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>(matchCounts.entrySet());
+        // List.sort is stable, so equal counts stay in first-found order
+        ranked.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        int size = Math.min(ranked.size(), maxResults);
+        ScoredCandidates.Builder candidates = ScoredCandidates.builder(ScoredCandidates.CHANNEL_GRAPH,
+                ScoredCandidates.ScoreType.MATCH_COUNT, size);
+        for (int i = 0; i < size; i++) {
+            candidates.add(ranked.get(i).getKey(), ranked.get(i).getValue());
+        }
+        return candidates.build();
+    }
+
+    private static void countMatches(Map<String, Integer> matchCounts, List<String> expertIds) {
+        for (String expertId : expertIds) {
+            matchCounts.merge(expertId, 1, Integer::sum);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.berdachuk.expertmatch.retrieval.service.impl;
 
+import com.berdachuk.expertmatch.core.config.SpeculativeExecutor;
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
 import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.Entity;
 import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.ExtractedEntities;
 import com.berdachuk.expertmatch.core.domain.ParsedQuery;
@@ -7,7 +9,14 @@ import com.berdachuk.expertmatch.core.domain.QueryRequest;
 import com.berdachuk.expertmatch.core.exception.RetrievalException;
 import com.berdachuk.expertmatch.core.service.EntityExtractor;
 import com.berdachuk.expertmatch.core.service.ExecutionTracer;
+import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
 import com.berdachuk.expertmatch.employee.repository.EmployeeRepository;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalChannelExecutor;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalProperties;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+import com.berdachuk.expertmatch.retrieval.repository.CandidateFilterRepository;
+import com.berdachuk.expertmatch.retrieval.repository.HybridSearchResult;
 import com.berdachuk.expertmatch.retrieval.service.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
@@ -15,8 +24,18 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Main service for hybrid GraphRAG retrieval combining vector, graph, and keyword search.
@@ -24,32 +43,73 @@ import java.util.Map;
 @Slf4j
 @Service
 public class HybridRetrievalServiceImpl implements HybridRetrievalService {
+    private static final String CHANNEL_VECTOR = ScoredCandidates.CHANNEL_VECTOR;
+    private static final String CHANNEL_GRAPH = ScoredCandidates.CHANNEL_GRAPH;
+    private static final String CHANNEL_KEYWORD = ScoredCandidates.CHANNEL_KEYWORD;
+    private static final String CHANNEL_PERSON = ScoredCandidates.CHANNEL_PERSON;
+    private static final String CHANNEL_TECHNOLOGY = "technology";
+    private static final String CHANNEL_DATABASE = ScoredCandidates.CHANNEL_DATABASE;
+    // Number of fused experts whose per-channel scores are written to the trace
+    private static final int TRACED_SCORE_COUNT = 5;
+    private static final Map<String, String> CHANNEL_NAMES = orderedChannelNames();
+
     private final VectorSearchService vectorSearch;
     private final GraphSearchService graphSearch;
     private final KeywordSearchService keywordSearch;
     private final ResultFusionService fusionService;
+    private final InDatabaseFusionService inDatabaseFusionService;
     private final SemanticReranker reranker;
+    private final EmbeddingReranker embeddingReranker;
     private final EntityExtractor entityExtractor;
     private final EmployeeRepository employeeRepository;
+    private final CandidateFilterRepository candidateFilterRepository;
     private final Environment environment;
+    private final RetrievalProperties retrievalProperties;
+    private final RetrievalChannelExecutor channelExecutor;
+    private final EmbeddingService embeddingService;
+    private final SpeculativeExecutor speculativeExecutor;
 
     public HybridRetrievalServiceImpl(
             VectorSearchService vectorSearch,
             GraphSearchService graphSearch,
             KeywordSearchService keywordSearch,
             ResultFusionService fusionService,
+            InDatabaseFusionService inDatabaseFusionService,
             SemanticReranker reranker,
+            EmbeddingReranker embeddingReranker,
             EntityExtractor entityExtractor,
             EmployeeRepository employeeRepository,
-            Environment environment) {
+            CandidateFilterRepository candidateFilterRepository,
+            Environment environment,
+            RetrievalProperties retrievalProperties,
+            RetrievalChannelExecutor channelExecutor,
+            EmbeddingService embeddingService,
+            SpeculativeExecutor speculativeExecutor) {
         this.vectorSearch = vectorSearch;
         this.graphSearch = graphSearch;
         this.keywordSearch = keywordSearch;
         this.fusionService = fusionService;
+        this.inDatabaseFusionService = inDatabaseFusionService;
         this.reranker = reranker;
+        this.embeddingReranker = embeddingReranker;
         this.entityExtractor = entityExtractor;
         this.employeeRepository = employeeRepository;
+        this.candidateFilterRepository = candidateFilterRepository;
         this.environment = environment;
+        this.retrievalProperties = retrievalProperties;
+        this.channelExecutor = channelExecutor;
+        this.embeddingService = embeddingService;
+        this.speculativeExecutor = speculativeExecutor;
+    }
+
+    private static Map<String, String> orderedChannelNames() {
+        Map<String, String> names = new LinkedHashMap<>();
+        names.put(CHANNEL_DATABASE, "In-Database");
+        names.put(CHANNEL_VECTOR, "Vector");
+        names.put(CHANNEL_GRAPH, "Graph");
+        names.put(CHANNEL_KEYWORD, "Keyword");
+        names.put(CHANNEL_PERSON, "Person");
+        return names;
     }
 
     /**
@@ -65,32 +125,316 @@ public class HybridRetrievalServiceImpl implements HybridRetrievalService {
      */
     @Override
     public HybridRetrievalService.RetrievalResult retrieve(QueryRequest request, ParsedQuery parsedQuery, ExecutionTracer tracer) {
+        return retrieve(request, parsedQuery, tracer, null);
+    }
+
+    /**
+     * Starts the query embedding, and with application-side fusion the whole vector search, on the
+     * speculative executor while the caller parses the query.
+     */
+    @Override
+    public VectorSearchPrefetch prefetchVectorSearch(QueryRequest request) {
+        String queryText = request.query();
+        int maxResults = request.options().maxResults();
+        if (retrievalProperties.getFusion().getStrategy() == RetrievalProperties.FusionStrategy.DATABASE) {
+            return new VectorSearchPrefetch(queryText, maxResults,
+                    speculativeExecutor.start(() -> embeddingService.generateEmbeddingAsFloatArray(queryText)), null);
+        }
+        return new VectorSearchPrefetch(queryText, maxResults,
+                null, speculativeExecutor.start(() -> performVectorSearch(queryText, maxResults, CandidateFilter.NONE)));
+    }
+
+    /**
+     * Performs hybrid retrieval, reusing a vector search prefetched during query parsing.
+     */
+    @Override
+    public HybridRetrievalService.RetrievalResult retrieve(QueryRequest request, ParsedQuery parsedQuery, ExecutionTracer tracer,
+                                                           VectorSearchPrefetch prefetch) {
         log.info("Starting hybrid retrieval for query: '{}'", parsedQuery.originalQuery());
         int maxResults = request.options().maxResults();
         double minConfidence = request.options().minConfidence();
+        if (minConfidence < 0.0 || minConfidence > 1.0) {
+            throw new IllegalArgumentException("Min confidence must be between 0.0 and 1.0, got: " + minConfidence);
+        }
 
-        Map<String, List<String>> results = new HashMap<>();
+        // Extract entities at most once per retrieval; graph search, person name search and
+        // fusion weights all read from the same result
+        ParsedQuery query = resolveEntities(parsedQuery, tracer);
+
+        // Seniority, English level and availability constraints are applied inside the vector, keyword and
+        // technology queries, and to the graph and person name hits before fusion, so candidates that cannot
+        // match never reach fusion, reranking or enrichment
+        CandidateFilter filter = retrievalProperties.getFilter().candidateFilter(query);
+        if (!filter.isEmpty()) {
+            log.info("Applying candidate filter in retrieval: {}", filter);
+        }
 
-        // 1. Vector search
+        // 1-4. Run retrieval channels (vector, graph, keyword, person name); with in-database fusion
+        // vector, keyword and technology overlap run as one SQL statement instead
+        boolean databaseFusion = retrievalProperties.getFusion().getStrategy() == RetrievalProperties.FusionStrategy.DATABASE;
+        Map<String, Double> weights = getWeights(query);
+        ChannelPlan plan = new ChannelPlan(databaseFusion, weights, filter,
+                usablePrefetch(prefetch, query, maxResults, databaseFusion, filter));
+        Map<String, ScoredCandidates> results = retrievalProperties.getParallel().isEnabled()
+                ? runChannelsInParallel(query, maxResults, plan, tracer)
+                : runChannelsSequentially(query, maxResults, plan, tracer);
+        String channelSummary = summarizeChannels(plan.channels(), results);
+
+        // 5. Fuse results using weighted RRF or CombSUM (in-database fusion always uses RRF)
+        RetrievalProperties.FusionConfig fusion = retrievalProperties.getFusion();
+        FusionMethod fusionMethod = request.options().fusionMethod() != null
+                ? request.options().fusionMethod()
+                : fusion.getMethod();
         if (tracer != null) {
-            tracer.startStep("Vector Search", "VectorSearchService", "searchByText");
+            tracer.startStep("Fuse Results", databaseFusion ? "InDatabaseFusionService" : "ResultFusionService",
+                    "fuseResults");
         }
-        log.info("Step 1/5: Performing vector search...");
-        List<String> vectorResults = performVectorSearch(parsedQuery, maxResults);
-        results.put("vector", vectorResults);
-        log.info("Vector search completed: {} experts found", vectorResults.size());
+        log.info("Step 5/6: Fusing results ({})...", channelSummary);
+        // Ignore hits of a database channel that missed its deadline and finished after the join
+        List<HybridSearchResult> databaseHits = results.containsKey(CHANNEL_DATABASE)
+                ? List.copyOf(plan.databaseHits())
+                : List.of();
+        // Fused scores in fused order, best first
+        Map<String, Double> fusedScores = new LinkedHashMap<>();
+        ResultFusionService.FusionResult fusionResult = null;
+        if (databaseFusion) {
+            fusedScores = fuseWithDatabaseScores(results, databaseHits, weights);
+        } else if (!results.isEmpty()) {
+            fusionResult = fusionService.fuse(List.copyOf(results.values()), weights, fusionMethod,
+                    Math.max(maxResults, fusion.getTopK()));
+            for (ResultFusionService.FusedCandidate candidate : fusionResult.candidates()) {
+                fusedScores.put(candidate.expertId(), candidate.fusedScore());
+            }
+        }
+        int fusedCount = fusedScores.size();
+        // Early cut-off: pre-reranking, LLM reranking and enrichment only see candidates whose fused score,
+        // relative to the top fused score, reaches minConfidence
+        fusedScores = cutOffFusedScores(fusedScores, minConfidence);
+        List<String> fusedResults = List.copyOf(fusedScores.keySet());
+        log.info("Result fusion completed ({}): {} unique experts, {} at or above min confidence {}",
+                databaseFusion ? FusionMethod.WEIGHTED_RRF : fusionMethod, fusedCount, fusedResults.size(), minConfidence);
         if (tracer != null) {
-            tracer.endStep("Query: " + parsedQuery.originalQuery(), "Results: " + vectorResults.size() + " expert IDs");
+            String fusionOutput = "Fused: " + fusedCount + " unique expert IDs, kept " + fusedResults.size()
+                    + " at min confidence " + minConfidence;
+            if (!databaseHits.isEmpty()) {
+                fusionOutput += "; top channel scores: " + summarizeChannelScores(databaseHits);
+            } else if (fusionResult != null && !fusionResult.candidates().isEmpty()) {
+                fusionOutput += "; top channel ranks: " + summarizeChannelRanks(fusionResult, results);
+            }
+            tracer.endStep(channelSummary, fusionOutput);
+        }
+
+        // 6. Semantic reranking and relevance scores (if enabled and we have results)
+        // Both come from one reranking model call, so the candidates are scored only once; candidates
+        // the model scores below minConfidence are dropped too, before they are returned for enrichment
+        List<String> finalResults;
+        Map<String, Double> relevanceScores;
+        if (request.options().rerank() && !fusedResults.isEmpty()) {
+            log.info("Step 6/6: Performing semantic reranking ({} candidates)...", fusedResults.size());
+            SemanticReranker.RerankResult rerankResult = rerank(request.query(), fusedScores, maxResults,
+                    minConfidence, tracer);
+
+            if (rerankResult.expertIds().isEmpty() && minConfidence > 0.0) {
+                log.info("No candidate reached the minimum confidence {}", minConfidence);
+                finalResults = List.of();
+                relevanceScores = Map.of();
+            } else if (rerankResult.expertIds().isEmpty()) {
+                // If reranking failed and returned empty list, fallback to fused results
+                log.warn("Reranking returned empty list, falling back to fused results ({} experts)", fusedResults.size());
+                finalResults = fusedResults.stream().limit(maxResults).toList();
+                relevanceScores = relativeFusedScores(finalResults, fusedScores);
+            } else {
+                finalResults = rerankResult.expertIds();
+                relevanceScores = rerankResult.relevanceScores();
+            }
+            log.info("Reranking completed: {} experts (from {} candidates), {} scores",
+                    finalResults.size(), fusedResults.size(), relevanceScores.size());
+        } else {
+            log.info("Reranking skipped (disabled or no candidates), using fused results");
+            finalResults = fusedResults.stream().limit(maxResults).toList();
+            // When reranking is disabled, return fused scores relative to the top fused score
+            if (!finalResults.isEmpty()) {
+                log.info("Using relative fused scores as relevance scores (reranking disabled)");
+            }
+            relevanceScores = relativeFusedScores(finalResults, fusedScores);
+        }
+
+        log.info("Hybrid retrieval completed: {} final experts found", finalResults.size());
+        return new HybridRetrievalService.RetrievalResult(finalResults, relevanceScores);
+    }
+
+    /**
+     * Reranks fused candidates in up to two stages: the embedding pre-reranker keeps the top N by profile
+     * similarity, then the LLM reranker orders those and drops candidates it scored below minConfidence.
+     * Without the LLM stage the pre-reranker order and similarity scores are the result; profile
+     * similarity is not a calibrated confidence, so minConfidence is only applied by the fused score cut-off.
+     */
+    private SemanticReranker.RerankResult rerank(String queryText, Map<String, Double> fusedScores, int maxResults,
+                                                 double minConfidence, ExecutionTracer tracer) {
+        RetrievalProperties.RerankingConfig config = retrievalProperties.getReranking();
+        List<String> candidates = List.copyOf(fusedScores.keySet());
+        List<String> llmCandidates = candidates;
+        if (config.getPreRerank().isEnabled()) {
+            int keep = config.isLlmEnabled() ? Math.max(config.getPreRerank().getTopN(), maxResults) : maxResults;
+            if (tracer != null) {
+                tracer.startStep("Embedding Pre-Reranking", "EmbeddingReranker", "rerank");
+            }
+            // Relative fused scores, so a degraded pre-reranker returns the same scores as reranking disabled
+            SemanticReranker.RerankResult preRanked = embeddingReranker.rerank(queryText,
+                    relativeFusedScores(candidates, fusedScores), keep);
+            if (tracer != null) {
+                tracer.endStep("Candidates: " + candidates.size(), "Kept: " + preRanked.expertIds().size() + " expert IDs");
+            }
+            if (!config.isLlmEnabled()) {
+                if (minConfidence > 0.0) {
+                    log.info("LLM reranking disabled: min confidence {} applied to fused scores only, "
+                            + "not to embedding similarity scores", minConfidence);
+                }
+                return preRanked;
+            }
+            llmCandidates = preRanked.expertIds();
+        } else if (!config.isLlmEnabled()) {
+            log.debug("No reranking stage enabled, using fused order");
+            List<String> fusedOrder = candidates.stream().limit(maxResults).toList();
+            return new SemanticReranker.RerankResult(fusedOrder, relativeFusedScores(fusedOrder, fusedScores));
+        }
+
+        if (tracer != null) {
+            tracer.startStep("Semantic Reranking", "SemanticReranker", "rerankWithScores");
+        }
+        SemanticReranker.RerankResult reranked = reranker.rerankWithScores(queryText, llmCandidates, maxResults,
+                minConfidence);
+        if (tracer != null) {
+            tracer.endStep("Query: " + queryText + ", Candidates: " + llmCandidates.size(),
+                    "Reranked: " + reranked.expertIds().size() + " expert IDs, scores calculated: "
+                            + reranked.relevanceScores().size());
+        }
+        return reranked;
+    }
+
+    /**
+     * Keeps the fused candidates whose score divided by the top fused score reaches minConfidence, in fused
+     * order. This is the same normalization as the relevance scores returned without reranking.
+     */
+    private static Map<String, Double> cutOffFusedScores(Map<String, Double> fusedScores, double minConfidence) {
+        if (minConfidence <= 0.0 || fusedScores.isEmpty()) {
+            return fusedScores;
+        }
+        double topScore = 0.0;
+        for (double score : fusedScores.values()) {
+            topScore = Math.max(topScore, score);
+        }
+        if (topScore <= 0.0) {
+            return fusedScores;
+        }
+        Map<String, Double> kept = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> entry : fusedScores.entrySet()) {
+            if (entry.getValue() / topScore >= minConfidence) {
+                kept.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Relevance scores used when reranking is disabled or returned nothing: fused scores divided by the
+     * top fused score, so the best candidate scores 1.0 and the rest keep their fused proportions.
+     * The map iterates in the order of expertIds.
+     */
+    private static Map<String, Double> relativeFusedScores(List<String> expertIds, Map<String, Double> fusedScores) {
+        double topScore = 0.0;
+        for (double score : fusedScores.values()) {
+            topScore = Math.max(topScore, score);
+        }
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (String expertId : expertIds) {
+            double score = fusedScores.getOrDefault(expertId, 0.0);
+            scores.put(expertId, topScore > 0.0 ? score / topScore : 0.0);
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the prefetch if it was made for this query text, result size and fusion strategy, otherwise
+     * cancels it and returns null so the channels search themselves. Prefetched vector search results are
+     * unfiltered (the query was not parsed yet); with a candidate filter they are narrowed when used.
+     */
+    private VectorSearchPrefetch usablePrefetch(VectorSearchPrefetch prefetch, ParsedQuery parsedQuery, int maxResults,
+                                                boolean databaseFusion, CandidateFilter filter) {
+        if (prefetch == null) {
+            return null;
+        }
+        boolean usable = prefetch.queryText().equals(parsedQuery.originalQuery())
+                && prefetch.maxResults() == maxResults
+                && (databaseFusion ? prefetch.embedding() != null : prefetch.candidates() != null);
+        if (!usable) {
+            log.debug("Discarding vector search prefetched for another query or fusion strategy");
+            prefetch.cancel();
+            return null;
+        }
+        return prefetch;
+    }
+
+    /**
+     * Returns the parsed query with extracted entities, extracting them only if the caller has not.
+     */
+    private ParsedQuery resolveEntities(ParsedQuery parsedQuery, ExecutionTracer tracer) {
+        if (parsedQuery.hasEntities()) {
+            log.debug("Reusing entities already extracted for query: '{}'", parsedQuery.originalQuery());
+            return parsedQuery;
+        }
+        if (tracer != null) {
+            tracer.startStep("Extract Entities", "EntityExtractor", "extract");
+        }
+        ExtractedEntities entities = entityExtractor.extract(parsedQuery.originalQuery(), tracer);
+        if (tracer != null) {
+            tracer.endStep("Query: " + parsedQuery.originalQuery(),
+                    "Persons: " + entities.persons().size() + ", Domains: " + entities.domains().size());
+        }
+        return parsedQuery.withEntities(entities);
+    }
+
+    /**
+     * Runs retrieval channels one after another on the calling thread.
+     */
+    private Map<String, ScoredCandidates> runChannelsSequentially(ParsedQuery parsedQuery, int maxResults,
+                                                                  ChannelPlan plan, ExecutionTracer tracer) {
+        Map<String, ScoredCandidates> results = new LinkedHashMap<>();
+
+        if (plan.databaseFusion()) {
+            // 1+3. Vector, keyword and technology overlap search fused in one SQL statement
+            if (tracer != null) {
+                tracer.startStep("In-Database Fusion Search", "InDatabaseFusionService", "search");
+            }
+            log.info("Step 1/6: Performing in-database fusion search (vector, keyword, technology)...");
+            ScoredCandidates databaseResults = performDatabaseFusionSearch(parsedQuery, maxResults, plan);
+            results.put(CHANNEL_DATABASE, databaseResults);
+            log.info("In-database fusion search completed: {} experts found", databaseResults.size());
+            if (tracer != null) {
+                tracer.endStep(databaseFusionInputSummary(parsedQuery), "Results: " + databaseResults.size() + " expert IDs");
+            }
+        } else {
+            // 1. Vector search
+            if (tracer != null) {
+                tracer.startStep("Vector Search", "VectorSearchService", "searchCandidates");
+            }
+            log.info("Step 1/6: Performing vector search...");
+            ScoredCandidates vectorResults = performVectorSearch(parsedQuery, maxResults, plan);
+            results.put(CHANNEL_VECTOR, vectorResults);
+            log.info("Vector search completed: {} experts found", vectorResults.size());
+            if (tracer != null) {
+                tracer.endStep("Query: " + parsedQuery.originalQuery(), "Results: " + vectorResults.size() + " expert IDs");
+            }
         }
 
         // 2. Graph traversal
         if (tracer != null) {
-            tracer.startStep("Graph Search", "GraphSearchService", "findExpertsByTechnology");
+            tracer.startStep("Graph Search", "GraphSearchService", "findCandidates");
         }
-        log.info("Step 2/5: Performing graph search (technologies: {}, skills: {})...",
+        log.info("Step 2/6: Performing graph search (technologies: {}, skills: {})...",
                 parsedQuery.technologies().size(), parsedQuery.skills().size());
-        List<String> graphResults = performGraphSearch(parsedQuery, maxResults);
-        results.put("graph", graphResults);
+        ScoredCandidates graphResults = performGraphSearch(parsedQuery, maxResults, plan.filter());
+        results.put(CHANNEL_GRAPH, graphResults);
         log.info("Graph search completed: {} experts found", graphResults.size());
         if (tracer != null) {
             tracer.endStep("Technologies: " + parsedQuery.technologies().size() +
@@ -98,17 +442,19 @@ public class HybridRetrievalServiceImpl implements HybridRetrievalService {
                     "Results: " + graphResults.size() + " expert IDs");
         }
 
-        // 3. Keyword search
-        if (tracer != null) {
-            tracer.startStep("Keyword Search", "KeywordSearchService", "searchByKeywords");
-        }
-        log.info("Step 3/6: Performing keyword search...");
-        List<String> keywordResults = performKeywordSearch(parsedQuery, maxResults);
-        results.put("keyword", keywordResults);
-        log.info("Keyword search completed: {} experts found", keywordResults.size());
-        if (tracer != null) {
-            tracer.endStep("Keywords: " + (parsedQuery.skills().size() + parsedQuery.technologies().size()),
-                    "Results: " + keywordResults.size() + " expert IDs");
+        // 3. Keyword search (already part of the in-database fusion statement)
+        if (!plan.databaseFusion()) {
+            if (tracer != null) {
+                tracer.startStep("Keyword Search", "KeywordSearchService", "searchCandidates");
+            }
+            log.info("Step 3/6: Performing keyword search...");
+            ScoredCandidates keywordResults = performKeywordSearch(parsedQuery, maxResults, plan.filter());
+            results.put(CHANNEL_KEYWORD, keywordResults);
+            log.info("Keyword search completed: {} experts found", keywordResults.size());
+            if (tracer != null) {
+                tracer.endStep("Keywords: " + (parsedQuery.skills().size() + parsedQuery.technologies().size()),
+                        "Results: " + keywordResults.size() + " expert IDs");
+            }
         }
 
         // 4. Person name search (if person entities are found)
@@ -116,181 +462,336 @@ public class HybridRetrievalServiceImpl implements HybridRetrievalService {
             tracer.startStep("Person Name Search", "HybridRetrievalService", "performPersonNameSearch");
         }
         log.info("Step 4/6: Performing person name search...");
-        List<String> personNameResults = performPersonNameSearch(parsedQuery, maxResults);
-        results.put("person", personNameResults);
+        ScoredCandidates personNameResults = performPersonNameSearch(parsedQuery, maxResults, plan.filter());
+        results.put(CHANNEL_PERSON, personNameResults);
         log.info("Person name search completed: {} experts found", personNameResults.size());
         if (tracer != null) {
             tracer.endStep("Query: " + parsedQuery.originalQuery(),
                     "Results: " + personNameResults.size() + " expert IDs");
         }
 
-        // 5. Fuse results using RRF
-        if (tracer != null) {
-            tracer.startStep("Fuse Results", "ResultFusionService", "fuseResults");
+        return results;
+    }
+
+    /**
+     * Fans retrieval channels out on the bounded channel executor and joins them before fusion.
+     * Each channel has its own deadline measured from fan-out; a channel that misses it is dropped
+     * from fusion and recorded as timed out. Its task is cancelled without an interrupt and its SQL
+     * statements stop at the deadline through their query timeout. A channel the saturated executor
+     * rejects is dropped the same way. A channel that fails propagates its exception.
+     * <p>
+     * ExecutionTracer is not thread-safe, so workers only measure time and the calling thread
+     * records the steps after the join.
+     */
+    private Map<String, ScoredCandidates> runChannelsInParallel(ParsedQuery parsedQuery, int maxResults,
+                                                                ChannelPlan plan, ExecutionTracer tracer) {
+        log.info("Steps 1-4/6: Running {} search in parallel...", String.join(", ", plan.channels()));
+        Map<String, ChannelTask> tasks = new LinkedHashMap<>();
+        if (plan.databaseFusion()) {
+            tasks.put(CHANNEL_DATABASE, new ChannelTask("In-Database Fusion Search", "InDatabaseFusionService", "search",
+                    databaseFusionInputSummary(parsedQuery),
+                    () -> performDatabaseFusionSearch(parsedQuery, maxResults, plan)));
+        } else {
+            tasks.put(CHANNEL_VECTOR, new ChannelTask("Vector Search", "VectorSearchService", "searchCandidates",
+                    "Query: " + parsedQuery.originalQuery(),
+                    () -> performVectorSearch(parsedQuery, maxResults, plan)));
         }
-        log.info("Step 5/6: Fusing results (Vector: {}, Graph: {}, Keyword: {}, Person: {})...",
-                vectorResults.size(), graphResults.size(), keywordResults.size(), personNameResults.size());
-        List<String> fusedResults = fusionService.fuseResults(results, getWeights(parsedQuery));
-        log.info("Result fusion completed: {} unique experts", fusedResults.size());
-        if (tracer != null) {
-            tracer.endStep("Vector: " + vectorResults.size() + ", Graph: " + graphResults.size() +
-                            ", Keyword: " + keywordResults.size() + ", Person: " + personNameResults.size(),
-                    "Fused: " + fusedResults.size() + " unique expert IDs");
+        tasks.put(CHANNEL_GRAPH, new ChannelTask("Graph Search", "GraphSearchService", "findCandidates",
+                "Technologies: " + parsedQuery.technologies().size() + ", Skills: " + parsedQuery.skills().size(),
+                () -> performGraphSearch(parsedQuery, maxResults, plan.filter())));
+        if (!plan.databaseFusion()) {
+            tasks.put(CHANNEL_KEYWORD, new ChannelTask("Keyword Search", "KeywordSearchService", "searchCandidates",
+                    "Keywords: " + (parsedQuery.skills().size() + parsedQuery.technologies().size()),
+                    () -> performKeywordSearch(parsedQuery, maxResults, plan.filter())));
         }
-
-        // 6. Semantic reranking (if enabled and we have results)
-        List<String> finalResults;
-        if (request.options().rerank() && !fusedResults.isEmpty()) {
-            if (tracer != null) {
-                tracer.startStep("Semantic Reranking", "SemanticReranker", "rerank");
-            }
-            log.info("Step 6/6: Performing semantic reranking ({} candidates)...", fusedResults.size());
-            List<String> rerankedResults = reranker.rerank(request.query(), fusedResults, maxResults);
-
-            // If reranking failed and returned empty list, fallback to fused results
-            if (rerankedResults.isEmpty() && !fusedResults.isEmpty()) {
-                log.warn("Reranking returned empty list, falling back to fused results ({} experts)", fusedResults.size());
-                finalResults = fusedResults.stream().limit(maxResults).toList();
-            } else {
-                finalResults = rerankedResults;
-            }
-            log.info("Reranking completed: {} experts (from {} candidates)", finalResults.size(), fusedResults.size());
-
-            if (tracer != null) {
-                tracer.endStep("Query: " + request.query() + ", Candidates: " + fusedResults.size(),
-                        "Reranked: " + finalResults.size() + " expert IDs");
+        tasks.put(CHANNEL_PERSON, new ChannelTask("Person Name Search", "HybridRetrievalService", "performPersonNameSearch",
+                "Query: " + parsedQuery.originalQuery(),
+                () -> performPersonNameSearch(parsedQuery, maxResults, plan.filter())));
+
+        long fanOutStart = System.nanoTime();
+        Map<String, Future<ChannelOutcome>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, ChannelTask> entry : tasks.entrySet()) {
+            ChannelTask task = entry.getValue();
+            long deadlineNanos = fanOutStart
+                    + TimeUnit.MILLISECONDS.toNanos(retrievalProperties.getParallel().getTimeoutMs(entry.getKey()));
+            try {
+                futures.put(entry.getKey(), channelExecutor.submit(() -> {
+                    long channelStart = System.nanoTime();
+                    ScoredCandidates candidates = task.search().get();
+                    return new ChannelOutcome(candidates, elapsedMillis(channelStart));
+                }, deadlineNanos));
+            } catch (RejectedExecutionException e) {
+                // Pool saturated: drop the channel rather than run it on this thread outside its deadline
+                log.warn("Retrieval channel executor is saturated, dropping '{}' channel from fusion", entry.getKey());
+                if (tracer != null) {
+                    tracer.skipStep(task.name(), "Channel executor saturated, channel dropped from fusion");
+                }
             }
-        } else {
-            log.info("Reranking skipped (disabled or no candidates), using fused results");
-            finalResults = fusedResults.stream().limit(maxResults).toList();
         }
 
-        // 6. Calculate relevance scores (only if we have results and reranking is enabled)
-        // Note: Relevance scores are calculated using the reranking model, so we only call it when reranking is enabled
-        Map<String, Double> relevanceScores;
-        if (!finalResults.isEmpty() && request.options().rerank()) {
-            if (tracer != null) {
-                tracer.startStep("Calculate Relevance Scores", "SemanticReranker", "calculateRelevanceScores");
-            }
-            log.info("Calculating relevance scores for {} experts...", finalResults.size());
-            relevanceScores = reranker.calculateRelevanceScores(request.query(), finalResults);
-            log.info("Relevance scores calculated: {} scores", relevanceScores.size());
-            if (tracer != null) {
-                tracer.endStep("Expert IDs: " + finalResults.size(), "Scores calculated: " + relevanceScores.size());
-            }
-        } else {
-            // When reranking is disabled, return placeholder scores (0.8 for all experts)
-            if (!finalResults.isEmpty()) {
-                log.info("Using placeholder relevance scores (reranking disabled)");
-                relevanceScores = new HashMap<>();
-                for (String expertId : finalResults) {
-                    relevanceScores.put(expertId, 0.8);
+        Map<String, ScoredCandidates> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<ChannelOutcome>> entry : futures.entrySet()) {
+            String channel = entry.getKey();
+            ChannelTask task = tasks.get(channel);
+            long timeoutMs = retrievalProperties.getParallel().getTimeoutMs(channel);
+            long remainingMs = Math.max(0, timeoutMs - elapsedMillis(fanOutStart));
+            try {
+                ChannelOutcome outcome = entry.getValue().get(remainingMs, TimeUnit.MILLISECONDS);
+                results.put(channel, outcome.candidates());
+                log.info("{} completed in {} ms: {} experts found", task.name(), outcome.durationMs(), outcome.candidates().size());
+                if (tracer != null) {
+                    tracer.recordStep(task.name(), task.service(), task.method(), outcome.durationMs(),
+                            task.inputSummary(), "Results: " + outcome.candidates().size() + " expert IDs");
                 }
-            } else {
-                relevanceScores = Map.of();
+            } catch (TimeoutException e) {
+                // No interrupt: it would close the pooled connection the channel is reading from; the
+                // query timeout set from the channel deadline cancels its statement instead
+                entry.getValue().cancel(false);
+                log.warn("{} exceeded its {} ms deadline, dropping '{}' channel from fusion", task.name(), timeoutMs, channel);
+                if (tracer != null) {
+                    tracer.timeoutStep(task.name(), task.service(), task.method(), elapsedMillis(fanOutStart),
+                            "Deadline " + timeoutMs + " ms exceeded, channel dropped from fusion");
+                }
+            } catch (ExecutionException e) {
+                futures.values().forEach(future -> future.cancel(false));
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (tracer != null) {
+                    tracer.failStep(task.name(), task.service(), task.method(), "Error: " + cause.getMessage());
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new RetrievalException("RETRIEVAL_CHANNEL_ERROR", task.name() + " failed", cause);
+            } catch (InterruptedException e) {
+                futures.values().forEach(future -> future.cancel(false));
+                Thread.currentThread().interrupt();
+                throw new RetrievalException("RETRIEVAL_INTERRUPTED", "Interrupted while waiting for " + task.name(), e);
             }
         }
 
-        log.info("Hybrid retrieval completed: {} final experts found", finalResults.size());
-        return new HybridRetrievalService.RetrievalResult(finalResults, relevanceScores);
+        log.info("Parallel retrieval channels joined in {} ms ({} of {} channels returned in time)",
+                elapsedMillis(fanOutStart), results.size(), tasks.size());
+        return results;
+    }
+
+    /**
+     * Builds a per-channel result count summary for logs and tracing.
+     */
+    private String summarizeChannels(List<String> channels, Map<String, ScoredCandidates> results) {
+        return CHANNEL_NAMES.entrySet().stream()
+                .filter(entry -> channels.contains(entry.getKey()))
+                .map(entry -> entry.getValue() + ": " + (results.containsKey(entry.getKey())
+                        ? String.valueOf(results.get(entry.getKey()).size())
+                        : "dropped"))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     /**
-     * Performs vector similarity search.
+     * Performs vector, keyword and technology overlap search fused in the database.
+     * The per-channel scores are kept on the plan for final fusion and tracing.
      */
-    private List<String> performVectorSearch(ParsedQuery parsedQuery, int maxResults) {
+    private ScoredCandidates performDatabaseFusionSearch(ParsedQuery parsedQuery, int maxResults, ChannelPlan plan) {
         try {
-            return vectorSearch.searchByText(
-                            parsedQuery.originalQuery(),
-                            maxResults,
-                            0.7
-                    ).stream()
-                    .map(doc -> {
-                        // Extract employee ID from document metadata or ID
-                        // Document ID should be employee_id from work_experience
-                        String docId = doc.getId();
-                        // If metadata contains employee_id, use that
-                        if (doc.getMetadata().containsKey("employeeId")) {
-                            return doc.getMetadata().get("employeeId").toString();
-                        }
-                        return docId;
-                    })
-                    .distinct()
-                    .toList();
+            List<HybridSearchResult> hits = plan.prefetch() != null
+                    ? inDatabaseFusionService.search(parsedQuery, plan.prefetch().embedding().get(), plan.weights(), maxResults)
+                    : inDatabaseFusionService.search(parsedQuery, plan.weights(), maxResults);
+            plan.databaseHits().addAll(hits);
+            ScoredCandidates.Builder candidates = ScoredCandidates.builder(CHANNEL_DATABASE,
+                    ScoredCandidates.ScoreType.FUSED, hits.size());
+            for (HybridSearchResult hit : hits) {
+                candidates.add(hit.employeeId(), hit.fusedScore());
+            }
+            return candidates.build();
+        } catch (RetrievalException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Failed to perform vector search for query: {}", parsedQuery.originalQuery(), e);
+            log.error("Failed to perform in-database fusion search for query: {}", parsedQuery.originalQuery(), e);
             throw new RetrievalException(
-                    "VECTOR_SEARCH_ERROR",
-                    "Failed to perform vector search for query: " + parsedQuery.originalQuery(),
+                    "HYBRID_SEARCH_ERROR",
+                    "Failed to perform in-database fusion search for query: " + parsedQuery.originalQuery(),
                     e
             );
         }
     }
 
+    private String databaseFusionInputSummary(ParsedQuery parsedQuery) {
+        return "Query: " + parsedQuery.originalQuery() +
+                ", Keywords: " + (parsedQuery.skills().size() + parsedQuery.technologies().size()) +
+                ", Technologies: " + parsedQuery.technologies().size();
+    }
+
     /**
-     * Performs graph traversal search.
+     * Adds the graph and person channel RRF contributions to the scores already fused in the database.
+     * Uses the same rank constant as the SQL statement, so the result equals RRF over all channels.
      */
-    private List<String> performGraphSearch(ParsedQuery parsedQuery, int maxResults) {
-        List<String> results = new ArrayList<>();
-
-        // Search by technologies (if multiple, use AND search)
-        if (!parsedQuery.technologies().isEmpty()) {
-            if (parsedQuery.technologies().size() == 1) {
-                results.addAll(graphSearch.findExpertsByTechnology(parsedQuery.technologies().get(0)));
-            } else {
-                // Multiple technologies: find experts with ALL technologies
-                results.addAll(graphSearch.findExpertsByTechnologies(parsedQuery.technologies()));
+    private Map<String, Double> fuseWithDatabaseScores(Map<String, ScoredCandidates> results,
+                                                       List<HybridSearchResult> databaseHits,
+                                                       Map<String, Double> weights) {
+        int rrfK = retrievalProperties.getFusion().getRrfK();
+        Map<String, Double> scores = new HashMap<>();
+        for (HybridSearchResult hit : databaseHits) {
+            scores.merge(hit.employeeId(), hit.fusedScore(), Double::sum);
+        }
+        for (Map.Entry<String, ScoredCandidates> entry : results.entrySet()) {
+            if (CHANNEL_DATABASE.equals(entry.getKey())) {
+                continue;
+            }
+            double weight = weights.getOrDefault(entry.getKey(), 1.0);
+            ScoredCandidates candidates = entry.getValue();
+            for (int rank = 0; rank < candidates.size(); rank++) {
+                scores.merge(candidates.expertId(rank), weight / (rrfK + rank + 1), Double::sum);
             }
         }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
 
-        // Search by skills (treat as technologies)
-        if (!parsedQuery.skills().isEmpty()) {
-            for (String skill : parsedQuery.skills()) {
-                results.addAll(graphSearch.findExpertsByTechnology(skill));
-            }
+    /**
+     * Formats per-channel scores and ranks of the top in-database fusion hits for tracing.
+     */
+    private String summarizeChannelScores(List<HybridSearchResult> databaseHits) {
+        return databaseHits.stream()
+                .limit(TRACED_SCORE_COUNT)
+                .map(hit -> String.format(Locale.ROOT, "%s (fused %.4f; vector %s; keyword %s; technology %s)",
+                        hit.employeeId(), hit.fusedScore(),
+                        formatChannelScore(hit.vectorScore(), hit.vectorRank()),
+                        formatChannelScore(hit.keywordScore(), hit.keywordRank()),
+                        formatChannelScore(hit.technologyScore(), hit.technologyRank())))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Formats per-channel ranks, and scores of channels that score, of the top application-side fusion
+     * candidates for tracing.
+     */
+    private static String summarizeChannelRanks(ResultFusionService.FusionResult fusionResult,
+                                                Map<String, ScoredCandidates> results) {
+        List<String> channels = fusionResult.channels();
+        return fusionResult.candidates().stream()
+                .limit(TRACED_SCORE_COUNT)
+                .map(candidate -> {
+                    StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%s (fused %.4f",
+                            candidate.expertId(), candidate.fusedScore()));
+                    for (int channel = 0; channel < channels.size(); channel++) {
+                        int rank = candidate.channelRanks()[channel];
+                        ScoredCandidates channelResults = results.get(channels.get(channel));
+                        summary.append("; ").append(channels.get(channel)).append(' ');
+                        if (rank == 0) {
+                            summary.append('-');
+                        } else if (channelResults.isScored()) {
+                            summary.append(String.format(Locale.ROOT, "%.3f #%d", channelResults.score(rank - 1), rank));
+                        } else {
+                            summary.append('#').append(rank);
+                        }
+                    }
+                    return summary.append(')').toString();
+                })
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String formatChannelScore(Double score, Integer rank) {
+        return score == null ? "-" : String.format(Locale.ROOT, "%.3f #%d", score, rank);
+    }
+
+    /**
+     * Returns the prefetched vector search results if there are any, otherwise searches now.
+     * With a candidate filter the unfiltered prefetched results are narrowed to matching employees; the
+     * filtered search only runs again when that leaves fewer than maxResults out of a full prefetch.
+     */
+    private ScoredCandidates performVectorSearch(ParsedQuery parsedQuery, int maxResults, ChannelPlan plan) {
+        if (plan.prefetch() == null) {
+            return performVectorSearch(parsedQuery.originalQuery(), maxResults, plan.filter());
+        }
+        SpeculativeExecutor.Speculation<ScoredCandidates> speculation = plan.prefetch().candidates();
+        log.debug("Using vector search prefetched during query parsing (started ahead: {})", speculation.isStarted());
+        ScoredCandidates candidates = speculation.get();
+        ScoredCandidates filtered = applyFilter(candidates, plan.filter());
+        // A prefetch below maxResults already holds every candidate above the threshold, filtered or not
+        if (filtered.size() < maxResults && candidates.size() >= maxResults) {
+            log.debug("Candidate filter kept {} of {} prefetched vector candidates, searching with the filter",
+                    filtered.size(), candidates.size());
+            return performVectorSearch(parsedQuery.originalQuery(), maxResults, plan.filter());
         }
+        return filtered;
+    }
 
-        // Search by domain (extract from query if available)
-        ExtractedEntities entities = entityExtractor.extract(parsedQuery.originalQuery());
-        if (!entities.domains().isEmpty()) {
-            for (Entity domain : entities.domains()) {
-                results.addAll(graphSearch.findExpertsByDomain(domain.name()));
-            }
+    /**
+     * Performs vector similarity search restricted to employees matching the filter.
+     */
+    private ScoredCandidates performVectorSearch(String queryText, int maxResults, CandidateFilter filter) {
+        try {
+            // Each expert once, scored by the similarity of their best matching work experience
+            return vectorSearch.searchCandidates(queryText, maxResults, 0.7, filter);
+        } catch (Exception e) {
+            log.error("Failed to perform vector search for query: {}", queryText, e);
+            throw new RetrievalException(
+                    "VECTOR_SEARCH_ERROR",
+                    "Failed to perform vector search for query: " + queryText,
+                    e
+            );
         }
+    }
 
-        return results.stream().distinct().limit(maxResults).toList();
+    /**
+     * Performs graph traversal search; hits are restricted to employees matching the filter.
+     */
+    private ScoredCandidates performGraphSearch(ParsedQuery parsedQuery, int maxResults, CandidateFilter filter) {
+        // Technologies (all required), each skill as a technology, and domains from the extracted entities
+        List<String> domains = parsedQuery.entities().domains().stream().map(Entity::name).toList();
+        return applyFilter(graphSearch.findCandidates(parsedQuery.technologies(), parsedQuery.skills(), domains,
+                maxResults), filter);
     }
 
     /**
-     * Performs keyword search.
+     * Drops candidates not matching the filter from channel results whose query did not take the filter.
      */
-    private List<String> performKeywordSearch(ParsedQuery parsedQuery, int maxResults) {
+    private ScoredCandidates applyFilter(ScoredCandidates candidates, CandidateFilter filter) {
+        if (filter.isEmpty() || candidates.isEmpty()) {
+            return candidates;
+        }
+        ScoredCandidates filtered = candidates.retain(
+                candidateFilterRepository.findMatchingEmployeeIds(candidates.expertIds(), filter));
+        log.debug("Candidate filter kept {} of {} '{}' channel candidates", filtered.size(), candidates.size(),
+                candidates.channel());
+        return filtered;
+    }
+
+    /**
+     * Performs keyword search restricted to employees matching the filter.
+     */
+    private ScoredCandidates performKeywordSearch(ParsedQuery parsedQuery, int maxResults, CandidateFilter filter) {
         // Use skills and technologies as keywords
         List<String> keywords = new ArrayList<>(parsedQuery.skills());
         keywords.addAll(parsedQuery.technologies());
 
         if (!keywords.isEmpty()) {
-            return keywordSearch.searchByKeywords(keywords, maxResults);
+            return keywordSearch.searchCandidates(keywords, maxResults, filter);
         }
 
-        return List.of();
+        return ScoredCandidates.empty(CHANNEL_KEYWORD);
     }
 
     /**
      * Performs person name search when person entities are found in the query.
      * First tries exact/partial name match, then falls back to similarity search if no results.
+     * Matches are restricted to employees matching the filter.
      */
-    private List<String> performPersonNameSearch(ParsedQuery parsedQuery, int maxResults) {
-        // Extract person entities from the query
-        ExtractedEntities entities = entityExtractor.extract(parsedQuery.originalQuery());
+    private ScoredCandidates performPersonNameSearch(ParsedQuery parsedQuery, int maxResults, CandidateFilter filter) {
+        // Person entities extracted for this query
+        List<Entity> persons = parsedQuery.entities().persons();
 
-        if (entities.persons().isEmpty()) {
+        if (persons.isEmpty()) {
             log.debug("No person entities found in query, skipping person name search");
-            return List.of();
+            return ScoredCandidates.empty(CHANNEL_PERSON);
         }
 
         List<String> allResults = new ArrayList<>();
-        for (Entity person : entities.persons()) {
+        for (Entity person : persons) {
             String personName = person.name();
             log.info("Searching for employee by name: '{}'", personName);
 
@@ -315,7 +816,8 @@ public class HybridRetrievalServiceImpl implements HybridRetrievalService {
             allResults.addAll(employeeIds);
         }
 
-        return allResults.stream().distinct().limit(maxResults).toList();
+        // Name matches are not scored; the channel ranks only
+        return applyFilter(ScoredCandidates.ranked(CHANNEL_PERSON, allResults), filter).limit(maxResults);
     }
 
     /**
@@ -325,28 +827,57 @@ public class HybridRetrievalServiceImpl implements HybridRetrievalService {
         Map<String, Double> weights = new HashMap<>();
 
         // Default weights
-        weights.put("vector", 1.0);
-        weights.put("graph", 0.8);
-        weights.put("keyword", 0.6);
-        weights.put("person", 2.0); // High weight for person name search (exact match)
+        weights.put(CHANNEL_VECTOR, 1.0);
+        weights.put(CHANNEL_GRAPH, 0.8);
+        weights.put(CHANNEL_KEYWORD, 0.6);
+        weights.put(CHANNEL_PERSON, 2.0); // High weight for person name search (exact match)
+        weights.put(CHANNEL_TECHNOLOGY, 0.8); // Technology overlap, used by in-database fusion only
 
         // Adjust weights based on query characteristics
         if (!parsedQuery.technologies().isEmpty()) {
-            weights.put("keyword", 0.8); // Higher weight for keyword when technologies specified
+            weights.put(CHANNEL_KEYWORD, 0.8); // Higher weight for keyword when technologies specified
         }
 
         if (parsedQuery.intent().equals("team_formation")) {
-            weights.put("graph", 1.0); // Higher weight for graph in team formation
+            weights.put(CHANNEL_GRAPH, 1.0); // Higher weight for graph in team formation
         }
 
         // If person entities are found, prioritize person name search
-        ExtractedEntities entities = entityExtractor.extract(parsedQuery.originalQuery());
-        if (!entities.persons().isEmpty()) {
-            weights.put("person", 3.0); // Very high weight when person names are explicitly mentioned
+        if (!parsedQuery.entities().persons().isEmpty()) {
+            weights.put(CHANNEL_PERSON, 3.0); // Very high weight when person names are explicitly mentioned
         }
 
         return weights;
     }
 
-}
+    /**
+     * Channels, weights and candidate filter for one retrieval; carries the usable vector search prefetch
+     * (or null) and collects in-database fusion hits for final fusion.
+     */
+    private record ChannelPlan(boolean databaseFusion, Map<String, Double> weights, CandidateFilter filter,
+                               VectorSearchPrefetch prefetch, List<HybridSearchResult> databaseHits) {
+        ChannelPlan(boolean databaseFusion, Map<String, Double> weights, CandidateFilter filter,
+                    VectorSearchPrefetch prefetch) {
+            this(databaseFusion, weights, filter, prefetch, new CopyOnWriteArrayList<>());
+        }
 
+        List<String> channels() {
+            return databaseFusion
+                    ? List.of(CHANNEL_DATABASE, CHANNEL_GRAPH, CHANNEL_PERSON)
+                    : List.of(CHANNEL_VECTOR, CHANNEL_GRAPH, CHANNEL_KEYWORD, CHANNEL_PERSON);
+        }
+    }
+
+    /**
+     * Retrieval channel to run in parallel mode.
+     */
+    private record ChannelTask(String name, String service, String method, String inputSummary,
+                               Supplier<ScoredCandidates> search) {
+    }
+
+    /**
+     * Channel result with its measured duration.
+     */
+    private record ChannelOutcome(ScoredCandidates candidates, long durationMs) {
+    }
+}
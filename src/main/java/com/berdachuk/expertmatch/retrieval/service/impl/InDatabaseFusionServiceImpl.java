@@ -0,0 +1,112 @@
+package com.berdachuk.expertmatch.retrieval.service.impl;
+
+import com.berdachuk.expertmatch.core.config.VectorStorageProperties;
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.core.exception.RetrievalException;
+import com.berdachuk.expertmatch.core.util.PgVectorUtils;
+import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalProperties;
+import com.berdachuk.expertmatch.retrieval.repository.HybridSearchRepository;
+import com.berdachuk.expertmatch.retrieval.repository.HybridSearchResult;
+import com.berdachuk.expertmatch.retrieval.service.InDatabaseFusionService;
+import com.pgvector.PGvector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for hybrid search with in-database reciprocal rank fusion.
+ * Replaces the separate vector, keyword and technology queries with one statement, so only
+ * the fused top results are shipped back instead of every channel's candidate list.
+ * Searches the native halfvec column when embeddings are stored natively.
+ */
+@Slf4j
+@Service
+public class InDatabaseFusionServiceImpl implements InDatabaseFusionService {
+
+    // Same threshold as the application-side vector channel
+    private static final double SIMILARITY_THRESHOLD = 0.7;
+
+    private final HybridSearchRepository repository;
+    private final EmbeddingService embeddingService;
+    private final RetrievalProperties retrievalProperties;
+    private final VectorStorageProperties vectorStorageProperties;
+
+    public InDatabaseFusionServiceImpl(
+            HybridSearchRepository repository,
+            EmbeddingService embeddingService,
+            RetrievalProperties retrievalProperties,
+            VectorStorageProperties vectorStorageProperties) {
+        this.repository = repository;
+        this.embeddingService = embeddingService;
+        this.retrievalProperties = retrievalProperties;
+        this.vectorStorageProperties = vectorStorageProperties;
+    }
+
+    @Override
+    public List<HybridSearchResult> search(ParsedQuery parsedQuery, Map<String, Double> weights, int maxResults) {
+        validateInput(parsedQuery, weights, maxResults);
+        return search(parsedQuery, embeddingService.generateEmbeddingAsFloatArray(parsedQuery.originalQuery()),
+                weights, maxResults);
+    }
+
+    @Override
+    public List<HybridSearchResult> search(ParsedQuery parsedQuery, float[] queryEmbedding, Map<String, Double> weights,
+                                           int maxResults) {
+        validateInput(parsedQuery, weights, maxResults);
+        if (queryEmbedding == null || queryEmbedding.length == 0) {
+            throw new RetrievalException("HYBRID_SEARCH_ERROR",
+                    "Failed to generate embedding for query: " + parsedQuery.originalQuery());
+        }
+
+        // Skills and technologies are both keywords; technologies alone drive overlap matching
+        List<String> keywords = new ArrayList<>(parsedQuery.skills());
+        keywords.addAll(parsedQuery.technologies());
+
+        // Zero-padded to the database dimension for the padded column, as-is for native halfvec storage
+        PGvector queryVector;
+        if (vectorStorageProperties.isNative()) {
+            if (queryEmbedding.length != vectorStorageProperties.getDimension()) {
+                throw new IllegalArgumentException("Query embedding dimension " + queryEmbedding.length
+                        + " does not match the configured native storage dimension " + vectorStorageProperties.getDimension());
+            }
+            queryVector = new PGvector(queryEmbedding);
+        } else {
+            queryVector = PgVectorUtils.toDatabaseVector(queryEmbedding);
+        }
+
+        RetrievalProperties.FusionConfig fusion = retrievalProperties.getFusion();
+        HybridSearchRepository.HybridSearchQuery query = new HybridSearchRepository.HybridSearchQuery(
+                queryVector,
+                SIMILARITY_THRESHOLD,
+                String.join(" ", keywords),
+                parsedQuery.technologies().toArray(new String[0]),
+                Math.max(fusion.getCandidatesPerChannel(), maxResults),
+                weights.getOrDefault("vector", 1.0),
+                weights.getOrDefault("keyword", 1.0),
+                weights.getOrDefault("technology", 1.0),
+                fusion.getRrfK(),
+                maxResults,
+                retrievalProperties.getFilter().candidateFilter(parsedQuery)
+        );
+
+        List<HybridSearchResult> results = repository.search(query);
+        log.debug("In-database fusion returned {} experts for query: '{}'", results.size(), parsedQuery.originalQuery());
+        return results;
+    }
+
+    private static void validateInput(ParsedQuery parsedQuery, Map<String, Double> weights, int maxResults) {
+        if (parsedQuery == null || parsedQuery.originalQuery() == null || parsedQuery.originalQuery().isBlank()) {
+            throw new IllegalArgumentException("Query text cannot be null or blank");
+        }
+        if (weights == null) {
+            throw new IllegalArgumentException("Weights cannot be null");
+        }
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("Max results must be at least 1, got: " + maxResults);
+        }
+    }
+}
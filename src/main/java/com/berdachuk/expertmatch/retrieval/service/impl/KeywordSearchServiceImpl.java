@@ -1,5 +1,7 @@
 package com.berdachuk.expertmatch.retrieval.service.impl;
 
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 import com.berdachuk.expertmatch.retrieval.repository.KeywordSearchRepository;
 import com.berdachuk.expertmatch.retrieval.service.KeywordSearchService;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,22 @@ public class KeywordSearchServiceImpl implements KeywordSearchService {
      */
     @Override
     public List<String> searchByKeywords(List<String> keywords, int maxResults) {
+        return searchByKeywords(keywords, maxResults, CandidateFilter.NONE);
+    }
+
+    /**
+     * Searches work experience by keywords, only for employees matching the filter.
+     */
+    @Override
+    public List<String> searchByKeywords(List<String> keywords, int maxResults, CandidateFilter filter) {
+        return searchCandidates(keywords, maxResults, filter).expertIds();
+    }
+
+    /**
+     * Searches work experience by keywords, only for employees matching the filter, keeping the rank scores.
+     */
+    @Override
+    public ScoredCandidates searchCandidates(List<String> keywords, int maxResults, CandidateFilter filter) {
         // Validate input parameters
         if (keywords == null || keywords.isEmpty()) {
             throw new IllegalArgumentException("Keywords cannot be null or empty");
@@ -39,7 +57,7 @@ public class KeywordSearchServiceImpl implements KeywordSearchService {
         String searchTerms = String.join(" ", keywords);
 
         try {
-            return repository.searchByKeywords(searchTerms, maxResults);
+            return repository.searchByKeywords(searchTerms, maxResults, filter);
         } catch (org.springframework.jdbc.UncategorizedSQLException e) {
             // Handle transaction aborted errors (25P02) and other SQL errors gracefully
             // This can happen if a previous query in the transaction failed
@@ -50,7 +68,7 @@ public class KeywordSearchServiceImpl implements KeywordSearchService {
                 log.warn("Keyword search failed due to aborted transaction - returning empty results to allow graceful degradation. Error: {}",
                         e.getMessage());
                 log.debug("Transaction aborted error details", e);
-                return List.of();
+                return ScoredCandidates.empty(ScoredCandidates.CHANNEL_KEYWORD);
             }
             // Re-throw other SQL errors
             log.error("SQL error during keyword search", e);
@@ -60,7 +78,7 @@ public class KeywordSearchServiceImpl implements KeywordSearchService {
             log.warn("Keyword search failed - returning empty results to allow graceful degradation. Error: {}",
                     e.getMessage());
             log.debug("Keyword search error details", e);
-            return List.of();
+            return ScoredCandidates.empty(ScoredCandidates.CHANNEL_KEYWORD);
         }
     }
 
@@ -78,7 +96,7 @@ public class KeywordSearchServiceImpl implements KeywordSearchService {
         }
 
         try {
-            return repository.searchByTechnologies(technologies.toArray(new String[0]), maxResults);
+            return repository.searchByTechnologies(technologies.toArray(new String[0]), maxResults, CandidateFilter.NONE);
         } catch (org.springframework.jdbc.UncategorizedSQLException e) {
             // Handle transaction aborted errors (25P02) and other SQL errors gracefully
             java.sql.SQLException sqlException = e.getSQLException();
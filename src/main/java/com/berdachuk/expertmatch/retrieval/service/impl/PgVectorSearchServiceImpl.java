@@ -1,8 +1,13 @@
 package com.berdachuk.expertmatch.retrieval.service.impl;
 
+import com.berdachuk.expertmatch.core.config.VectorStorageProperties;
+import com.berdachuk.expertmatch.core.util.PgVectorUtils;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalProperties;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
 import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchRepository;
 import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchResult;
 import com.berdachuk.expertmatch.retrieval.service.PgVectorSearchService;
+import com.pgvector.PGvector;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,22 +19,24 @@ import java.util.List;
 @Service
 public class PgVectorSearchServiceImpl implements PgVectorSearchService {
 
-    /**
-     * Database schema supports vector(1536) to accommodate both:
-     * - Ollama BAAI/bge-m3: 1024 dimensions (padded to 1536 when stored)
-     * - OpenAI/DIAL text-embedding-3-large: 1536 dimensions (used as-is)
-     */
-    private static final int DATABASE_EMBEDDING_DIMENSION = 1536;
     private final PgVectorSearchRepository repository;
+    private final RetrievalProperties retrievalProperties;
+    private final VectorStorageProperties vectorStorageProperties;
 
-    public PgVectorSearchServiceImpl(PgVectorSearchRepository repository) {
+    public PgVectorSearchServiceImpl(PgVectorSearchRepository repository, RetrievalProperties retrievalProperties,
+                                     VectorStorageProperties vectorStorageProperties) {
         this.repository = repository;
+        this.retrievalProperties = retrievalProperties;
+        this.vectorStorageProperties = vectorStorageProperties;
     }
 
     /**
      * Performs vector similarity search using cosine distance.
      * Supports both 1024 (Ollama) and 1536 (OpenAI/DIAL) query embeddings.
      * Normalizes query embeddings to 1536 dimensions to match database schema.
+     * Depending on {@code expertmatch.retrieval.vector.mode}, ranks work experience rows, employee
+     * profile embeddings, or work experience rows grouped to the best match per employee; the last two
+     * return one result per expert.
      *
      * @param queryEmbedding      The query embedding vector (1024 or 1536 dimensions)
      * @param maxResults          Maximum number of results
@@ -38,6 +45,16 @@ public class PgVectorSearchServiceImpl implements PgVectorSearchService {
      */
     @Override
     public List<VectorSearchResult> search(float[] queryEmbedding, int maxResults, double similarityThreshold) {
+        return search(queryEmbedding, maxResults, similarityThreshold, CandidateFilter.NONE);
+    }
+
+    /**
+     * Performs vector similarity search with the filter predicates inside the search statement, so the
+     * limit applies to matching employees only.
+     */
+    @Override
+    public List<VectorSearchResult> search(float[] queryEmbedding, int maxResults, double similarityThreshold,
+                                           CandidateFilter filter) {
         // Validate input parameters before executing query
         if (queryEmbedding == null) {
             throw new IllegalArgumentException("Query embedding cannot be null");
@@ -60,19 +77,28 @@ public class PgVectorSearchServiceImpl implements PgVectorSearchService {
                     "Similarity threshold must be between 0.0 and 1.0, got: " + similarityThreshold);
         }
 
-        // Normalize to database dimension (1536)
-        float[] normalizedQuery = normalizeEmbeddingDimension(queryEmbedding, DATABASE_EMBEDDING_DIMENSION);
-
-        // Convert normalized float[] to PostgreSQL vector format
-        String vectorString = formatVector(normalizedQuery);
-
-        // Validate formatted vector string
-        if (vectorString == null || vectorString.isEmpty() || vectorString.equals("[]")) {
-            throw new IllegalArgumentException("Formatted vector string is invalid: " + vectorString);
+        // Bind as a typed vector parameter: zero-padded to the database dimension (1536) for padded columns,
+        // as-is for native work experience storage (profile embeddings are always padded)
+        RetrievalProperties.VectorConfig config = retrievalProperties.getVector();
+        PGvector queryVector;
+        if (vectorStorageProperties.isNative() && config.getMode() != RetrievalProperties.VectorSearchMode.EMPLOYEE_PROFILE) {
+            if (queryEmbedding.length != vectorStorageProperties.getDimension()) {
+                throw new IllegalArgumentException("Query embedding dimension " + queryEmbedding.length
+                        + " does not match the configured native storage dimension " + vectorStorageProperties.getDimension());
+            }
+            queryVector = new PGvector(queryEmbedding);
+        } else {
+            queryVector = PgVectorUtils.toDatabaseVector(queryEmbedding);
         }
 
         // Call repository for data access
-        List<PgVectorSearchResult> repoResults = repository.search(vectorString, similarityThreshold, maxResults);
+        List<PgVectorSearchResult> repoResults = switch (config.getMode()) {
+            case WORK_EXPERIENCE -> repository.search(queryVector, similarityThreshold, maxResults, filter);
+            case EMPLOYEE_PROFILE -> repository.searchProfiles(queryVector, similarityThreshold, maxResults, filter);
+            case EMPLOYEE_BEST_MATCH -> repository.searchBestMatchPerEmployee(queryVector, similarityThreshold,
+                    maxResults, maxResults * Math.max(1, config.getOverFetchFactor()),
+                    config.isIterativeScan(), config.getMaxScanTuples(), filter);
+        };
 
         // Convert to service result objects
         return repoResults.stream()
@@ -88,42 +114,4 @@ public class PgVectorSearchServiceImpl implements PgVectorSearchService {
     public List<VectorSearchResult> searchByText(String queryText, float[] queryEmbedding, int maxResults, double similarityThreshold) {
         return search(queryEmbedding, maxResults, similarityThreshold);
     }
-
-    /**
-     * Normalizes embedding to target dimension.
-     * - If source dimension < target: pads with zeros
-     * - If source dimension > target: truncates
-     * - If source dimension == target: returns as-is
-     *
-     * @param embedding       Original embedding vector
-     * @param targetDimension Target dimension (1536 for database schema)
-     * @return Normalized embedding vector
-     */
-    private float[] normalizeEmbeddingDimension(float[] embedding, int targetDimension) {
-        if (embedding.length == targetDimension) {
-            return embedding;
-        }
-
-        float[] normalized = new float[targetDimension];
-        int copyLength = Math.min(embedding.length, targetDimension);
-        System.arraycopy(embedding, 0, normalized, 0, copyLength);
-        // Remaining elements are already zero (default float value)
-
-        return normalized;
-    }
-
-    /**
-     * Formats float array as PostgreSQL vector string.
-     * Format: "[0.1,0.2,0.3,...]" (comma-separated for pgvector)
-     */
-    private String formatVector(float[] vector) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < vector.length; i++) {
-            if (i > 0) sb.append(",");
-            // Format with reasonable precision
-            sb.append(String.format("%.6f", vector[i]));
-        }
-        sb.append("]");
-        return sb.toString();
-    }
 }
@@ -0,0 +1,107 @@
+package com.berdachuk.expertmatch.retrieval.service.impl;
+
+import com.berdachuk.expertmatch.core.util.BoundedTtlCache;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of reranking model scores.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the normalized query text and a SHA-256 hash of the candidate set (sorted
+ * expert IDs), so deep research rounds that rerank the same candidates for the same query reuse one model
+ * call regardless of candidate order. Only successfully parsed model responses are cached; fallbacks are not.
+ * Entries are held in a {@link BoundedTtlCache}: evicted least-recently-used beyond {@code maxEntries} and on
+ * access after {@code ttlSeconds}.
+ * <p>
+ * Metrics:
+ * - {@code expertmatch.rerank.cache.requests} with tag {@code result} = hit | miss
+ * - {@code expertmatch.rerank.cache.evictions} with tag {@code cause} = size | expired
+ * - {@code expertmatch.rerank.cache.size}
+ */
+@Slf4j
+@Component
+public class RerankScoreCache {
+
+    private final boolean enabled;
+    private final BoundedTtlCache<CacheKey, Map<String, Double>> entries;
+
+    @Autowired
+    public RerankScoreCache(RetrievalProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getReranking().getCache(), meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with an explicit clock, used to test TTL expiry.
+     */
+    public RerankScoreCache(RetrievalProperties.RerankCacheConfig config, MeterRegistry meterRegistry,
+                            LongSupplier nanoClock) {
+        this.enabled = config.isEnabled() && config.getMaxEntries() > 0;
+        this.entries = new BoundedTtlCache<>("expertmatch.rerank.cache", "Rerank score cache",
+                config.getMaxEntries(), config.getTtlSeconds(), meterRegistry, nanoClock);
+
+        log.info("Configured rerank score cache - enabled: {}, max entries: {}, TTL: {}s",
+                enabled, config.getMaxEntries(), config.getTtlSeconds());
+    }
+
+    /**
+     * Creates a disabled cache that always calls the loader.
+     */
+    public static RerankScoreCache disabled() {
+        RetrievalProperties.RerankCacheConfig config = new RetrievalProperties.RerankCacheConfig();
+        config.setEnabled(false);
+        return new RerankScoreCache(config, new SimpleMeterRegistry(), System::nanoTime);
+    }
+
+    /**
+     * Returns the cached scores for the query and candidate set, loading and caching them on a miss.
+     *
+     * @param queryText    Query text
+     * @param candidateIds Candidate expert IDs; order does not matter
+     * @param loader       Calls the reranking model; returns null if the model gave no usable scores
+     * @return Scores by expert ID, or null if the loader returned null (not cached)
+     */
+    public Map<String, Double> get(String queryText, Collection<String> candidateIds, Supplier<Map<String, Double>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CacheKey key = new CacheKey(BoundedTtlCache.textHash(queryText),
+                BoundedTtlCache.textHash(String.join("\n", new TreeSet<>(candidateIds))));
+        Map<String, Double> cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Call the model outside the cache lock; concurrent misses for the same key may both call it
+        Map<String, Double> scores = loader.get();
+        if (scores != null) {
+            // Keep response order: rerankWithScores breaks score ties by it
+            Map<String, Double> cachedScores = Collections.unmodifiableMap(new LinkedHashMap<>(scores));
+            entries.put(key, cachedScores);
+            return cachedScores;
+        }
+        return null;
+    }
+
+    /**
+     * Number of cached entries, including expired entries not yet evicted.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private record CacheKey(String queryHash, String candidateSetHash) {
+    }
+}
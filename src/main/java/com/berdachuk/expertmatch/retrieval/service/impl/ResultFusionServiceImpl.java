@@ -1,14 +1,16 @@
 package com.berdachuk.expertmatch.retrieval.service;
 
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+import com.berdachuk.expertmatch.retrieval.service.impl.TopKFusion;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * Service for fusing results from multiple retrieval methods using Reciprocal Rank Fusion (RRF).
+ * Service for fusing results from multiple retrieval methods using Reciprocal Rank Fusion (RRF)
+ * or CombSUM. Fusion runs on primitive arrays with bounded top-k selection (see {@link TopKFusion}).
  */
 @Service
 public class ResultFusionServiceImpl implements ResultFusionService {
@@ -16,6 +18,8 @@ public class ResultFusionServiceImpl implements ResultFusionService {
     // RRF constant (typically 60)
     private static final int RRF_K = 60;
 
+    private final TopKFusion topKFusion = new TopKFusion(RRF_K);
+
     /**
      * Fuses multiple result lists using Reciprocal Rank Fusion.
      *
@@ -33,26 +37,7 @@ public class ResultFusionServiceImpl implements ResultFusionService {
             throw new IllegalArgumentException("Weights cannot be null");
         }
 
-        Map<String, Double> scores = new HashMap<>();
-
-        // Calculate RRF scores for each method
-        for (Map.Entry<String, List<String>> entry : results.entrySet()) {
-            String method = entry.getKey();
-            List<String> expertIds = entry.getValue();
-            double weight = weights.getOrDefault(method, 1.0);
-
-            for (int rank = 0; rank < expertIds.size(); rank++) {
-                String expertId = expertIds.get(rank);
-                double rrfScore = weight / (RRF_K + rank + 1);
-                scores.merge(expertId, rrfScore, Double::sum);
-            }
-        }
-
-        // Sort by score descending
-        return scores.entrySet().stream()
-                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        return topKFusion.fuse(results, weights, FusionMethod.WEIGHTED_RRF, Integer.MAX_VALUE).expertIds();
     }
 
     /**
@@ -72,5 +57,51 @@ public class ResultFusionServiceImpl implements ResultFusionService {
         );
         return fuseResults(results, defaultWeights);
     }
-}
 
+    /**
+     * Fuses result lists with the given method and keeps the top k candidates with their scores and
+     * per-channel ranks.
+     */
+    @Override
+    public FusionResult fuse(Map<String, List<String>> results, Map<String, Double> weights, FusionMethod method,
+                             int topK) {
+        // Validate input parameters
+        if (results == null || results.isEmpty()) {
+            throw new IllegalArgumentException("Results cannot be null or empty");
+        }
+        if (weights == null) {
+            throw new IllegalArgumentException("Weights cannot be null");
+        }
+        if (method == null) {
+            throw new IllegalArgumentException("Fusion method cannot be null");
+        }
+        if (topK < 1) {
+            throw new IllegalArgumentException("Top k must be at least 1, got: " + topK);
+        }
+
+        return topKFusion.fuse(results, weights, method, topK);
+    }
+
+    /**
+     * Fuses scored channel candidates with the given method and keeps the top k candidates.
+     */
+    @Override
+    public FusionResult fuse(List<ScoredCandidates> results, Map<String, Double> weights, FusionMethod method,
+                             int topK) {
+        // Validate input parameters
+        if (results == null || results.isEmpty()) {
+            throw new IllegalArgumentException("Results cannot be null or empty");
+        }
+        if (weights == null) {
+            throw new IllegalArgumentException("Weights cannot be null");
+        }
+        if (method == null) {
+            throw new IllegalArgumentException("Fusion method cannot be null");
+        }
+        if (topK < 1) {
+            throw new IllegalArgumentException("Top k must be at least 1, got: " + topK);
+        }
+
+        return topKFusion.fuse(results, weights, method, topK);
+    }
+}
@@ -1,7 +1,9 @@
 package com.berdachuk.expertmatch.retrieval.service.impl;
 
+import com.berdachuk.expertmatch.employee.domain.Employee;
 import com.berdachuk.expertmatch.employee.repository.EmployeeRepository;
 import com.berdachuk.expertmatch.retrieval.service.SemanticReranker;
+import com.berdachuk.expertmatch.workexperience.domain.WorkExperience;
 import com.berdachuk.expertmatch.workexperience.repository.WorkExperienceRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,28 +21,53 @@ import java.util.stream.Collectors;
 
 /**
  * Service for semantic reranking of retrieval results using LLM.
+ * <p>
+ * Ordering and relevance scores come from the same model response: candidates are described and scored
+ * in one call, and the parsed scores are kept in a {@link RerankScoreCache} keyed by query and candidate
+ * set, so scoring the same candidates again (relevance scores after reranking, repeated deep research
+ * rounds) does not call the model again.
  */
 @Slf4j
 @Service
 public class SemanticRerankerImpl implements SemanticReranker {
 
+    private static final double PLACEHOLDER_SCORE = 0.8;
+    private static final double MISSING_SCORE = 0.5;
+
     private final ChatModel rerankingChatModel;
     private final PromptTemplate rerankingPromptTemplate;
     private final EmployeeRepository employeeRepository;
     private final WorkExperienceRepository workExperienceRepository;
     private final ObjectMapper objectMapper;
+    private final RerankScoreCache scoreCache;
 
+    @Autowired
     public SemanticRerankerImpl(
             @Qualifier("rerankingChatModel") @Autowired(required = false) ChatModel rerankingChatModel,
             @Qualifier("rerankingPromptTemplate") PromptTemplate rerankingPromptTemplate,
             EmployeeRepository employeeRepository,
             WorkExperienceRepository workExperienceRepository,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            RerankScoreCache scoreCache) {
         this.rerankingChatModel = rerankingChatModel;
         this.rerankingPromptTemplate = rerankingPromptTemplate;
         this.employeeRepository = employeeRepository;
         this.workExperienceRepository = workExperienceRepository;
         this.objectMapper = objectMapper;
+        this.scoreCache = scoreCache;
+    }
+
+    /**
+     * Creates a reranker without score caching.
+     */
+    public SemanticRerankerImpl(
+            ChatModel rerankingChatModel,
+            PromptTemplate rerankingPromptTemplate,
+            EmployeeRepository employeeRepository,
+            WorkExperienceRepository workExperienceRepository,
+            ObjectMapper objectMapper) {
+        this(rerankingChatModel, rerankingPromptTemplate, employeeRepository, workExperienceRepository,
+                objectMapper, RerankScoreCache.disabled());
     }
 
     /**
@@ -53,231 +80,130 @@ public class SemanticRerankerImpl implements SemanticReranker {
      */
     @Override
     public List<String> rerank(String queryText, List<String> expertIds, int maxResults) {
+        return rerankWithScores(queryText, expertIds, maxResults).expertIds();
+    }
+
+    /**
+     * Calculates relevance scores for experts using LLM.
+     */
+    @Override
+    public Map<String, Double> calculateRelevanceScores(String queryText, List<String> expertIds) {
         // Validate input parameters
         if (queryText == null || queryText.isBlank()) {
             throw new IllegalArgumentException("Query text cannot be null or blank");
         }
         if (expertIds == null || expertIds.isEmpty()) {
-            // Return empty list instead of throwing exception - no results to rerank
-            return List.of();
-        }
-        if (maxResults < 1) {
-            throw new IllegalArgumentException("Max results must be at least 1, got: " + maxResults);
+            // Return empty map instead of throwing exception - no results to score
+            return Map.of();
         }
 
-        // If reranking model is not configured, return as-is (fallback behavior)
-        if (rerankingChatModel == null || rerankingPromptTemplate == null) {
-            log.debug("Reranking model not configured, returning results as-is");
-            return expertIds.stream()
-                    .limit(maxResults)
-                    .toList();
+        Map<String, Double> modelScores = scoreWithModel(queryText, expertIds);
+        if (modelScores == null) {
+            return placeholderScores(expertIds);
         }
 
-        try {
-            // Get expert data
-            List<com.berdachuk.expertmatch.employee.domain.Employee> employees = employeeRepository.findByIds(expertIds);
-            Map<String, com.berdachuk.expertmatch.employee.domain.Employee> employeeMap = employees.stream()
-                    .collect(Collectors.toMap(com.berdachuk.expertmatch.employee.domain.Employee::id, e -> e));
-
-            Map<String, List<com.berdachuk.expertmatch.workexperience.domain.WorkExperience>> workExperienceMap =
-                    workExperienceRepository.findByEmployeeIds(expertIds);
-
-            // Build expert descriptions for reranking
-            StringBuilder expertsText = new StringBuilder();
-            for (String expertId : expertIds) {
-                com.berdachuk.expertmatch.employee.domain.Employee employee = employeeMap.get(expertId);
-                if (employee == null) {
-                    continue;
-                }
-
-                List<com.berdachuk.expertmatch.workexperience.domain.WorkExperience> workExperiences =
-                        workExperienceMap.getOrDefault(expertId, List.of());
-
-                expertsText.append("Expert ID: ").append(expertId).append("\n");
-                expertsText.append("Name: ").append(employee.name()).append("\n");
-                expertsText.append("Seniority: ").append(employee.seniority() != null ? employee.seniority() : "N/A").append("\n");
-
-                if (!workExperiences.isEmpty()) {
-                    expertsText.append("Projects:\n");
-                    for (com.berdachuk.expertmatch.workexperience.domain.WorkExperience we : workExperiences.stream().limit(3).toList()) {
-                        expertsText.append("  - ").append(we.projectName() != null ? we.projectName() : "N/A");
-                        if (we.role() != null) {
-                            expertsText.append(" (").append(we.role()).append(")");
-                        }
-                        if (we.technologies() != null && !we.technologies().isEmpty()) {
-                            expertsText.append(" - Technologies: ").append(String.join(", ", we.technologies()));
-                        }
-                        expertsText.append("\n");
-                    }
-                }
-                expertsText.append("\n");
-            }
-
-            // Build prompt
-            Map<String, Object> variables = new HashMap<>();
-            variables.put("query", queryText);
-            variables.put("experts", expertsText.toString());
-
-            String promptText = rerankingPromptTemplate.render(variables);
-            Prompt prompt = new Prompt(promptText);
-
-            // Call reranking model
-            ChatResponse response = rerankingChatModel.call(prompt);
-
-            // Check for null response or empty output
-            if (response == null || response.getResult() == null ||
-                    response.getResult().getOutput() == null ||
-                    response.getResult().getOutput().getText() == null) {
-                log.warn("Reranking model returned null or empty response, falling back to original order");
-                return expertIds.stream()
-                        .limit(maxResults)
-                        .toList();
-            }
-
-            String responseText = response.getResult().getOutput().getText();
+        Map<String, Double> scores = new HashMap<>(modelScores);
+        // Fill in missing scores with default
+        for (String expertId : expertIds) {
+            scores.putIfAbsent(expertId, MISSING_SCORE);
+        }
+        return scores;
+    }
 
-            // Check for empty response text
-            if (responseText == null || responseText.isBlank()) {
-                log.warn("Reranking model returned blank response text, falling back to original order");
-                return expertIds.stream()
-                        .limit(maxResults)
-                        .toList();
-            }
+    /**
+     * Reranks experts and returns their relevance scores from a single LLM call.
+     * Falls back to the original order with placeholder scores if the model is not configured or fails.
+     */
+    @Override
+    public RerankResult rerankWithScores(String queryText, List<String> expertIds, int maxResults) {
+        return rerankWithScores(queryText, expertIds, maxResults, 0.0);
+    }
 
-            // Parse JSON response
-            List<RerankingResult> results = parseRerankingResponse(responseText);
-
-            // If parsing failed (empty list) or results don't match input, fallback to original order
-            if (results.isEmpty()) {
-                log.warn("Reranking response parsing returned empty list, falling back to original order");
-                return expertIds.stream()
-                        .limit(maxResults)
-                        .toList();
-            }
+    /**
+     * Reranks experts with scores from a single model call, dropping experts scored below minScore.
+     * The fallbacks (original order with placeholder scores) are not cut.
+     */
+    @Override
+    public RerankResult rerankWithScores(String queryText, List<String> expertIds, int maxResults, double minScore) {
+        // Validate input parameters
+        if (queryText == null || queryText.isBlank()) {
+            throw new IllegalArgumentException("Query text cannot be null or blank");
+        }
+        if (expertIds == null || expertIds.isEmpty()) {
+            // Return empty result instead of throwing exception - no results to rerank
+            return new RerankResult(List.of(), Map.of());
+        }
+        if (maxResults < 1) {
+            throw new IllegalArgumentException("Max results must be at least 1, got: " + maxResults);
+        }
 
-            // Validate that parsed results contain valid expert IDs from input
-            Set<String> inputExpertIds = new HashSet<>(expertIds);
-            Set<String> parsedExpertIds = results.stream()
-                    .map(RerankingResult::expertId)
-                    .filter(Objects::nonNull) // Filter out null expert IDs
-                    .collect(Collectors.toSet());
-
-            // Check if any parsed expert ID is not in the input list (invalid ID)
-            boolean hasInvalidIds = parsedExpertIds.stream()
-                    .anyMatch(id -> !inputExpertIds.contains(id));
-
-            // If parsed results contain invalid IDs or no valid results, fallback to original order
-            if (hasInvalidIds || parsedExpertIds.isEmpty()) {
-                log.warn("Reranking response contains invalid expert IDs or no valid results (input: {}, parsed: {}), falling back to original order",
-                        inputExpertIds.size(), parsedExpertIds.size());
-                return expertIds.stream()
-                        .limit(maxResults)
-                        .toList();
+        Map<String, Double> modelScores = scoreWithModel(queryText, expertIds);
+        if (modelScores == null) {
+            if (minScore > 0.0) {
+                log.info("No reranking model scores: min score {} not applied to placeholder scores", minScore);
             }
+            List<String> originalOrder = expertIds.stream().limit(maxResults).toList();
+            return new RerankResult(originalOrder, placeholderScores(originalOrder));
+        }
 
-            // Filter out invalid IDs and sort by score (descending)
-            List<String> rerankedIds = results.stream()
-                    .filter(result -> inputExpertIds.contains(result.expertId())) // Only include valid IDs
-                    .sorted(Comparator.comparing(RerankingResult::score).reversed())
-                    .map(RerankingResult::expertId)
-                    .collect(Collectors.toList());
-
-            // If parsed results don't include all input IDs, add missing IDs at the end
-            // LLM may return a subset, which is acceptable
-            Set<String> missingIds = new HashSet<>(inputExpertIds);
-            missingIds.removeAll(parsedExpertIds);
-
-            if (!missingIds.isEmpty()) {
-                log.debug("Reranking response missing {} expert IDs, appending them at the end", missingIds.size());
-                // Add missing IDs in their original order
+        // If the response contains expert IDs that were not in the input, keep the original order
+        Set<String> inputExpertIds = new HashSet<>(expertIds);
+        boolean hasInvalidIds = modelScores.keySet().stream().anyMatch(id -> !inputExpertIds.contains(id));
+        List<String> rerankedIds;
+        if (hasInvalidIds) {
+            log.warn("Reranking response contains invalid expert IDs (input: {}, parsed: {}), falling back to original order",
+                    inputExpertIds.size(), modelScores.size());
+            rerankedIds = expertIds.stream().limit(maxResults).toList();
+        } else {
+            // Sort by score (descending); the LLM may return a subset, missing IDs go last in original order
+            List<String> sortedIds = modelScores.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (sortedIds.size() < inputExpertIds.size()) {
+                log.debug("Reranking response missing {} expert IDs, appending them at the end",
+                        inputExpertIds.size() - sortedIds.size());
+                Set<String> appendedIds = new HashSet<>();
                 for (String expertId : expertIds) {
-                    if (missingIds.contains(expertId) && !rerankedIds.contains(expertId)) {
-                        rerankedIds.add(expertId);
+                    if (!modelScores.containsKey(expertId) && appendedIds.add(expertId)) {
+                        sortedIds.add(expertId);
                     }
                 }
             }
-
-            return rerankedIds.stream()
+            // Cut scored experts below the minimum before the limit; unscored experts were not judged
+            rerankedIds = sortedIds.stream()
+                    .filter(expertId -> !modelScores.containsKey(expertId) || modelScores.get(expertId) >= minScore)
                     .limit(maxResults)
                     .toList();
+        }
 
-        } catch (Exception e) {
-            log.error("Error during LLM-based reranking, falling back to original order: {}", e.getMessage(), e);
-            // Fallback: return original order
-            return expertIds.stream()
-                    .limit(maxResults)
-                    .toList();
+        Map<String, Double> relevanceScores = new HashMap<>();
+        for (String expertId : rerankedIds) {
+            relevanceScores.put(expertId, modelScores.getOrDefault(expertId, MISSING_SCORE));
         }
+        return new RerankResult(rerankedIds, relevanceScores);
     }
 
     /**
-     * Calculates relevance scores for experts using LLM.
+     * Scores the candidates with the reranking model, reusing cached scores for the same query and candidates.
+     *
+     * @return Scores by expert ID in response order, or null if the model is not configured or gave no usable scores
      */
-    @Override
-    public Map<String, Double> calculateRelevanceScores(String queryText, List<String> expertIds) {
-        // Validate input parameters
-        if (queryText == null || queryText.isBlank()) {
-            throw new IllegalArgumentException("Query text cannot be null or blank");
-        }
-        if (expertIds == null || expertIds.isEmpty()) {
-            // Return empty map instead of throwing exception - no results to score
-            return Map.of();
-        }
-
-        // If reranking model is not configured, return placeholder scores
+    private Map<String, Double> scoreWithModel(String queryText, List<String> expertIds) {
+        // If reranking model is not configured, callers fall back to original order and placeholder scores
         if (rerankingChatModel == null || rerankingPromptTemplate == null) {
-            log.debug("Reranking model not configured, returning placeholder scores");
-            Map<String, Double> scores = new HashMap<>();
-            for (String expertId : expertIds) {
-                scores.put(expertId, 0.8); // Placeholder
-            }
-            return scores;
+            log.debug("Reranking model not configured, using original order and placeholder scores");
+            return null;
         }
+        return scoreCache.get(queryText, expertIds, () -> callModel(queryText, expertIds));
+    }
 
+    private Map<String, Double> callModel(String queryText, List<String> expertIds) {
         try {
-            // Use rerank() to get scores, then extract scores
-            List<com.berdachuk.expertmatch.employee.domain.Employee> employees = employeeRepository.findByIds(expertIds);
-            Map<String, com.berdachuk.expertmatch.employee.domain.Employee> employeeMap = employees.stream()
-                    .collect(Collectors.toMap(com.berdachuk.expertmatch.employee.domain.Employee::id, e -> e));
-
-            Map<String, List<com.berdachuk.expertmatch.workexperience.domain.WorkExperience>> workExperienceMap =
-                    workExperienceRepository.findByEmployeeIds(expertIds);
-
-            // Build expert descriptions
-            StringBuilder expertsText = new StringBuilder();
-            for (String expertId : expertIds) {
-                com.berdachuk.expertmatch.employee.domain.Employee employee = employeeMap.get(expertId);
-                if (employee == null) {
-                    continue;
-                }
-
-                List<com.berdachuk.expertmatch.workexperience.domain.WorkExperience> workExperiences =
-                        workExperienceMap.getOrDefault(expertId, List.of());
-
-                expertsText.append("Expert ID: ").append(expertId).append("\n");
-                expertsText.append("Name: ").append(employee.name()).append("\n");
-                expertsText.append("Seniority: ").append(employee.seniority() != null ? employee.seniority() : "N/A").append("\n");
-
-                if (!workExperiences.isEmpty()) {
-                    expertsText.append("Projects:\n");
-                    for (com.berdachuk.expertmatch.workexperience.domain.WorkExperience we : workExperiences.stream().limit(3).toList()) {
-                        expertsText.append("  - ").append(we.projectName() != null ? we.projectName() : "N/A");
-                        if (we.role() != null) {
-                            expertsText.append(" (").append(we.role()).append(")");
-                        }
-                        if (we.technologies() != null && !we.technologies().isEmpty()) {
-                            expertsText.append(" - Technologies: ").append(String.join(", ", we.technologies()));
-                        }
-                        expertsText.append("\n");
-                    }
-                }
-                expertsText.append("\n");
-            }
-
             // Build prompt
             Map<String, Object> variables = new HashMap<>();
             variables.put("query", queryText);
-            variables.put("experts", expertsText.toString());
+            variables.put("experts", buildExpertsText(expertIds));
 
             String promptText = rerankingPromptTemplate.render(variables);
             Prompt prompt = new Prompt(promptText);
@@ -288,62 +214,79 @@ public class SemanticRerankerImpl implements SemanticReranker {
             // Check for null response or empty output
             if (response == null || response.getResult() == null ||
                     response.getResult().getOutput() == null ||
-                    response.getResult().getOutput().getText() == null) {
-                log.warn("Reranking model returned null or empty response for score calculation, returning placeholder scores");
-                Map<String, Double> scores = new HashMap<>();
-                for (String expertId : expertIds) {
-                    scores.put(expertId, 0.8);
-                }
-                return scores;
-            }
-
-            String responseText = response.getResult().getOutput().getText();
-
-            // Check for empty response text
-            if (responseText == null || responseText.isBlank()) {
-                log.warn("Reranking model returned blank response text for score calculation, returning placeholder scores");
-                Map<String, Double> scores = new HashMap<>();
-                for (String expertId : expertIds) {
-                    scores.put(expertId, 0.8);
-                }
-                return scores;
+                    response.getResult().getOutput().getText() == null ||
+                    response.getResult().getOutput().getText().isBlank()) {
+                log.warn("Reranking model returned null or empty response, using original order and placeholder scores");
+                return null;
             }
 
             // Parse JSON response
-            List<RerankingResult> results = parseRerankingResponse(responseText);
-
-            // If parsing failed (empty list), return placeholder scores
-            if (results.isEmpty()) {
-                log.warn("Reranking response parsing returned empty list for score calculation, returning placeholder scores");
-                Map<String, Double> scores = new HashMap<>();
-                for (String expertId : expertIds) {
-                    scores.put(expertId, 0.8);
+            List<RerankingResult> results = parseRerankingResponse(response.getResult().getOutput().getText());
+            Map<String, Double> scores = new LinkedHashMap<>();
+            for (RerankingResult result : results) {
+                if (result.expertId() != null && result.score() != null) {
+                    scores.putIfAbsent(result.expertId(), result.score());
                 }
-                return scores;
             }
 
-            // Build score map
-            Map<String, Double> scores = new HashMap<>();
-            for (RerankingResult result : results) {
-                scores.put(result.expertId(), result.score());
+            // If parsing failed or returned no valid results, fall back
+            if (scores.isEmpty()) {
+                log.warn("Reranking response parsing returned no valid results, using original order and placeholder scores");
+                return null;
             }
+            return scores;
 
-            // Fill in missing scores with default
-            for (String expertId : expertIds) {
-                scores.putIfAbsent(expertId, 0.5);
+        } catch (Exception e) {
+            log.error("Error during LLM-based reranking, using original order and placeholder scores: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Builds expert descriptions for the reranking prompt.
+     */
+    private String buildExpertsText(List<String> expertIds) {
+        Map<String, Employee> employeeMap = employeeRepository.findByIds(expertIds).stream()
+                .collect(Collectors.toMap(Employee::id, e -> e));
+        Map<String, List<WorkExperience>> workExperienceMap = workExperienceRepository.findByEmployeeIds(expertIds);
+
+        StringBuilder expertsText = new StringBuilder();
+        for (String expertId : expertIds) {
+            Employee employee = employeeMap.get(expertId);
+            if (employee == null) {
+                continue;
             }
 
-            return scores;
+            List<WorkExperience> workExperiences = workExperienceMap.getOrDefault(expertId, List.of());
 
-        } catch (Exception e) {
-            log.error("Error calculating relevance scores, returning placeholder scores: {}", e.getMessage(), e);
-            // Fallback: return placeholder scores
-            Map<String, Double> scores = new HashMap<>();
-            for (String expertId : expertIds) {
-                scores.put(expertId, 0.8);
+            expertsText.append("Expert ID: ").append(expertId).append("\n");
+            expertsText.append("Name: ").append(employee.name()).append("\n");
+            expertsText.append("Seniority: ").append(employee.seniority() != null ? employee.seniority() : "N/A").append("\n");
+
+            if (!workExperiences.isEmpty()) {
+                expertsText.append("Projects:\n");
+                for (WorkExperience we : workExperiences.stream().limit(3).toList()) {
+                    expertsText.append("  - ").append(we.projectName() != null ? we.projectName() : "N/A");
+                    if (we.role() != null) {
+                        expertsText.append(" (").append(we.role()).append(")");
+                    }
+                    if (we.technologies() != null && !we.technologies().isEmpty()) {
+                        expertsText.append(" - Technologies: ").append(String.join(", ", we.technologies()));
+                    }
+                    expertsText.append("\n");
+                }
             }
-            return scores;
+            expertsText.append("\n");
+        }
+        return expertsText.toString();
+    }
+
+    private static Map<String, Double> placeholderScores(List<String> expertIds) {
+        Map<String, Double> scores = new HashMap<>();
+        for (String expertId : expertIds) {
+            scores.put(expertId, PLACEHOLDER_SCORE);
         }
+        return scores;
     }
 
     /**
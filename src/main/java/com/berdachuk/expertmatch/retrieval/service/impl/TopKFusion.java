@@ -0,0 +1,248 @@
+package com.berdachuk.expertmatch.retrieval.service.impl;
+
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+import com.berdachuk.expertmatch.retrieval.service.ResultFusionService.FusedCandidate;
+import com.berdachuk.expertmatch.retrieval.service.ResultFusionService.FusionResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fuses ranked result lists into the top k candidates with primitive arrays instead of boxed score maps.
+ * <p>
+ * Candidate IDs are interned to dense ints for the request in an open-addressing table sized from the
+ * total input length, so there are no map entries or boxed doubles. Scores accumulate in a
+ * {@code double[]} and per-channel ranks in a flat {@code int[]}. The top k are then selected with a
+ * bounded min-heap of candidate indexes, which is O(n log k) instead of sorting every candidate.
+ * <p>
+ * Channel scores:
+ * - {@link FusionMethod#WEIGHTED_RRF}: {@code weight / (k + rank)}
+ * - {@link FusionMethod#COMB_SUM}: {@code weight * (score - min) / (max - min)}, the channel score min-max
+ * normalized to 0..1 per channel; channels without scores use {@code (n - rank) / (n - 1)} with 1-based
+ * ranks instead
+ * <p>
+ * Equal scores are ordered by first appearance (channel order, then rank). A candidate listed twice by
+ * one channel counts once, at its best rank. Stateless, so one instance can be shared across threads.
+ */
+public final class TopKFusion {
+
+    private final int rrfK;
+
+    public TopKFusion(int rrfK) {
+        this.rrfK = rrfK;
+    }
+
+    /**
+     * Fuses ranked result lists.
+     *
+     * @param results Map of channel name to expert IDs, best first
+     * @param weights Map of channel name to weight, 1.0 for channels without a weight
+     * @param method  Fusion method
+     * @param topK    Maximum number of fused candidates
+     * @return Top k candidates, best first, with fused scores and per-channel ranks
+     */
+    public FusionResult fuse(Map<String, List<String>> results, Map<String, Double> weights, FusionMethod method,
+                             int topK) {
+        List<ScoredCandidates> channels = new ArrayList<>(results.size());
+        for (Map.Entry<String, List<String>> entry : results.entrySet()) {
+            channels.add(ScoredCandidates.ranked(entry.getKey(), entry.getValue()));
+        }
+        return fuse(channels, weights, method, topK);
+    }
+
+    /**
+     * Fuses scored channel candidates.
+     *
+     * @param results Candidates per channel, best first
+     * @param weights Map of channel name to weight, 1.0 for channels without a weight
+     * @param method  Fusion method
+     * @param topK    Maximum number of fused candidates
+     * @return Top k candidates, best first, with fused scores and per-channel ranks
+     */
+    public FusionResult fuse(List<ScoredCandidates> results, Map<String, Double> weights, FusionMethod method,
+                             int topK) {
+        int channelCount = results.size();
+        List<String> channels = new ArrayList<>(channelCount);
+        int capacity = 0;
+        for (ScoredCandidates candidates : results) {
+            channels.add(candidates.channel());
+            capacity += candidates.size();
+        }
+        if (capacity == 0 || topK < 1) {
+            return new FusionResult(List.copyOf(channels), List.of());
+        }
+
+        IdTable ids = new IdTable(capacity);
+        double[] scores = new double[capacity];
+        int[] ranks = new int[capacity * channelCount];
+        for (int channel = 0; channel < channelCount; channel++) {
+            ScoredCandidates candidates = results.get(channel);
+            double weight = weights.getOrDefault(candidates.channel(), 1.0);
+            ChannelNormalizer normalizer = new ChannelNormalizer(method, candidates);
+            for (int rank = 0; rank < candidates.size(); rank++) {
+                int id = ids.intern(candidates.expertId(rank));
+                int slot = id * channelCount + channel;
+                if (ranks[slot] != 0) {
+                    continue;
+                }
+                ranks[slot] = rank + 1;
+                scores[id] += weight * normalizer.score(rank);
+            }
+        }
+
+        int[] top = selectTopK(scores, ids.size(), topK);
+        List<FusedCandidate> candidates = new ArrayList<>(top.length);
+        for (int id : top) {
+            int from = id * channelCount;
+            candidates.add(new FusedCandidate(ids.key(id), scores[id],
+                    Arrays.copyOfRange(ranks, from, from + channelCount)));
+        }
+        return new FusionResult(List.copyOf(channels), candidates);
+    }
+
+    /**
+     * Selects the indexes of the k highest scores, best first, with a bounded min-heap whose root is the
+     * worst candidate kept so far.
+     */
+    static int[] selectTopK(double[] scores, int count, int topK) {
+        int k = Math.min(topK, count);
+        int[] heap = new int[k];
+        int size = 0;
+        for (int id = 0; id < count; id++) {
+            if (size < k) {
+                heap[size] = id;
+                siftUp(heap, size++, scores);
+            } else if (better(id, heap[0], scores)) {
+                heap[0] = id;
+                siftDown(heap, size, scores);
+            }
+        }
+        // Pop the worst into the last free position until the heap is empty
+        for (int last = size - 1; last > 0; last--) {
+            int worst = heap[0];
+            heap[0] = heap[last];
+            heap[last] = worst;
+            siftDown(heap, last, scores);
+        }
+        return heap;
+    }
+
+    /**
+     * Higher score first; equal scores keep first-seen order.
+     */
+    private static boolean better(int a, int b, double[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    private static void siftUp(int[] heap, int index, double[] scores) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(heap[parent], id, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = id;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores) {
+        int id = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && better(heap[child], heap[right], scores)) {
+                child = right;
+            }
+            if (!better(id, heap[child], scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = id;
+    }
+
+    /**
+     * Per-channel score of a rank for the fusion method.
+     */
+    private final class ChannelNormalizer {
+        private final FusionMethod method;
+        private final ScoredCandidates candidates;
+        private final boolean useScores;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        ChannelNormalizer(FusionMethod method, ScoredCandidates candidates) {
+            this.method = method;
+            this.candidates = candidates;
+            this.useScores = method == FusionMethod.COMB_SUM && candidates.isScored();
+            if (useScores) {
+                for (int rank = 0; rank < candidates.size(); rank++) {
+                    min = Math.min(min, candidates.score(rank));
+                    max = Math.max(max, candidates.score(rank));
+                }
+            }
+        }
+
+        double score(int rank) {
+            if (method == FusionMethod.WEIGHTED_RRF) {
+                return 1.0 / (rrfK + rank + 1);
+            }
+            if (useScores) {
+                return max > min ? (candidates.score(rank) - min) / (max - min) : 1.0;
+            }
+            int size = candidates.size();
+            return size == 1 ? 1.0 : (double) (size - 1 - rank) / (size - 1);
+        }
+    }
+
+    /**
+     * Open-addressing table interning IDs to dense ints in first-seen order.
+     */
+    private static final class IdTable {
+        private final String[] slots;
+        private final int[] slotIds;
+        private final String[] keys;
+        private final int mask;
+        private int size;
+
+        IdTable(int expectedSize) {
+            // Power of two at least twice the expected size keeps probe sequences short
+            int capacity = Integer.highestOneBit(expectedSize * 2 - 1) << 1;
+            this.slots = new String[capacity];
+            this.slotIds = new int[capacity];
+            this.keys = new String[expectedSize];
+            this.mask = capacity - 1;
+        }
+
+        int intern(String key) {
+            int hash = key.hashCode();
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (slots[slot] != null) {
+                if (slots[slot].equals(key)) {
+                    return slotIds[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = key;
+            slotIds[slot] = size;
+            keys[size] = key;
+            return size++;
+        }
+
+        String key(int id) {
+            return keys[id];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.berdachuk.expertmatch.retrieval.service.impl;
 
 import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 import com.berdachuk.expertmatch.retrieval.service.PgVectorSearchService;
 import com.berdachuk.expertmatch.retrieval.service.VectorSearchService;
 import org.springframework.ai.document.Document;
@@ -14,7 +16,7 @@ import java.util.stream.Collectors;
 
 /**
  * Service for vector similarity search using PgVector.
- * Wraps PgVectorSearchService and provides Document-based interface.
+ * Wraps PgVectorSearchService; provides scored candidates for retrieval and a Document-based interface.
  */
 @Service
 public class VectorSearchServiceImpl implements VectorSearchService {
@@ -39,6 +41,11 @@ public class VectorSearchServiceImpl implements VectorSearchService {
      */
     @Override
     public List<Document> search(float[] queryEmbedding, int maxResults, double similarityThreshold) {
+        return search(queryEmbedding, maxResults, similarityThreshold, CandidateFilter.NONE);
+    }
+
+    private List<Document> search(float[] queryEmbedding, int maxResults, double similarityThreshold,
+                                  CandidateFilter filter) {
         // Validate input parameters
         if (queryEmbedding == null || queryEmbedding.length == 0) {
             throw new IllegalArgumentException("Query embedding cannot be null or empty");
@@ -51,7 +58,7 @@ public class VectorSearchServiceImpl implements VectorSearchService {
         }
 
         List<PgVectorSearchService.VectorSearchResult> results =
-                pgVectorSearch.search(queryEmbedding, maxResults, similarityThreshold);
+                pgVectorSearch.search(queryEmbedding, maxResults, similarityThreshold, filter);
 
         return results.stream()
                 .map(result -> {
@@ -74,6 +81,48 @@ public class VectorSearchServiceImpl implements VectorSearchService {
      */
     @Override
     public List<Document> searchByText(String queryText, int maxResults, double similarityThreshold) {
+        return searchByText(queryText, maxResults, similarityThreshold, CandidateFilter.NONE);
+    }
+
+    /**
+     * Searches by query text, only for employees matching the filter.
+     */
+    @Override
+    public List<Document> searchByText(String queryText, int maxResults, double similarityThreshold,
+                                       CandidateFilter filter) {
+        float[] embedding = embedQuery(queryText, maxResults, similarityThreshold);
+        if (embedding.length == 0) {
+            return new ArrayList<>();
+        }
+        return search(embedding, maxResults, similarityThreshold, filter);
+    }
+
+    /**
+     * Searches by query text, only for employees matching the filter, without building documents.
+     * Results are ordered by similarity, so the first hit of an expert is their best match.
+     */
+    @Override
+    public ScoredCandidates searchCandidates(String queryText, int maxResults, double similarityThreshold,
+                                             CandidateFilter filter) {
+        float[] embedding = embedQuery(queryText, maxResults, similarityThreshold);
+        if (embedding.length == 0) {
+            return ScoredCandidates.empty(ScoredCandidates.CHANNEL_VECTOR);
+        }
+
+        List<PgVectorSearchService.VectorSearchResult> results =
+                pgVectorSearch.search(embedding, maxResults, similarityThreshold, filter);
+        ScoredCandidates.Builder candidates = ScoredCandidates.builder(ScoredCandidates.CHANNEL_VECTOR,
+                ScoredCandidates.ScoreType.SIMILARITY, results.size());
+        for (PgVectorSearchService.VectorSearchResult result : results) {
+            candidates.add(result.employeeId(), result.similarity());
+        }
+        return candidates.build();
+    }
+
+    /**
+     * Validates a text search and generates the query embedding, empty if none was generated.
+     */
+    private float[] embedQuery(String queryText, int maxResults, double similarityThreshold) {
         // Validate input parameters
         if (queryText == null || queryText.isBlank()) {
             throw new IllegalArgumentException("Query text cannot be null or blank");
@@ -88,17 +137,12 @@ public class VectorSearchServiceImpl implements VectorSearchService {
         // Generate embedding from query text
         List<Double> embeddingList = embeddingService.generateEmbedding(queryText);
 
-        if (embeddingList.isEmpty()) {
-            return new ArrayList<>();
-        }
-
         // Convert List<Double> to float[]
         float[] embedding = new float[embeddingList.size()];
         for (int i = 0; i < embeddingList.size(); i++) {
             embedding[i] = embeddingList.get(i).floatValue();
         }
-
-        return search(embedding, maxResults, similarityThreshold);
+        return embedding;
     }
 
     /**
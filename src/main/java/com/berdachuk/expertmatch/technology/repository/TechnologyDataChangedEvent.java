@@ -0,0 +1,9 @@
+package com.berdachuk.expertmatch.technology.repository;
+
+/**
+ * Published after technology records are created, updated or deleted.
+ *
+ * @param operation Repository operation that changed the data (createOrUpdate, deleteAll)
+ */
+public record TechnologyDataChangedEvent(String operation) {
+}
@@ -2,8 +2,10 @@ package com.berdachuk.expertmatch.technology.repository.impl;
 
 import com.berdachuk.expertmatch.core.repository.sql.InjectSql;
 import com.berdachuk.expertmatch.technology.domain.Technology;
+import com.berdachuk.expertmatch.technology.repository.TechnologyDataChangedEvent;
 import com.berdachuk.expertmatch.technology.repository.TechnologyRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -22,6 +24,7 @@ import java.util.Optional;
 public class TechnologyRepositoryImpl implements TechnologyRepository {
 
     private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @InjectSql("/sql/technology/createOrUpdate.sql")
     private String createOrUpdateSql;
@@ -44,8 +47,9 @@ public class TechnologyRepositoryImpl implements TechnologyRepository {
     @InjectSql("/sql/technology/deleteAll.sql")
     private String deleteAllSql;
 
-    public TechnologyRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate) {
+    public TechnologyRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate, ApplicationEventPublisher eventPublisher) {
         this.namedJdbcTemplate = namedJdbcTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -63,6 +67,7 @@ public class TechnologyRepositoryImpl implements TechnologyRepository {
 
         try {
             namedJdbcTemplate.update(createOrUpdateSql, params);
+            eventPublisher.publishEvent(new TechnologyDataChangedEvent("createOrUpdate"));
             return technology.id();
         } catch (Exception e) {
             log.warn("Failed to create/update technology {}: {}", technology.name(), e.getMessage());
@@ -153,6 +158,8 @@ public class TechnologyRepositoryImpl implements TechnologyRepository {
      */
     @Override
     public int deleteAll() {
-        return namedJdbcTemplate.update(deleteAllSql, Map.of());
+        int deleted = namedJdbcTemplate.update(deleteAllSql, Map.of());
+        eventPublisher.publishEvent(new TechnologyDataChangedEvent("deleteAll"));
+        return deleted;
     }
 }
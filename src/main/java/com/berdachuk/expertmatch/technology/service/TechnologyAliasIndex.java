@@ -0,0 +1,140 @@
+package com.berdachuk.expertmatch.technology.service;
+
+import com.berdachuk.expertmatch.technology.domain.Technology;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index from technology aliases to canonical technology IDs.
+ * <p>
+ * Every technology gets a dense integer ID (0..size-1). Lowercase names, normalized names and synonyms
+ * map to that ID, so resolving a name is one hash lookup and comparing two resolved names is an
+ * integer comparison. Names take precedence over synonyms; a synonym shared by several technologies
+ * resolves to the first one in repository order.
+ * <p>
+ * Instances are never modified after construction and can be shared freely between threads.
+ */
+public final class TechnologyAliasIndex {
+
+    /**
+     * Returned by {@link #resolve(String)} for names that are not in the technology table.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final TechnologyAliasIndex EMPTY = new TechnologyAliasIndex(Map.of(), new String[0], List.of());
+
+    private final Map<String, Integer> idsByAlias;
+    private final String[] canonicalNames;
+    private final List<Set<String>> synonymsById;
+
+    private TechnologyAliasIndex(Map<String, Integer> idsByAlias, String[] canonicalNames, List<Set<String>> synonymsById) {
+        this.idsByAlias = idsByAlias;
+        this.canonicalNames = canonicalNames;
+        this.synonymsById = synonymsById;
+    }
+
+    /**
+     * Returns an index without technologies; every name resolves to {@link #UNKNOWN}.
+     */
+    public static TechnologyAliasIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds an index over the given technologies.
+     *
+     * @param technologies Technologies in repository order
+     * @return Immutable alias index
+     */
+    public static TechnologyAliasIndex build(List<Technology> technologies) {
+        Map<String, Integer> idsByAlias = new HashMap<>();
+        Map<String, Integer> idsByCanonicalName = new HashMap<>();
+        String[] canonicalNames = new String[technologies.size()];
+        List<Set<String>> synonymsById = new ArrayList<>(technologies.size());
+        int nextId = 0;
+        int[] technologyIds = new int[technologies.size()];
+
+        // Pass 1: names and normalized names; technologies sharing a normalized name share one ID
+        for (int i = 0; i < technologies.size(); i++) {
+            Technology technology = technologies.get(i);
+            String canonicalName = normalize(technology.normalizedName());
+            Integer id = idsByCanonicalName.get(canonicalName);
+            if (id == null) {
+                id = nextId++;
+                idsByCanonicalName.put(canonicalName, id);
+                canonicalNames[id] = canonicalName.intern();
+                synonymsById.add(new HashSet<>());
+            }
+            technologyIds[i] = id;
+            idsByAlias.putIfAbsent(normalize(technology.name()), id);
+            idsByAlias.putIfAbsent(canonicalName, id);
+        }
+
+        // Pass 2: synonyms, never overriding a name
+        for (int i = 0; i < technologies.size(); i++) {
+            Technology technology = technologies.get(i);
+            if (technology.synonyms() == null) {
+                continue;
+            }
+            int id = technologyIds[i];
+            for (String synonym : technology.synonyms()) {
+                String alias = normalize(synonym);
+                if (!alias.isEmpty()) {
+                    idsByAlias.putIfAbsent(alias, id);
+                    synonymsById.get(id).add(alias);
+                }
+            }
+        }
+
+        List<Set<String>> frozenSynonyms = synonymsById.stream().map(Set::copyOf).toList();
+        String[] usedNames = Arrays.copyOf(canonicalNames, nextId);
+        return new TechnologyAliasIndex(Map.copyOf(idsByAlias), usedNames, frozenSynonyms);
+    }
+
+    /**
+     * Lowercases and trims a technology name the same way aliases are indexed.
+     */
+    public static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * Resolves a name, normalized name or synonym to its canonical technology ID.
+     *
+     * @param name Technology name in any case
+     * @return Canonical ID, or {@link #UNKNOWN}
+     */
+    public int resolve(String name) {
+        Integer id = idsByAlias.get(normalize(name));
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * Returns the lowercase normalized name of a canonical technology ID.
+     * The returned string is interned, so names of the same technology are identical instances.
+     */
+    public String canonicalName(int id) {
+        return canonicalNames[id];
+    }
+
+    /**
+     * Whether the alias is a synonym of the technology with the given canonical ID.
+     */
+    public boolean isSynonym(int id, String alias) {
+        return id >= 0 && id < synonymsById.size() && synonymsById.get(id).contains(normalize(alias));
+    }
+
+    /**
+     * Number of canonical technologies.
+     */
+    public int size() {
+        return canonicalNames.length;
+    }
+}
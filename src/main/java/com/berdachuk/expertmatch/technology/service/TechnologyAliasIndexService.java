@@ -0,0 +1,19 @@
+package com.berdachuk.expertmatch.technology.service;
+
+/**
+ * Service interface for the shared technology alias index.
+ */
+public interface TechnologyAliasIndexService {
+    /**
+     * Returns the current alias index, building it from the technology table on first use
+     * and after technology data has changed.
+     *
+     * @return Immutable alias index
+     */
+    TechnologyAliasIndex getIndex();
+
+    /**
+     * Marks the current index as stale; the next {@link #getIndex()} call rebuilds it.
+     */
+    void invalidate();
+}
@@ -0,0 +1,118 @@
+package com.berdachuk.expertmatch.technology.service.impl;
+
+import com.berdachuk.expertmatch.technology.domain.Technology;
+import com.berdachuk.expertmatch.technology.repository.TechnologyDataChangedEvent;
+import com.berdachuk.expertmatch.technology.repository.TechnologyRepository;
+import com.berdachuk.expertmatch.technology.service.TechnologyAliasIndex;
+import com.berdachuk.expertmatch.technology.service.TechnologyAliasIndexService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the technology alias index and rebuilds it when technology data changes.
+ * <p>
+ * Change events only bump a data version, so bulk imports that write technologies one by one do not
+ * rebuild the index per row. The next reader rebuilds it once and swaps the reference; readers never
+ * see a partially built index.
+ * <p>
+ * A failed load is not cached: readers get the previous index (or an empty one) and the load is
+ * retried once the retry backoff has passed.
+ */
+@Slf4j
+@Service
+public class TechnologyAliasIndexServiceImpl implements TechnologyAliasIndexService {
+
+    private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final TechnologyRepository technologyRepository;
+    private final long retryBackoffNanos;
+    private final AtomicLong dataVersion = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile VersionedIndex current;
+    // System.nanoTime() before which a failed load is not retried; guarded by rebuildLock
+    private long retryAfterNanos;
+    private boolean loadFailed;
+
+    @Autowired
+    public TechnologyAliasIndexServiceImpl(TechnologyRepository technologyRepository) {
+        this(technologyRepository, DEFAULT_RETRY_BACKOFF);
+    }
+
+    public TechnologyAliasIndexServiceImpl(TechnologyRepository technologyRepository, Duration retryBackoff) {
+        this.technologyRepository = technologyRepository;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+    }
+
+    @Override
+    public TechnologyAliasIndex getIndex() {
+        VersionedIndex snapshot = current;
+        if (snapshot != null && snapshot.version() == dataVersion.get()) {
+            return snapshot.index();
+        }
+        rebuildLock.lock();
+        try {
+            snapshot = current;
+            long version = dataVersion.get();
+            if (snapshot != null && snapshot.version() == version) {
+                return snapshot.index();
+            }
+            TechnologyAliasIndex fallback = snapshot != null ? snapshot.index() : TechnologyAliasIndex.empty();
+            if (loadFailed && System.nanoTime() - retryAfterNanos < 0) {
+                return fallback;
+            }
+            try {
+                // Read the version before loading, so a change during the load triggers another rebuild
+                snapshot = new VersionedIndex(version, loadIndex());
+            } catch (Exception e) {
+                // Not cached, so the next reader after the backoff retries the load
+                loadFailed = true;
+                retryAfterNanos = System.nanoTime() + retryBackoffNanos;
+                log.warn("Failed to load technology alias index, using {} index until retry: {}",
+                        current != null ? "previous" : "empty", e.getMessage());
+                return fallback;
+            }
+            loadFailed = false;
+            current = snapshot;
+            return snapshot.index();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        dataVersion.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the index when technology records change.
+     * Runs after commit, so a rebuild never caches data from an uncommitted or rolled back import.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTechnologyDataChanged(TechnologyDataChangedEvent event) {
+        log.debug("Technology data changed ({}), invalidating alias index", event.operation());
+        invalidate();
+    }
+
+    /**
+     * Loads all technologies and builds a new index.
+     */
+    private TechnologyAliasIndex loadIndex() {
+        List<Technology> technologies = technologyRepository.findAll();
+        TechnologyAliasIndex index = TechnologyAliasIndex.build(technologies);
+        log.debug("Built technology alias index with {} technologies ({} canonical)",
+                technologies.size(), index.size());
+        return index;
+    }
+
+    private record VersionedIndex(long version, TechnologyAliasIndex index) {
+    }
+}
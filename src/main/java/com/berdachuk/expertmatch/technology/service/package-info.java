@@ -0,0 +1,8 @@
+/**
+ * Technology Service API
+ * <p>
+ * Public API for technology lookup operations.
+ * This package exposes the alias index that other modules can depend on for technology matching.
+ */
+@org.springframework.modulith.NamedInterface("API")
+package com.berdachuk.expertmatch.technology.service;
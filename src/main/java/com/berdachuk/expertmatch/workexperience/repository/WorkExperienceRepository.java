@@ -77,7 +77,24 @@ public interface WorkExperienceRepository {
     List<WorkExperience> findWithoutEmbeddings();
 
     /**
-     * Updates the embedding for a work experience record.
+     * Finds one page of work experience records that don't have embeddings, ordered by ID.
+     * Keyset pagination: pass the last ID of the previous page (empty string for the first page).
+     *
+     * @param afterId Exclusive lower bound for record IDs
+     * @param limit   Maximum number of records to return
+     * @return Page of work experience records without embeddings
+     */
+    List<WorkExperience> findWithoutEmbeddings(String afterId, int limit);
+
+    /**
+     * Counts work experience records that don't have embeddings.
+     *
+     * @return Number of records without embeddings
+     */
+    long countWithoutEmbeddings();
+
+    /**
+     * Updates the embedding for a work experience record and refreshes the employee's profile embedding.
      *
      * @param workExpId Work experience ID
      * @param embedding Embedding vector
@@ -85,6 +102,15 @@ public interface WorkExperienceRepository {
      */
     void updateEmbedding(String workExpId, List<Double> embedding, int dimension);
 
+    /**
+     * Updates embeddings for multiple work experience records with a single JDBC batch, then refreshes the
+     * profile embeddings of the affected employees with one statement.
+     *
+     * @param embeddingsByWorkExpId Embedding vectors keyed by work experience ID
+     * @param dimension             Embedding dimension (1024 or 1536)
+     */
+    void updateEmbeddings(Map<String, float[]> embeddingsByWorkExpId, int dimension);
+
     /**
      * Returns the total count of work experience records.
      *
@@ -1,14 +1,26 @@
 package com.berdachuk.expertmatch.workexperience.repository.impl;
 
+import com.berdachuk.expertmatch.core.config.VectorStorageProperties;
 import com.berdachuk.expertmatch.core.repository.sql.InjectSql;
+import com.berdachuk.expertmatch.core.util.PgVectorUtils;
 import com.berdachuk.expertmatch.workexperience.domain.WorkExperience;
 import com.berdachuk.expertmatch.workexperience.repository.WorkExperienceRepository;
+import com.pgvector.PGvector;
 import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.stereotype.Repository;
 
 import java.sql.Array;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -21,6 +33,7 @@ import java.util.*;
 public class WorkExperienceRepositoryImpl implements WorkExperienceRepository {
 
     private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final VectorStorageProperties vectorStorageProperties;
 
     @InjectSql("/sql/workexperience/findByEmployeeId.sql")
     private String findByEmployeeIdSql;
@@ -43,17 +56,31 @@ public class WorkExperienceRepositoryImpl implements WorkExperienceRepository {
     @InjectSql("/sql/workexperience/findWithoutEmbeddings.sql")
     private String findWithoutEmbeddingsSql;
 
+    @InjectSql("/sql/workexperience/findWithoutEmbeddingsPage.sql")
+    private String findWithoutEmbeddingsPageSql;
+
+    @InjectSql("/sql/workexperience/countWithoutEmbeddings.sql")
+    private String countWithoutEmbeddingsSql;
+
     @InjectSql("/sql/workexperience/updateEmbedding.sql")
     private String updateEmbeddingSql;
 
+    @InjectSql("/sql/workexperience/updateEmbeddingNative.sql")
+    private String updateEmbeddingNativeSql;
+
+    @InjectSql("/sql/workexperience/refreshProfileEmbeddings.sql")
+    private String refreshProfileEmbeddingsSql;
+
     @InjectSql("/sql/workexperience/count.sql")
     private String countSql;
 
     @InjectSql("/sql/workexperience/deleteAll.sql")
     private String deleteAllSql;
 
-    public WorkExperienceRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate) {
+    public WorkExperienceRepositoryImpl(NamedParameterJdbcTemplate namedJdbcTemplate,
+                                        VectorStorageProperties vectorStorageProperties) {
         this.namedJdbcTemplate = namedJdbcTemplate;
+        this.vectorStorageProperties = vectorStorageProperties;
     }
 
     /**
@@ -242,38 +269,63 @@ public class WorkExperienceRepositoryImpl implements WorkExperienceRepository {
      */
     @Override
     public List<WorkExperience> findWithoutEmbeddings() {
-        return namedJdbcTemplate.query(findWithoutEmbeddingsSql, Map.of(), (rs, rowNum) -> {
-            Array technologiesArray = rs.getArray("technologies");
-            List<String> technologies = technologiesArray != null
-                    ? List.of((String[]) technologiesArray.getArray())
-                    : List.of();
+        return namedJdbcTemplate.query(findWithoutEmbeddingsSql, Map.of(), this::mapWorkExperienceForEmbedding);
+    }
 
-            Date startDate = rs.getDate("start_date");
-            Date endDate = rs.getDate("end_date");
+    /**
+     * Finds one page of work experience records that don't have embeddings, ordered by ID.
+     */
+    @Override
+    public List<WorkExperience> findWithoutEmbeddings(String afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterId", afterId != null ? afterId : "");
+        params.put("limit", limit);
+        return namedJdbcTemplate.query(findWithoutEmbeddingsPageSql, params, this::mapWorkExperienceForEmbedding);
+    }
 
-            Instant startInstant = startDate != null
-                    ? startDate.toLocalDate().atStartOfDay(ZoneId.systemDefault()).toInstant()
-                    : null;
-            Instant endInstant = endDate != null
-                    ? endDate.toLocalDate().atStartOfDay(ZoneId.systemDefault()).toInstant()
-                    : null;
+    /**
+     * Counts work experience records that don't have embeddings.
+     */
+    @Override
+    public long countWithoutEmbeddings() {
+        Long result = namedJdbcTemplate.queryForObject(countWithoutEmbeddingsSql, Map.of(), Long.class);
+        return result != null ? result : 0L;
+    }
 
-            return new WorkExperience(
-                    rs.getString("id"),
-                    rs.getString("employee_id"),
-                    rs.getString("project_id"),
-                    rs.getString("customer_id"),
-                    rs.getString("project_name"),
-                    rs.getString("customer_name"),
-                    rs.getString("industry"),
-                    rs.getString("role"),
-                    startInstant,
-                    endInstant,
-                    rs.getString("project_summary"),
-                    rs.getString("responsibilities"),
-                    technologies
-            );
-        });
+    /**
+     * Maps a work experience row selected for embedding generation.
+     */
+    private WorkExperience mapWorkExperienceForEmbedding(ResultSet rs, int rowNum) throws SQLException {
+        Array technologiesArray = rs.getArray("technologies");
+        List<String> technologies = technologiesArray != null
+                ? List.of((String[]) technologiesArray.getArray())
+                : List.of();
+
+        Date startDate = rs.getDate("start_date");
+        Date endDate = rs.getDate("end_date");
+
+        Instant startInstant = startDate != null
+                ? startDate.toLocalDate().atStartOfDay(ZoneId.systemDefault()).toInstant()
+                : null;
+        Instant endInstant = endDate != null
+                ? endDate.toLocalDate().atStartOfDay(ZoneId.systemDefault()).toInstant()
+                : null;
+
+        return new WorkExperience(
+                rs.getString("id"),
+                rs.getString("employee_id"),
+                rs.getString("project_id"),
+                rs.getString("customer_id"),
+                rs.getString("project_name"),
+                rs.getString("customer_name"),
+                rs.getString("industry"),
+                rs.getString("role"),
+                startInstant,
+                endInstant,
+                rs.getString("project_summary"),
+                rs.getString("responsibilities"),
+                technologies
+        );
     }
 
     /**
@@ -281,70 +333,89 @@ public class WorkExperienceRepositoryImpl implements WorkExperienceRepository {
      */
     @Override
     public void updateEmbedding(String workExpId, List<Double> embedding, int dimension) {
-        // Convert to float array
-        float[] embeddingArray = new float[embedding.size()];
-        for (int i = 0; i < embedding.size(); i++) {
-            embeddingArray[i] = embedding.get(i).floatValue();
-        }
-
-        // Normalize to 1536 dimensions (database schema supports max 1536)
-        float[] normalizedEmbedding = normalizeEmbeddingDimension(embeddingArray, 1536);
-
-        String vectorString = formatVector(normalizedEmbedding);
+        boolean nativeStorage = vectorStorageProperties.isNative();
+        // Native storage keeps the model dimension; padded storage pads directly into the database
+        // dimension (schema supports max 1536), no intermediate float[] copy
+        float[] storedEmbedding = PgVectorUtils.padInto(embedding,
+                new float[nativeStorage ? embedding.size() : PgVectorUtils.DATABASE_EMBEDDING_DIMENSION]);
 
         Map<String, Object> params = new HashMap<>();
         params.put("id", workExpId);
-        params.put("embedding", vectorString);
+        params.put("embedding", new PGvector(storedEmbedding));
         params.put("dimension", dimension);
 
-        namedJdbcTemplate.update(updateEmbeddingSql, params);
+        namedJdbcTemplate.update(nativeStorage ? updateEmbeddingNativeSql : updateEmbeddingSql, params);
+        refreshProfileEmbeddings(List.of(workExpId));
     }
 
     /**
-     * Returns the total count of work experience records.
+     * Updates embeddings for multiple work experience records with a single JDBC batch.
+     * With padded storage each row is padded into one reused buffer; the driver encodes the vector parameter
+     * when it is bound, before the buffer is overwritten by the next row. With native storage rows are bound
+     * as-is and cast to halfvec by the database.
      */
     @Override
-    public long count() {
-        Long result = namedJdbcTemplate.queryForObject(countSql, Map.of(), Long.class);
-        return result != null ? result : 0L;
+    public void updateEmbeddings(Map<String, float[]> embeddingsByWorkExpId, int dimension) {
+        if (embeddingsByWorkExpId.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, float[]>> rows = new ArrayList<>(embeddingsByWorkExpId.entrySet());
+        boolean nativeStorage = vectorStorageProperties.isNative();
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(
+                nativeStorage ? updateEmbeddingNativeSql : updateEmbeddingSql);
+        String positionalSql = NamedParameterUtils.substituteNamedParameters(parsedSql, null);
+        float[] buffer = nativeStorage ? null : new float[PgVectorUtils.DATABASE_EMBEDDING_DIMENSION];
+
+        namedJdbcTemplate.getJdbcTemplate().batchUpdate(positionalSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int rowIndex) throws SQLException {
+                Map.Entry<String, float[]> row = rows.get(rowIndex);
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("id", row.getKey())
+                        .addValue("embedding", new PGvector(nativeStorage
+                                ? row.getValue()
+                                : PgVectorUtils.padInto(row.getValue(), buffer)))
+                        .addValue("dimension", dimension);
+                Object[] values = NamedParameterUtils.buildValueArray(parsedSql, params, null);
+                for (int parameterIndex = 0; parameterIndex < values.length; parameterIndex++) {
+                    StatementCreatorUtils.setParameterValue(preparedStatement, parameterIndex + 1,
+                            SqlTypeValue.TYPE_UNKNOWN, values[parameterIndex]);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        refreshProfileEmbeddings(List.copyOf(embeddingsByWorkExpId.keySet()));
     }
 
     /**
-     * Deletes all work experience records.
+     * Recomputes the profile embeddings (mean of work experience embeddings) of the employees owning the
+     * given work experience records.
      */
-    @Override
-    public int deleteAll() {
-        return namedJdbcTemplate.update(deleteAllSql, Map.of());
+    private void refreshProfileEmbeddings(List<String> workExpIds) {
+        Map<String, Object> params = Map.of("ids", workExpIds.toArray(new String[0]));
+        namedJdbcTemplate.update(refreshProfileEmbeddingsSql, params);
     }
 
     /**
-     * Normalizes embedding to target dimension.
+     * Returns the total count of work experience records.
      */
-    private float[] normalizeEmbeddingDimension(float[] embedding, int targetDimension) {
-        if (embedding.length == targetDimension) {
-            return embedding;
-        }
-
-        float[] normalized = new float[targetDimension];
-        int copyLength = Math.min(embedding.length, targetDimension);
-        System.arraycopy(embedding, 0, normalized, 0, copyLength);
-        // Remaining elements are already zero (default float value)
-
-        return normalized;
+    @Override
+    public long count() {
+        Long result = namedJdbcTemplate.queryForObject(countSql, Map.of(), Long.class);
+        return result != null ? result : 0L;
     }
 
     /**
-     * Formats float array as PostgreSQL vector string.
+     * Deletes all work experience records.
      */
-    private String formatVector(float[] vector) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < vector.length; i++) {
-            if (i > 0) sb.append(",");
-            sb.append(String.format("%.6f", vector[i]));
-        }
-        sb.append("]");
-        return sb.toString();
+    @Override
+    public int deleteAll() {
+        return namedJdbcTemplate.update(deleteAllSql, Map.of());
     }
 
 }
-
@@ -0,0 +1,36 @@
+-- ExpertMatch Database Schema
+-- Version 2: Precomputed full-text search vector for keyword search
+-- Replaces per-query to_tsvector over project_summary, responsibilities and technologies
+-- with a stored tsvector column backed by a GIN index.
+-- Trigger-maintained because array_to_string is not immutable and cannot be used in a generated column.
+
+SET search_path = expertmatch, public;
+
+ALTER TABLE expertmatch.work_experience ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+-- Function to build the search vector
+-- Technologies weigh highest, then project summary, then responsibilities (used by ts_rank_cd)
+CREATE OR REPLACE FUNCTION expertmatch.update_work_experience_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector =
+        setweight(to_tsvector('english', COALESCE(array_to_string(NEW.technologies, ' '), '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(NEW.project_summary, '')), 'B') ||
+        setweight(to_tsvector('english', COALESCE(NEW.responsibilities, '')), 'C');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER update_work_experience_search_vector
+    BEFORE INSERT OR UPDATE OF project_summary, responsibilities, technologies ON expertmatch.work_experience
+    FOR EACH ROW EXECUTE FUNCTION expertmatch.update_work_experience_search_vector();
+
+-- Backfill existing rows
+UPDATE expertmatch.work_experience
+SET search_vector =
+    setweight(to_tsvector('english', COALESCE(array_to_string(technologies, ' '), '')), 'A') ||
+    setweight(to_tsvector('english', COALESCE(project_summary, '')), 'B') ||
+    setweight(to_tsvector('english', COALESCE(responsibilities, '')), 'C');
+
+-- GIN index for full-text search
+CREATE INDEX work_experience_search_vector_idx ON expertmatch.work_experience USING GIN(search_vector);
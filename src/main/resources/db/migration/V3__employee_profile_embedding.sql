@@ -0,0 +1,35 @@
+-- ExpertMatch Database Schema
+-- Version 3: Employee-level profile embeddings
+-- One embedding per employee, the mean of the employee's work experience embeddings, with its own HNSW index.
+-- Expert-level vector search scans this index and returns k distinct experts, instead of ranking
+-- work_experience rows where prolific experts take several of the k slots.
+-- Maintained by WorkExperienceRepository whenever work experience embeddings are written.
+
+SET search_path = expertmatch, public;
+
+CREATE TABLE IF NOT EXISTS expertmatch.employee_profile_embedding (
+    employee_id VARCHAR(74) PRIMARY KEY REFERENCES expertmatch.employee(id) ON DELETE CASCADE,
+    -- Mean of the employee's work experience embeddings (same padded dimension as work_experience.embedding)
+    embedding vector(1536) NOT NULL,
+    -- Actual embedding dimension of the source work experience embeddings (1024 or 1536)
+    embedding_dimension INT,
+    -- Number of work experience embeddings averaged into the profile
+    work_experience_count INT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Backfill from existing work experience embeddings
+INSERT INTO expertmatch.employee_profile_embedding (employee_id, embedding, embedding_dimension, work_experience_count)
+SELECT
+    we.employee_id,
+    AVG(we.embedding),
+    MAX(we.embedding_dimension),
+    COUNT(*)
+FROM expertmatch.work_experience we
+WHERE we.embedding IS NOT NULL
+GROUP BY we.employee_id
+ON CONFLICT (employee_id) DO NOTHING;
+
+-- HNSW index for expert-level vector similarity search (matching work_experience_embedding_idx configuration)
+CREATE INDEX employee_profile_embedding_idx ON expertmatch.employee_profile_embedding
+    USING hnsw (embedding vector_cosine_ops) WITH (m = 16, ef_construction = 64);
@@ -0,0 +1,35 @@
+-- ExpertMatch Database Schema
+-- Version 4: Native-dimension half-precision embedding storage
+-- Adds work_experience.embedding_native (halfvec, unconstrained dimension) used when
+-- expertmatch.vector-storage.mode=native. Embeddings keep the model's native dimension instead of being
+-- zero-padded to vector(1536), and are stored at half precision: a 1024-dimension bge-m3 embedding takes
+-- 2 KB instead of 6 KB, and its HNSW index shrinks accordingly.
+--
+-- HNSW needs a fixed dimension, so there is one partial expression index per supported model dimension;
+-- queries must use the same cast and embedding_dimension predicate to match it.
+-- The binary-quantized indexes (1 bit per dimension) serve candidate generation with full-precision rescoring.
+--
+-- Switching existing data from padded to native storage without re-embedding:
+--   UPDATE expertmatch.work_experience
+--   SET embedding_native = subvector(embedding, 1, embedding_dimension)::halfvec, embedding = NULL
+--   WHERE embedding IS NOT NULL;
+
+SET search_path = expertmatch, public;
+
+ALTER TABLE expertmatch.work_experience ADD COLUMN IF NOT EXISTS embedding_native halfvec;
+
+-- Ollama BAAI/bge-m3 (1024 dimensions)
+CREATE INDEX work_experience_embedding_native_1024_idx ON expertmatch.work_experience
+    USING hnsw ((embedding_native::halfvec(1024)) halfvec_cosine_ops) WITH (m = 16, ef_construction = 64)
+    WHERE embedding_dimension = 1024;
+CREATE INDEX work_experience_embedding_binary_1024_idx ON expertmatch.work_experience
+    USING hnsw ((binary_quantize(embedding_native::halfvec(1024))::bit(1024)) bit_hamming_ops) WITH (m = 16, ef_construction = 64)
+    WHERE embedding_dimension = 1024;
+
+-- OpenAI/DIAL text-embedding-3-large (1536 dimensions)
+CREATE INDEX work_experience_embedding_native_1536_idx ON expertmatch.work_experience
+    USING hnsw ((embedding_native::halfvec(1536)) halfvec_cosine_ops) WITH (m = 16, ef_construction = 64)
+    WHERE embedding_dimension = 1536;
+CREATE INDEX work_experience_embedding_binary_1536_idx ON expertmatch.work_experience
+    USING hnsw ((binary_quantize(embedding_native::halfvec(1536))::bit(1536)) bit_hamming_ops) WITH (m = 16, ef_construction = 64)
+    WHERE embedding_dimension = 1536;
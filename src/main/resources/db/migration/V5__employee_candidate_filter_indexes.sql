@@ -0,0 +1,20 @@
+-- ExpertMatch Database Schema
+-- Version 5: Covering indexes for candidate filters
+-- Candidate filters pushed down into retrieval select employee IDs by seniority, English level and availability:
+--   employee_id IN (SELECT e.id FROM expertmatch.employee e WHERE e.seniority >= ... AND e.language_english >= ...)
+-- The covering indexes below let that subquery run as an index-only scan for each combination of constraints.
+
+SET search_path = expertmatch, public;
+
+-- Seniority (optionally with English level); supersedes the plain seniority index
+CREATE INDEX employee_seniority_filter_idx ON expertmatch.employee (seniority, language_english)
+    INCLUDE (id, availability_status);
+DROP INDEX IF EXISTS expertmatch.employee_seniority_idx;
+
+-- English level only
+CREATE INDEX employee_language_english_filter_idx ON expertmatch.employee (language_english)
+    INCLUDE (id, availability_status);
+
+-- Availability status (equality)
+CREATE INDEX employee_availability_status_idx ON expertmatch.employee (availability_status)
+    INCLUDE (id, seniority, language_english);
@@ -0,0 +1,3 @@
+SELECT indexname
+FROM pg_catalog.pg_indexes
+WHERE schemaname = ?
\ No newline at end of file
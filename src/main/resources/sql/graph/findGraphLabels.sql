@@ -0,0 +1,5 @@
+SELECT l.name
+FROM ag_catalog.ag_label l
+JOIN ag_catalog.ag_graph g ON l.graph = g.graphid
+WHERE g.name = ?
+AND l.name NOT IN ('_ag_label_vertex', '_ag_label_edge')
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- Transaction-local pgvector settings (0.8+): keep scanning the HNSW index until filtered rows fill the LIMIT
+SELECT set_config('hnsw.iterative_scan', 'relaxed_order', true),
+       set_config('hnsw.max_scan_tuples', :maxScanTuples, true)
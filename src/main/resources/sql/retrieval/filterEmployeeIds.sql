@@ -0,0 +1,4 @@
+SELECT ids.employee_id
+FROM unnest(:employeeIds::text[]) AS ids(employee_id)
+WHERE ids.employee_id IS NOT NULL
+{candidateFilter}
@@ -0,0 +1,5 @@
+SELECT
+    pe.employee_id,
+    pe.embedding
+FROM expertmatch.employee_profile_embedding pe
+WHERE pe.employee_id = ANY(:ids)
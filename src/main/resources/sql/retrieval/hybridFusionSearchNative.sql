@@ -0,0 +1,70 @@
+WITH vector_hits AS (
+    -- Per-dimension halfvec HNSW top-k over work experience; threshold applied after the index scan
+    SELECT we.employee_id,
+           1 - (we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})) AS similarity
+    FROM expertmatch.work_experience we
+    WHERE we.embedding_dimension = {dimension}
+    AND we.embedding_native IS NOT NULL
+    {candidateFilter}
+    ORDER BY we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})
+    LIMIT :candidatesPerChannel
+),
+vector_ranked AS (
+    SELECT vh.employee_id,
+           MAX(vh.similarity) AS score,
+           ROW_NUMBER() OVER (ORDER BY MAX(vh.similarity) DESC, vh.employee_id) AS rank
+    FROM vector_hits vh
+    WHERE vh.similarity >= :threshold
+    GROUP BY vh.employee_id
+),
+keyword_ranked AS (
+    -- Full-text top-k over the precomputed search_vector (GIN index)
+    SELECT we.employee_id,
+           MAX(ts_rank_cd(we.search_vector, query)) AS score,
+           ROW_NUMBER() OVER (ORDER BY MAX(ts_rank_cd(we.search_vector, query)) DESC, we.employee_id) AS rank
+    FROM expertmatch.work_experience we,
+         plainto_tsquery('english', :searchTerms) query
+    WHERE we.search_vector @@ query
+    {candidateFilter}
+    GROUP BY we.employee_id
+    ORDER BY rank
+    LIMIT :candidatesPerChannel
+),
+technology_ranked AS (
+    -- Technology overlap top-k: number of distinct requested technologies per employee
+    SELECT we.employee_id,
+           COUNT(DISTINCT technology) AS score,
+           ROW_NUMBER() OVER (ORDER BY COUNT(DISTINCT technology) DESC, we.employee_id) AS rank
+    FROM expertmatch.work_experience we
+    CROSS JOIN LATERAL unnest(we.technologies) AS technology
+    WHERE we.technologies && :technologies::text[]
+      AND technology = ANY (:technologies::text[])
+      {candidateFilter}
+    GROUP BY we.employee_id
+    ORDER BY rank
+    LIMIT :candidatesPerChannel
+),
+channel_hits AS (
+    SELECT employee_id, 'vector' AS channel, score, rank FROM vector_ranked
+    UNION ALL
+    SELECT employee_id, 'keyword' AS channel, score, rank FROM keyword_ranked
+    UNION ALL
+    SELECT employee_id, 'technology' AS channel, score, rank FROM technology_ranked
+)
+-- Reciprocal rank fusion grouped by employee
+SELECT ch.employee_id,
+       SUM(CASE ch.channel
+               WHEN 'vector' THEN :vectorWeight
+               WHEN 'keyword' THEN :keywordWeight
+               ELSE :technologyWeight
+           END / (:rrfK + ch.rank)) AS fused_score,
+       MAX(ch.score) FILTER (WHERE ch.channel = 'vector') AS vector_score,
+       MAX(ch.rank) FILTER (WHERE ch.channel = 'vector') AS vector_rank,
+       MAX(ch.score) FILTER (WHERE ch.channel = 'keyword') AS keyword_score,
+       MAX(ch.rank) FILTER (WHERE ch.channel = 'keyword') AS keyword_rank,
+       MAX(ch.score) FILTER (WHERE ch.channel = 'technology') AS technology_score,
+       MAX(ch.rank) FILTER (WHERE ch.channel = 'technology') AS technology_rank
+FROM channel_hits ch
+GROUP BY ch.employee_id
+ORDER BY fused_score DESC, ch.employee_id
+LIMIT :maxResults
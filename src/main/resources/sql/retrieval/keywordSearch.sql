@@ -1,8 +1,9 @@
-SELECT DISTINCT we.employee_id
-FROM expertmatch.work_experience we
-WHERE to_tsvector('english', 
-    COALESCE(we.project_summary, '') || ' ' || 
-    COALESCE(we.responsibilities, '') || ' ' ||
-    array_to_string(we.technologies, ' ')
-    ) @@ plainto_tsquery('english', :searchTerms)
+SELECT we.employee_id,
+       MAX(ts_rank_cd(we.search_vector, query)) AS rank
+FROM expertmatch.work_experience we,
+     plainto_tsquery('english', :searchTerms) query
+WHERE we.search_vector @@ query
+{candidateFilter}
+GROUP BY we.employee_id
+ORDER BY rank DESC, we.employee_id
 LIMIT :maxResults
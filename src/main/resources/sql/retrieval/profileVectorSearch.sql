@@ -0,0 +1,9 @@
+SELECT
+    pe.employee_id,
+    pe.work_experience_count,
+    1 - (pe.embedding <=> :queryVector) as similarity
+FROM expertmatch.employee_profile_embedding pe
+WHERE 1 - (pe.embedding <=> :queryVector) >= :threshold
+{candidateFilter}
+ORDER BY pe.embedding <=> :queryVector
+LIMIT :maxResults
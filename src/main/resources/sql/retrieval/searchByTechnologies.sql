@@ -1,4 +1,5 @@
 SELECT DISTINCT we.employee_id
 FROM expertmatch.work_experience we
 WHERE we.technologies && ARRAY[:technologies]::text[]
+{candidateFilter}
 LIMIT :maxResults
@@ -5,9 +5,10 @@ SELECT
     we.project_summary,
     we.role,
     we.technologies,
-    1 - (we.embedding <=> :queryVector::vector) as similarity
+    1 - (we.embedding <=> :queryVector) as similarity
 FROM expertmatch.work_experience we
 WHERE we.embedding IS NOT NULL
-AND 1 - (we.embedding <=> :queryVector::vector) >= :threshold
-ORDER BY we.embedding <=> :queryVector::vector
+AND 1 - (we.embedding <=> :queryVector) >= :threshold
+{candidateFilter}
+ORDER BY we.embedding <=> :queryVector
 LIMIT :maxResults
@@ -0,0 +1,34 @@
+WITH candidates AS MATERIALIZED (
+    -- Over-fetch work experience rows from the HNSW index; with iterative scans the index keeps
+    -- returning rows until the threshold filter has produced enough of them
+    SELECT we.id,
+           we.employee_id,
+           we.project_name,
+           we.project_summary,
+           we.role,
+           we.technologies,
+           we.embedding <=> :queryVector AS distance
+    FROM expertmatch.work_experience we
+    WHERE we.embedding IS NOT NULL
+    AND 1 - (we.embedding <=> :queryVector) >= :threshold
+    {candidateFilter}
+    ORDER BY we.embedding <=> :queryVector
+    LIMIT :candidateLimit
+),
+best_per_employee AS (
+    -- Keep the best-scoring work experience of each employee
+    SELECT c.*,
+           ROW_NUMBER() OVER (PARTITION BY c.employee_id ORDER BY c.distance, c.id) AS employee_rank
+    FROM candidates c
+)
+SELECT b.id AS work_experience_id,
+       b.employee_id,
+       b.project_name,
+       b.project_summary,
+       b.role,
+       b.technologies,
+       1 - b.distance AS similarity
+FROM best_per_employee b
+WHERE b.employee_rank = 1
+ORDER BY b.distance, b.employee_id
+LIMIT :maxResults
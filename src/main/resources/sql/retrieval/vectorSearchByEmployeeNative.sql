@@ -0,0 +1,35 @@
+WITH candidates AS MATERIALIZED (
+    -- Over-fetch work experience rows from the per-dimension halfvec HNSW index; with iterative scans the
+    -- index keeps returning rows until the threshold filter has produced enough of them
+    SELECT we.id,
+           we.employee_id,
+           we.project_name,
+           we.project_summary,
+           we.role,
+           we.technologies,
+           we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension}) AS distance
+    FROM expertmatch.work_experience we
+    WHERE we.embedding_dimension = {dimension}
+    AND we.embedding_native IS NOT NULL
+    AND 1 - (we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})) >= :threshold
+    {candidateFilter}
+    ORDER BY we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})
+    LIMIT :candidateLimit
+),
+best_per_employee AS (
+    -- Keep the best-scoring work experience of each employee
+    SELECT c.*,
+           ROW_NUMBER() OVER (PARTITION BY c.employee_id ORDER BY c.distance, c.id) AS employee_rank
+    FROM candidates c
+)
+SELECT b.id AS work_experience_id,
+       b.employee_id,
+       b.project_name,
+       b.project_summary,
+       b.role,
+       b.technologies,
+       1 - b.distance AS similarity
+FROM best_per_employee b
+WHERE b.employee_rank = 1
+ORDER BY b.distance, b.employee_id
+LIMIT :maxResults
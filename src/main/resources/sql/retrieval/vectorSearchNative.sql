@@ -0,0 +1,15 @@
+SELECT
+    we.id,
+    we.employee_id,
+    we.project_name,
+    we.project_summary,
+    we.role,
+    we.technologies,
+    1 - (we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})) as similarity
+FROM expertmatch.work_experience we
+WHERE we.embedding_dimension = {dimension}
+AND we.embedding_native IS NOT NULL
+AND 1 - (we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})) >= :threshold
+{candidateFilter}
+ORDER BY we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})
+LIMIT :maxResults
@@ -0,0 +1,28 @@
+WITH candidates AS MATERIALIZED (
+    -- Candidate generation by Hamming distance over the binary-quantized index (1 bit per dimension)
+    SELECT we.id
+    FROM expertmatch.work_experience we
+    WHERE we.embedding_dimension = {dimension}
+    AND we.embedding_native IS NOT NULL
+    {candidateFilter}
+    ORDER BY binary_quantize(we.embedding_native::halfvec({dimension}))::bit({dimension})
+             <~> binary_quantize(:queryVector::halfvec({dimension}))
+    LIMIT :candidateLimit
+),
+rescored AS (
+    -- Rescore candidates with cosine distance on the half-precision embeddings
+    SELECT we.id,
+           we.employee_id,
+           we.project_name,
+           we.project_summary,
+           we.role,
+           we.technologies,
+           1 - (we.embedding_native::halfvec({dimension}) <=> :queryVector::halfvec({dimension})) AS similarity
+    FROM candidates c
+    JOIN expertmatch.work_experience we ON we.id = c.id
+)
+SELECT r.*
+FROM rescored r
+WHERE r.similarity >= :threshold
+ORDER BY r.similarity DESC
+LIMIT :maxResults
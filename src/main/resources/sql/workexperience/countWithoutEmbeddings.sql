@@ -0,0 +1,4 @@
+SELECT COUNT(*)
+FROM expertmatch.work_experience
+WHERE embedding IS NULL
+  AND embedding_native IS NULL
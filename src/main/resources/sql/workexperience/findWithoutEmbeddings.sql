@@ -2,3 +2,4 @@ SELECT id, employee_id, project_id, customer_id, project_name, customer_name, in
        role, start_date, end_date, project_summary, responsibilities, technologies
 FROM expertmatch.work_experience
 WHERE embedding IS NULL
+  AND embedding_native IS NULL
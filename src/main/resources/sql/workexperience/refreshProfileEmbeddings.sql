@@ -0,0 +1,24 @@
+INSERT INTO expertmatch.employee_profile_embedding (employee_id, embedding, embedding_dimension, work_experience_count, updated_at)
+SELECT
+    we.employee_id,
+    -- Native (halfvec) embeddings are zero-padded to the profile dimension before averaging
+    AVG(COALESCE(
+        we.embedding,
+        (we.embedding_native::vector::real[] || array_fill(0::real, ARRAY[1536 - we.embedding_dimension]))::vector(1536)
+    )),
+    MAX(we.embedding_dimension),
+    COUNT(*),
+    CURRENT_TIMESTAMP
+FROM expertmatch.work_experience we
+WHERE we.employee_id IN (
+    SELECT changed.employee_id
+    FROM expertmatch.work_experience changed
+    WHERE changed.id = ANY(:ids)
+)
+AND (we.embedding IS NOT NULL OR we.embedding_native IS NOT NULL)
+GROUP BY we.employee_id
+ON CONFLICT (employee_id) DO UPDATE
+    SET embedding = EXCLUDED.embedding,
+        embedding_dimension = EXCLUDED.embedding_dimension,
+        work_experience_count = EXCLUDED.work_experience_count,
+        updated_at = EXCLUDED.updated_at
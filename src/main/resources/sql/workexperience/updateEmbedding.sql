@@ -1,4 +1,4 @@
 UPDATE expertmatch.work_experience
-    SET embedding = :embedding::vector,
+    SET embedding = :embedding,
         embedding_dimension = :dimension
 WHERE id = :id
@@ -0,0 +1,5 @@
+UPDATE expertmatch.work_experience
+    SET embedding_native = :embedding::halfvec,
+        embedding = NULL,
+        embedding_dimension = :dimension
+WHERE id = :id
@@ -0,0 +1,154 @@
+package com.berdachuk.expertmatch.benchmark;
+
+import com.berdachuk.expertmatch.employee.service.impl.ExpertSkillAnalyzer;
+import com.berdachuk.expertmatch.technology.domain.Technology;
+import com.berdachuk.expertmatch.technology.service.TechnologyAliasIndex;
+import com.berdachuk.expertmatch.workexperience.domain.WorkExperience;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the skill analysis part of expert enrichment: 500 experts with 20 work experiences each.
+ * <p>
+ * - {@code perMethodResolution}: previous path, skill match, matched skills and relevant projects each
+ * re-resolve every technology of the expert against every required skill
+ * - {@code singlePassSequential}: {@link ExpertSkillAnalyzer}, one pass per expert
+ * - {@code singlePassParallel}: same analyzer over a parallel stream, as used for large candidate lists
+ * <p>
+ * Run from the project root with allocation profiling:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.berdachuk.expertmatch.benchmark.ExpertEnrichmentBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpertEnrichmentBenchmark {
+
+    private static final int EXPERT_COUNT = 500;
+    private static final int WORK_EXPERIENCES_PER_EXPERT = 20;
+    private static final int TECHNOLOGIES_PER_WORK_EXPERIENCE = 6;
+    private static final int TECHNOLOGY_COUNT = 300;
+
+    private TechnologyAliasIndex index;
+    private List<String> requiredSkills;
+    private List<List<WorkExperience>> experts;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ExpertEnrichmentBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Technology> technologies = new ArrayList<>(TECHNOLOGY_COUNT);
+        for (int i = 0; i < TECHNOLOGY_COUNT; i++) {
+            String name = "Technology " + i;
+            technologies.add(new Technology(String.valueOf(i), name, name.toLowerCase(), "Category",
+                    List.of("tech" + i, "t-" + i)));
+        }
+        index = TechnologyAliasIndex.build(technologies);
+        requiredSkills = List.of("Technology 7", "tech42", "T-120", "Technology 250", "Unlisted Tool");
+
+        experts = new ArrayList<>(EXPERT_COUNT);
+        for (int expert = 0; expert < EXPERT_COUNT; expert++) {
+            List<WorkExperience> workExperiences = new ArrayList<>(WORK_EXPERIENCES_PER_EXPERT);
+            for (int project = 0; project < WORK_EXPERIENCES_PER_EXPERT; project++) {
+                List<String> projectTechnologies = new ArrayList<>(TECHNOLOGIES_PER_WORK_EXPERIENCE);
+                for (int slot = 0; slot < TECHNOLOGIES_PER_WORK_EXPERIENCE; slot++) {
+                    int technology = random.nextInt(TECHNOLOGY_COUNT + 20);
+                    // A few names are missing from the Technology table
+                    projectTechnologies.add(technology < TECHNOLOGY_COUNT
+                            ? (random.nextBoolean() ? "Technology " + technology : "tech" + technology)
+                            : "Unlisted " + technology);
+                }
+                workExperiences.add(new WorkExperience("we-" + expert + "-" + project, "employee-" + expert,
+                        null, null, "Project " + project, null, null, "Developer", null, null, null, null,
+                        projectTechnologies));
+            }
+            experts.add(workExperiences);
+        }
+    }
+
+    @Benchmark
+    public List<ExpertSkillAnalyzer.ExpertAnalysis> singlePassSequential() {
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(index, requiredSkills);
+        return experts.stream().map(analyzer::analyze).toList();
+    }
+
+    @Benchmark
+    public List<ExpertSkillAnalyzer.ExpertAnalysis> singlePassParallel() {
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(index, requiredSkills);
+        return experts.parallelStream().map(analyzer::analyze).toList();
+    }
+
+    @Benchmark
+    public List<ExpertSkillAnalyzer.ExpertAnalysis> perMethodResolution(Blackhole blackhole) {
+        List<ExpertSkillAnalyzer.ExpertAnalysis> analyses = new ArrayList<>(experts.size());
+        for (List<WorkExperience> workExperiences : experts) {
+            // Skill match count and matched skills were computed separately
+            long matchedCount = requiredSkills.stream()
+                    .filter(skill -> workExperiences.stream()
+                            .anyMatch(workExperience -> matchesAny(skill, workExperience.technologies())))
+                    .count();
+            List<String> matchedSkills = requiredSkills.stream()
+                    .filter(skill -> workExperiences.stream()
+                            .anyMatch(workExperience -> matchesAny(skill, workExperience.technologies())))
+                    .toList();
+            List<WorkExperience> relevant = workExperiences.stream()
+                    .filter(workExperience -> requiredSkills.stream()
+                            .anyMatch(skill -> matchesAny(skill, workExperience.technologies())))
+                    .toList();
+            blackhole.consume(matchedCount);
+            analyses.add(new ExpertSkillAnalyzer.ExpertAnalysis(matchedSkills, relevant));
+        }
+        return analyses;
+    }
+
+    private boolean matchesAny(String skill, List<String> technologies) {
+        for (String technology : technologies) {
+            if (matchesTechnology(skill, technology)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Per-pair matching used before the single-pass analyzer: resolves both names on every comparison.
+     */
+    private boolean matchesTechnology(String skill, String technology) {
+        int skillId = index.resolve(skill);
+        int technologyId = index.resolve(technology);
+        String skillName = skillId != TechnologyAliasIndex.UNKNOWN
+                ? index.canonicalName(skillId) : TechnologyAliasIndex.normalize(skill);
+        String technologyName = technologyId != TechnologyAliasIndex.UNKNOWN
+                ? index.canonicalName(technologyId) : TechnologyAliasIndex.normalize(technology);
+        if (skillId != TechnologyAliasIndex.UNKNOWN && skillId == technologyId) {
+            return true;
+        }
+        if (skillName.equals(technologyName) || skillName.contains(technologyName)
+                || technologyName.contains(skillName)) {
+            return true;
+        }
+        return technologyId != TechnologyAliasIndex.UNKNOWN && index.isSynonym(technologyId, skillName);
+    }
+}
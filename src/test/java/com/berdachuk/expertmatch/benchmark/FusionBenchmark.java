@@ -0,0 +1,130 @@
+package com.berdachuk.expertmatch.benchmark;
+
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+import com.berdachuk.expertmatch.retrieval.service.ResultFusionService.FusionResult;
+import com.berdachuk.expertmatch.retrieval.service.impl.TopKFusion;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JMH benchmark comparing the per-query cost of fusing channel results.
+ * <p>
+ * - {@code hashMapFullSort}: previous path, boxed score map merged per hit and every candidate sorted
+ * - {@code topKWeightedRrf}: interned IDs, primitive score arrays and bounded top-k heap with weighted RRF
+ * - {@code topKCombSum}: same with rank-derived CombSUM scores
+ * - {@code topKCombSumScored}: CombSUM over channel candidates carrying their similarity scores
+ * <p>
+ * Run from the project root with allocation profiling:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.berdachuk.expertmatch.benchmark.FusionBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusionBenchmark {
+
+    private static final int RRF_K = 60;
+    private static final int TOP_K = 100;
+
+    // Candidates returned by each channel
+    @Param({"100", "1000"})
+    private int candidatesPerChannel;
+
+    private final TopKFusion topKFusion = new TopKFusion(RRF_K);
+    private Map<String, List<String>> results;
+    private Map<String, Double> weights;
+    private List<ScoredCandidates> scoredResults;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FusionBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        weights = Map.of("vector", 1.0, "graph", 0.8, "keyword", 0.6, "person", 1.2);
+        results = new LinkedHashMap<>();
+        // Channels overlap on about half of their candidates
+        int expertPool = candidatesPerChannel * 2;
+        for (String channel : weights.keySet()) {
+            List<String> expertIds = new ArrayList<>(candidatesPerChannel);
+            for (int i = 0; i < candidatesPerChannel; i++) {
+                expertIds.add("expert-" + random.nextInt(expertPool));
+            }
+            results.put(channel, expertIds);
+        }
+        scoredResults = new ArrayList<>(results.size());
+        for (Map.Entry<String, List<String>> entry : results.entrySet()) {
+            ScoredCandidates.Builder candidates = ScoredCandidates.builder(entry.getKey(),
+                    ScoredCandidates.ScoreType.SIMILARITY, candidatesPerChannel);
+            double similarity = 1.0;
+            for (String expertId : entry.getValue()) {
+                similarity -= random.nextDouble() * 0.5 / candidatesPerChannel;
+                candidates.add(expertId, similarity);
+            }
+            scoredResults.add(candidates.build());
+        }
+    }
+
+    @Benchmark
+    public List<String> hashMapFullSort() {
+        return fuseWithHashMap(results, weights).stream().limit(TOP_K).toList();
+    }
+
+    @Benchmark
+    public FusionResult topKWeightedRrf() {
+        return topKFusion.fuse(results, weights, FusionMethod.WEIGHTED_RRF, TOP_K);
+    }
+
+    @Benchmark
+    public FusionResult topKCombSum() {
+        return topKFusion.fuse(results, weights, FusionMethod.COMB_SUM, TOP_K);
+    }
+
+    @Benchmark
+    public FusionResult topKCombSumScored() {
+        return topKFusion.fuse(scoredResults, weights, FusionMethod.COMB_SUM, TOP_K);
+    }
+
+    /**
+     * Reciprocal Rank Fusion used before top-k fusion.
+     */
+    private static List<String> fuseWithHashMap(Map<String, List<String>> results, Map<String, Double> weights) {
+        Map<String, Double> scores = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : results.entrySet()) {
+            double weight = weights.getOrDefault(entry.getKey(), 1.0);
+            List<String> expertIds = entry.getValue();
+            for (int rank = 0; rank < expertIds.size(); rank++) {
+                double rrfScore = weight / (RRF_K + rank + 1);
+                scores.merge(expertIds.get(rank), rrfScore, Double::sum);
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
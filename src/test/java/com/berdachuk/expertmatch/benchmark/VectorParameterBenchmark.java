@@ -0,0 +1,116 @@
+package com.berdachuk.expertmatch.benchmark;
+
+import com.berdachuk.expertmatch.core.util.PgVectorUtils;
+import com.pgvector.PGvector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the per-call cost of binding an embedding as a query or update parameter.
+ * <p>
+ * - {@code formattedString*}: previous path, pad into a new array and build the text vector with String.format
+ * - {@code pgVectorText}: typed PGvector parameter encoded as text by the driver
+ * - {@code pgVectorBinary}: typed PGvector parameter encoded in binary form
+ * - {@code boxedListPadInto}: write path for {@code List<Double>} embeddings padded into a reused buffer
+ * <p>
+ * Run from the project root with allocation profiling:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.berdachuk.expertmatch.benchmark.VectorParameterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorParameterBenchmark {
+
+    @Param({"1024", "1536"})
+    private int dimension;
+
+    private float[] embedding;
+    private List<Double> boxedEmbedding;
+    private float[] buffer;
+    private byte[] binaryBuffer;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(VectorParameterBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        embedding = new float[dimension];
+        boxedEmbedding = new ArrayList<>(dimension);
+        for (int i = 0; i < dimension; i++) {
+            embedding[i] = random.nextFloat() * 2 - 1;
+            boxedEmbedding.add((double) embedding[i]);
+        }
+        buffer = new float[PgVectorUtils.DATABASE_EMBEDDING_DIMENSION];
+        binaryBuffer = new byte[new PGvector(buffer).lengthInBytes()];
+    }
+
+    @Benchmark
+    public String formattedString() {
+        float[] normalized = embedding.length == PgVectorUtils.DATABASE_EMBEDDING_DIMENSION
+                ? embedding
+                : Arrays.copyOf(embedding, PgVectorUtils.DATABASE_EMBEDDING_DIMENSION);
+        return formatVector(normalized);
+    }
+
+    @Benchmark
+    public String formattedStringFromBoxedList() {
+        float[] embeddingArray = new float[boxedEmbedding.size()];
+        for (int i = 0; i < boxedEmbedding.size(); i++) {
+            embeddingArray[i] = boxedEmbedding.get(i).floatValue();
+        }
+        float[] normalized = Arrays.copyOf(embeddingArray, PgVectorUtils.DATABASE_EMBEDDING_DIMENSION);
+        return formatVector(normalized);
+    }
+
+    @Benchmark
+    public String pgVectorText() {
+        return PgVectorUtils.toDatabaseVector(embedding).getValue();
+    }
+
+    @Benchmark
+    public byte[] pgVectorBinary() {
+        PGvector vector = new PGvector(PgVectorUtils.padInto(embedding, buffer));
+        vector.toBytes(binaryBuffer, 0);
+        return binaryBuffer;
+    }
+
+    @Benchmark
+    public float[] boxedListPadInto() {
+        return PgVectorUtils.padInto(boxedEmbedding, buffer);
+    }
+
+    /**
+     * Text vector formatting used before typed parameters.
+     */
+    private static String formatVector(float[] vector) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) sb.append(",");
+            sb.append(String.format("%.6f", vector[i]));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.berdachuk.expertmatch.core.config;
+
+import com.berdachuk.expertmatch.core.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedVirtualThreadExecutor.
+ */
+class BoundedVirtualThreadExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedVirtualThreadExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new BoundedVirtualThreadExecutor("test", new ExecutionProperties.PoolConfig(2, 1), 7, meterRegistry);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    void testRunsTaskOnVirtualThread() throws Exception {
+        CompletableFuture<Boolean> result = executor.submit(() -> Thread.currentThread().isVirtual());
+
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testRejectsBeyondConcurrencyPlusQueueCapacity() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 3; i++) {
+            executor.submit(() -> {
+                started.countDown();
+                awaitRelease();
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> executor.submit(() -> {
+                }));
+
+        assertEquals(7, exception.getRetryAfterSeconds());
+        assertEquals(2, executor.active());
+        assertEquals(1, executor.queued());
+        assertEquals(1.0, meterRegistry.get("expertmatch.execution.rejected").tag("executor", "test").counter().count());
+    }
+
+    @Test
+    void testCapacityIsReleasedWhenTasksFinish() throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        for (int round = 0; round < 3; round++) {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(completed::incrementAndGet);
+            }
+            CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(9, completed.get());
+        assertEquals(0, executor.active());
+        assertEquals(0, executor.queued());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
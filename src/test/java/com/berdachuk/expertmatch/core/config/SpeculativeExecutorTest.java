@@ -0,0 +1,110 @@
+package com.berdachuk.expertmatch.core.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpeculativeExecutor.
+ */
+class SpeculativeExecutorTest {
+
+    private ExecutionProperties.SpeculativeConfig config;
+    private SpeculativeExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        config = new ExecutionProperties.SpeculativeConfig();
+        config.setMaxConcurrent(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    void testStartsTaskBeforeResultIsRequested() throws Exception {
+        executor = newExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+
+        SpeculativeExecutor.Speculation<String> speculation = executor.start(() -> {
+            started.countDown();
+            return "result";
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(speculation.isStarted());
+        assertEquals("result", speculation.get());
+    }
+
+    @Test
+    void testSaturatedExecutorDefersTaskToCaller() throws Exception {
+        executor = newExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.start(() -> {
+            started.countDown();
+            awaitRelease();
+            return null;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        SpeculativeExecutor.Speculation<String> speculation = executor.start(() -> {
+            runner.set(Thread.currentThread());
+            return "deferred";
+        });
+
+        assertFalse(speculation.isStarted());
+        assertNull(runner.get());
+        assertEquals("deferred", speculation.get());
+        assertSame(Thread.currentThread(), runner.get());
+    }
+
+    @Test
+    void testDisabledExecutorDefersTaskToCaller() {
+        config.setEnabled(false);
+        executor = newExecutor();
+
+        SpeculativeExecutor.Speculation<Integer> speculation = executor.start(() -> 42);
+
+        assertFalse(speculation.isStarted());
+        assertEquals(42, speculation.get());
+    }
+
+    @Test
+    void testTaskExceptionIsRethrownUnwrapped() {
+        executor = newExecutor();
+
+        SpeculativeExecutor.Speculation<String> speculation = executor.start(() -> {
+            throw new IllegalStateException("Embedding service unavailable");
+        });
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, speculation::get);
+        assertEquals("Embedding service unavailable", exception.getMessage());
+    }
+
+    private SpeculativeExecutor newExecutor() {
+        return new SpeculativeExecutor(config, 5, new SimpleMeterRegistry());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -126,16 +126,17 @@ public class TestAIConfig {
         EmbeddingModel mockModel = mock(EmbeddingModel.class);
 
         // Mock EmbeddingResponse with a default embedding vector (1536 dimensions, OpenAI-compatible)
-        float[] defaultEmbedding = new float[1536];
-        org.springframework.ai.embedding.Embedding embedding =
-                new org.springframework.ai.embedding.Embedding(defaultEmbedding, 0);
-        EmbeddingResponse mockResponse = new EmbeddingResponse(List.of(embedding));
-
+        // One embedding per input text, as real models return for batch requests
         // Mock the embedForResponse method to return the mock response
         // This ensures no real LLM API calls are made during tests
         when(mockModel.embedForResponse(any(List.class))).thenAnswer(invocation -> {
             log.info("MOCK EmbeddingModel.embedForResponse() invoked - using MOCK, NOT real LLM");
-            return mockResponse;
+            List<?> texts = invocation.getArgument(0);
+            List<org.springframework.ai.embedding.Embedding> embeddings = new java.util.ArrayList<>();
+            for (int i = 0; i < Math.max(1, texts.size()); i++) {
+                embeddings.add(new org.springframework.ai.embedding.Embedding(new float[1536], i));
+            }
+            return new EmbeddingResponse(embeddings);
         });
 
         return mockModel;
@@ -0,0 +1,81 @@
+package com.berdachuk.expertmatch.core.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedTtlCache.
+ */
+class BoundedTtlCacheTest {
+
+    private static final String PREFIX = "test.cache";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(0);
+    }
+
+    @Test
+    void testGetIfPresentCountsHitsAndMisses() {
+        BoundedTtlCache<String, String> cache = newCache(10, 60);
+
+        assertNull(cache.getIfPresent("a"));
+        cache.put("a", "value");
+        assertEquals("value", cache.getIfPresent("a"));
+
+        assertEquals(1.0, counter("requests", "result", "hit"));
+        assertEquals(1.0, counter("requests", "result", "miss"));
+        assertEquals(1.0, meterRegistry.get(PREFIX + ".size").gauge().value());
+    }
+
+    @Test
+    void testExpiredEntryIsEvictedOnAccess() {
+        BoundedTtlCache<String, String> cache = newCache(10, 60);
+
+        cache.put("a", "value");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1.0, counter("evictions", "cause", "expired"));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedBeyondMaxEntries() {
+        BoundedTtlCache<String, String> cache = newCache(2, 60);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.getIfPresent("a");
+        cache.put("c", "3");
+
+        assertEquals(2, cache.size());
+        assertNull(cache.getIfPresent("b"));
+        assertEquals("1", cache.getIfPresent("a"));
+        assertEquals(1.0, counter("evictions", "cause", "size"));
+    }
+
+    @Test
+    void testTextHashIgnoresFormattingOnlyDifferences() {
+        assertEquals(BoundedTtlCache.textHash("Java   Spring\nBoot"), BoundedTtlCache.textHash("  Java Spring Boot "));
+        assertNotEquals(BoundedTtlCache.textHash("Java"), BoundedTtlCache.textHash("Python"));
+    }
+
+    private BoundedTtlCache<String, String> newCache(int maxEntries, long ttlSeconds) {
+        return new BoundedTtlCache<>(PREFIX, "Test cache", maxEntries, ttlSeconds, meterRegistry, clock::get);
+    }
+
+    private double counter(String name, String tagKey, String tagValue) {
+        return meterRegistry.get(PREFIX + "." + name).tag(tagKey, tagValue).counter().count();
+    }
+}
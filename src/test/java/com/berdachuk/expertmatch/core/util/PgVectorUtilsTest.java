@@ -0,0 +1,65 @@
+package com.berdachuk.expertmatch.core.util;
+
+import com.pgvector.PGvector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PgVectorUtils.
+ */
+class PgVectorUtilsTest {
+
+    @Test
+    void testToDatabaseVector_WrapsDatabaseDimensionWithoutCopy() {
+        float[] embedding = new float[PgVectorUtils.DATABASE_EMBEDDING_DIMENSION];
+        embedding[0] = 0.5f;
+
+        PGvector vector = PgVectorUtils.toDatabaseVector(embedding);
+
+        assertSame(embedding, vector.toArray());
+    }
+
+    @Test
+    void testToDatabaseVector_PadsShorterEmbedding() {
+        float[] embedding = new float[1024];
+        Arrays.fill(embedding, 0.25f);
+
+        float[] result = PgVectorUtils.toDatabaseVector(embedding).toArray();
+
+        assertEquals(PgVectorUtils.DATABASE_EMBEDDING_DIMENSION, result.length);
+        assertEquals(0.25f, result[1023]);
+        assertEquals(0.0f, result[1024]);
+        assertEquals(0.25f, embedding[0], "Source embedding should not be modified");
+    }
+
+    @Test
+    void testPadInto_ClearsValuesFromPreviousRow() {
+        float[] buffer = new float[4];
+
+        PgVectorUtils.padInto(new float[]{1f, 2f, 3f, 4f}, buffer);
+        float[] result = PgVectorUtils.padInto(new float[]{5f, 6f}, buffer);
+
+        assertSame(buffer, result);
+        assertArrayEquals(new float[]{5f, 6f, 0f, 0f}, result);
+    }
+
+    @Test
+    void testPadInto_TruncatesLongerEmbedding() {
+        float[] result = PgVectorUtils.padInto(new float[]{1f, 2f, 3f}, new float[2]);
+
+        assertArrayEquals(new float[]{1f, 2f}, result);
+    }
+
+    @Test
+    void testPadInto_ConvertsBoxedEmbedding() {
+        float[] buffer = new float[]{9f, 9f, 9f};
+
+        float[] result = PgVectorUtils.padInto(List.of(0.5, 1.5), buffer);
+
+        assertArrayEquals(new float[]{0.5f, 1.5f, 0f}, result);
+    }
+}
@@ -0,0 +1,47 @@
+package com.berdachuk.expertmatch.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VectorSimilarity.
+ */
+class VectorSimilarityTest {
+
+    @Test
+    void testDot_MatchesScalarLoopIncludingTail() {
+        Random random = new Random(7);
+        float[] a = new float[1027];
+        float[] b = new float[1027];
+        double expected = 0;
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextFloat() * 2 - 1;
+            b[i] = random.nextFloat() * 2 - 1;
+            expected += a[i] * b[i];
+        }
+
+        assertEquals(expected, VectorSimilarity.dot(a, b), 1e-3);
+    }
+
+    @Test
+    void testCosine_IgnoresZeroPaddingOfShorterVector() {
+        float[] shortVector = new float[]{1f, 2f, 3f};
+        float[] paddedVector = new float[]{1f, 2f, 3f, 0f, 0f};
+
+        assertEquals(1.0f, VectorSimilarity.cosine(shortVector, paddedVector), 1e-6);
+    }
+
+    @Test
+    void testCosine_OrthogonalAndOpposite() {
+        assertEquals(0f, VectorSimilarity.cosine(new float[]{1f, 0f}, new float[]{0f, 1f}), 1e-6);
+        assertEquals(-1f, VectorSimilarity.cosine(new float[]{1f, 1f}, new float[]{-2f, -2f}), 1e-6);
+    }
+
+    @Test
+    void testCosine_ZeroVectorReturnsZero() {
+        assertEquals(0f, VectorSimilarity.cosine(new float[]{0f, 0f}, new float[]{1f, 2f}));
+    }
+}
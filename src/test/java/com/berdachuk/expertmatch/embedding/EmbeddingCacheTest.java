@@ -0,0 +1,144 @@
+package com.berdachuk.expertmatch.embedding;
+
+import com.berdachuk.expertmatch.embedding.config.EmbeddingCacheProperties;
+import com.berdachuk.expertmatch.embedding.service.impl.EmbeddingCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmbeddingCache.
+ */
+class EmbeddingCacheTest {
+
+    private static final String MODEL_ID = "TestEmbeddingModel/text-embedding-3-large/1536";
+
+    private EmbeddingCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmbeddingCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(0);
+        loads = new AtomicInteger(0);
+    }
+
+    @Test
+    void testRepeatedTextIsLoadedOnce() {
+        EmbeddingCache cache = newCache();
+
+        float[] first = cache.get(MODEL_ID, "Java experts", this::load);
+        float[] second = cache.get(MODEL_ID, "Java experts", this::load);
+
+        assertEquals(1, loads.get());
+        assertArrayEquals(first, second);
+        assertEquals(1.0, counter("requests", "result", "hit"));
+        assertEquals(1.0, counter("requests", "result", "miss"));
+    }
+
+    @Test
+    void testWhitespaceDifferencesShareEntry() {
+        EmbeddingCache cache = newCache();
+
+        cache.get(MODEL_ID, "Java   Spring\nBoot", this::load);
+        cache.get(MODEL_ID, "  Java Spring Boot ", this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testDifferentModelsDoNotShareEntries() {
+        EmbeddingCache cache = newCache();
+
+        cache.get(MODEL_ID, "Java experts", this::load);
+        cache.get("OtherModel/other/768", "Java experts", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testReturnedVectorIsACopy() {
+        EmbeddingCache cache = newCache();
+
+        float[] first = cache.get(MODEL_ID, "Java experts", this::load);
+        first[0] = 42f;
+        float[] second = cache.get(MODEL_ID, "Java experts", this::load);
+
+        assertNotEquals(42f, second[0]);
+    }
+
+    @Test
+    void testEntryExpiresAfterTtl() {
+        properties.setTtlSeconds(60);
+        EmbeddingCache cache = newCache();
+
+        cache.get(MODEL_ID, "Java experts", this::load);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get(MODEL_ID, "Java experts", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, counter("evictions", "cause", "expired"));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedBeyondMaxEntries() {
+        properties.setMaxEntries(2);
+        EmbeddingCache cache = newCache();
+
+        cache.get(MODEL_ID, "first", this::load);
+        cache.get(MODEL_ID, "second", this::load);
+        // Touch "first" so that "second" becomes least recently used
+        cache.get(MODEL_ID, "first", this::load);
+        cache.get(MODEL_ID, "third", this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(1.0, counter("evictions", "cause", "size"));
+        cache.get(MODEL_ID, "first", this::load);
+        assertEquals(3, loads.get());
+        cache.get(MODEL_ID, "second", this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testEmptyVectorIsNotCached() {
+        EmbeddingCache cache = newCache();
+
+        cache.get(MODEL_ID, "Java experts", () -> new float[0]);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        properties.setEnabled(false);
+        EmbeddingCache cache = newCache();
+
+        cache.get(MODEL_ID, "Java experts", this::load);
+        cache.get(MODEL_ID, "Java experts", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private EmbeddingCache newCache() {
+        return new EmbeddingCache(properties, meterRegistry, clock::get);
+    }
+
+    private float[] load() {
+        loads.incrementAndGet();
+        return new float[]{0.1f, 0.2f, 0.3f};
+    }
+
+    private double counter(String name, String tagKey, String tagValue) {
+        return meterRegistry.get("expertmatch.embedding.cache." + name).tag(tagKey, tagValue).counter().count();
+    }
+}
@@ -1,17 +1,20 @@
 package com.berdachuk.expertmatch.embedding;
 
+import com.berdachuk.expertmatch.embedding.config.EmbeddingCacheProperties;
 import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
+import com.berdachuk.expertmatch.embedding.service.impl.EmbeddingCache;
 import com.berdachuk.expertmatch.embedding.service.impl.EmbeddingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.embedding.Embedding;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,12 +36,11 @@ class EmbeddingServiceTest {
     @Mock
     private EmbeddingModel embeddingModel;
 
-    @InjectMocks
     private EmbeddingServiceImpl embeddingService;
 
     @BeforeEach
     void setUp() {
-        // Setup is handled by MockitoExtension
+        embeddingService = new EmbeddingServiceImpl(embeddingModel);
     }
 
     @Test
@@ -166,5 +168,31 @@ class EmbeddingServiceTest {
             service.generateEmbeddings(testList);
         });
     }
-}
 
+    @Test
+    @SuppressWarnings("null")
+        // Mockito matchers don't preserve null-safety annotations
+    void testGenerateEmbeddingUsesCacheForRepeatedText() {
+        float[] mockEmbedding = new float[]{0.1f, 0.2f, 0.3f};
+
+        EmbeddingResponse response = mock(EmbeddingResponse.class);
+        Embedding embedding = mock(Embedding.class);
+        when(embedding.getOutput()).thenReturn(mockEmbedding);
+        when(response.getResults()).thenReturn(List.of(embedding));
+        when(embeddingModel.embedForResponse(ArgumentMatchers.any())).thenReturn(response);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmbeddingService cachedService = new EmbeddingServiceImpl(
+                embeddingModel, new EmbeddingCache(new EmbeddingCacheProperties(), meterRegistry), new MockEnvironment());
+
+        float[] first = cachedService.generateEmbeddingAsFloatArray("Java   experts");
+        List<Double> second = cachedService.generateEmbedding(" Java experts ");
+
+        assertArrayEquals(mockEmbedding, first, 0.0001f);
+        assertEquals(3, second.size());
+        assertEquals(0.1, second.get(0), 0.001);
+        verify(embeddingModel, times(1)).embedForResponse(ArgumentMatchers.any());
+        assertEquals(1.0, meterRegistry.get("expertmatch.embedding.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("expertmatch.embedding.cache.requests").tag("result", "miss").counter().count());
+    }
+}
@@ -0,0 +1,99 @@
+package com.berdachuk.expertmatch.employee.service;
+
+import com.berdachuk.expertmatch.employee.service.impl.ExpertSkillAnalyzer;
+import com.berdachuk.expertmatch.technology.domain.Technology;
+import com.berdachuk.expertmatch.technology.service.TechnologyAliasIndex;
+import com.berdachuk.expertmatch.workexperience.domain.WorkExperience;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExpertSkillAnalyzer.
+ */
+class ExpertSkillAnalyzerTest {
+
+    private static final TechnologyAliasIndex INDEX = TechnologyAliasIndex.build(List.of(
+            new Technology("1", "Java", "java", "Language", List.of("JDK")),
+            new Technology("2", "Spring Boot", "spring boot", "Framework", List.of("SpringBoot")),
+            new Technology("3", "Kubernetes", "kubernetes", "Platform", List.of("k8s"))
+    ));
+
+    @Test
+    void testAnalyze_MatchesSkillThroughSynonym() {
+        // Arrange
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(INDEX, List.of("Kubernetes"));
+        WorkExperience platform = workExperience("platform", List.of("K8s", "Helm"));
+
+        // Act
+        ExpertSkillAnalyzer.ExpertAnalysis analysis = analyzer.analyze(List.of(platform));
+
+        // Assert
+        assertEquals(List.of("Kubernetes"), analysis.matchedSkills());
+        assertEquals(List.of(platform), analysis.relevantWorkExperiences());
+    }
+
+    @Test
+    void testAnalyze_MatchesSkillByPartialName() {
+        // Arrange
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(INDEX, List.of("Spring"));
+
+        // Act
+        ExpertSkillAnalyzer.ExpertAnalysis analysis = analyzer.analyze(
+                List.of(workExperience("backend", List.of("SpringBoot"))));
+
+        // Assert
+        assertEquals(List.of("Spring"), analysis.matchedSkills());
+    }
+
+    @Test
+    void testAnalyze_MatchesTechnologyMissingFromIndexByName() {
+        // Arrange
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(INDEX, List.of("Kafka", "Java"));
+        WorkExperience streaming = workExperience("streaming", List.of("Apache Kafka"));
+
+        // Act
+        ExpertSkillAnalyzer.ExpertAnalysis analysis = analyzer.analyze(List.of(streaming));
+
+        // Assert
+        assertEquals(List.of("Kafka"), analysis.matchedSkills());
+        assertEquals(List.of(streaming), analysis.relevantWorkExperiences());
+    }
+
+    @Test
+    void testAnalyze_KeepsQueryOrderAndOnlyRelevantWorkExperience() {
+        // Arrange
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(INDEX, List.of("Kubernetes", "Java", "Python"));
+        WorkExperience backend = workExperience("backend", List.of("JDK"));
+        WorkExperience design = workExperience("design", List.of("Figma"));
+        WorkExperience platform = workExperience("platform", List.of("kubernetes"));
+
+        // Act
+        ExpertSkillAnalyzer.ExpertAnalysis analysis = analyzer.analyze(List.of(backend, design, platform));
+
+        // Assert
+        assertEquals(List.of("Kubernetes", "Java"), analysis.matchedSkills());
+        assertEquals(List.of(backend, platform), analysis.relevantWorkExperiences());
+    }
+
+    @Test
+    void testAnalyze_AllWorkExperienceRelevantWithoutRequiredSkills() {
+        // Arrange
+        ExpertSkillAnalyzer analyzer = new ExpertSkillAnalyzer(INDEX, List.of());
+        WorkExperience design = workExperience("design", List.of("Figma"));
+
+        // Act
+        ExpertSkillAnalyzer.ExpertAnalysis analysis = analyzer.analyze(List.of(design));
+
+        // Assert
+        assertTrue(analysis.matchedSkills().isEmpty());
+        assertEquals(List.of(design), analysis.relevantWorkExperiences());
+    }
+
+    private static WorkExperience workExperience(String projectName, List<String> technologies) {
+        return new WorkExperience(projectName, "employee-1", null, null, projectName, null, null,
+                "Developer", null, null, null, null, technologies);
+    }
+}
@@ -0,0 +1,49 @@
+package com.berdachuk.expertmatch.graph;
+
+import com.berdachuk.expertmatch.graph.service.impl.CypherTemplate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CypherTemplate.
+ */
+class CypherTemplateTest {
+
+    @Test
+    void testSingleReturnExpressionMapsToResultColumn() {
+        CypherTemplate template = CypherTemplate.compile("expertmatch_graph",
+                "MATCH (e:Expert) WHERE e.id = $id RETURN e.id AS expertId");
+
+        assertArrayEquals(new String[]{"result"}, template.columns());
+        assertTrue(template.sql().endsWith("AS t(result ag_catalog.agtype)"));
+    }
+
+    @Test
+    void testTopLevelReturnExpressionsMapToNumberedColumns() {
+        CypherTemplate template = CypherTemplate.compile("expertmatch_graph",
+                "MATCH (e:Expert)-[r]->(t) RETURN e.id, collect([t.name, 'a,b']), count(r)");
+
+        assertArrayEquals(new String[]{"c0", "c1", "c2"}, template.columns());
+        assertTrue(template.sql().endsWith(
+                "AS t(c0 ag_catalog.agtype, c1 ag_catalog.agtype, c2 ag_catalog.agtype)"));
+    }
+
+    @Test
+    void testOnlyParameterizedSqlBindsParameterMap() {
+        CypherTemplate template = CypherTemplate.compile("expertmatch_graph",
+                "MATCH (e:Expert {id: $id}) RETURN e");
+
+        assertFalse(template.sql().contains("?"));
+        assertTrue(template.parameterizedSql().contains("::cstring, ?) AS t("));
+        assertTrue(template.parameterizedSql().contains("'expertmatch_graph'::name"));
+        // Parameters stay placeholders in the statement text
+        assertTrue(template.parameterizedSql().contains("{id: $id}"));
+    }
+
+    @Test
+    void testRejectsQueryContainingDollarQuoteTag() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CypherTemplate.compile("expertmatch_graph", "RETURN '$cypher_q$'"));
+    }
+}
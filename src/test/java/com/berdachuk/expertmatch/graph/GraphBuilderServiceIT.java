@@ -5,6 +5,8 @@ import com.berdachuk.expertmatch.graph.domain.ExpertCustomerRelationship;
 import com.berdachuk.expertmatch.graph.domain.ProjectCustomerRelationship;
 import com.berdachuk.expertmatch.graph.service.GraphBuilderService;
 import com.berdachuk.expertmatch.graph.service.GraphService;
+import com.berdachuk.expertmatch.graph.service.GraphState;
+import com.berdachuk.expertmatch.graph.service.GraphStateRegistry;
 import com.berdachuk.expertmatch.integration.BaseIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -68,6 +70,9 @@ class GraphBuilderServiceIT extends BaseIntegrationTest {
     @Autowired
     private GraphService graphService;
 
+    @Autowired
+    private GraphStateRegistry graphStateRegistry;
+
     @Autowired
     private NamedParameterJdbcTemplate namedJdbcTemplate;
 
@@ -211,6 +216,21 @@ class GraphBuilderServiceIT extends BaseIntegrationTest {
         assertTrue(graphService.graphExists());
     }
 
+    @Test
+    void testBuildGraphRefreshesGraphState() {
+        createTestData(false);
+        GraphState before = graphStateRegistry.current();
+
+        graphBuilderService.buildGraph();
+        GraphState after = graphStateRegistry.current();
+
+        assertTrue(after.version() > before.version());
+        assertTrue(after.graphExists());
+        assertTrue(after.hasLabel("Expert"));
+        assertTrue(after.hasLabel("PARTICIPATED_IN"));
+        assertSame(after, graphStateRegistry.current());
+    }
+
     private void createTestData(boolean includeCustomers) {
         String emailPrefix = includeCustomers ? "customer-" : "";
         String employee1 = createEmployee("Expert 1", emailPrefix + "expert1", SENIORITY_A4);
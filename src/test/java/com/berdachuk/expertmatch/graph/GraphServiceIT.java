@@ -130,6 +130,23 @@ class GraphServiceIT extends BaseIntegrationTest {
         // In practice, you'd extract the id from the node properties
     }
 
+    @Test
+    void testExecuteCypherAndExtractBindsParametersAsValues() {
+        // Quotes and backslashes in values must reach AGE as data, not as query text
+        String expertId = "test-expert-'006\\\"";
+        graphService.executeCypher("CREATE (e:Expert {id: $id}) RETURN e", Map.of("id", expertId));
+
+        String queryCypher = "MATCH (e:Expert) WHERE e.id = $id RETURN e.id AS expertId";
+        List<String> first = graphService.executeCypherAndExtract(queryCypher, Map.of("id", expertId), "expertId");
+        // Second execution reuses the cached statement
+        List<String> second = graphService.executeCypherAndExtract(queryCypher, Map.of("id", expertId), "expertId");
+
+        assertEquals(List.of(expertId), first);
+        assertEquals(first, second);
+        assertTrue(graphService.executeCypherAndExtract(queryCypher, Map.of("id", "test-expert-missing"), "expertId")
+                .isEmpty());
+    }
+
     @Test
     void testExecuteCypherWithEmptyParameters() {
         String cypher = """
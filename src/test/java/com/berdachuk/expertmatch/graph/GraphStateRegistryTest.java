@@ -0,0 +1,101 @@
+package com.berdachuk.expertmatch.graph;
+
+import com.berdachuk.expertmatch.graph.repository.GraphRepository;
+import com.berdachuk.expertmatch.graph.service.GraphDataChangedEvent;
+import com.berdachuk.expertmatch.graph.service.GraphState;
+import com.berdachuk.expertmatch.graph.service.impl.GraphStateRegistryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GraphStateRegistryImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class GraphStateRegistryTest {
+
+    private static final String GRAPH_NAME = "expertmatch_graph";
+
+    @Mock
+    private GraphRepository graphRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GraphStateRegistryImpl registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new GraphStateRegistryImpl(graphRepository, transactionManager, 300, 5);
+    }
+
+    @Test
+    void testCurrent_LoadsOnceUntilGraphChanges() {
+        when(graphRepository.graphExists(GRAPH_NAME)).thenReturn(true);
+        when(graphRepository.findLabels(GRAPH_NAME)).thenReturn(List.of("Expert"), List.of("Expert", "Project"));
+        when(graphRepository.findIndexes(GRAPH_NAME)).thenReturn(List.of());
+
+        GraphState first = registry.current();
+        assertSame(first, registry.current());
+        assertTrue(registry.graphExists());
+        assertTrue(first.hasLabel("Expert"));
+        assertFalse(first.hasLabel("Project"));
+
+        registry.onGraphDataChanged(new GraphDataChangedEvent("build"));
+        GraphState second = registry.current();
+
+        assertTrue(second.version() > first.version());
+        assertTrue(second.hasLabel("Project"));
+        assertFalse(first.hasLabel("Project"), "Previous state must stay unchanged");
+        verify(graphRepository, times(2)).graphExists(GRAPH_NAME);
+    }
+
+    @Test
+    void testCurrent_WhenGraphMissing_SkipsLabelAndIndexLookups() {
+        when(graphRepository.graphExists(GRAPH_NAME)).thenReturn(false);
+
+        GraphState state = registry.current();
+
+        assertFalse(state.graphExists());
+        assertTrue(state.labels().isEmpty());
+        assertEquals(state.version(), registry.version());
+        verify(graphRepository, never()).findLabels(anyString());
+        verify(graphRepository, never()).findIndexes(anyString());
+    }
+
+    @Test
+    void testCurrent_WhenLoadFails_TreatsGraphAsAbsentUntilInvalidated() {
+        when(graphRepository.graphExists(GRAPH_NAME)).thenThrow(new RuntimeException("Database unavailable"))
+                .thenReturn(true);
+
+        assertFalse(registry.graphExists());
+        assertFalse(registry.graphExists());
+        verify(graphRepository, times(1)).graphExists(GRAPH_NAME);
+
+        registry.invalidate();
+
+        assertTrue(registry.graphExists());
+    }
+
+    @Test
+    void testCurrent_WhenLoadFails_RetriesAfterFailureInterval() {
+        registry = new GraphStateRegistryImpl(graphRepository, transactionManager, 300, 0);
+        when(graphRepository.graphExists(GRAPH_NAME)).thenThrow(new RuntimeException("Database unavailable"))
+                .thenReturn(true);
+        when(graphRepository.findLabels(GRAPH_NAME)).thenReturn(List.of("Expert"));
+        when(graphRepository.findIndexes(GRAPH_NAME)).thenReturn(List.of());
+
+        assertFalse(registry.graphExists());
+        assertTrue(registry.graphExists(), "A failed load must not be cached beyond the failure retry interval");
+        assertTrue(registry.graphExists());
+        verify(graphRepository, times(2)).graphExists(GRAPH_NAME);
+    }
+}
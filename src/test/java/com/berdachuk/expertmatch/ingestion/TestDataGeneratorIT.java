@@ -1,5 +1,7 @@
 package com.berdachuk.expertmatch.ingestion;
 
+import com.berdachuk.expertmatch.ingestion.config.EmbeddingBackfillProperties;
+import com.berdachuk.expertmatch.ingestion.service.DataGenerationProgress;
 import com.berdachuk.expertmatch.ingestion.service.TestDataGenerator;
 import com.berdachuk.expertmatch.integration.BaseIntegrationTest;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -44,6 +46,8 @@ class TestDataGeneratorIT extends BaseIntegrationTest {
     private TestDataGenerator testDataGenerator;
     @Autowired
     private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Autowired
+    private EmbeddingBackfillProperties backfillProperties;
 
     @BeforeEach
     void setUp() {
@@ -778,4 +782,45 @@ class TestDataGeneratorIT extends BaseIntegrationTest {
 
         assertTrue(hasHealthcareRole, "Should have healthcare-specific roles");
     }
+
+    @Test
+    void testGenerateEmbeddings_BackfillsAllRecordsInBatchesAndResumes() {
+        testDataGenerator.generateTestData("tiny");
+        int originalPageSize = backfillProperties.getPageSize();
+        int originalBatchSize = backfillProperties.getBatchSize();
+        // Small pages and batches so that the backfill spans several pages and concurrent batches
+        backfillProperties.setPageSize(4);
+        backfillProperties.setBatchSize(3);
+        try {
+            DataGenerationProgress progress = new DataGenerationProgress("embeddings-test");
+            testDataGenerator.generateEmbeddings(progress, 60, 85);
+
+            assertEquals(0L, countWithoutEmbeddings(), "All work experience records should have embeddings");
+            assertTrue(progress.getProgress() >= 60 && progress.getProgress() <= 85,
+                    "Progress should stay within the embeddings range");
+            assertTrue(progress.getTraceEntries().stream()
+                    .anyMatch(entry -> "Embeddings".equals(entry.getStep())));
+
+            // Resume: only records that lost their embedding are processed again
+            namedJdbcTemplate.getJdbcTemplate().execute("""
+                    UPDATE expertmatch.work_experience SET embedding = NULL
+                    WHERE id IN (SELECT id FROM expertmatch.work_experience ORDER BY id LIMIT 2)
+                    """);
+            DataGenerationProgress resumeProgress = new DataGenerationProgress("embeddings-resume-test");
+            testDataGenerator.generateEmbeddings(resumeProgress, 60, 85);
+
+            assertEquals(0L, countWithoutEmbeddings());
+            assertTrue(resumeProgress.getTraceEntries().getLast().getMessage().contains("Total: 2,"),
+                    "Resumed run should only process the records without embeddings");
+        } finally {
+            backfillProperties.setPageSize(originalPageSize);
+            backfillProperties.setBatchSize(originalBatchSize);
+        }
+    }
+
+    private long countWithoutEmbeddings() {
+        Long count = namedJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM expertmatch.work_experience WHERE embedding IS NULL", new HashMap<>(), Long.class);
+        return count != null ? count : 0L;
+    }
 }
@@ -0,0 +1,99 @@
+package com.berdachuk.expertmatch.integration;
+
+import com.berdachuk.expertmatch.chat.service.ChatService;
+import com.berdachuk.expertmatch.core.domain.QueryOptions;
+import com.berdachuk.expertmatch.core.domain.QueryRequest;
+import com.berdachuk.expertmatch.core.domain.QueryResponse;
+import com.berdachuk.expertmatch.llm.service.AnswerGenerationService;
+import com.berdachuk.expertmatch.query.service.QueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test proving that query concurrency is not bounded by the connection pool size.
+ * <p>
+ * The pool has two connections, and answer generation blocks until every concurrent query is inside it.
+ * If processQuery held a transaction (and so a connection) across LLM calls, only two queries could reach
+ * answer generation, the barrier would never trip, and the test would fail.
+ * <p>
+ * All LLM calls are mocked (TestAIConfig, plus a mocked AnswerGenerationService).
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=1",
+        "spring.datasource.hikari.connection-timeout=20000"
+})
+class QueryConcurrencyIT extends BaseIntegrationTest {
+
+    private static final int CONCURRENT_QUERIES = 8;
+
+    @Autowired
+    private QueryService queryService;
+    @Autowired
+    private ChatService chatService;
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @MockitoBean
+    private AnswerGenerationService answerGenerationService;
+
+    @BeforeEach
+    void setUp() {
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.conversation_history");
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.chat");
+    }
+
+    @Test
+    void testConcurrentQueriesExceedConnectionPoolSize() throws Exception {
+        CyclicBarrier allGenerating = new CyclicBarrier(CONCURRENT_QUERIES);
+        when(answerGenerationService.generateAnswer(
+                anyString(), any(), any(), any(), anyBoolean(), anyBoolean(), any(), any()))
+                .thenAnswer(invocation -> {
+                    // Simulated LLM latency: wait until all queries are generating at the same time
+                    allGenerating.await(15, TimeUnit.SECONDS);
+                    return "Concurrent answer";
+                });
+
+        QueryOptions options = QueryOptions.builder()
+                .maxResults(5)
+                .deepResearch(false)
+                .useCascadePattern(false)
+                .useCyclePattern(false)
+                .build();
+
+        List<Future<QueryResponse>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_QUERIES)) {
+            for (int i = 0; i < CONCURRENT_QUERIES; i++) {
+                String userId = "load-test-user-" + i;
+                String chatId = chatService.getOrCreateDefaultChat(userId).id();
+                QueryRequest request = new QueryRequest("Looking for experts in Java " + i, chatId, options);
+                futures.add(executor.submit(() -> queryService.processQuery(request, chatId, userId)));
+            }
+
+            for (Future<QueryResponse> future : futures) {
+                QueryResponse response = future.get(60, TimeUnit.SECONDS);
+                assertEquals("Concurrent answer", response.answer());
+            }
+        }
+
+        assertFalse(allGenerating.isBroken(), "All queries should have been generating answers concurrently");
+        Integer savedMessages = namedJdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) FROM expertmatch.conversation_history", Integer.class);
+        assertEquals(CONCURRENT_QUERIES * 2, savedMessages);
+    }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.model.ToolContext;
 
 import java.util.List;
 import java.util.Map;
@@ -126,6 +127,30 @@ class ExpertMatchToolsTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testGetRetrievedExpertsFromToolContext() {
+        // Arrange - streaming generation runs tools on another thread, so the ThreadLocal is empty
+        List<AnswerGenerationService.ExpertContext> contexts = List.of(
+                new AnswerGenerationService.ExpertContext(
+                        "expert1",
+                        "John Doe",
+                        "john@example.com",
+                        "A4",
+                        List.of("Java"),
+                        List.of("Project1"),
+                        Map.of()
+                )
+        );
+        ToolContext toolContext = new ToolContext(Map.of(ExpertContextHolder.TOOL_CONTEXT_KEY, contexts));
+
+        // Act
+        List<QueryResponse.ExpertMatch> result = expertMatchTools.getRetrievedExperts(toolContext);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("expert1", result.get(0).id());
+    }
+
     @Test
     void testExpertQuery() {
         // Arrange
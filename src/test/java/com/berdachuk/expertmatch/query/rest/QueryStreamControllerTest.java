@@ -0,0 +1,133 @@
+package com.berdachuk.expertmatch.query.rest;
+
+import com.berdachuk.expertmatch.chat.domain.Chat;
+import com.berdachuk.expertmatch.chat.service.ChatService;
+import com.berdachuk.expertmatch.core.api.ApiMapper;
+import com.berdachuk.expertmatch.core.config.BoundedVirtualThreadExecutor;
+import com.berdachuk.expertmatch.core.config.ExecutionProperties;
+import com.berdachuk.expertmatch.core.domain.QueryRequest;
+import com.berdachuk.expertmatch.core.security.HeaderBasedUserContext;
+import com.berdachuk.expertmatch.query.service.QueryProgressListener;
+import com.berdachuk.expertmatch.query.service.QueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Unit tests for the SSE event contract of QueryStreamController.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryStreamControllerTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String CHAT_ID = "507f1f77bcf86cd799439011";
+    private static final String TEST_QUERY = "Looking for Java experts";
+
+    @Mock
+    private QueryService queryService;
+    @Mock
+    private ChatService chatService;
+    @Mock
+    private ApiMapper apiMapper;
+    @Mock
+    private HeaderBasedUserContext userContext;
+    @Mock
+    private Validator validator;
+
+    private BoundedVirtualThreadExecutor requestTaskExecutor;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        requestTaskExecutor = new BoundedVirtualThreadExecutor("test-request",
+                new ExecutionProperties.PoolConfig(2, 0), 5, new SimpleMeterRegistry());
+        QueryStreamController controller = new QueryStreamController(queryService, chatService, apiMapper,
+                userContext, validator, requestTaskExecutor);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(apiMapper.toDomainQueryRequest(any())).thenReturn(QueryRequest.of(TEST_QUERY));
+        when(chatService.getOrCreateDefaultChat(USER_ID)).thenReturn(
+                new Chat(CHAT_ID, USER_ID, "Default", true, Instant.now(), Instant.now(), Instant.now(), 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestTaskExecutor.close();
+    }
+
+    @Test
+    void testStreamsStagesExpertsAndTokensInOrder() throws Exception {
+        // Arrange: the service reports progress in pipeline order
+        when(queryService.processQuery(any(QueryRequest.class), eq(CHAT_ID), eq(USER_ID), any(QueryProgressListener.class)))
+                .thenAnswer(invocation -> {
+                    QueryProgressListener listener = invocation.getArgument(3);
+                    listener.onStage(QueryProgressListener.Stage.PARSING);
+                    listener.onStage(QueryProgressListener.Stage.RETRIEVING);
+                    listener.onExperts(List.of());
+                    listener.onStage(QueryProgressListener.Stage.GENERATING);
+                    listener.onAnswerToken("Alice ");
+                    listener.onAnswerToken("fits.");
+                    return null;
+                });
+
+        // Act
+        List<String> events = streamEvents();
+
+        // Assert
+        assertEquals(List.of("parsing", "retrieving", "experts", "generating", "token", "token", "complete"), events);
+        assertTrue(events.indexOf("experts") < events.indexOf("token"));
+    }
+
+    @Test
+    void testErrorEventClosesStream() throws Exception {
+        // Arrange: processing fails after the first stage
+        when(queryService.processQuery(any(QueryRequest.class), eq(CHAT_ID), eq(USER_ID), any(QueryProgressListener.class)))
+                .thenAnswer(invocation -> {
+                    QueryProgressListener listener = invocation.getArgument(3);
+                    listener.onStage(QueryProgressListener.Stage.PARSING);
+                    throw new IllegalStateException("Retrieval failed");
+                });
+
+        // Act: streamEvents only returns once the emitter is completed
+        List<String> events = streamEvents();
+
+        // Assert
+        assertEquals(List.of("parsing", "error"), events);
+    }
+
+    /**
+     * Posts a streaming query, waits until the emitter is completed and returns the SSE event names in order.
+     */
+    private List<String> streamEvents() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/query-stream")
+                        .header("X-User-Id", USER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\": \"" + TEST_QUERY + "\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Fails if the emitter is not completed in time
+        result.getAsyncResult(5_000);
+        return result.getResponse().getContentAsString().lines()
+                .filter(line -> line.startsWith("event:"))
+                .map(line -> line.substring("event:".length()).trim())
+                .toList();
+    }
+}
@@ -100,6 +100,42 @@ class ExecutionTracerTest {
         assertEquals(0L, step.durationMs());
     }
 
+    @Test
+    void testRecordStep() {
+        ExecutionTracer tracer = new ExecutionTracer();
+
+        tracer.recordStep("Vector Search", "VectorSearchService", "searchByText", 42L,
+                "Query: test", "Results: 3 expert IDs");
+
+        ExecutionTrace.ExecutionTraceData trace = tracer.buildTrace();
+
+        assertEquals(1, trace.steps().size());
+        ExecutionTrace.ExecutionStep step = trace.steps().get(0);
+        assertEquals("Vector Search", step.name());
+        assertEquals("SUCCESS", step.status());
+        assertEquals(42L, step.durationMs());
+        assertEquals("Query: test", step.inputSummary());
+        assertEquals("Results: 3 expert IDs", step.outputSummary());
+    }
+
+    @Test
+    void testTimeoutStep() {
+        ExecutionTracer tracer = new ExecutionTracer();
+
+        tracer.timeoutStep("Graph Search", "GraphSearchService", "findExpertsByTechnology", 5000L,
+                "Deadline 5000 ms exceeded, channel dropped from fusion");
+
+        ExecutionTrace.ExecutionTraceData trace = tracer.buildTrace();
+
+        assertEquals(1, trace.steps().size());
+        ExecutionTrace.ExecutionStep step = trace.steps().get(0);
+        assertEquals("Graph Search", step.name());
+        assertEquals("TIMED_OUT", step.status());
+        assertEquals(5000L, step.durationMs());
+        assertEquals("Deadline 5000 ms exceeded, channel dropped from fusion", step.inputSummary());
+        assertNull(step.outputSummary());
+    }
+
     @Test
     void testTotalDuration() {
         ExecutionTracer tracer = new ExecutionTracer();
@@ -0,0 +1,145 @@
+package com.berdachuk.expertmatch.query.service;
+
+import com.berdachuk.expertmatch.chat.service.ChatService;
+import com.berdachuk.expertmatch.chat.service.ConversationHistoryManager;
+import com.berdachuk.expertmatch.core.config.ExecutionProperties;
+import com.berdachuk.expertmatch.core.config.SpeculativeExecutor;
+import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.ExtractedEntities;
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.core.domain.QueryRequest;
+import com.berdachuk.expertmatch.core.domain.QueryResponse;
+import com.berdachuk.expertmatch.core.service.EntityExtractor;
+import com.berdachuk.expertmatch.employee.service.ExpertEnrichmentService;
+import com.berdachuk.expertmatch.llm.service.AnswerGenerationService;
+import com.berdachuk.expertmatch.query.domain.QueryParser;
+import com.berdachuk.expertmatch.query.service.impl.QueryServiceImpl;
+import com.berdachuk.expertmatch.query.sgr.CombinedExtractionService;
+import com.berdachuk.expertmatch.retrieval.service.DeepResearchService;
+import com.berdachuk.expertmatch.retrieval.service.HybridRetrievalService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QueryServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryServiceImplTest {
+
+    private static final String TEST_QUERY = "Looking for Java experts";
+    private static final String CHAT_ID = "507f1f77bcf86cd799439011";
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private QueryParser queryParser;
+    @Mock
+    private EntityExtractor entityExtractor;
+    @Mock
+    private CombinedExtractionService combinedExtractionService;
+    @Mock
+    private HybridRetrievalService retrievalService;
+    @Mock
+    private DeepResearchService deepResearchService;
+    @Mock
+    private AnswerGenerationService answerGenerationService;
+    @Mock
+    private ExpertEnrichmentService enrichmentService;
+    @Mock
+    private ConversationHistoryManager historyManager;
+    @Mock
+    private ChatService chatService;
+
+    private SpeculativeExecutor speculativeExecutor;
+    private QueryServiceImpl queryService;
+
+    @BeforeEach
+    void setUp() {
+        // Disabled: speculative tasks run on the request thread when their result is needed
+        ExecutionProperties.SpeculativeConfig config = new ExecutionProperties.SpeculativeConfig();
+        config.setEnabled(false);
+        speculativeExecutor = new SpeculativeExecutor(config, 5, new SimpleMeterRegistry());
+        queryService = new QueryServiceImpl(queryParser, entityExtractor, combinedExtractionService, retrievalService,
+                deepResearchService, answerGenerationService, enrichmentService, historyManager, chatService,
+                speculativeExecutor);
+
+        ParsedQuery parsedQuery = new ParsedQuery(TEST_QUERY, List.of(), List.of(), null, "expert_search", List.of("Java"));
+        when(queryParser.parse(eq(TEST_QUERY), anyBoolean(), any())).thenReturn(parsedQuery);
+        when(entityExtractor.extract(eq(TEST_QUERY), any())).thenReturn(
+                new ExtractedEntities(List.of(), List.of(), List.of(), List.of(), List.of()));
+        when(retrievalService.retrieve(any(QueryRequest.class), any(ParsedQuery.class), any(), any()))
+                .thenReturn(new HybridRetrievalService.RetrievalResult(List.of("expert1"), Map.of("expert1", 0.9)));
+        when(enrichmentService.enrichExperts(anyMap(), any(ParsedQuery.class))).thenReturn(List.of(expert("expert1")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        speculativeExecutor.close();
+    }
+
+    @Test
+    void testProcessQuery_ReportsStagesThenExpertsThenAnswerTokens() {
+        // Arrange: the answer arrives as two streamed chunks
+        when(answerGenerationService.generateAnswer(eq(TEST_QUERY), any(), anyString(), anyList(), anyBoolean(),
+                anyBoolean(), any(), any())).thenAnswer(invocation -> {
+            Consumer<String> tokenConsumer = invocation.getArgument(7);
+            tokenConsumer.accept("Alice ");
+            tokenConsumer.accept("fits.");
+            return "Alice fits.";
+        });
+        List<String> events = new ArrayList<>();
+        QueryProgressListener listener = new QueryProgressListener() {
+            @Override
+            public void onStage(Stage stage) {
+                events.add(stage.eventName());
+            }
+
+            @Override
+            public void onExperts(List<QueryResponse.ExpertMatch> experts) {
+                events.add("experts:" + experts.size());
+            }
+
+            @Override
+            public void onAnswerToken(String token) {
+                events.add("token:" + token);
+            }
+        };
+
+        // Act
+        QueryResponse response = queryService.processQuery(QueryRequest.of(TEST_QUERY), CHAT_ID, USER_ID, listener);
+
+        // Assert
+        assertEquals(List.of("parsing", "retrieving", "experts:1", "generating", "token:Alice ", "token:fits."), events);
+        assertEquals("Alice fits.", response.answer());
+    }
+
+    @Test
+    void testProcessQuery_ExtractsEntitiesOnceAndPassesThemToRetrieval() {
+        // Act
+        queryService.processQuery(QueryRequest.of(TEST_QUERY), CHAT_ID, USER_ID);
+
+        // Assert: retrieval receives the entities, so it does not extract them again
+        verify(entityExtractor, times(1)).extract(eq(TEST_QUERY), any());
+        ArgumentCaptor<ParsedQuery> parsedQuery = ArgumentCaptor.forClass(ParsedQuery.class);
+        verify(retrievalService).retrieve(any(QueryRequest.class), parsedQuery.capture(), any(), any());
+        assertTrue(parsedQuery.getValue().hasEntities());
+    }
+
+    private static QueryResponse.ExpertMatch expert(String id) {
+        return new QueryResponse.ExpertMatch(id, "Alice", "alice@example.com", "A4", null, null, null, List.of(),
+                null, 0.9, "available");
+    }
+}
@@ -0,0 +1,194 @@
+package com.berdachuk.expertmatch.query.sgr;
+
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.llm.sgr.SGRPatternConfig;
+import com.berdachuk.expertmatch.llm.sgr.SGRSchemaGenerator;
+import com.berdachuk.expertmatch.llm.sgr.StructuredOutputHelper;
+import com.berdachuk.expertmatch.query.sgr.impl.CombinedExtractionServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CombinedExtractionServiceTest {
+
+    @Mock
+    private StructuredOutputHelper structuredOutputHelper;
+
+    @Mock
+    private ChatModel chatModel;
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private PromptTemplate combinedExtractionPromptTemplate;
+
+    private SGRPatternConfig config;
+    private CombinedExtractionService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new SGRPatternConfig();
+        config.getCombinedExtraction().setEnabled(true);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        lenient().when(combinedExtractionPromptTemplate.render(any())).thenReturn("test prompt");
+
+        service = new CombinedExtractionServiceImpl(
+                structuredOutputHelper,
+                new SGRSchemaGenerator(new ObjectMapper()),
+                config,
+                validator,
+                chatModel,
+                environment,
+                combinedExtractionPromptTemplate);
+    }
+
+    @Test
+    void testIsEnabled_FollowsConfiguration() {
+        assertTrue(service.isEnabled());
+
+        config.getCombinedExtraction().setEnabled(false);
+        assertFalse(service.isEnabled());
+
+        config.getCombinedExtraction().setEnabled(true);
+        config.setEnabled(false);
+        assertFalse(service.isEnabled());
+    }
+
+    @Test
+    void testExtract_Success_MapsRequirementsAndEntities() {
+        // Arrange
+        CombinedExtraction extraction = new CombinedExtraction(
+                List.of("Java", "Spring Boot"),
+                List.of("A4"),
+                "English",
+                "C1",
+                QueryIntent.TEAM_FORMATION,
+                List.of("Java 21"),
+                new CombinedExtraction.EntityGroups(
+                        List.of(new CombinedExtraction.NamedEntity("John Doe", "john-doe")),
+                        List.of(),
+                        List.of(new CombinedExtraction.NamedEntity("Java", null)),
+                        List.of(),
+                        List.of(new CombinedExtraction.NamedEntity("banking", "banking"))
+                )
+        );
+        when(structuredOutputHelper.callWithStructuredOutput(anyString(), eq(CombinedExtraction.class)))
+                .thenReturn(extraction);
+
+        // Act
+        ParsedQuery result = service.extract("Need a Java lead team like John Doe", null);
+
+        // Assert
+        assertEquals("Need a Java lead team like John Doe", result.originalQuery());
+        assertEquals(List.of("Java", "Spring Boot"), result.skills());
+        assertEquals(List.of("A4"), result.seniorityLevels());
+        assertEquals("C1", result.language());
+        assertEquals("English", result.languageName());
+        assertEquals("team_formation", result.intent());
+        assertEquals(List.of("Java 21"), result.technologies());
+        assertTrue(result.hasEntities());
+        assertEquals("person", result.entities().persons().getFirst().type());
+        assertEquals("john-doe", result.entities().persons().getFirst().id());
+        assertEquals("technology", result.entities().technologies().getFirst().type());
+        assertNotNull(result.entities().technologies().getFirst().id());
+        assertEquals("banking", result.entities().domains().getFirst().name());
+        verify(structuredOutputHelper, times(1)).callWithStructuredOutput(anyString(), eq(CombinedExtraction.class));
+    }
+
+    @Test
+    void testExtract_PromptIncludesSchema() {
+        // Arrange
+        when(structuredOutputHelper.callWithStructuredOutput(anyString(), eq(CombinedExtraction.class)))
+                .thenReturn(emptyExtraction());
+
+        // Act
+        service.extract("Find experts", null);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Object>> variablesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(combinedExtractionPromptTemplate).render(variablesCaptor.capture());
+        String schema = (String) variablesCaptor.getValue().get("schema");
+        assertTrue(schema.contains("seniorityLevels"));
+        assertTrue(schema.contains("TEAM_FORMATION"));
+        assertTrue(schema.contains("persons"));
+    }
+
+    @Test
+    void testExtract_WhenSeniorityInvalid_FailsSchemaValidation() {
+        // Arrange
+        CombinedExtraction extraction = new CombinedExtraction(
+                List.of("Java"),
+                List.of("Senior"),
+                null,
+                null,
+                QueryIntent.EXPERT_SEARCH,
+                List.of(),
+                emptyExtraction().entities()
+        );
+        when(structuredOutputHelper.callWithStructuredOutput(anyString(), eq(CombinedExtraction.class)))
+                .thenReturn(extraction);
+
+        // Act & Assert
+        StructuredOutputHelper.StructuredOutputException exception = assertThrows(
+                StructuredOutputHelper.StructuredOutputException.class,
+                () -> service.extract("Find senior Java experts", null));
+        assertTrue(exception.getMessage().contains("seniorityLevels"));
+    }
+
+    @Test
+    void testExtract_WhenEntitiesMissing_FailsSchemaValidation() {
+        // Arrange
+        CombinedExtraction extraction = new CombinedExtraction(
+                List.of("Java"), List.of(), null, null, QueryIntent.EXPERT_SEARCH, List.of(), null);
+        when(structuredOutputHelper.callWithStructuredOutput(anyString(), eq(CombinedExtraction.class)))
+                .thenReturn(extraction);
+
+        // Act & Assert
+        assertThrows(StructuredOutputHelper.StructuredOutputException.class,
+                () -> service.extract("Find Java experts", null));
+    }
+
+    @Test
+    void testExtract_WhenConnectionFails_RethrowsUnwrapped() {
+        // Arrange
+        when(structuredOutputHelper.callWithStructuredOutput(anyString(), eq(CombinedExtraction.class)))
+                .thenThrow(new StructuredOutputHelper.StructuredOutputException("Failed to get structured output from LLM",
+                        new ResourceAccessException("Connection refused")));
+
+        // Act & Assert
+        assertThrows(ResourceAccessException.class, () -> service.extract("Find experts", null));
+    }
+
+    private CombinedExtraction emptyExtraction() {
+        return new CombinedExtraction(
+                List.of(),
+                List.of(),
+                null,
+                null,
+                QueryIntent.EXPERT_SEARCH,
+                List.of(),
+                new CombinedExtraction.EntityGroups(List.of(), List.of(), List.of(), List.of(), List.of())
+        );
+    }
+}
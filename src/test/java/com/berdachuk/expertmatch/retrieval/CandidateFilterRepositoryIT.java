@@ -0,0 +1,70 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.core.util.IdGenerator;
+import com.berdachuk.expertmatch.integration.BaseIntegrationTest;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.repository.CandidateFilterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for CandidateFilterRepository, which filters graph and person name channel hits.
+ */
+class CandidateFilterRepositoryIT extends BaseIntegrationTest {
+
+    @Autowired
+    private CandidateFilterRepository candidateFilterRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.work_experience");
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.employee");
+    }
+
+    @Test
+    void testFindMatchingEmployeeIds() {
+        String juniorId = insertEmployee("junior", "A1", "C1");
+        String seniorId = insertEmployee("senior", "A4", "B2");
+        String leadWeakEnglishId = insertEmployee("lead-weak-english", "A4", "A2");
+
+        Set<String> matching = candidateFilterRepository.findMatchingEmployeeIds(
+                List.of(juniorId, seniorId, leadWeakEnglishId, "unknown-employee"), new CandidateFilter("A3", "B2", null));
+
+        assertEquals(Set.of(seniorId), matching);
+    }
+
+    @Test
+    void testFindMatchingEmployeeIds_WithEmptyFilterKeepsAll() {
+        String employeeId = insertEmployee("any", null, null);
+
+        assertEquals(Set.of(employeeId),
+                candidateFilterRepository.findMatchingEmployeeIds(List.of(employeeId), CandidateFilter.NONE));
+    }
+
+    private String insertEmployee(String name, String seniority, String englishLevel) {
+        String employeeId = IdGenerator.generateEmployeeId();
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", employeeId);
+        params.put("name", name);
+        params.put("email", name + "-" + employeeId + "@test.com");
+        params.put("seniority", seniority);
+        params.put("languageEnglish", englishLevel);
+        namedJdbcTemplate.update(
+                "INSERT INTO expertmatch.employee (id, name, email, seniority, language_english) "
+                        + "VALUES (:id, :name, :email, :seniority, :languageEnglish)",
+                params);
+        return employeeId;
+    }
+}
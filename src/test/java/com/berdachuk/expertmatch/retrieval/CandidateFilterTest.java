@@ -0,0 +1,69 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CandidateFilter.
+ */
+class CandidateFilterTest {
+
+    @Test
+    void testFrom_UsesLowestSeniorityLevelAndEnglishLevel() {
+        ParsedQuery query = parsedQuery(List.of("A5", "a4", "B1"), "b2");
+
+        CandidateFilter filter = CandidateFilter.from(query, "");
+
+        assertEquals(new CandidateFilter("A4", "B2", null), filter);
+    }
+
+    @Test
+    void testFrom_IgnoresProficiencyOfNonEnglishLanguage() {
+        ParsedQuery query = parsedQuery(List.of("A3"), "Russian", "B2");
+
+        CandidateFilter filter = CandidateFilter.from(query, null);
+
+        assertEquals(new CandidateFilter("A3", null, null), filter);
+    }
+
+    @Test
+    void testFrom_IgnoresProficiencyWithoutLanguage() {
+        ParsedQuery query = parsedQuery(List.of(), null, "C1");
+
+        assertSame(CandidateFilter.NONE, CandidateFilter.from(query, null));
+    }
+
+    @Test
+    void testFrom_IgnoresInvalidLevels() {
+        ParsedQuery query = parsedQuery(List.of("Senior", "A9"), "fluent");
+
+        CandidateFilter filter = CandidateFilter.from(query, null);
+
+        assertSame(CandidateFilter.NONE, filter);
+        assertTrue(filter.isEmpty());
+    }
+
+    @Test
+    void testFrom_AddsAvailabilityStatus() {
+        ParsedQuery query = parsedQuery(List.of(), null);
+
+        CandidateFilter filter = CandidateFilter.from(query, " available ");
+
+        assertEquals(new CandidateFilter(null, null, "available"), filter);
+        assertFalse(filter.isEmpty());
+    }
+
+    private static ParsedQuery parsedQuery(List<String> seniorityLevels, String language) {
+        return parsedQuery(seniorityLevels, "English", language);
+    }
+
+    private static ParsedQuery parsedQuery(List<String> seniorityLevels, String languageName, String language) {
+        return new ParsedQuery("Need a Java expert", List.of("Java"), seniorityLevels, language, languageName,
+                "expert_search", List.of(), null);
+    }
+}
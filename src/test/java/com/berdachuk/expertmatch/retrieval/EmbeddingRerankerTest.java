@@ -0,0 +1,119 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
+import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchRepository;
+import com.berdachuk.expertmatch.retrieval.service.SemanticReranker;
+import com.berdachuk.expertmatch.retrieval.service.impl.EmbeddingRerankerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EmbeddingReranker.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmbeddingRerankerTest {
+
+    private static final String TEST_QUERY = "Looking for Java and Spring Boot experts";
+    private static final List<String> TEST_EXPERT_IDS = List.of("expert1", "expert2", "expert3", "expert4");
+    private static final Map<String, Double> TEST_FUSED_SCORES = fusedScores(1.0, 0.9, 0.8, 0.7);
+
+    @Mock
+    private EmbeddingService embeddingService;
+    @Mock
+    private PgVectorSearchRepository vectorSearchRepository;
+    private EmbeddingRerankerImpl embeddingReranker;
+
+    @BeforeEach
+    void setUp() {
+        embeddingReranker = new EmbeddingRerankerImpl(embeddingService, vectorSearchRepository);
+    }
+
+    @Test
+    void testRerank_OrdersByProfileSimilarityAndKeepsTopN() {
+        // Arrange
+        when(embeddingService.generateEmbeddingAsFloatArray(TEST_QUERY)).thenReturn(new float[]{1f, 0f});
+        when(vectorSearchRepository.findProfileEmbeddings(TEST_EXPERT_IDS)).thenReturn(Map.of(
+                "expert1", new float[]{0f, 1f, 0f},
+                "expert2", new float[]{1f, 0f, 0f},
+                "expert3", new float[]{1f, 1f, 0f}
+        ));
+
+        // Act
+        SemanticReranker.RerankResult result = embeddingReranker.rerank(TEST_QUERY, TEST_FUSED_SCORES, 3);
+
+        // Assert
+        assertEquals(List.of("expert2", "expert3", "expert1"), result.expertIds());
+        assertEquals(1.0, result.relevanceScores().get("expert2"), 0.001);
+        assertEquals(0.707, result.relevanceScores().get("expert3"), 0.001);
+        assertEquals(0.0, result.relevanceScores().get("expert1"), 0.001);
+    }
+
+    @Test
+    void testRerank_ExpertsWithoutProfileKeepFusedOrderAtEnd() {
+        // Arrange
+        when(embeddingService.generateEmbeddingAsFloatArray(TEST_QUERY)).thenReturn(new float[]{1f, 0f});
+        when(vectorSearchRepository.findProfileEmbeddings(TEST_EXPERT_IDS)).thenReturn(Map.of(
+                "expert4", new float[]{1f, 0f}
+        ));
+
+        // Act
+        SemanticReranker.RerankResult result = embeddingReranker.rerank(TEST_QUERY, TEST_FUSED_SCORES, 10);
+
+        // Assert
+        assertEquals(List.of("expert4", "expert1", "expert2", "expert3"), result.expertIds());
+    }
+
+    @Test
+    void testRerank_WithEmbeddingError_KeepsFusedOrderAndScores() {
+        // Arrange
+        when(embeddingService.generateEmbeddingAsFloatArray(anyString())).thenThrow(new RuntimeException("Embedding error"));
+
+        // Act
+        SemanticReranker.RerankResult result = embeddingReranker.rerank(TEST_QUERY, TEST_FUSED_SCORES, 2);
+
+        // Assert
+        assertEquals(List.of("expert1", "expert2"), result.expertIds());
+        assertEquals(Map.of("expert1", 1.0, "expert2", 0.9), result.relevanceScores());
+    }
+
+    @Test
+    void testRerank_WithoutProfileEmbeddings_KeepsFusedOrderAndScores() {
+        // Arrange
+        when(embeddingService.generateEmbeddingAsFloatArray(TEST_QUERY)).thenReturn(new float[]{1f, 0f});
+        when(vectorSearchRepository.findProfileEmbeddings(TEST_EXPERT_IDS)).thenReturn(Map.of());
+
+        // Act
+        SemanticReranker.RerankResult result = embeddingReranker.rerank(TEST_QUERY, TEST_FUSED_SCORES, 3);
+
+        // Assert
+        assertEquals(List.of("expert1", "expert2", "expert3"), result.expertIds());
+        assertEquals(Map.of("expert1", 1.0, "expert2", 0.9, "expert3", 0.8), result.relevanceScores());
+    }
+
+    @Test
+    void testRerank_WithEmptyExpertIds_ReturnsEmptyResult() {
+        SemanticReranker.RerankResult result = embeddingReranker.rerank(TEST_QUERY, Map.of(), 5);
+
+        assertTrue(result.expertIds().isEmpty());
+        assertTrue(result.relevanceScores().isEmpty());
+    }
+
+    private static Map<String, Double> fusedScores(double... scores) {
+        Map<String, Double> fusedScores = new LinkedHashMap<>();
+        for (int i = 0; i < scores.length; i++) {
+            fusedScores.put(TEST_EXPERT_IDS.get(i), scores[i]);
+        }
+        return fusedScores;
+    }
+}
@@ -0,0 +1,183 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.core.config.SpeculativeExecutor;
+import com.berdachuk.expertmatch.core.domain.EntityExtractorTypes.ExtractedEntities;
+import com.berdachuk.expertmatch.core.domain.ExecutionTrace;
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.core.domain.QueryOptions;
+import com.berdachuk.expertmatch.core.domain.QueryRequest;
+import com.berdachuk.expertmatch.core.service.EntityExtractor;
+import com.berdachuk.expertmatch.core.service.ExecutionTracer;
+import com.berdachuk.expertmatch.core.service.QueryDeadlineHolder;
+import com.berdachuk.expertmatch.embedding.service.EmbeddingService;
+import com.berdachuk.expertmatch.employee.repository.EmployeeRepository;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalChannelExecutor;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalProperties;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+import com.berdachuk.expertmatch.retrieval.repository.CandidateFilterRepository;
+import com.berdachuk.expertmatch.retrieval.service.*;
+import com.berdachuk.expertmatch.retrieval.service.impl.HybridRetrievalServiceImpl;
+import com.berdachuk.expertmatch.retrieval.service.impl.ResultFusionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the parallel channel fan-out of HybridRetrievalServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class HybridRetrievalServiceImplTest {
+
+    private static final String TEST_QUERY = "Looking for Java and Spring Boot experts";
+    private static final long CHANNEL_TIMEOUT_MS = 300;
+
+    @Mock
+    private VectorSearchService vectorSearch;
+    @Mock
+    private GraphSearchService graphSearch;
+    @Mock
+    private KeywordSearchService keywordSearch;
+    @Mock
+    private InDatabaseFusionService inDatabaseFusionService;
+    @Mock
+    private SemanticReranker reranker;
+    @Mock
+    private EmbeddingReranker embeddingReranker;
+    @Mock
+    private EntityExtractor entityExtractor;
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private CandidateFilterRepository candidateFilterRepository;
+    @Mock
+    private Environment environment;
+    @Mock
+    private RetrievalChannelExecutor channelExecutor;
+    @Mock
+    private EmbeddingService embeddingService;
+    @Mock
+    private SpeculativeExecutor speculativeExecutor;
+
+    private RetrievalChannelExecutor workerExecutor;
+    private HybridRetrievalServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        RetrievalProperties properties = new RetrievalProperties();
+        properties.getParallel().setEnabled(true);
+        properties.getParallel().setChannelTimeoutMs(CHANNEL_TIMEOUT_MS);
+        workerExecutor = new RetrievalChannelExecutor(properties);
+        service = new HybridRetrievalServiceImpl(vectorSearch, graphSearch, keywordSearch, new ResultFusionServiceImpl(),
+                inDatabaseFusionService, reranker, embeddingReranker, entityExtractor, employeeRepository,
+                candidateFilterRepository, environment, properties, channelExecutor, embeddingService,
+                speculativeExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerExecutor.destroy();
+    }
+
+    @Test
+    void testRetrieve_DropsSlowAndRejectedChannelsFromFusion() throws Exception {
+        // Arrange: vector and keyword answer at once, graph misses its deadline, person is rejected
+        when(vectorSearch.searchCandidates(eq(TEST_QUERY), anyInt(), anyDouble(), any()))
+                .thenReturn(scored(ScoredCandidates.CHANNEL_VECTOR, "expert1", "expert2"));
+        when(keywordSearch.searchCandidates(anyList(), anyInt(), any()))
+                .thenReturn(scored(ScoredCandidates.CHANNEL_KEYWORD, "expert3"));
+
+        CountDownLatch releaseGraph = new CountDownLatch(1);
+        CountDownLatch graphFinished = new CountDownLatch(1);
+        AtomicBoolean graphHadDeadline = new AtomicBoolean();
+        AtomicBoolean graphInterrupted = new AtomicBoolean();
+        when(graphSearch.findCandidates(anyList(), anyList(), anyList(), anyInt())).thenAnswer(invocation -> {
+            graphHadDeadline.set(QueryDeadlineHolder.remainingSeconds() > 0);
+            try {
+                releaseGraph.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                graphInterrupted.set(true);
+            } finally {
+                graphFinished.countDown();
+            }
+            return scored(ScoredCandidates.CHANNEL_GRAPH, "graphExpert");
+        });
+
+        // Channels are submitted in order vector, graph, keyword, person; the fourth finds the executor saturated
+        AtomicInteger submissions = new AtomicInteger();
+        when(channelExecutor.submit(any(), anyLong())).thenAnswer(invocation -> {
+            if (submissions.incrementAndGet() == 4) {
+                throw new RejectedExecutionException("saturated");
+            }
+            Callable<?> task = invocation.getArgument(0);
+            return workerExecutor.submit(task, invocation.<Long>getArgument(1));
+        });
+
+        ExecutionTracer tracer = new ExecutionTracer();
+
+        // Act
+        HybridRetrievalService.RetrievalResult result = service.retrieve(request(), parsedQuery(), tracer);
+
+        // Assert: only the channels that answered in time were fused
+        assertEquals(Set.of("expert1", "expert2", "expert3"), Set.copyOf(result.expertIds()));
+        verify(channelExecutor, times(4)).submit(any(), anyLong());
+        verifyNoInteractions(employeeRepository);
+
+        Map<String, String> statuses = tracer.buildTrace().steps().stream()
+                .collect(Collectors.toMap(ExecutionTrace.ExecutionStep::name, ExecutionTrace.ExecutionStep::status));
+        assertEquals("SUCCESS", statuses.get("Vector Search"));
+        assertEquals("SUCCESS", statuses.get("Keyword Search"));
+        assertEquals("TIMED_OUT", statuses.get("Graph Search"));
+        assertEquals("SKIPPED", statuses.get("Person Name Search"));
+
+        // The timed-out channel ran under its deadline and was cancelled without an interrupt
+        releaseGraph.countDown();
+        assertTrue(graphFinished.await(5, TimeUnit.SECONDS));
+        assertTrue(graphHadDeadline.get());
+        assertFalse(graphInterrupted.get());
+    }
+
+    private static QueryRequest request() {
+        QueryOptions options = QueryOptions.builder()
+                .maxResults(10)
+                .minConfidence(0.0)
+                .rerank(false)
+                .build();
+        return new QueryRequest(TEST_QUERY, null, options);
+    }
+
+    private static ParsedQuery parsedQuery() {
+        ExtractedEntities entities = new ExtractedEntities(List.of(), List.of(), List.of(), List.of(), List.of());
+        return new ParsedQuery(TEST_QUERY, List.of("Spring Boot"), List.of(), null, "expert_search", List.of("Java"))
+                .withEntities(entities);
+    }
+
+    private static ScoredCandidates scored(String channel, String... expertIds) {
+        ScoredCandidates.Builder builder = ScoredCandidates.builder(channel, ScoredCandidates.ScoreType.SIMILARITY,
+                expertIds.length);
+        double score = 0.9;
+        for (String expertId : expertIds) {
+            builder.add(expertId, score);
+            score -= 0.1;
+        }
+        return builder.build();
+    }
+}
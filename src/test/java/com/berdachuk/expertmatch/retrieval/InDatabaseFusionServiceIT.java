@@ -0,0 +1,112 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.core.domain.ParsedQuery;
+import com.berdachuk.expertmatch.core.util.IdGenerator;
+import com.berdachuk.expertmatch.integration.BaseIntegrationTest;
+import com.berdachuk.expertmatch.retrieval.repository.HybridSearchResult;
+import com.berdachuk.expertmatch.retrieval.service.InDatabaseFusionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for InDatabaseFusionService.
+ * Work experience rows are inserted without embeddings, so only the keyword and technology channels match.
+ */
+class InDatabaseFusionServiceIT extends BaseIntegrationTest {
+
+    private static final Map<String, Double> WEIGHTS = Map.of("vector", 1.0, "keyword", 0.8, "technology", 0.8);
+
+    @Autowired
+    private InDatabaseFusionService inDatabaseFusionService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up any data from previous tests to ensure test isolation
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.work_experience");
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.employee");
+    }
+
+    @Test
+    void testSearch_FusesKeywordAndTechnologyChannels() {
+        String javaExpertId = insertEmployee("Java Expert");
+        String reactExpertId = insertEmployee("React Expert");
+        insertWorkExperience(javaExpertId, "Banking Platform",
+                "Developed Spring Boot microservices in Java", new String[]{"Java", "Spring Boot", "PostgreSQL"});
+        insertWorkExperience(reactExpertId, "Web Portal",
+                "Built a React frontend that calls Java services", new String[]{"React", "TypeScript"});
+
+        List<HybridSearchResult> results = inDatabaseFusionService.search(
+                parsedQuery(List.of("Java"), List.of("Java", "Spring Boot")), WEIGHTS, 10);
+
+        assertFalse(results.isEmpty());
+        HybridSearchResult top = results.getFirst();
+        assertEquals(javaExpertId, top.employeeId());
+        assertNull(top.vectorScore(), "Rows without embeddings should not match the vector channel");
+        assertEquals(1, top.keywordRank());
+        assertEquals(1, top.technologyRank());
+        assertEquals(2.0, top.technologyScore());
+        assertEquals(0.8 / 61 + 0.8 / 61, top.fusedScore(), 1e-9);
+        assertTrue(results.stream().noneMatch(result -> result.employeeId().equals(reactExpertId)));
+    }
+
+    @Test
+    void testSearch_OrdersByFusedScoreAndRespectsMaxResults() {
+        for (int i = 0; i < 5; i++) {
+            String employeeId = insertEmployee("Employee " + i);
+            insertWorkExperience(employeeId, "Project " + i, "Java development", new String[]{"Java"});
+        }
+
+        List<HybridSearchResult> results = inDatabaseFusionService.search(
+                parsedQuery(List.of(), List.of("Java")), WEIGHTS, 3);
+
+        assertEquals(3, results.size());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).fusedScore() >= results.get(i).fusedScore());
+        }
+    }
+
+    @Test
+    void testSearch_WithNoMatches() {
+        List<HybridSearchResult> results = inDatabaseFusionService.search(
+                parsedQuery(List.of("NonExistentSkill"), List.of("NonExistentTechnology")), WEIGHTS, 5);
+
+        assertNotNull(results);
+        assertTrue(results.isEmpty());
+    }
+
+    private ParsedQuery parsedQuery(List<String> skills, List<String> technologies) {
+        return new ParsedQuery("Find experts", skills, List.of(), null, "expert_search", technologies);
+    }
+
+    private String insertEmployee(String name) {
+        String employeeId = IdGenerator.generateEmployeeId();
+        namedJdbcTemplate.update(
+                "INSERT INTO expertmatch.employee (id, name, email) VALUES (:id, :name, :email)",
+                Map.of("id", employeeId, "name", name, "email", employeeId + "@test.com")
+        );
+        return employeeId;
+    }
+
+    private void insertWorkExperience(String employeeId, String projectName, String summary, String[] technologies) {
+        namedJdbcTemplate.update(
+                "INSERT INTO expertmatch.work_experience (id, employee_id, project_name, project_summary, technologies) VALUES (:id, :employeeId, :name, :summary, :technologies)",
+                Map.of(
+                        "id", IdGenerator.generateId(),
+                        "employeeId", employeeId,
+                        "name", projectName,
+                        "summary", summary,
+                        "technologies", technologies
+                )
+        );
+    }
+}
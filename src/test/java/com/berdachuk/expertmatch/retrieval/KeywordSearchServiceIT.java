@@ -2,6 +2,8 @@ package com.berdachuk.expertmatch.retrieval;
 
 import com.berdachuk.expertmatch.core.util.IdGenerator;
 import com.berdachuk.expertmatch.integration.BaseIntegrationTest;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 import com.berdachuk.expertmatch.retrieval.service.KeywordSearchService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -111,6 +113,41 @@ class KeywordSearchServiceIT extends BaseIntegrationTest {
         assertTrue(results.contains(employeeId));
     }
 
+    @Test
+    void testSearchCandidatesReturnsRankScoresBestFirst() {
+        String strongMatchId = IdGenerator.generateEmployeeId();
+        String weakMatchId = IdGenerator.generateEmployeeId();
+        namedJdbcTemplate.update(
+                "INSERT INTO expertmatch.employee (id, name, email) VALUES (:id, :name, :email)",
+                Map.of("id", strongMatchId, "name", "Strong Match", "email", "strong-" + System.currentTimeMillis() + "@test.com")
+        );
+        namedJdbcTemplate.update(
+                "INSERT INTO expertmatch.employee (id, name, email) VALUES (:id, :name, :email)",
+                Map.of("id", weakMatchId, "name", "Weak Match", "email", "weak-" + System.currentTimeMillis() + "@test.com")
+        );
+        String insertSql = "INSERT INTO expertmatch.work_experience (id, employee_id, project_name, project_summary, technologies) VALUES (:id, :employeeId, :name, :summary, :technologies)";
+        namedJdbcTemplate.update(insertSql, Map.of(
+                "id", IdGenerator.generateId(),
+                "employeeId", strongMatchId,
+                "name", "Kafka Streaming Platform",
+                "summary", "Kafka consumers, Kafka producers and Kafka Streams topologies",
+                "technologies", new String[]{"Kafka", "Java"}
+        ));
+        namedJdbcTemplate.update(insertSql, Map.of(
+                "id", IdGenerator.generateId(),
+                "employeeId", weakMatchId,
+                "name", "Reporting Service",
+                "summary", "Reporting service that reads events from Kafka",
+                "technologies", new String[]{"Java"}
+        ));
+
+        ScoredCandidates candidates = keywordSearchService.searchCandidates(List.of("Kafka"), 5, CandidateFilter.NONE);
+
+        assertEquals(ScoredCandidates.ScoreType.TEXT_RANK, candidates.scoreType());
+        assertEquals(List.of(strongMatchId, weakMatchId), candidates.expertIds());
+        assertTrue(candidates.score(0) > candidates.score(1));
+    }
+
     @Test
     void testSearchWithNoMatches() {
         List<String> results = keywordSearchService.searchByKeywords(List.of("NonExistentTechnology"), 5);
@@ -0,0 +1,166 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.core.util.IdGenerator;
+import com.berdachuk.expertmatch.core.util.PgVectorUtils;
+import com.berdachuk.expertmatch.integration.BaseIntegrationTest;
+import com.berdachuk.expertmatch.retrieval.domain.CandidateFilter;
+import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchRepository;
+import com.berdachuk.expertmatch.retrieval.repository.PgVectorSearchResult;
+import com.berdachuk.expertmatch.workexperience.repository.WorkExperienceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for expert-level vector search: employee profile embeddings, work experience
+ * search grouped by employee, and candidate filters applied inside the search.
+ * Uses Testcontainers PostgreSQL with PgVector; no LLM calls are made.
+ */
+class PgVectorSearchRepositoryIT extends BaseIntegrationTest {
+
+    @Autowired
+    private PgVectorSearchRepository vectorSearchRepository;
+
+    @Autowired
+    private WorkExperienceRepository workExperienceRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.work_experience");
+        namedJdbcTemplate.getJdbcTemplate().execute("DELETE FROM expertmatch.employee");
+    }
+
+    @Test
+    void testUpdateEmbeddingsMaintainsProfileEmbeddings() {
+        String employeeId = insertEmployee("profile-mean");
+        String first = insertWorkExperience(employeeId);
+        String second = insertWorkExperience(employeeId);
+
+        Map<String, float[]> embeddings = new LinkedHashMap<>();
+        embeddings.put(first, vector(1f, 0f));
+        embeddings.put(second, vector(0f, 1f));
+        workExperienceRepository.updateEmbeddings(embeddings, 1024);
+
+        float[] profile = vectorSearchRepository.findProfileEmbeddings(List.of(employeeId)).get(employeeId);
+        assertNotNull(profile);
+        assertEquals(PgVectorUtils.DATABASE_EMBEDDING_DIMENSION, profile.length);
+        assertEquals(0.5f, profile[0], 1e-6);
+        assertEquals(0.5f, profile[1], 1e-6);
+    }
+
+    @Test
+    void testSearchProfilesReturnsDistinctExperts() {
+        // A prolific expert with three close work experiences and another expert with one
+        String prolificId = insertEmployee("prolific");
+        String otherId = insertEmployee("other");
+        Map<String, float[]> embeddings = new LinkedHashMap<>();
+        embeddings.put(insertWorkExperience(prolificId), vector(1f, 0.01f));
+        embeddings.put(insertWorkExperience(prolificId), vector(1f, 0.02f));
+        embeddings.put(insertWorkExperience(prolificId), vector(1f, 0.03f));
+        embeddings.put(insertWorkExperience(otherId), vector(1f, 0.3f));
+        workExperienceRepository.updateEmbeddings(embeddings, 1024);
+
+        var queryVector = PgVectorUtils.toDatabaseVector(vector(1f, 0f));
+        List<String> rowLevel = vectorSearchRepository.search(queryVector, 0.5, 2, CandidateFilter.NONE).stream()
+                .map(PgVectorSearchResult::employeeId)
+                .distinct()
+                .toList();
+        List<String> expertLevel = vectorSearchRepository.searchProfiles(queryVector, 0.5, 2, CandidateFilter.NONE).stream()
+                .map(PgVectorSearchResult::employeeId)
+                .toList();
+
+        assertEquals(List.of(prolificId), rowLevel);
+        assertEquals(List.of(prolificId, otherId), expertLevel);
+    }
+
+    @Test
+    void testSearchBestMatchPerEmployeeReturnsDistinctExpertsWithBestWorkExperience() {
+        String prolificId = insertEmployee("prolific-best");
+        String otherId = insertEmployee("other-best");
+        String bestWorkExperienceId = insertWorkExperience(prolificId);
+        Map<String, float[]> embeddings = new LinkedHashMap<>();
+        embeddings.put(bestWorkExperienceId, vector(1f, 0.01f));
+        embeddings.put(insertWorkExperience(prolificId), vector(1f, 0.02f));
+        embeddings.put(insertWorkExperience(prolificId), vector(1f, 0.03f));
+        embeddings.put(insertWorkExperience(otherId), vector(1f, 0.3f));
+        workExperienceRepository.updateEmbeddings(embeddings, 1024);
+
+        List<PgVectorSearchResult> results = vectorSearchRepository.searchBestMatchPerEmployee(
+                PgVectorUtils.toDatabaseVector(vector(1f, 0f)), 0.5, 2, 10, true, 1000, CandidateFilter.NONE);
+
+        assertEquals(List.of(prolificId, otherId), results.stream().map(PgVectorSearchResult::employeeId).toList());
+        assertEquals(bestWorkExperienceId, results.get(0).metadata().get("workExperienceId"));
+        assertTrue(results.get(0).similarity() > results.get(1).similarity());
+    }
+
+    @Test
+    void testSearchAppliesCandidateFilterInsideTheQuery() {
+        String juniorId = insertEmployee("junior", "A1", "C1");
+        String seniorId = insertEmployee("senior", "A4", "B2");
+        String leadWeakEnglishId = insertEmployee("lead-weak-english", "A4", "A2");
+        Map<String, float[]> embeddings = new LinkedHashMap<>();
+        // The junior is the closest match, so an unfiltered top 1 would be the junior
+        embeddings.put(insertWorkExperience(juniorId), vector(1f, 0.01f));
+        embeddings.put(insertWorkExperience(seniorId), vector(1f, 0.2f));
+        embeddings.put(insertWorkExperience(leadWeakEnglishId), vector(1f, 0.1f));
+        workExperienceRepository.updateEmbeddings(embeddings, 1024);
+        CandidateFilter filter = new CandidateFilter("A3", "B2", null);
+
+        var queryVector = PgVectorUtils.toDatabaseVector(vector(1f, 0f));
+        List<String> rowLevel = vectorSearchRepository.search(queryVector, 0.5, 1, filter).stream()
+                .map(PgVectorSearchResult::employeeId)
+                .toList();
+        List<String> bestMatch = vectorSearchRepository.searchBestMatchPerEmployee(
+                        queryVector, 0.5, 3, 10, true, 1000, filter).stream()
+                .map(PgVectorSearchResult::employeeId)
+                .toList();
+
+        assertEquals(List.of(seniorId), rowLevel);
+        assertEquals(List.of(seniorId), bestMatch);
+    }
+
+    private String insertEmployee(String name) {
+        return insertEmployee(name, null, null);
+    }
+
+    private String insertEmployee(String name, String seniority, String englishLevel) {
+        String employeeId = IdGenerator.generateEmployeeId();
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", employeeId);
+        params.put("name", name);
+        params.put("email", name + "-" + employeeId + "@test.com");
+        params.put("seniority", seniority);
+        params.put("languageEnglish", englishLevel);
+        namedJdbcTemplate.update(
+                "INSERT INTO expertmatch.employee (id, name, email, seniority, language_english) "
+                        + "VALUES (:id, :name, :email, :seniority, :languageEnglish)",
+                params);
+        return employeeId;
+    }
+
+    private String insertWorkExperience(String employeeId) {
+        String workExperienceId = IdGenerator.generateId();
+        namedJdbcTemplate.update(
+                "INSERT INTO expertmatch.work_experience (id, employee_id, project_name) VALUES (:id, :employeeId, :projectName)",
+                Map.of("id", workExperienceId, "employeeId", employeeId, "projectName", "Project " + workExperienceId));
+        return workExperienceId;
+    }
+
+    private static float[] vector(float x, float y) {
+        float[] vector = new float[1024];
+        vector[0] = x;
+        vector[1] = y;
+        return vector;
+    }
+}
@@ -0,0 +1,133 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.retrieval.config.RetrievalProperties;
+import com.berdachuk.expertmatch.retrieval.service.impl.RerankScoreCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RerankScoreCache.
+ */
+class RerankScoreCacheTest {
+
+    private static final String QUERY = "Java and Spring Boot experts";
+
+    private RetrievalProperties.RerankCacheConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        config = new RetrievalProperties.RerankCacheConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(0);
+        loads = new AtomicInteger(0);
+    }
+
+    @Test
+    void testSameCandidateSetInAnyOrderIsLoadedOnce() {
+        RerankScoreCache cache = newCache();
+
+        Map<String, Double> first = cache.get(QUERY, List.of("e1", "e2", "e3"), this::load);
+        Map<String, Double> second = cache.get(QUERY, List.of("e3", "e1", "e2"), this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+        assertEquals(1.0, counter("requests", "result", "hit"));
+        assertEquals(1.0, counter("requests", "result", "miss"));
+    }
+
+    @Test
+    void testCachedScoresKeepResponseOrder() {
+        RerankScoreCache cache = newCache();
+        Map<String, Double> response = new LinkedHashMap<>();
+        response.put("e3", 0.8);
+        response.put("e1", 0.8);
+        response.put("e2", 0.8);
+
+        cache.get(QUERY, List.of("e1", "e2", "e3"), () -> response);
+        Map<String, Double> cached = cache.get(QUERY, List.of("e1", "e2", "e3"), this::load);
+
+        assertEquals(List.of("e3", "e1", "e2"), List.copyOf(cached.keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> cached.put("e4", 0.1));
+    }
+
+    @Test
+    void testDifferentCandidateSetsDoNotShareEntries() {
+        RerankScoreCache cache = newCache();
+
+        cache.get(QUERY, List.of("e1", "e2"), this::load);
+        cache.get(QUERY, List.of("e1", "e2", "e3"), this::load);
+        cache.get("Python experts", List.of("e1", "e2"), this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testEntryExpiresAfterTtl() {
+        config.setTtlSeconds(60);
+        RerankScoreCache cache = newCache();
+
+        cache.get(QUERY, List.of("e1"), this::load);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get(QUERY, List.of("e1"), this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, counter("evictions", "cause", "expired"));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedBeyondMaxEntries() {
+        config.setMaxEntries(1);
+        RerankScoreCache cache = newCache();
+
+        cache.get(QUERY, List.of("e1"), this::load);
+        cache.get(QUERY, List.of("e2"), this::load);
+
+        assertEquals(1, cache.size());
+        assertEquals(1.0, counter("evictions", "cause", "size"));
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        RerankScoreCache cache = newCache();
+
+        assertNull(cache.get(QUERY, List.of("e1"), () -> null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        RerankScoreCache cache = RerankScoreCache.disabled();
+
+        cache.get(QUERY, List.of("e1"), this::load);
+        cache.get(QUERY, List.of("e1"), this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private RerankScoreCache newCache() {
+        return new RerankScoreCache(config, meterRegistry, clock::get);
+    }
+
+    private Map<String, Double> load() {
+        loads.incrementAndGet();
+        return Map.of("e1", 0.9, "e2", 0.7);
+    }
+
+    private double counter(String name, String tagKey, String tagValue) {
+        return meterRegistry.get("expertmatch.rerank.cache." + name).tag(tagKey, tagValue).counter().count();
+    }
+}
@@ -1,12 +1,19 @@
 package com.berdachuk.expertmatch.retrieval;
 
+import com.berdachuk.expertmatch.core.domain.FusionMethod;
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
 import com.berdachuk.expertmatch.retrieval.service.ResultFusionService;
+import com.berdachuk.expertmatch.retrieval.service.ResultFusionService.FusedCandidate;
+import com.berdachuk.expertmatch.retrieval.service.ResultFusionService.FusionResult;
 import com.berdachuk.expertmatch.retrieval.service.ResultFusionServiceImpl;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -88,5 +95,126 @@ class ResultFusionServiceTest {
             fusionService.fuseResults(results, null);
         });
     }
-}
 
+    @Test
+    void testFuseWeightedRrfReturnsScoresAndChannelRanks() {
+        Map<String, List<String>> results = new LinkedHashMap<>();
+        results.put("vector", List.of("expert1", "expert2", "expert3"));
+        results.put("keyword", List.of("expert2", "expert4"));
+
+        FusionResult fused = fusionService.fuse(results, Map.of("vector", 1.0, "keyword", 0.5),
+                FusionMethod.WEIGHTED_RRF, 10);
+
+        assertEquals(List.of("vector", "keyword"), fused.channels());
+        assertEquals(List.of("expert2", "expert1", "expert3", "expert4"), fused.expertIds());
+        FusedCandidate top = fused.candidates().get(0);
+        assertEquals(1.0 / 62 + 0.5 / 61, top.fusedScore(), 1e-12);
+        assertArrayEquals(new int[]{2, 1}, top.channelRanks());
+        assertArrayEquals(new int[]{0, 2}, fused.candidates().get(3).channelRanks());
+    }
+
+    @Test
+    void testFuseKeepsOnlyTopK() {
+        Map<String, List<String>> results = new LinkedHashMap<>();
+        results.put("vector", List.of("expert1", "expert2", "expert3"));
+        results.put("keyword", List.of("expert2", "expert4"));
+
+        FusionResult fused = fusionService.fuse(results, Map.of("vector", 1.0, "keyword", 0.5),
+                FusionMethod.WEIGHTED_RRF, 2);
+
+        assertEquals(List.of("expert2", "expert1"), fused.expertIds());
+    }
+
+    @Test
+    void testFuseCombSumNormalizesRanksPerChannel() {
+        Map<String, List<String>> results = new LinkedHashMap<>();
+        results.put("vector", List.of("expert1", "expert2", "expert3"));
+        results.put("keyword", List.of("expert3"));
+
+        FusionResult fused = fusionService.fuse(results, Map.of("vector", 1.0, "keyword", 1.0),
+                FusionMethod.COMB_SUM, 10);
+
+        // expert1 and expert3 tie at 1.0 and keep first-seen order
+        assertEquals(List.of("expert1", "expert3", "expert2"), fused.expertIds());
+        assertEquals(1.0, fused.candidates().get(0).fusedScore(), 1e-12);
+        assertEquals(1.0, fused.candidates().get(1).fusedScore(), 1e-12);
+        assertEquals(0.5, fused.candidates().get(2).fusedScore(), 1e-12);
+    }
+
+    @Test
+    void testFuseCombSumNormalizesChannelScores() {
+        ScoredCandidates.Builder vector = ScoredCandidates.builder("vector", ScoredCandidates.ScoreType.SIMILARITY, 3);
+        vector.add("expert1", 0.90);
+        vector.add("expert2", 0.89);
+        vector.add("expert3", 0.70);
+        ScoredCandidates graph = ScoredCandidates.ranked("graph", List.of("expert2", "expert3"));
+
+        FusionResult fused = fusionService.fuse(List.of(vector.build(), graph), Map.of("vector", 1.0, "graph", 1.0),
+                FusionMethod.COMB_SUM, 10);
+
+        // Vector similarities are min-max normalized (expert2 gets 0.95 instead of a rank-derived 0.5);
+        // the unscored graph channel falls back to ranks (1.0, 0.0)
+        assertEquals(List.of("expert2", "expert1", "expert3"), fused.expertIds());
+        assertEquals(1.95, fused.candidates().get(0).fusedScore(), 1e-9);
+        assertEquals(1.0, fused.candidates().get(1).fusedScore(), 1e-9);
+        assertEquals(0.0, fused.candidates().get(2).fusedScore(), 1e-9);
+    }
+
+    @Test
+    void testFuseCountsDuplicateWithinChannelOnce() {
+        Map<String, List<String>> results = new LinkedHashMap<>();
+        results.put("vector", List.of("expert1", "expert1", "expert2"));
+
+        FusionResult fused = fusionService.fuse(results, Map.of(), FusionMethod.WEIGHTED_RRF, 10);
+
+        assertEquals(List.of("expert1", "expert2"), fused.expertIds());
+        assertEquals(1.0 / 61, fused.candidates().get(0).fusedScore(), 1e-12);
+        assertArrayEquals(new int[]{1}, fused.candidates().get(0).channelRanks());
+    }
+
+    @Test
+    void testFuseMatchesFullSortOnRandomInput() {
+        Random random = new Random(7);
+        Map<String, List<String>> results = new LinkedHashMap<>();
+        Map<String, Double> weights = Map.of("vector", 1.0, "graph", 0.8, "keyword", 0.6);
+        for (String channel : weights.keySet()) {
+            List<String> expertIds = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String expertId = "expert" + random.nextInt(400);
+                if (!expertIds.contains(expertId)) {
+                    expertIds.add(expertId);
+                }
+            }
+            results.put(channel, expertIds);
+        }
+        Map<String, Double> expectedScores = new HashMap<>();
+        results.forEach((channel, expertIds) -> {
+            for (int rank = 0; rank < expertIds.size(); rank++) {
+                expectedScores.merge(expertIds.get(rank), weights.get(channel) / (60 + rank + 1), Double::sum);
+            }
+        });
+        List<Double> expectedTop = expectedScores.values().stream()
+                .sorted((a, b) -> Double.compare(b, a))
+                .limit(25)
+                .toList();
+
+        FusionResult fused = fusionService.fuse(results, weights, FusionMethod.WEIGHTED_RRF, 25);
+
+        assertEquals(25, fused.candidates().size());
+        for (int i = 0; i < expectedTop.size(); i++) {
+            FusedCandidate candidate = fused.candidates().get(i);
+            assertEquals(expectedTop.get(i), candidate.fusedScore(), 1e-12);
+            assertEquals(expectedScores.get(candidate.expertId()), candidate.fusedScore(), 1e-12);
+        }
+    }
+
+    @Test
+    void testFuseWithInvalidTopK() {
+        Map<String, List<String>> results = new HashMap<>();
+        results.put("vector", List.of("expert1"));
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            fusionService.fuse(results, Map.of(), FusionMethod.WEIGHTED_RRF, 0);
+        });
+    }
+}
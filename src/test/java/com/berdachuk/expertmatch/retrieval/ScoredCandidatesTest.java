@@ -0,0 +1,82 @@
+package com.berdachuk.expertmatch.retrieval;
+
+import com.berdachuk.expertmatch.retrieval.domain.ScoredCandidates;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ScoredCandidates.
+ */
+class ScoredCandidatesTest {
+
+    @Test
+    void testBuilder_KeepsFirstEntryOfDuplicateExpert() {
+        ScoredCandidates.Builder builder = ScoredCandidates.builder("vector", ScoredCandidates.ScoreType.SIMILARITY, 2);
+        builder.add("expert1", 0.9);
+        builder.add("expert2", 0.8);
+        assertFalse(builder.add("expert1", 0.7));
+        builder.add("expert3", 0.6);
+
+        ScoredCandidates candidates = builder.build();
+
+        assertEquals("vector", candidates.channel());
+        assertTrue(candidates.isScored());
+        assertEquals(List.of("expert1", "expert2", "expert3"), candidates.expertIds());
+        assertEquals(0.9, candidates.score(0));
+        assertEquals(0.6, candidates.score(2));
+    }
+
+    @Test
+    void testRetain_KeepsOrderAndScoresOfRetainedExperts() {
+        ScoredCandidates.Builder builder = ScoredCandidates.builder("graph", ScoredCandidates.ScoreType.MATCH_COUNT, 3);
+        builder.add("expert1", 3.0);
+        builder.add("expert2", 2.0);
+        builder.add("expert3", 1.0);
+        ScoredCandidates candidates = builder.build();
+
+        ScoredCandidates retained = candidates.retain(Set.of("expert3", "expert1"));
+
+        assertEquals(List.of("expert1", "expert3"), retained.expertIds());
+        assertEquals(1.0, retained.score(1));
+        assertEquals(ScoredCandidates.ScoreType.MATCH_COUNT, retained.scoreType());
+        assertSame(candidates, candidates.retain(Set.of("expert1", "expert2", "expert3")));
+    }
+
+    @Test
+    void testBuild_IsNotChangedByLaterAdds() {
+        ScoredCandidates.Builder builder = ScoredCandidates.builder("keyword", ScoredCandidates.ScoreType.TEXT_RANK, 4);
+        builder.add("expert1", 0.9);
+        ScoredCandidates first = builder.build();
+
+        builder.add("expert2", 0.5);
+        ScoredCandidates second = builder.build();
+
+        assertEquals(List.of("expert1"), first.expertIds());
+        assertEquals(List.of("expert1", "expert2"), second.expertIds());
+        assertEquals(0.5, second.score(1));
+    }
+
+    @Test
+    void testRanked_HasNoChannelScores() {
+        ScoredCandidates candidates = ScoredCandidates.ranked("person", List.of("expert1", "expert2", "expert1"));
+
+        assertFalse(candidates.isScored());
+        assertEquals(List.of("expert1", "expert2"), candidates.expertIds());
+        assertEquals(1.0, candidates.score(1));
+    }
+
+    @Test
+    void testLimit_KeepsFirstCandidates() {
+        ScoredCandidates candidates = ScoredCandidates.ranked("graph", List.of("expert1", "expert2", "expert3"));
+
+        ScoredCandidates limited = candidates.limit(2);
+
+        assertEquals(List.of("expert1", "expert2"), limited.expertIds());
+        assertSame(candidates, candidates.limit(5));
+        assertTrue(ScoredCandidates.empty("keyword").isEmpty());
+    }
+}
@@ -1,9 +1,13 @@
 package com.berdachuk.expertmatch.retrieval;
 
 import com.berdachuk.expertmatch.employee.repository.EmployeeRepository;
+import com.berdachuk.expertmatch.retrieval.config.RetrievalProperties;
+import com.berdachuk.expertmatch.retrieval.service.SemanticReranker;
+import com.berdachuk.expertmatch.retrieval.service.impl.RerankScoreCache;
 import com.berdachuk.expertmatch.retrieval.service.impl.SemanticRerankerImpl;
 import com.berdachuk.expertmatch.workexperience.repository.WorkExperienceRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -351,6 +355,89 @@ class SemanticRerankerTest {
         assertEquals("expert1", result.get(1));
     }
 
+    @Test
+    void testRerankWithScores_UsesSingleLLMCallForOrderAndScores() {
+        // Arrange
+        String rerankingResponse = """
+                [
+                  {"expertId": "expert2", "score": 0.95, "reason": "Strong match"},
+                  {"expertId": "expert1", "score": 0.87, "reason": "Good match"}
+                ]
+                """;
+
+        when(rerankingPromptTemplate.render(anyMap())).thenReturn("test prompt");
+        when(rerankingChatModel.call(any(Prompt.class))).thenReturn(createChatResponse(rerankingResponse));
+        when(employeeRepository.findByIds(TEST_EXPERT_IDS)).thenReturn(createTestEmployees());
+        when(workExperienceRepository.findByEmployeeIds(TEST_EXPERT_IDS)).thenReturn(createTestWorkExperiences());
+
+        // Act
+        SemanticReranker.RerankResult result = semanticReranker.rerankWithScores(TEST_QUERY, TEST_EXPERT_IDS, 2);
+
+        // Assert
+        assertEquals(List.of("expert2", "expert1"), result.expertIds());
+        assertEquals(Map.of("expert2", 0.95, "expert1", 0.87), result.relevanceScores());
+        verify(rerankingChatModel, times(1)).call(any(Prompt.class));
+        verify(employeeRepository, times(1)).findByIds(TEST_EXPERT_IDS);
+    }
+
+    @Test
+    void testRerankWithScores_WithScoreCache_ReusesScoresForSameCandidateSet() {
+        // Arrange
+        String rerankingResponse = """
+                [
+                  {"expertId": "expert3", "score": 0.9, "reason": "Strong match"},
+                  {"expertId": "expert1", "score": 0.6, "reason": "Partial match"}
+                ]
+                """;
+        SemanticRerankerImpl cachingReranker = new SemanticRerankerImpl(
+                rerankingChatModel,
+                rerankingPromptTemplate,
+                employeeRepository,
+                workExperienceRepository,
+                new ObjectMapper(),
+                new RerankScoreCache(new RetrievalProperties.RerankCacheConfig(), new SimpleMeterRegistry(), System::nanoTime)
+        );
+
+        when(rerankingPromptTemplate.render(anyMap())).thenReturn("test prompt");
+        when(rerankingChatModel.call(any(Prompt.class))).thenReturn(createChatResponse(rerankingResponse));
+        when(employeeRepository.findByIds(TEST_EXPERT_IDS)).thenReturn(createTestEmployees());
+        when(workExperienceRepository.findByEmployeeIds(TEST_EXPERT_IDS)).thenReturn(createTestWorkExperiences());
+
+        // Act
+        SemanticReranker.RerankResult first = cachingReranker.rerankWithScores(TEST_QUERY, TEST_EXPERT_IDS, 10);
+        Map<String, Double> scores = cachingReranker.calculateRelevanceScores(
+                TEST_QUERY, List.of("expert3", "expert2", "expert1"));
+
+        // Assert
+        assertEquals(List.of("expert3", "expert1", "expert2"), first.expertIds());
+        assertEquals(0.5, first.relevanceScores().get("expert2"), 0.01);
+        assertEquals(0.9, scores.get("expert3"), 0.01);
+        verify(rerankingChatModel, times(1)).call(any(Prompt.class));
+    }
+
+    @Test
+    void testRerankWithScores_WithMinScore_DropsLowScoredExpertsBeforeLimit() {
+        // Arrange
+        String rerankingResponse = """
+                [
+                  {"expertId": "expert2", "score": 0.95, "reason": "Strong match"},
+                  {"expertId": "expert1", "score": 0.4, "reason": "Weak match"}
+                ]
+                """;
+
+        when(rerankingPromptTemplate.render(anyMap())).thenReturn("test prompt");
+        when(rerankingChatModel.call(any(Prompt.class))).thenReturn(createChatResponse(rerankingResponse));
+        when(employeeRepository.findByIds(TEST_EXPERT_IDS)).thenReturn(createTestEmployees());
+        when(workExperienceRepository.findByEmployeeIds(TEST_EXPERT_IDS)).thenReturn(createTestWorkExperiences());
+
+        // Act
+        SemanticReranker.RerankResult result = semanticReranker.rerankWithScores(TEST_QUERY, TEST_EXPERT_IDS, 2, 0.7);
+
+        // Assert: expert1 is cut, its slot goes to expert3, which the model did not score
+        assertEquals(List.of("expert2", "expert3"), result.expertIds());
+        assertFalse(result.relevanceScores().containsKey("expert1"));
+    }
+
     // Helper methods
 
     private ChatResponse createChatResponse(String content) {
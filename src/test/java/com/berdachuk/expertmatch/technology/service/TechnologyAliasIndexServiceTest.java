@@ -0,0 +1,110 @@
+package com.berdachuk.expertmatch.technology.service;
+
+import com.berdachuk.expertmatch.technology.domain.Technology;
+import com.berdachuk.expertmatch.technology.repository.TechnologyDataChangedEvent;
+import com.berdachuk.expertmatch.technology.repository.TechnologyRepository;
+import com.berdachuk.expertmatch.technology.service.impl.TechnologyAliasIndexServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TechnologyAliasIndex and TechnologyAliasIndexServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class TechnologyAliasIndexServiceTest {
+
+    private static final Technology JAVA = new Technology("1", "Java", "java", "Language", List.of("JDK", "J2EE"));
+    private static final Technology SPRING_BOOT =
+            new Technology("2", "Spring Boot", "spring boot", "Framework", List.of("SpringBoot", "JDK"));
+    private static final Technology KUBERNETES = new Technology("3", "Kubernetes", "kubernetes", "Platform", List.of("k8s"));
+
+    @Mock
+    private TechnologyRepository technologyRepository;
+
+    private TechnologyAliasIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TechnologyAliasIndexServiceImpl(technologyRepository);
+    }
+
+    @Test
+    void testResolve_NamesAndSynonymsShareCanonicalId() {
+        TechnologyAliasIndex index = TechnologyAliasIndex.build(List.of(JAVA, SPRING_BOOT, KUBERNETES));
+
+        int kubernetesId = index.resolve("Kubernetes");
+        assertNotEquals(TechnologyAliasIndex.UNKNOWN, kubernetesId);
+        assertEquals(kubernetesId, index.resolve("  K8S "));
+        assertEquals(kubernetesId, index.resolve("kubernetes"));
+        assertEquals("kubernetes", index.canonicalName(kubernetesId));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testResolve_SharedSynonymResolvesToFirstTechnology() {
+        TechnologyAliasIndex index = TechnologyAliasIndex.build(List.of(JAVA, SPRING_BOOT));
+
+        assertEquals(index.resolve("Java"), index.resolve("JDK"));
+        assertTrue(index.isSynonym(index.resolve("Spring Boot"), "jdk"));
+    }
+
+    @Test
+    void testResolve_UnknownName() {
+        TechnologyAliasIndex index = TechnologyAliasIndex.build(List.of(JAVA));
+
+        assertEquals(TechnologyAliasIndex.UNKNOWN, index.resolve("COBOL"));
+        assertFalse(index.isSynonym(TechnologyAliasIndex.UNKNOWN, "COBOL"));
+    }
+
+    @Test
+    void testGetIndex_BuildsOnceUntilDataChanges() {
+        when(technologyRepository.findAll()).thenReturn(List.of(JAVA), List.of(JAVA, KUBERNETES));
+
+        TechnologyAliasIndex first = service.getIndex();
+        assertSame(first, service.getIndex());
+        assertEquals(TechnologyAliasIndex.UNKNOWN, first.resolve("k8s"));
+
+        ((TechnologyAliasIndexServiceImpl) service).onTechnologyDataChanged(new TechnologyDataChangedEvent("createOrUpdate"));
+        TechnologyAliasIndex second = service.getIndex();
+
+        assertNotSame(first, second);
+        assertNotEquals(TechnologyAliasIndex.UNKNOWN, second.resolve("k8s"));
+        assertEquals(TechnologyAliasIndex.UNKNOWN, first.resolve("k8s"), "Previous index must stay unchanged");
+        verify(technologyRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testGetIndex_WhenLoadFails_ReturnsEmptyIndex() {
+        when(technologyRepository.findAll()).thenThrow(new RuntimeException("Database unavailable"));
+
+        TechnologyAliasIndex index = service.getIndex();
+
+        assertEquals(0, index.size());
+        service.getIndex();
+        verify(technologyRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testGetIndex_WhenLoadFails_RetriesAfterBackoff() {
+        service = new TechnologyAliasIndexServiceImpl(technologyRepository, Duration.ZERO);
+        when(technologyRepository.findAll())
+                .thenThrow(new RuntimeException("Database unavailable"))
+                .thenReturn(List.of(JAVA));
+
+        assertEquals(0, service.getIndex().size());
+        TechnologyAliasIndex index = service.getIndex();
+
+        assertNotEquals(TechnologyAliasIndex.UNKNOWN, index.resolve("Java"));
+        assertSame(index, service.getIndex());
+        verify(technologyRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,114 @@
+package com.berdachuk.expertmatch.web;
+
+import com.berdachuk.expertmatch.chat.domain.Chat;
+import com.berdachuk.expertmatch.chat.repository.ConversationHistoryRepository;
+import com.berdachuk.expertmatch.chat.service.ChatService;
+import com.berdachuk.expertmatch.core.api.ApiMapper;
+import com.berdachuk.expertmatch.core.util.IdGenerator;
+import com.berdachuk.expertmatch.core.web.InProcessWebBackend;
+import com.berdachuk.expertmatch.core.web.WebBackendException;
+import com.berdachuk.expertmatch.query.service.QueryService;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InProcessWebBackend: ownership checks and status translation.
+ */
+@ExtendWith(MockitoExtension.class)
+class InProcessWebBackendTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private QueryService queryService;
+    @Mock
+    private ChatService chatService;
+    @Mock
+    private ConversationHistoryRepository historyRepository;
+    @Mock
+    private ApiMapper apiMapper;
+    @Mock
+    private Validator validator;
+
+    private InProcessWebBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new InProcessWebBackend(queryService, chatService, historyRepository, apiMapper, validator);
+    }
+
+    @Test
+    void testDeleteChat_DefaultChatIsBadRequest() {
+        // Arrange
+        String chatId = IdGenerator.generateId();
+        when(chatService.findChat(chatId)).thenReturn(Optional.of(chat(chatId, USER_ID, true)));
+
+        // Act
+        WebBackendException exception = assertThrows(WebBackendException.class,
+                () -> backend.deleteChat(chatId, USER_ID));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertTrue(exception.getMessage().contains("Cannot delete default chat"));
+        verify(chatService, never()).deleteChat(anyString());
+    }
+
+    @Test
+    void testGetHistory_ChatOfAnotherUserIsBadRequest() {
+        // Arrange
+        String chatId = IdGenerator.generateId();
+        when(chatService.findChat(chatId)).thenReturn(Optional.of(chat(chatId, "other-user", false)));
+
+        // Act
+        WebBackendException exception = assertThrows(WebBackendException.class,
+                () -> backend.getHistory(chatId, USER_ID, 0, 100, "sequence_number,asc"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void testGetChat_MissingChatIsNotFound() {
+        // Arrange
+        String chatId = IdGenerator.generateId();
+        when(chatService.findChat(chatId)).thenReturn(Optional.empty());
+
+        // Act
+        WebBackendException exception = assertThrows(WebBackendException.class,
+                () -> backend.getChat(chatId, USER_ID));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    }
+
+    @Test
+    void testListChats_ServiceFailureIsServerError() {
+        // Arrange
+        when(chatService.listChats(USER_ID)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // Act
+        WebBackendException exception = assertThrows(WebBackendException.class,
+                () -> backend.listChats(USER_ID));
+
+        // Assert
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatus());
+    }
+
+    private static Chat chat(String chatId, String userId, boolean isDefault) {
+        Instant now = Instant.now();
+        return new Chat(chatId, userId, "Chat", isDefault, now, now, now, 0);
+    }
+}